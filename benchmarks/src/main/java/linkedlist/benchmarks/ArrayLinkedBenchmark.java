@@ -0,0 +1,108 @@
+package linkedlist.benchmarks;
+
+import linkedlist.ArrayLinkedList;
+import linkedlist.LinkedList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares LinkedList with ArrayLinkedList before and after compaction.
+ *
+ * Every list is built by inserting at random positions, so the nodes of the LinkedList and
+ * the slots of the fragmented ArrayLinkedList are scattered in memory; the compacted
+ * ArrayLinkedList holds the same elements after compact(). The benchmarks sum the list
+ * with an iterator and read one element from the middle with get.
+ * Run with "-prof gc" on a large size to compare the cost of building the lists.
+ *
+ * @author ereimer18georgefox.edu
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ArrayLinkedBenchmark {
+
+    private static final long SEED = 42;
+
+    @Param({"10000", "1000000"})
+    private int _size;
+
+    private LinkedList<Integer> _linkedList;
+    private ArrayLinkedList<Integer> _fragmented;
+    private ArrayLinkedList<Integer> _compacted;
+
+
+    /**
+     * Builds every list with the same random insertions, then compacts one of the array lists.
+     */
+    @Setup
+    public void setup() {
+        Random random = new Random(SEED);
+        _linkedList = new LinkedList<>();
+        _fragmented = new ArrayLinkedList<>();
+        _compacted = new ArrayLinkedList<>();
+        for (int i = 0; i < _size; i++) {
+            int index = (i < 2) ? 0 : random.nextInt(Math.min(i, 64));
+            _linkedList.add(index, i);
+            _fragmented.add(index, i);
+            _compacted.add(index, i);
+        }
+        _compacted.compact();
+    }
+
+
+    @Benchmark
+    public long iterateLinkedList() {
+        long sum = 0;
+        for (Integer element : _linkedList) {
+            sum += element;
+        }
+        return sum;
+    }
+
+
+    @Benchmark
+    public long iterateFragmented() {
+        long sum = 0;
+        for (Integer element : _fragmented) {
+            sum += element;
+        }
+        return sum;
+    }
+
+
+    @Benchmark
+    public long iterateCompacted() {
+        long sum = 0;
+        for (Integer element : _compacted) {
+            sum += element;
+        }
+        return sum;
+    }
+
+
+    @Benchmark
+    public Integer getMiddleFragmented() {
+        return _fragmented.get(_size / 2);
+    }
+
+
+    @Benchmark
+    public Integer getMiddleCompacted() {
+        return _compacted.get(_size / 2);
+    }
+}
@@ -0,0 +1,35 @@
+package linkedlist.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the LinkedList benchmarks with the GC profiler attached.
+ *
+ * The benchmarks report throughput and latency percentiles on their own;
+ * the GC profiler adds the allocation rate and the number of collections
+ * for every benchmark, which is what exposes per-element garbage.
+ * An optional argument selects the benchmarks to run by regular expression.
+ *
+ * @author ereimer18georgefox.edu
+ */
+public class BenchmarkRunner {
+
+    /**
+     * Runs the selected benchmarks.
+     *
+     * @param args - an optional regular expression matching the benchmarks to run.
+     * @throws RunnerException if the benchmarks fail to run.
+     */
+    public static void main(String[] args) throws RunnerException {
+        String include = (args.length > 0) ? args[0] : "linkedlist.benchmarks";
+        Options options = new OptionsBuilder()
+                .include(include)
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+}
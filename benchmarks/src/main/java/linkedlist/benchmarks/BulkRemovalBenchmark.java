@@ -0,0 +1,95 @@
+package linkedlist.benchmarks;
+
+import linkedlist.LinkedList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares ways of removing many elements from a LinkedList.
+ *
+ * The expiry benchmarks model a periodic cleanup that drops every entry older than a cutoff,
+ * where expired entries are spread through the list: once with remove(int) in an index loop,
+ * and once with removeIf. The range benchmarks drop the middle half of the list with
+ * remove(int) in a loop and with removeRange.
+ *
+ * @author ereimer18georgefox.edu
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BulkRemovalBenchmark {
+
+    @Param({"1000", "10000"})
+    private int _size;
+
+    private LinkedList<Integer> _list;
+    private int _cutoff;
+
+
+    /**
+     * Refills the list before each cleanup, with expiry times that alternate around the cutoff.
+     */
+    @Setup(Level.Invocation)
+    public void refill() {
+        _list = new LinkedList<>();
+        for (int i = 0; i < _size; i++) {
+            _list.add((i % 2 == 0) ? i : _size + i);
+        }
+        _cutoff = _size;
+    }
+
+
+    @Benchmark
+    public LinkedList<Integer> expireByIndexLoop() {
+        int i = 0;
+        while (i < _list.size()) {
+            if (_list.get(i) < _cutoff) {
+                _list.remove(i);
+            }
+            else {
+                i++;
+            }
+        }
+        return _list;
+    }
+
+
+    @Benchmark
+    public LinkedList<Integer> expireByRemoveIf() {
+        _list.removeIf(expiry -> expiry < _cutoff);
+        return _list;
+    }
+
+
+    @Benchmark
+    public LinkedList<Integer> rangeByIndexLoop() {
+        int from = _size / 4;
+        for (int i = from; i < from + _size / 2; i++) {
+            _list.remove(from);
+        }
+        return _list;
+    }
+
+
+    @Benchmark
+    public LinkedList<Integer> rangeByRemoveRange() {
+        int from = _size / 4;
+        _list.removeRange(from, from + _size / 2);
+        return _list;
+    }
+}
@@ -0,0 +1,118 @@
+package linkedlist.benchmarks;
+
+import linkedlist.LinkedCache;
+import linkedlist.LinkedList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the cost of a cache hit that moves an entry to the front of the recency order.
+ *
+ * The list benchmark keeps the recency order in a LinkedList beside a HashMap and moves a hit
+ * with indexOf, remove and addFirst, as callers did before LinkedCache existed. The LinkedCache
+ * benchmarks hit under LRU and LFU, and an access-ordered LinkedHashMap is included for reference.
+ * Every cache is full, and the keys hit are drawn at random from its entries.
+ *
+ * @author ereimer18georgefox.edu
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CacheBenchmark {
+
+    private static final long SEED = 42;
+    private static final int KEYS = 1024;
+
+    @Param({"100", "10000"})
+    private int _size;
+
+    private LinkedList<Integer> _recency;
+    private HashMap<Integer, String> _values;
+    private LinkedCache<Integer, String> _lruCache;
+    private LinkedCache<Integer, String> _lfuCache;
+    private LinkedHashMap<Integer, String> _linkedHashMap;
+    private int[] _keys;
+    private int _cursor;
+
+
+    /**
+     * Fills every cache and picks the random keys to hit.
+     */
+    @Setup
+    public void setup() {
+        _recency = new LinkedList<>();
+        _values = new HashMap<>();
+        _lruCache = new LinkedCache<>(_size);
+        _lfuCache = new LinkedCache<>(_size, LinkedCache.Policy.LFU);
+        _linkedHashMap = new LinkedHashMap<>(16, 0.75f, true);
+        for (int i = 0; i < _size; i++) {
+            String value = "v" + i;
+            _recency.addFirst(i);
+            _values.put(i, value);
+            _lruCache.put(i, value);
+            _lfuCache.put(i, value);
+            _linkedHashMap.put(i, value);
+        }
+        Random random = new Random(SEED);
+        _keys = new int[KEYS];
+        for (int i = 0; i < KEYS; i++) {
+            _keys[i] = random.nextInt(_size);
+        }
+    }
+
+
+    @Benchmark
+    public String hitLinkedList() {
+        Integer key = nextKey();
+        String value = _values.get(key);
+        _recency.remove(_recency.indexOf(key));
+        _recency.addFirst(key);
+        return value;
+    }
+
+
+    @Benchmark
+    public String hitLinkedCacheLru() {
+        return _lruCache.get(nextKey());
+    }
+
+
+    @Benchmark
+    public String hitLinkedCacheLfu() {
+        return _lfuCache.get(nextKey());
+    }
+
+
+    @Benchmark
+    public String hitLinkedHashMap() {
+        return _linkedHashMap.get(nextKey());
+    }
+
+
+    /**
+     * Returns the next of the random keys.
+     *
+     * @return a key held by every cache.
+     */
+    private Integer nextKey() {
+        _cursor = (_cursor + 1) & (KEYS - 1);
+        return _keys[_cursor];
+    }
+}
@@ -0,0 +1,117 @@
+package linkedlist.benchmarks;
+
+import linkedlist.LinkedList;
+import linkedlist.ListChange;
+import linkedlist.ListChangeFeed;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of keeping a replica of a LinkedList up to date after a few changes.
+ *
+ * Each invocation appends a fixed number of elements to the list and removes as many from its head,
+ * as a sliding window does, and then brings a replica up to date, either by copying the whole list through its iterator, as replicas that poll do,
+ * or by flushing a ListChangeFeed whose subscriber applies the batch of changes to a replica.
+ * Batches are delivered in the calling thread so both scores include the work of the replica.
+ *
+ * @author ereimer18georgefox.edu
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ChangeFeedBenchmark {
+
+    private static final int CHANGES_PER_POLL = 16;
+
+    @Param({"1000", "100000"})
+    private int _size;
+
+    private LinkedList<Integer> _polledList;
+    private LinkedList<Integer> _publishedList;
+    private ListChangeFeed<Integer> _feed;
+    private LinkedList<Integer> _replica;
+
+
+    /**
+     * Fills both lists, and subscribes a replica of the published list to its change feed.
+     */
+    @Setup
+    public void setup() {
+        _polledList = new LinkedList<>();
+        _publishedList = new LinkedList<>();
+        _replica = new LinkedList<>();
+        for (int i = 0; i < _size; i++) {
+            _polledList.add(i);
+            _publishedList.add(i);
+            _replica.add(i);
+        }
+        _feed = new ListChangeFeed<>(Runnable::run, Flow.defaultBufferSize(), ListChangeFeed.DEFAULT_MAX_BATCH_SIZE);
+        _feed.subscribe(new Flow.Subscriber<List<ListChange<Integer>>>() {
+            public void onSubscribe(Flow.Subscription subscription) {
+                subscription.request(Long.MAX_VALUE);
+            }
+
+            public void onNext(List<ListChange<Integer>> batch) {
+                for (ListChange<Integer> change : batch) {
+                    change.applyTo(_replica);
+                }
+            }
+
+            public void onError(Throwable throwable) {
+            }
+
+            public void onComplete() {
+            }
+        });
+        _publishedList.setChangeFeed(_feed);
+    }
+
+
+    @Benchmark
+    public int fullCopy() {
+        change(_polledList);
+        List<Integer> replica = new ArrayList<>(_size);
+        for (Integer element : _polledList) {
+            replica.add(element);
+        }
+        return replica.size();
+    }
+
+
+    @Benchmark
+    public int changeFeed() {
+        change(_publishedList);
+        _feed.flush();
+        return _replica.size();
+    }
+
+
+    /**
+     * Appends a fixed number of elements to the specified list and removes as many from its head.
+     *
+     * @param list - the list to change.
+     */
+    private void change(LinkedList<Integer> list) {
+        for (int i = 0; i < CHANGES_PER_POLL; i++) {
+            list.addLast(i);
+            list.removeFirst();
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package linkedlist.benchmarks;
+
+import linkedlist.LinkedList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks a high-churn queue on LinkedList with and without a node pool.
+ *
+ * Each operation fills the list with a batch of elements and drains it again from the front,
+ * once by removing the elements one at a time and once with clear().
+ * Run with "-prof gc" or through BenchmarkRunner to compare the allocation rates:
+ * with the pool the nodes are recycled, so the pooled benchmarks allocate nothing.
+ *
+ * @author ereimer18georgefox.edu
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ChurnBenchmark {
+
+    private static final Integer ELEMENT = 42;
+
+    @Param({"16", "1024"})
+    private int _batch;
+
+    private LinkedList<Integer> _plainList;
+    private LinkedList<Integer> _pooledList;
+
+
+    /**
+     * Creates the lists; the pooled list keeps enough nodes for a whole batch.
+     */
+    @Setup
+    public void setup() {
+        _plainList = new LinkedList<>();
+        _pooledList = new LinkedList<>(_batch);
+    }
+
+
+    @Benchmark
+    public Integer removePlain() {
+        return fillAndRemove(_plainList);
+    }
+
+
+    @Benchmark
+    public Integer removePooled() {
+        return fillAndRemove(_pooledList);
+    }
+
+
+    @Benchmark
+    public int clearPlain() {
+        return fillAndClear(_plainList);
+    }
+
+
+    @Benchmark
+    public int clearPooled() {
+        return fillAndClear(_pooledList);
+    }
+
+
+    private Integer fillAndRemove(LinkedList<Integer> list) {
+        Integer element = null;
+        for (int i = 0; i < _batch; i++) {
+            list.add(ELEMENT);
+        }
+        while (!list.isEmpty()) {
+            element = list.remove(0);
+        }
+        return element;
+    }
+
+
+    private int fillAndClear(LinkedList<Integer> list) {
+        for (int i = 0; i < _batch; i++) {
+            list.add(ELEMENT);
+        }
+        int size = list.size();
+        list.clear();
+        return size;
+    }
+}
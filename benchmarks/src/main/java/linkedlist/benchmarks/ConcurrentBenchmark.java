@@ -0,0 +1,72 @@
+package linkedlist.benchmarks;
+
+import linkedlist.ConcurrentLinkedList;
+import linkedlist.LinkedList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares multi-threaded appends to ConcurrentLinkedList and to a LinkedList behind a global lock.
+ *
+ * Every thread appends an element and then takes one from the front, the way ingest threads
+ * feed a work queue, so the list stays small while the appends are measured.
+ * The thread count defaults to the number of available processors; run with
+ * "-t 1", "-t 2", "-t 4" and so on to see how throughput scales with the core count.
+ *
+ * @author ereimer18georgefox.edu
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(Threads.MAX)
+@Fork(1)
+public class ConcurrentBenchmark {
+
+    private static final Integer ELEMENT = 42;
+
+    private ConcurrentLinkedList<Integer> _concurrentList;
+    private LinkedList<Integer> _lockedList;
+    private Object _lock;
+
+
+    /**
+     * Creates the shared lists.
+     */
+    @Setup
+    public void setup() {
+        _concurrentList = new ConcurrentLinkedList<>();
+        _lockedList = new LinkedList<>();
+        _lock = new Object();
+    }
+
+
+    @Benchmark
+    public Integer appendConcurrent() {
+        _concurrentList.add(ELEMENT);
+        return _concurrentList.pollFirst();
+    }
+
+
+    @Benchmark
+    public Integer appendLocked() {
+        Integer element;
+        synchronized (_lock) {
+            _lockedList.add(ELEMENT);
+            element = _lockedList.remove(0);
+        }
+        return element;
+    }
+}
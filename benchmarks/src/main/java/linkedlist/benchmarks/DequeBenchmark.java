@@ -0,0 +1,120 @@
+package linkedlist.benchmarks;
+
+import linkedlist.LinkedList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares LinkedList as a Deque with ArrayDeque and java.util.LinkedList.
+ *
+ * The queue benchmarks offer at the tail and poll at the head, and the stack benchmarks
+ * push and pop at the head. Each deque holds a backlog of the parameterized size,
+ * so the operations work on a deque of realistic depth.
+ * The pooled LinkedList recycles its nodes; run with "-prof gc" to compare allocation rates.
+ *
+ * @author ereimer18georgefox.edu
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DequeBenchmark {
+
+    private static final Integer ELEMENT = 42;
+    private static final int POOL_CAPACITY = 64;
+
+    @Param({"16", "100000"})
+    private int _backlog;
+
+    private Deque<Integer> _linkedList;
+    private Deque<Integer> _pooledLinkedList;
+    private Deque<Integer> _arrayDeque;
+    private Deque<Integer> _javaLinkedList;
+
+
+    /**
+     * Fills every deque with the backlog.
+     */
+    @Setup
+    public void setup() {
+        _linkedList = new LinkedList<>();
+        _pooledLinkedList = new LinkedList<>(POOL_CAPACITY);
+        _arrayDeque = new ArrayDeque<>();
+        _javaLinkedList = new java.util.LinkedList<>();
+        for (int i = 0; i < _backlog; i++) {
+            _linkedList.offerLast(ELEMENT);
+            _pooledLinkedList.offerLast(ELEMENT);
+            _arrayDeque.offerLast(ELEMENT);
+            _javaLinkedList.offerLast(ELEMENT);
+        }
+    }
+
+
+    @Benchmark
+    public Integer queueLinkedList() {
+        return queue(_linkedList);
+    }
+
+
+    @Benchmark
+    public Integer queuePooledLinkedList() {
+        return queue(_pooledLinkedList);
+    }
+
+
+    @Benchmark
+    public Integer queueArrayDeque() {
+        return queue(_arrayDeque);
+    }
+
+
+    @Benchmark
+    public Integer queueJavaLinkedList() {
+        return queue(_javaLinkedList);
+    }
+
+
+    @Benchmark
+    public Integer stackLinkedList() {
+        return stack(_linkedList);
+    }
+
+
+    @Benchmark
+    public Integer stackArrayDeque() {
+        return stack(_arrayDeque);
+    }
+
+
+    @Benchmark
+    public Integer stackJavaLinkedList() {
+        return stack(_javaLinkedList);
+    }
+
+
+    private Integer queue(Deque<Integer> deque) {
+        deque.offerLast(ELEMENT);
+        return deque.pollFirst();
+    }
+
+
+    private Integer stack(Deque<Integer> deque) {
+        deque.push(ELEMENT);
+        return deque.pop();
+    }
+}
@@ -0,0 +1,229 @@
+package linkedlist.benchmarks;
+
+import linkedlist.BlockingLinkedList;
+import linkedlist.LinkedList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the throughput of many producers handing elements to a few consumers through a bounded queue.
+ *
+ * Every invocation starts one producer task per producer, each putting a fixed number of elements,
+ * and two consumer threads that take an element and then drain up to a batch more. The producers
+ * run on virtual threads when the JDK provides them (Java 21 and later, found by reflection so the
+ * benchmarks still build for Java 17) and on a pool of platform threads otherwise.
+ * The queues compared are BlockingLinkedList, java.util.concurrent.LinkedBlockingDeque, and a
+ * LinkedList behind a monitor with wait and notifyAll, which pins virtual producers to their carriers
+ * while they wait. Scores are the average time per element handed off.
+ *
+ * @author ereimer18georgefox.edu
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HandoffBenchmark {
+
+    private static final int PRODUCERS = 1000;
+    private static final int ELEMENTS_PER_PRODUCER = 100;
+    private static final int TOTAL = PRODUCERS * ELEMENTS_PER_PRODUCER;
+    private static final int CONSUMERS = 2;
+    private static final int CAPACITY = 1024;
+    private static final int PLATFORM_PRODUCERS = 64;
+    private static final Integer ELEMENT = 42;
+
+    @Param({"1", "64"})
+    private int _batch;
+
+
+    @Benchmark
+    @OperationsPerInvocation(TOTAL)
+    public int blockingLinkedList() throws InterruptedException {
+        return handoff(new QueueChannel(new BlockingLinkedList<>(CAPACITY)));
+    }
+
+
+    @Benchmark
+    @OperationsPerInvocation(TOTAL)
+    public int linkedBlockingDeque() throws InterruptedException {
+        return handoff(new QueueChannel(new LinkedBlockingDeque<>(CAPACITY)));
+    }
+
+
+    @Benchmark
+    @OperationsPerInvocation(TOTAL)
+    public int monitorLinkedList() throws InterruptedException {
+        return handoff(new MonitorChannel());
+    }
+
+
+    /**
+     * Hands every element from the producers to the consumers through the specified channel.
+     *
+     * @param channel - the queue under test.
+     * @return the number of elements consumed.
+     * @throws InterruptedException if interrupted while waiting for the producers or consumers.
+     */
+    private int handoff(Channel channel) throws InterruptedException {
+        int[] consumed = new int[CONSUMERS];
+        List<Thread> consumers = new ArrayList<>();
+        for (int c = 0; c < CONSUMERS; c++) {
+            int consumer = c;
+            int share = TOTAL / CONSUMERS + ((c < TOTAL % CONSUMERS) ? 1 : 0);
+            Thread thread = new Thread(() -> {
+                List<Integer> batch = new ArrayList<>(_batch);
+                try {
+                    while (consumed[consumer] < share) {
+                        consumed[consumer] += channel.drain(batch, Math.min(_batch, share - consumed[consumer]));
+                        batch.clear();
+                    }
+                }
+                catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            consumers.add(thread);
+            thread.start();
+        }
+        ExecutorService producers = newProducerExecutor();
+        for (int p = 0; p < PRODUCERS; p++) {
+            producers.execute(() -> {
+                try {
+                    for (int i = 0; i < ELEMENTS_PER_PRODUCER; i++) {
+                        channel.put(ELEMENT);
+                    }
+                }
+                catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+        producers.shutdown();
+        producers.awaitTermination(1, TimeUnit.MINUTES);
+        int total = 0;
+        for (int c = 0; c < CONSUMERS; c++) {
+            consumers.get(c).join();
+            total += consumed[c];
+        }
+        return total;
+    }
+
+
+    /**
+     * Returns an executor that runs each producer on a virtual thread if the JDK has them,
+     * or a pool of platform threads otherwise.
+     *
+     * @return an executor for the producers.
+     */
+    private static ExecutorService newProducerExecutor() {
+        ExecutorService executor;
+        try {
+            executor = (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        }
+        catch (ReflectiveOperationException e) {
+            executor = Executors.newFixedThreadPool(PLATFORM_PRODUCERS);
+        }
+        return executor;
+    }
+
+
+    /**
+     * The operations a producer and a consumer perform on the queue under test.
+     */
+    private interface Channel {
+
+        /**
+         * Adds the specified element, waiting for space if necessary.
+         *
+         * @param element - the element to add.
+         * @throws InterruptedException if interrupted while waiting.
+         */
+        void put(Integer element) throws InterruptedException;
+
+
+        /**
+         * Waits for an element and moves it and up to max - 1 more into the specified list.
+         *
+         * @param into - the list to add the elements to.
+         * @param max - the largest number of elements to move, at least 1.
+         * @return the number of elements moved.
+         * @throws InterruptedException if interrupted while waiting.
+         */
+        int drain(List<Integer> into, int max) throws InterruptedException;
+    }
+
+
+    /**
+     * A channel over a BlockingQueue, which drains with take and drainTo.
+     */
+    private static final class QueueChannel implements Channel {
+
+        private final BlockingQueue<Integer> _queue;
+
+
+        private QueueChannel(BlockingQueue<Integer> queue) {
+            _queue = queue;
+        }
+
+
+        public void put(Integer element) throws InterruptedException {
+            _queue.put(element);
+        }
+
+
+        public int drain(List<Integer> into, int max) throws InterruptedException {
+            into.add(_queue.take());
+            return 1 + _queue.drainTo(into, max - 1);
+        }
+    }
+
+
+    /**
+     * A channel over a LinkedList guarded by its monitor, as callers built one before BlockingLinkedList.
+     */
+    private static final class MonitorChannel implements Channel {
+
+        private final LinkedList<Integer> _list = new LinkedList<>();
+
+
+        public synchronized void put(Integer element) throws InterruptedException {
+            while (_list.size() >= CAPACITY) {
+                wait();
+            }
+            _list.addLast(element);
+            notifyAll();
+        }
+
+
+        public synchronized int drain(List<Integer> into, int max) throws InterruptedException {
+            while (_list.isEmpty()) {
+                wait();
+            }
+            int count = Math.min(max, _list.size());
+            for (int i = 0; i < count; i++) {
+                into.add(_list.removeFirst());
+            }
+            notifyAll();
+            return count;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package linkedlist.benchmarks;
+
+/**
+ * The IndexPattern enum describes where in a list a positional benchmark operates.
+ *
+ * Positional operations on a linked list cost as much as the walk to the index,
+ * so every positional benchmark is run at the head, the middle and the tail.
+ *
+ * @author ereimer18georgefox.edu
+ */
+public enum IndexPattern {
+    HEAD,
+    MIDDLE,
+    TAIL;
+
+
+    /**
+     * Returns the index this pattern selects in a list of the specified size.
+     *
+     * @param size - the number of elements in the list; must be positive.
+     * @return the first, middle or last index of the list.
+     */
+    public int indexFor(int size) {
+        int index;
+        if (this == HEAD) {
+            index = 0;
+        }
+        else if (this == MIDDLE) {
+            index = size / 2;
+        }
+        else {
+            index = size - 1;
+        }
+        return index;
+    }
+}
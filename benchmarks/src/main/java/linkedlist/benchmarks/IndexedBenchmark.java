@@ -0,0 +1,105 @@
+package linkedlist.benchmarks;
+
+import linkedlist.IndexedLinkedList;
+import linkedlist.LinkedList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares random positional access on LinkedList and IndexedLinkedList.
+ *
+ * Indices are drawn from a fixed, pre-computed sequence so both lists see the same accesses.
+ * Insertions are paired with a removal at the same index to keep the size constant.
+ *
+ * @author ereimer18georgefox.edu
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IndexedBenchmark {
+
+    private static final int INDEX_COUNT = 1024;
+    private static final long SEED = 42L;
+
+    @Param({"1000", "100000", "1000000"})
+    private int _size;
+
+    private LinkedList<Integer> _linkedList;
+    private IndexedLinkedList<Integer> _indexedList;
+    private int[] _indices;
+    private int _next;
+
+
+    /**
+     * Fills both lists with the same elements and draws the random indices.
+     */
+    @Setup
+    public void setup() {
+        _linkedList = new LinkedList<>();
+        _indexedList = new IndexedLinkedList<>();
+        for (int i = 0; i < _size; i++) {
+            _linkedList.add(i);
+            _indexedList.add(i);
+        }
+        Random random = new Random(SEED);
+        _indices = new int[INDEX_COUNT];
+        for (int i = 0; i < INDEX_COUNT; i++) {
+            _indices[i] = random.nextInt(_size);
+        }
+        _next = 0;
+    }
+
+
+    /**
+     * Returns the next index of the pre-computed sequence.
+     *
+     * @return a random index of the lists.
+     */
+    private int nextIndex() {
+        _next = (_next + 1) % INDEX_COUNT;
+        return _indices[_next];
+    }
+
+
+    @Benchmark
+    public Integer getLinked() {
+        return _linkedList.get(nextIndex());
+    }
+
+
+    @Benchmark
+    public Integer getIndexed() {
+        return _indexedList.get(nextIndex());
+    }
+
+
+    @Benchmark
+    public Integer addAtIndexLinked() {
+        int index = nextIndex();
+        _linkedList.add(index, index);
+        return _linkedList.remove(index);
+    }
+
+
+    @Benchmark
+    public Integer addAtIndexIndexed() {
+        int index = nextIndex();
+        _indexedList.add(index, index);
+        return _indexedList.remove(index);
+    }
+}
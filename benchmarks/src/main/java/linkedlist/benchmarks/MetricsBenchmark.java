@@ -0,0 +1,105 @@
+package linkedlist.benchmarks;
+
+import linkedlist.LinkedList;
+import linkedlist.LinkedListMetrics;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of LinkedListMetrics on the hot paths of LinkedList.
+ *
+ * The same random gets and queue operations run on a list without metrics and on a list
+ * with metrics attached. The difference between the plain benchmarks and the builds before
+ * metrics existed is the cost of the disabled checks; the difference between the plain and
+ * the metered benchmarks is the cost of counting.
+ *
+ * @author ereimer18georgefox.edu
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MetricsBenchmark {
+
+    private static final long SEED = 42;
+    private static final int INDICES = 1024;
+
+    @Param({"1000"})
+    private int _size;
+
+    private LinkedList<Integer> _plainList;
+    private LinkedList<Integer> _meteredList;
+    private int[] _indices;
+    private int _cursor;
+
+
+    /**
+     * Fills both lists and picks the random indices to read.
+     */
+    @Setup
+    public void setup() {
+        _plainList = new LinkedList<>();
+        _meteredList = new LinkedList<>();
+        _meteredList.setMetrics(new LinkedListMetrics());
+        for (int i = 0; i < _size; i++) {
+            _plainList.add(i);
+            _meteredList.add(i);
+        }
+        Random random = new Random(SEED);
+        _indices = new int[INDICES];
+        for (int i = 0; i < INDICES; i++) {
+            _indices[i] = random.nextInt(_size);
+        }
+    }
+
+
+    @Benchmark
+    public Integer getPlain() {
+        return _plainList.get(nextIndex());
+    }
+
+
+    @Benchmark
+    public Integer getMetered() {
+        return _meteredList.get(nextIndex());
+    }
+
+
+    @Benchmark
+    public Integer queuePlain() {
+        _plainList.addLast(_size);
+        return _plainList.removeFirst();
+    }
+
+
+    @Benchmark
+    public Integer queueMetered() {
+        _meteredList.addLast(_size);
+        return _meteredList.removeFirst();
+    }
+
+
+    /**
+     * Returns the next of the random indices.
+     *
+     * @return an index of the lists.
+     */
+    private int nextIndex() {
+        _cursor = (_cursor + 1) & (INDICES - 1);
+        return _indices[_cursor];
+    }
+}
@@ -0,0 +1,44 @@
+package linkedlist.benchmarks;
+
+import linkedlist.LinkedList;
+import org.openjdk.jol.info.ClassLayout;
+import org.openjdk.jol.info.GraphLayout;
+import org.openjdk.jol.vm.VM;
+
+/**
+ * Prints the memory layout of a LinkedList node and the footprint of whole lists, measured with JOL.
+ *
+ * The node layout shows the object header and every field with its offset and size.
+ * The footprint of lists of several sizes, divided by their size, gives the cost per element
+ * including the element objects themselves, so it should be read against the size of an Integer.
+ * Run with "java -cp benchmarks/target/benchmarks.jar linkedlist.benchmarks.NodeLayout".
+ *
+ * @author ereimer18georgefox.edu
+ */
+public class NodeLayout {
+
+    private static final int[] SIZES = {0, 1, 1000, 100000};
+
+
+    /**
+     * Prints the node layout and the footprint of lists of several sizes.
+     *
+     * @param args - not used.
+     * @throws ClassNotFoundException if the node class cannot be found.
+     */
+    public static void main(String[] args) throws ClassNotFoundException {
+        System.out.println(VM.current().details());
+        Class<?> nodeClass = Class.forName("linkedlist.LinkedList$LinkedListNode");
+        System.out.println(ClassLayout.parseClass(nodeClass).toPrintable());
+        System.out.println(ClassLayout.parseClass(LinkedList.class).toPrintable());
+        for (int size : SIZES) {
+            LinkedList<Integer> list = new LinkedList<>();
+            for (int i = 0; i < size; i++) {
+                list.add(i);
+            }
+            long footprint = GraphLayout.parseInstance(list).totalSize();
+            System.out.printf("%,d elements: %,d bytes%s%n", size, footprint,
+                    (size == 0) ? "" : String.format(" (%.1f bytes per element)", (double) footprint / size));
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package linkedlist.benchmarks;
+
+import linkedlist.ElementCodec;
+import linkedlist.LinkedList;
+import linkedlist.LinkedListStore;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks saving and loading a LinkedList of Integers with LinkedListStore and with ObjectOutputStream.
+ *
+ * The object stream baseline writes every element with writeObject and reads the list back
+ * by calling add for every element read, which is how lists were persisted before LinkedListStore.
+ * Both files are written once during setup for the load benchmarks, and each save benchmark
+ * rewrites its own file.
+ *
+ * @author ereimer18georgefox.edu
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class PersistenceBenchmark {
+
+    @Param({"1000000"})
+    private int _size;
+
+    private LinkedList<Integer> _list;
+    private Path _storeFile;
+    private Path _objectFile;
+
+
+    /**
+     * Fills the list and writes it to both files.
+     *
+     * @throws IOException if the files cannot be written.
+     */
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        _list = new LinkedList<>();
+        for (int i = 0; i < _size; i++) {
+            _list.add(i);
+        }
+        _storeFile = Files.createTempFile("linkedlist", ".bin");
+        _objectFile = Files.createTempFile("linkedlist", ".ser");
+        saveStore();
+        saveObjectStream();
+    }
+
+
+    /**
+     * Deletes both files.
+     *
+     * @throws IOException if the files cannot be deleted.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(_storeFile);
+        Files.deleteIfExists(_objectFile);
+    }
+
+
+    @Benchmark
+    public void saveStore() throws IOException {
+        LinkedListStore.write(_list, _storeFile, ElementCodec.integers());
+    }
+
+
+    @Benchmark
+    public void saveObjectStream() throws IOException {
+        try (ObjectOutputStream output = new ObjectOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(_objectFile)))) {
+            output.writeInt(_list.size());
+            for (Integer element : _list) {
+                output.writeObject(element);
+            }
+        }
+    }
+
+
+    @Benchmark
+    public LinkedList<Integer> loadStore() throws IOException {
+        return LinkedListStore.read(_storeFile, ElementCodec.integers());
+    }
+
+
+    @Benchmark
+    public LinkedList<Integer> loadObjectStream() throws IOException, ClassNotFoundException {
+        LinkedList<Integer> list = new LinkedList<>();
+        try (ObjectInputStream input = new ObjectInputStream(
+                new BufferedInputStream(Files.newInputStream(_objectFile)))) {
+            int size = input.readInt();
+            for (int i = 0; i < size; i++) {
+                list.add((Integer) input.readObject());
+            }
+        }
+        return list;
+    }
+}
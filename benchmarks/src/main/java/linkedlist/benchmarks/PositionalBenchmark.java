@@ -0,0 +1,103 @@
+package linkedlist.benchmarks;
+
+import linkedlist.LinkedList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the positional operations of LinkedList.
+ *
+ * Every operation is measured for each list size and for an index at the head,
+ * the middle and the tail of the list, so a regression in traverse() shows up
+ * as a change in the MIDDLE results long before it is visible at either end.
+ * Throughput and sampled latency (with percentiles) are both reported.
+ * Run with "-prof gc" or through BenchmarkRunner to include the allocation rate.
+ *
+ * The list keeps its size across invocations: insertions are paired with a removal
+ * at the same index, and removals are paired with an insertion of the removed element.
+ *
+ * @author ereimer18georgefox.edu
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PositionalBenchmark {
+
+    @Param({"10", "1000", "100000", "10000000"})
+    private int _size;
+
+    @Param({"HEAD", "MIDDLE", "TAIL"})
+    private IndexPattern _pattern;
+
+    private LinkedList<Integer> _list;
+    private int _index;
+    private Integer _element;
+
+
+    /**
+     * Fills the list with the parameterized number of elements
+     * and selects the index for the parameterized pattern.
+     */
+    @Setup
+    public void setup() {
+        _list = new LinkedList<>();
+        for (int i = 0; i < _size; i++) {
+            _list.add(i);
+        }
+        _index = _pattern.indexFor(_size);
+        _element = _list.get(_index);
+    }
+
+
+    @Benchmark
+    public Integer get() {
+        return _list.get(_index);
+    }
+
+
+    @Benchmark
+    public Integer set() {
+        return _list.set(_index, _element);
+    }
+
+
+    @Benchmark
+    public Integer addAtIndex() {
+        _list.add(_index, _element);
+        return _list.remove(_index);
+    }
+
+
+    @Benchmark
+    public void removeAtIndex(Blackhole blackhole) {
+        Integer removed = _list.remove(_index);
+        if (_index == _list.size()) {
+            _list.add(removed);
+        }
+        else {
+            _list.add(_index, removed);
+        }
+        blackhole.consume(removed);
+    }
+
+
+    @Benchmark
+    public int indexOf() {
+        return _list.indexOf(_element);
+    }
+}
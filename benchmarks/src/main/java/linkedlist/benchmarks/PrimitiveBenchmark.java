@@ -0,0 +1,97 @@
+package linkedlist.benchmarks;
+
+import linkedlist.LinkedList;
+import linkedlist.LongLinkedList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Iterator;
+import java.util.PrimitiveIterator;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares LinkedList&lt;Long&gt; with LongLinkedList.
+ *
+ * The build benchmarks append timestamps that fall outside the Long cache,
+ * so every add to the generic list boxes its value.
+ * Run with "-prof gc" or through BenchmarkRunner to compare the allocation per operation.
+ *
+ * @author ereimer18georgefox.edu
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PrimitiveBenchmark {
+
+    private static final long FIRST_TIMESTAMP = 1_600_000_000_000L;
+
+    @Param({"1000", "100000", "1000000"})
+    private int _size;
+
+    private LinkedList<Long> _boxedList;
+    private LongLinkedList _primitiveList;
+
+
+    /**
+     * Fills both lists with the same timestamps for the scan benchmarks.
+     */
+    @Setup
+    public void setup() {
+        _boxedList = buildBoxed();
+        _primitiveList = buildPrimitive();
+    }
+
+
+    @Benchmark
+    public LinkedList<Long> buildBoxed() {
+        LinkedList<Long> list = new LinkedList<>();
+        for (int i = 0; i < _size; i++) {
+            list.add(FIRST_TIMESTAMP + i);
+        }
+        return list;
+    }
+
+
+    @Benchmark
+    public LongLinkedList buildPrimitive() {
+        LongLinkedList list = new LongLinkedList();
+        for (int i = 0; i < _size; i++) {
+            list.add(FIRST_TIMESTAMP + i);
+        }
+        return list;
+    }
+
+
+    @Benchmark
+    public long sumBoxed() {
+        long sum = 0;
+        Iterator<Long> iterator = _boxedList.iterator();
+        while (iterator.hasNext()) {
+            sum += iterator.next();
+        }
+        return sum;
+    }
+
+
+    @Benchmark
+    public long sumPrimitive() {
+        long sum = 0;
+        PrimitiveIterator.OfLong iterator = _primitiveList.iterator();
+        while (iterator.hasNext()) {
+            sum += iterator.nextLong();
+        }
+        return sum;
+    }
+}
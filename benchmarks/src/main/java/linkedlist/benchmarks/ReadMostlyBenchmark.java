@@ -0,0 +1,106 @@
+package linkedlist.benchmarks;
+
+import linkedlist.LinkedList;
+import linkedlist.StampedLinkedList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares concurrent readers and a writer on StampedLinkedList and on a LinkedList behind a monitor.
+ *
+ * Each group runs reader threads that look up random indices while writer threads insert and
+ * remove an element in the middle of the list, so the size stays constant. The default ratio is
+ * seven readers to one writer; run with "-tg 15,1", "-tg 31,1" and so on to change the ratio
+ * (the first number is the reader count and the second the writer count of every group).
+ *
+ * @author ereimer18georgefox.edu
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReadMostlyBenchmark {
+
+    private static final Integer ELEMENT = 42;
+
+    @Param({"100", "10000"})
+    public int _size;
+
+    private StampedLinkedList<Integer> _stampedList;
+    private LinkedList<Integer> _lockedList;
+    private Object _lock;
+
+
+    /**
+     * Fills both lists with the benchmark size.
+     */
+    @Setup(Level.Trial)
+    public void setup() {
+        _stampedList = new StampedLinkedList<>();
+        _lockedList = new LinkedList<>();
+        _lock = new Object();
+        for (int i = 0; i < _size; i++) {
+            _stampedList.add(ELEMENT);
+            _lockedList.add(ELEMENT);
+        }
+    }
+
+
+    @Benchmark
+    @Group("stamped")
+    @GroupThreads(7)
+    public Integer stampedRead() {
+        return _stampedList.get(ThreadLocalRandom.current().nextInt(_size));
+    }
+
+
+    @Benchmark
+    @Group("stamped")
+    @GroupThreads(1)
+    public Integer stampedWrite() {
+        _stampedList.add(_size / 2, ELEMENT);
+        return _stampedList.remove(_size / 2);
+    }
+
+
+    @Benchmark
+    @Group("locked")
+    @GroupThreads(7)
+    public Integer lockedRead() {
+        Integer element;
+        synchronized (_lock) {
+            element = _lockedList.get(ThreadLocalRandom.current().nextInt(_size));
+        }
+        return element;
+    }
+
+
+    @Benchmark
+    @Group("locked")
+    @GroupThreads(1)
+    public Integer lockedWrite() {
+        Integer element;
+        synchronized (_lock) {
+            _lockedList.add(_size / 2, ELEMENT);
+            element = _lockedList.remove(_size / 2);
+        }
+        return element;
+    }
+}
@@ -0,0 +1,81 @@
+package linkedlist.benchmarks;
+
+import linkedlist.LinkedList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks appending to LinkedList and iterating over it in both directions.
+ *
+ * Appends are paired with a removal of the last element so that the list keeps its size.
+ * Each iteration benchmark performs a full pass over the list.
+ * Throughput and sampled latency (with percentiles) are both reported.
+ * Run with "-prof gc" or through BenchmarkRunner to include the allocation rate.
+ *
+ * @author ereimer18georgefox.edu
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SequentialBenchmark {
+
+    @Param({"10", "1000", "100000", "10000000"})
+    private int _size;
+
+    private LinkedList<Integer> _list;
+    private Integer _element;
+
+
+    /**
+     * Fills the list with the parameterized number of elements.
+     */
+    @Setup
+    public void setup() {
+        _list = new LinkedList<>();
+        for (int i = 0; i < _size; i++) {
+            _list.add(i);
+        }
+        _element = _size;
+    }
+
+
+    @Benchmark
+    public Integer add() {
+        _list.add(_element);
+        return _list.remove(_list.size() - 1);
+    }
+
+
+    @Benchmark
+    public void iterator(Blackhole blackhole) {
+        Iterator<Integer> iterator = _list.iterator();
+        while (iterator.hasNext()) {
+            blackhole.consume(iterator.next());
+        }
+    }
+
+
+    @Benchmark
+    public void reverseIterator(Blackhole blackhole) {
+        Iterator<Integer> iterator = _list.reverseIterator();
+        while (iterator.hasNext()) {
+            blackhole.consume(iterator.next());
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package linkedlist.benchmarks;
+
+import linkedlist.LinkedList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares ways of reading a slice from the middle of a LinkedList.
+ *
+ * The get benchmark reads the slice one index at a time, the subList benchmark iterates a view
+ * found with one traversal, and the pipeline benchmarks sum the even elements of the whole list
+ * through a lazy filter and map, against a copy made by filtering into a new list first.
+ *
+ * @author ereimer18georgefox.edu
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SliceBenchmark {
+
+    @Param({"1000", "100000"})
+    private int _size;
+
+    private LinkedList<Integer> _list;
+    private int _from;
+    private int _to;
+
+
+    /**
+     * Fills the list and picks a slice of a tenth of its size around the middle.
+     */
+    @Setup
+    public void setup() {
+        _list = new LinkedList<>();
+        for (int i = 0; i < _size; i++) {
+            _list.add(i);
+        }
+        _from = _size / 2 - _size / 20;
+        _to = _size / 2 + _size / 20;
+    }
+
+
+    @Benchmark
+    public long sliceByGet() {
+        long sum = 0;
+        for (int i = _from; i < _to; i++) {
+            sum += _list.get(i);
+        }
+        return sum;
+    }
+
+
+    @Benchmark
+    public long sliceBySubList() {
+        long sum = 0;
+        for (Integer element : _list.subList(_from, _to)) {
+            sum += element;
+        }
+        return sum;
+    }
+
+
+    @Benchmark
+    public long pipelineLazy() {
+        long sum = 0;
+        for (Long element : _list.filter(element -> element % 2 == 0).map(element -> (long) element * 3)) {
+            sum += element;
+        }
+        return sum;
+    }
+
+
+    @Benchmark
+    public long pipelineCopied() {
+        LinkedList<Integer> evens = new LinkedList<>();
+        for (Integer element : _list) {
+            if (element % 2 == 0) {
+                evens.add(element);
+            }
+        }
+        LinkedList<Long> mapped = new LinkedList<>();
+        for (Integer element : evens) {
+            mapped.add((long) element * 3);
+        }
+        long sum = 0;
+        for (Long element : mapped) {
+            sum += element;
+        }
+        return sum;
+    }
+}
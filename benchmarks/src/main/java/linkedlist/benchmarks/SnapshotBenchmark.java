@@ -0,0 +1,71 @@
+package linkedlist.benchmarks;
+
+import linkedlist.LinkedList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the cost to the writer of handing a consistent view of a LinkedList to a reader.
+ *
+ * Each operation stands for one report taken while ingest continues: the writer takes a view
+ * and then appends an element and drops the oldest one. The snapshot shares the nodes of the list,
+ * while the copy is what a reader needs today when it cannot share the list.
+ *
+ * @author ereimer18georgefox.edu
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SnapshotBenchmark {
+
+    private static final Integer ELEMENT = 42;
+
+    @Param({"1000", "100000"})
+    private int _size;
+
+    private LinkedList<Integer> _list;
+
+
+    /**
+     * Fills the list with the parameterized number of elements.
+     */
+    @Setup
+    public void setup() {
+        _list = new LinkedList<>();
+        for (int i = 0; i < _size; i++) {
+            _list.add(ELEMENT);
+        }
+    }
+
+
+    @Benchmark
+    public Object snapshot() {
+        Object view = _list.snapshot();
+        _list.add(ELEMENT);
+        _list.removeFirst();
+        return view;
+    }
+
+
+    @Benchmark
+    public Object copy() {
+        Object view = _list.toArray();
+        _list.add(ELEMENT);
+        _list.removeFirst();
+        return view;
+    }
+}
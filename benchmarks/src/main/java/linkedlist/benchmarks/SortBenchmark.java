@@ -0,0 +1,105 @@
+package linkedlist.benchmarks;
+
+import linkedlist.LinkedList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares sorting a LinkedList in place with the workaround of copying it into an array.
+ *
+ * Every invocation sorts a freshly shuffled list of the parameterized size. The copy benchmark
+ * sorts an array of the elements and rebuilds the list with add, as callers had to before
+ * the list could sort itself; java.util.LinkedList is included for reference.
+ * Run with "-prof gc" to compare allocation rates.
+ *
+ * @author ereimer18georgefox.edu
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SortBenchmark {
+
+    private static final long SEED = 42;
+
+    @Param({"10000", "1000000"})
+    private int _size;
+
+    private Integer[] _values;
+    private LinkedList<Integer> _list;
+    private java.util.LinkedList<Integer> _javaLinkedList;
+
+
+    /**
+     * Creates the shuffled values once.
+     */
+    @Setup
+    public void setup() {
+        Random random = new Random(SEED);
+        _values = new Integer[_size];
+        for (int i = 0; i < _size; i++) {
+            _values[i] = random.nextInt();
+        }
+    }
+
+
+    /**
+     * Refills the lists with the shuffled values before each sort.
+     */
+    @Setup(Level.Invocation)
+    public void refill() {
+        _list = new LinkedList<>();
+        _list.addAll(Arrays.asList(_values));
+        _javaLinkedList = new java.util.LinkedList<>(Arrays.asList(_values));
+    }
+
+
+    @Benchmark
+    public LinkedList<Integer> sortInPlace() {
+        _list.sort(Comparator.naturalOrder());
+        return _list;
+    }
+
+
+    @Benchmark
+    public LinkedList<Integer> parallelSortInPlace() {
+        _list.parallelSort(Comparator.naturalOrder());
+        return _list;
+    }
+
+
+    @Benchmark
+    public LinkedList<Integer> sortByCopy() {
+        Integer[] array = _list.toArray(new Integer[0]);
+        Arrays.sort(array, Comparator.naturalOrder());
+        _list.clear();
+        for (Integer element : array) {
+            _list.add(element);
+        }
+        return _list;
+    }
+
+
+    @Benchmark
+    public java.util.LinkedList<Integer> sortJavaLinkedList() {
+        _javaLinkedList.sort(Comparator.naturalOrder());
+        return _javaLinkedList;
+    }
+}
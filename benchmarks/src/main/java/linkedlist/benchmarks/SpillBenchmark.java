@@ -0,0 +1,116 @@
+package linkedlist.benchmarks;
+
+import linkedlist.ElementCodec;
+import linkedlist.LinkedList;
+import linkedlist.SpillingLinkedList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures what SpillingLinkedList costs compared to a LinkedList that holds everything in memory.
+ *
+ * Both lists hold the same elements, but the spilling list may keep only a sixteenth of them
+ * in memory. Queue operations at the ends stay in the head and tail segments and never touch
+ * the spill file; a full scan reads every spilled segment back once and drops it again unchanged.
+ *
+ * @author ereimer18georgefox.edu
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SpillBenchmark {
+
+    private static final int BUDGET_FRACTION = 16;
+    private static final int SEGMENT_CAPACITY = 1024;
+
+    @Param({"1000000"})
+    private int _size;
+
+    private Path _directory;
+    private LinkedList<Integer> _linkedList;
+    private SpillingLinkedList<Integer> _spillingList;
+
+
+    /**
+     * Fills both lists, spilling most of the spilling list to a temporary directory.
+     *
+     * @throws IOException if the spill file cannot be created.
+     */
+    @Setup
+    public void setup() throws IOException {
+        _directory = Files.createTempDirectory("spill");
+        _linkedList = new LinkedList<>();
+        _spillingList = new SpillingLinkedList<>(ElementCodec.integers(), _directory,
+                Math.max(3 * SEGMENT_CAPACITY, _size / BUDGET_FRACTION), SEGMENT_CAPACITY);
+        for (int i = 0; i < _size; i++) {
+            _linkedList.add(i);
+            _spillingList.add(i);
+        }
+    }
+
+
+    /**
+     * Closes the spilling list and removes the temporary directory.
+     *
+     * @throws IOException if the spill file or the directory cannot be removed.
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        _spillingList.close();
+        Files.delete(_directory);
+    }
+
+
+    @Benchmark
+    public Integer queueLinkedList() {
+        _linkedList.addLast(_size);
+        return _linkedList.removeFirst();
+    }
+
+
+    @Benchmark
+    public Integer queueSpillingList() {
+        _spillingList.addLast(_size);
+        return _spillingList.removeFirst();
+    }
+
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public long scanLinkedList() {
+        long sum = 0;
+        for (Integer element : _linkedList) {
+            sum += element;
+        }
+        return sum;
+    }
+
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public long scanSpillingList() {
+        long sum = 0;
+        for (Integer element : _spillingList) {
+            sum += element;
+        }
+        return sum;
+    }
+}
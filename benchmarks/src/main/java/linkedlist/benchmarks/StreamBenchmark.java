@@ -0,0 +1,73 @@
+package linkedlist.benchmarks;
+
+import linkedlist.LinkedList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Spliterators;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.StreamSupport;
+
+/**
+ * Benchmarks an aggregation over LinkedList with sequential and parallel streams.
+ *
+ * The parallel stream uses the sized, evenly splitting Spliterator of LinkedList.
+ * For comparison, the unsized stream wraps the iterator the way a stream over a plain
+ * Iterable would, which can only split off small batches from the front.
+ * Parallel speedup depends on the number of cores available to the fork.
+ *
+ * @author ereimer18georgefox.edu
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StreamBenchmark {
+
+    @Param({"100000", "1000000", "10000000"})
+    private int _size;
+
+    private LinkedList<Integer> _list;
+
+
+    /**
+     * Fills the list with the parameterized number of elements.
+     */
+    @Setup
+    public void setup() {
+        _list = new LinkedList<>();
+        for (int i = 0; i < _size; i++) {
+            _list.add(i);
+        }
+    }
+
+
+    @Benchmark
+    public long sequentialStream() {
+        return _list.stream().mapToLong(Integer::longValue).sum();
+    }
+
+
+    @Benchmark
+    public long parallelStream() {
+        return _list.parallelStream().mapToLong(Integer::longValue).sum();
+    }
+
+
+    @Benchmark
+    public long unsizedParallelStream() {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(_list.iterator(), 0), true)
+                .mapToLong(Integer::longValue).sum();
+    }
+}
@@ -0,0 +1,124 @@
+package linkedlist.benchmarks;
+
+import linkedlist.LinkedList;
+import linkedlist.SortedLinkedList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Iterator;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures a timeline of scheduled events kept in sorted order.
+ *
+ * Every operation schedules an event at a random time later than the earliest one and then
+ * takes the earliest event off the timeline, so the timeline keeps its size. The LinkedList
+ * timeline finds the index of the new event with a linear search and inserts it with add(int, E),
+ * as callers did before SortedLinkedList; the SortedLinkedList timeline uses insertSorted and
+ * pollFirst. A third benchmark counts the events in a window of the SortedLinkedList timeline
+ * with range.
+ *
+ * @author ereimer18georgefox.edu
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TimelineBenchmark {
+
+    private static final long SEED = 42;
+    private static final int DELAYS = 1024;
+    private static final long WINDOW = 16;
+
+    @Param({"1000", "100000"})
+    private int _size;
+
+    private LinkedList<Long> _linkedTimeline;
+    private SortedLinkedList<Long> _sortedTimeline;
+    private long[] _delays;
+    private int _cursor;
+
+
+    /**
+     * Fills both timelines with the same events and picks the random delays of new events.
+     */
+    @Setup
+    public void setup() {
+        Random random = new Random(SEED);
+        _linkedTimeline = new LinkedList<>();
+        _sortedTimeline = new SortedLinkedList<>();
+        for (int i = 0; i < _size; i++) {
+            long time = random.nextInt(_size);
+            insertLinear(time);
+            _sortedTimeline.insertSorted(time);
+        }
+        _delays = new long[DELAYS];
+        for (int i = 0; i < DELAYS; i++) {
+            _delays[i] = 1 + random.nextInt(_size);
+        }
+    }
+
+
+    @Benchmark
+    public Long linkedListSearchAndAdd() {
+        insertLinear(_linkedTimeline.getFirst() + nextDelay());
+        return _linkedTimeline.removeFirst();
+    }
+
+
+    @Benchmark
+    public Long sortedLinkedList() {
+        _sortedTimeline.insertSorted(_sortedTimeline.getFirst() + nextDelay());
+        return _sortedTimeline.pollFirst();
+    }
+
+
+    @Benchmark
+    public int sortedRange() {
+        long from = _sortedTimeline.getFirst() + nextDelay();
+        int count = 0;
+        for (Long time : _sortedTimeline.range(from, from + WINDOW)) {
+            count++;
+        }
+        return count;
+    }
+
+
+    /**
+     * Inserts the specified time into the LinkedList timeline after every time not later than it.
+     *
+     * @param time - the time of the new event.
+     */
+    private void insertLinear(long time) {
+        int index = 0;
+        Iterator<Long> iterator = _linkedTimeline.iterator();
+        while (iterator.hasNext() && iterator.next() <= time) {
+            index++;
+        }
+        _linkedTimeline.add(index, time);
+    }
+
+
+    /**
+     * Returns the next of the random delays, cycling through them.
+     *
+     * @return a delay of at least 1.
+     */
+    private long nextDelay() {
+        long delay = _delays[_cursor];
+        _cursor = (_cursor + 1) % DELAYS;
+        return delay;
+    }
+}
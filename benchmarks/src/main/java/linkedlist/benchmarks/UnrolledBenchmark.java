@@ -0,0 +1,109 @@
+package linkedlist.benchmarks;
+
+import linkedlist.LinkedList;
+import linkedlist.UnrolledLinkedList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares full scans of LinkedList, UnrolledLinkedList and ArrayList.
+ *
+ * The ArrayList results are the array-speed baseline the unrolled list is measured against.
+ * indexOf searches for the last element, so every benchmark touches the whole list.
+ *
+ * @author ereimer18georgefox.edu
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UnrolledBenchmark {
+
+    @Param({"1000", "100000", "10000000"})
+    private int _size;
+
+    private LinkedList<Integer> _linkedList;
+    private UnrolledLinkedList<Integer> _unrolledList;
+    private List<Integer> _arrayList;
+    private Integer _last;
+
+
+    /**
+     * Fills all three lists with the same elements.
+     */
+    @Setup
+    public void setup() {
+        _linkedList = new LinkedList<>();
+        _unrolledList = new UnrolledLinkedList<>();
+        _arrayList = new ArrayList<>();
+        for (int i = 0; i < _size; i++) {
+            Integer element = i;
+            _linkedList.add(element);
+            _unrolledList.add(element);
+            _arrayList.add(element);
+        }
+        _last = _arrayList.get(_size - 1);
+    }
+
+
+    @Benchmark
+    public void iterateLinked(Blackhole blackhole) {
+        Iterator<Integer> iterator = _linkedList.iterator();
+        while (iterator.hasNext()) {
+            blackhole.consume(iterator.next());
+        }
+    }
+
+
+    @Benchmark
+    public void iterateUnrolled(Blackhole blackhole) {
+        Iterator<Integer> iterator = _unrolledList.iterator();
+        while (iterator.hasNext()) {
+            blackhole.consume(iterator.next());
+        }
+    }
+
+
+    @Benchmark
+    public void iterateArray(Blackhole blackhole) {
+        Iterator<Integer> iterator = _arrayList.iterator();
+        while (iterator.hasNext()) {
+            blackhole.consume(iterator.next());
+        }
+    }
+
+
+    @Benchmark
+    public int indexOfLinked() {
+        return _linkedList.indexOf(_last);
+    }
+
+
+    @Benchmark
+    public int indexOfUnrolled() {
+        return _unrolledList.indexOf(_last);
+    }
+
+
+    @Benchmark
+    public int indexOfArray() {
+        return _arrayList.indexOf(_last);
+    }
+}
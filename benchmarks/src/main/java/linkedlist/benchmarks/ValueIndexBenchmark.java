@@ -0,0 +1,99 @@
+package linkedlist.benchmarks;
+
+import linkedlist.LinkedList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks membership checks and removal by value on LinkedList with and without a value index.
+ *
+ * The lists hold distinct strings. Each lookup asks for a random string that is in the list
+ * half of the time, the way a dedup stage checks incoming records. Removal by value is paired
+ * with appending the same string again, so the list keeps its size.
+ *
+ * @author ereimer18georgefox.edu
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValueIndexBenchmark {
+
+    @Param({"1000", "100000"})
+    private int _size;
+
+    private LinkedList<String> _plainList;
+    private LinkedList<String> _indexedList;
+    private String[] _keys;
+
+
+    /**
+     * Fills both lists with the same distinct strings, and prepares keys
+     * of which half are in the lists.
+     */
+    @Setup
+    public void setup() {
+        _plainList = new LinkedList<>();
+        _indexedList = new LinkedList<>();
+        _indexedList.setValueIndexed(true);
+        _keys = new String[2 * _size];
+        for (int i = 0; i < _keys.length; i++) {
+            _keys[i] = "record-" + i;
+        }
+        for (int i = 0; i < _size; i++) {
+            _plainList.add(_keys[i]);
+            _indexedList.add(_keys[i]);
+        }
+    }
+
+
+    @Benchmark
+    public boolean containsPlain() {
+        return _plainList.contains(randomKey());
+    }
+
+
+    @Benchmark
+    public boolean containsIndexed() {
+        return _indexedList.contains(randomKey());
+    }
+
+
+    @Benchmark
+    public boolean removePlain() {
+        return removeAndAdd(_plainList);
+    }
+
+
+    @Benchmark
+    public boolean removeIndexed() {
+        return removeAndAdd(_indexedList);
+    }
+
+
+    private String randomKey() {
+        return _keys[ThreadLocalRandom.current().nextInt(_keys.length)];
+    }
+
+
+    private boolean removeAndAdd(LinkedList<String> list) {
+        String key = _keys[ThreadLocalRandom.current().nextInt(_size)];
+        boolean removed = list.remove(key);
+        list.add(key);
+        return removed;
+    }
+}
@@ -0,0 +1,773 @@
+package linkedlist;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * The ArrayLinkedList class describes a doubly-linked list whose nodes are slots of parallel arrays.
+ *
+ * This class offers the same methods as LinkedList. Instead of one object per node, the values
+ * are kept in an array and the links in two int arrays of the same length, where a link is the
+ * slot number of the neighbouring node and -1 means there is none. The whole list is therefore
+ * three arrays no matter how many elements it holds: there are no node headers, the garbage
+ * collector traces three objects, and neighbouring slots share cache lines.
+ * Slots freed by removals are kept on a free list, threaded through the next links,
+ * and are reused by the following insertions; the arrays grow by half when every slot is taken.
+ *
+ * As slots are reused, neighbours in the list drift apart in the arrays. compact() moves
+ * every element to the slot matching its index, which restores sequential memory access
+ * and lets get and set read the slot directly until the list is next changed anywhere
+ * other than at its end.
+ *
+ * @param <E> - the type of elements held in this collection.
+ * @author ereimer18georgefox.edu
+ */
+public class ArrayLinkedList<E> implements Iterable<E> {
+
+    private static final int EMPTY = 0;
+    private static final int NOT_FOUND = -1;
+    private static final int NIL = -1;
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private Object[] _values;
+    private int[] _next;
+    private int[] _prev;
+    private int _head;
+    private int _tail;
+    private int _free;
+    private int _used;
+    private boolean _ordered;
+    private int _size;
+    private int _modCount;
+
+
+    /**
+     * Constructs an instance of an ArrayLinkedList.
+     *
+     * Constructs an empty instance of an ArrayLinkedList with room for 16 elements
+     * before its arrays grow.
+     */
+    public ArrayLinkedList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+
+    /**
+     * Constructs an instance of an ArrayLinkedList with room for the specified number of elements.
+     *
+     * @param capacity - the number of elements the list holds before its arrays grow.
+     * @throws IllegalArgumentException if the capacity is negative.
+     */
+    public ArrayLinkedList(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException();
+        }
+        _values = new Object[capacity];
+        _next = new int[capacity];
+        _prev = new int[capacity];
+        _modCount = 0;
+        reset();
+    }
+
+
+    /**
+     * Inserts the specified element at the specified position in this list.
+     *
+     * Shifts the element currently at that position (if any) and any subsequent elements to the right.
+     *
+     * @param index - index at which the specified element is to be inserted.
+     * @param element - element to be inserted.
+     * @throws IndexOutOfBoundsException if the index is out of range (index < 0 || index > size()).
+     */
+    public void add(int index, E element) {
+        if (index < 0 || index > size()) {
+            throw new IndexOutOfBoundsException();
+        }
+        linkBefore(element, (index == size()) ? NIL : traverse(index));
+    }
+
+
+    /**
+     * Appends the specified element to the end of this list.
+     *
+     * @param element - element to be appended to this list.
+     * @return if the append was successful.
+     */
+    public boolean add(E element) {
+        linkBefore(element, NIL);
+        return true;
+    }
+
+
+    /**
+     * Inserts the specified element at the front of this list.
+     *
+     * @param element - the element to add.
+     */
+    public void addFirst(E element) {
+        linkBefore(element, _head);
+    }
+
+
+    /**
+     * Appends the specified element to the end of this list.
+     *
+     * @param element - the element to add.
+     */
+    public void addLast(E element) {
+        linkBefore(element, NIL);
+    }
+
+
+    /**
+     * Removes all of the elements from this list.
+     *
+     * The arrays keep their length, and every slot becomes free again.
+     */
+    public void clear() {
+        Arrays.fill(_values, 0, _used, null);
+        reset();
+        _modCount++;
+    }
+
+
+    /**
+     * Returns the element at the specified position in this list.
+     *
+     * Reads the slot directly if the list is compacted, and traverses the links otherwise.
+     *
+     * @param index - index of the element to return.
+     * @return the element at the specified position in this list.
+     * @throws IndexOutOfBoundsException - if the index is out of range
+     * (index < 0 || index >= size()).
+     */
+    public E get(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException();
+        }
+        return value(traverse(index));
+    }
+
+
+    /**
+     * Returns the first element of this list.
+     *
+     * @return the first element of this list.
+     * @throws NoSuchElementException if this list is empty.
+     */
+    public E getFirst() {
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return value(_head);
+    }
+
+
+    /**
+     * Returns the last element of this list.
+     *
+     * @return the last element of this list.
+     * @throws NoSuchElementException if this list is empty.
+     */
+    public E getLast() {
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return value(_tail);
+    }
+
+
+    /**
+     * Returns the index of the first occurrence of the specified element in this list,
+     * or -1 if this list does not contain the element.
+     *
+     * Elements are compared with equals.
+     *
+     * @param element - element to search for.
+     * @return the index of the first occurrence of the specified element in this list,
+     * or -1 if this list does not contain the element.
+     */
+    public int indexOf(E element) {
+        int index = EMPTY;
+        int slot = _head;
+        while (slot != NIL && !Objects.equals(_values[slot], element)) {
+            slot = _next[slot];
+            index++;
+        }
+        if (slot == NIL) {
+            index = NOT_FOUND;
+        }
+        return index;
+    }
+
+
+    /**
+     * Returns true if this list contains no elements.
+     *
+     * @return if this list contains no elements.
+     */
+    public boolean isEmpty() {
+        return size() <= EMPTY;
+    }
+
+
+    /**
+     * Removes the element at the specified position in this list.
+     *
+     * Shifts any subsequent elements to the left. The slot of the element goes to the free list.
+     *
+     * @param index - the index of the element to be removed.
+     * @return the element previously at the specified position.
+     * @throws IndexOutOfBoundsException - if the index is out of range
+     * (index < 0 || index >= size()).
+     */
+    public E remove(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException();
+        }
+        return unlink(traverse(index));
+    }
+
+
+    /**
+     * Removes and returns the first element of this list.
+     *
+     * @return the first element of this list.
+     * @throws NoSuchElementException if this list is empty.
+     */
+    public E removeFirst() {
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return unlink(_head);
+    }
+
+
+    /**
+     * Removes and returns the last element of this list.
+     *
+     * @return the last element of this list.
+     * @throws NoSuchElementException if this list is empty.
+     */
+    public E removeLast() {
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return unlink(_tail);
+    }
+
+
+    /**
+     * Replaces the element at the specified position in this list with the specified element.
+     *
+     * @param index - index of the element to replace.
+     * @param element - element to be stored at the specified position.
+     * @return the element previously at the specified position.
+     * @throws IndexOutOfBoundsException - if the index is out of range
+     * (index < 0 || index >= size()).
+     */
+    public E set(int index, E element) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException();
+        }
+        int slot = traverse(index);
+        E previousElement = value(slot);
+        _values[slot] = element;
+        return previousElement;
+    }
+
+
+    /**
+     * Returns the number of elements in this list.
+     *
+     * @return the number of elements in this list.
+     */
+    public int size() {
+        return _size;
+    }
+
+
+    /**
+     * Returns the number of slots in the arrays of this list.
+     *
+     * @return the number of elements this list can hold before its arrays grow.
+     */
+    public int capacity() {
+        return _values.length;
+    }
+
+
+    /**
+     * Returns true if every element is in the slot matching its index.
+     *
+     * @return true if the list is compacted.
+     */
+    public boolean isCompacted() {
+        return _ordered;
+    }
+
+
+    /**
+     * Moves every element to the slot matching its index and trims the arrays.
+     *
+     * Walks the list once, copying the elements in order into new arrays just long enough to
+     * hold them (but no shorter than the default capacity) and linking each slot to its
+     * neighbours in the arrays. Afterwards iteration reads the arrays sequentially, and get
+     * and set read the slot of an index directly. Appending and removing the last element
+     * keep the list compacted; any other change undoes it until the next call.
+     * Iterators find their positions again by index.
+     */
+    public void compact() {
+        int capacity = Math.max(size(), DEFAULT_CAPACITY);
+        Object[] values = new Object[capacity];
+        int[] next = new int[capacity];
+        int[] prev = new int[capacity];
+        int index = EMPTY;
+        for (int slot = _head; slot != NIL; slot = _next[slot]) {
+            values[index] = _values[slot];
+            prev[index] = index - 1;
+            next[index] = index + 1;
+            index++;
+        }
+        if (index > EMPTY) {
+            next[index - 1] = NIL;
+        }
+        _values = values;
+        _next = next;
+        _prev = prev;
+        _head = (index == EMPTY) ? NIL : 0;
+        _tail = index - 1;
+        _free = NIL;
+        _used = index;
+        _ordered = true;
+        _modCount++;
+    }
+
+
+    /**
+     * Returns an iterator over elements of type E, starting at the head.
+     *
+     * @return an Iterator.
+     */
+    public Iterator<E> iterator() {
+        return new ArrayListIterator(0);
+    }
+
+
+    /**
+     * Returns an iterator over elements of type E, starting at the tail.
+     *
+     * @return an Iterator.
+     */
+    public Iterator<E> reverseIterator() {
+        return new ReverseArrayListIterator();
+    }
+
+
+    /**
+     * Returns a list iterator over the elements in this list.
+     *
+     * @return a ListIterator positioned at the head of this list.
+     */
+    public ListIterator<E> listIterator() {
+        return new ArrayListIterator(0);
+    }
+
+
+    /**
+     * Returns a list iterator over the elements in this list,
+     * starting at the specified position in this list.
+     *
+     * @param index - index of the first element to be returned by next().
+     * @return a ListIterator positioned at the specified index.
+     * @throws IndexOutOfBoundsException - if the index is out of range
+     * (index < 0 || index > size()).
+     */
+    public ListIterator<E> listIterator(int index) {
+        if (index < 0 || index > size()) {
+            throw new IndexOutOfBoundsException();
+        }
+        return new ArrayListIterator(index);
+    }
+
+
+    /**
+     * Returns the slot of the element at the specified index.
+     *
+     * If the list is compacted, the slot is the index itself. Otherwise, depending on the
+     * shortest path to the index, this method follows the links forwards from the head
+     * or backwards from the tail.
+     *
+     * @param index - index of the slot to be returned (0 <= index < size()).
+     * @return the slot of the element at the specified position.
+     */
+    private int traverse(int index) {
+        int slot;
+        if (_ordered) {
+            slot = index;
+        }
+        else if (size() - index >= size() / 2) {
+            slot = _head;
+            for (int i = 0; i < index; i++) {
+                slot = _next[slot];
+            }
+        }
+        else {
+            slot = _tail;
+            for (int i = size() - 1; i > index; i--) {
+                slot = _prev[slot];
+            }
+        }
+        return slot;
+    }
+
+
+    /**
+     * Returns the element held in the specified slot.
+     *
+     * @param slot - a slot holding an element of this list.
+     * @return the element in the slot.
+     */
+    @SuppressWarnings("unchecked")
+    private E value(int slot) {
+        return (E) _values[slot];
+    }
+
+
+    /**
+     * Stores the specified element in a free slot linked directly before the specified slot.
+     *
+     * The slot is taken from the free list, or from the unused end of the arrays,
+     * which grow if every slot is taken. The list stays compacted only if the element is
+     * appended into the slot matching its index.
+     *
+     * @param element - element to be inserted.
+     * @param successor - the slot that will follow the new element, or -1 to append.
+     */
+    private void linkBefore(E element, int successor) {
+        int slot = allocate();
+        int previous = (successor == NIL) ? _tail : _prev[successor];
+        _values[slot] = element;
+        _prev[slot] = previous;
+        _next[slot] = successor;
+        if (previous == NIL) {
+            _head = slot;
+        }
+        else {
+            _next[previous] = slot;
+        }
+        if (successor == NIL) {
+            _tail = slot;
+        }
+        else {
+            _prev[successor] = slot;
+        }
+        _ordered = _ordered && successor == NIL && slot == _size;
+        _size++;
+        _modCount++;
+    }
+
+
+    /**
+     * Unlinks the element in the specified slot, frees the slot and returns the element.
+     *
+     * The list stays compacted only if the slot was the last one.
+     *
+     * @param slot - a slot holding an element of this list.
+     * @return the element that was removed.
+     */
+    private E unlink(int slot) {
+        E element = value(slot);
+        int previous = _prev[slot];
+        int next = _next[slot];
+        if (previous == NIL) {
+            _head = next;
+        }
+        else {
+            _next[previous] = next;
+        }
+        if (next == NIL) {
+            _tail = previous;
+        }
+        else {
+            _prev[next] = previous;
+        }
+        _ordered = _ordered && next == NIL;
+        _values[slot] = null;
+        _prev[slot] = NIL;
+        _next[slot] = _free;
+        _free = slot;
+        _size--;
+        _modCount++;
+        return element;
+    }
+
+
+    /**
+     * Returns a slot that holds no element, growing the arrays if there is none.
+     *
+     * @return a free slot.
+     */
+    private int allocate() {
+        int slot;
+        if (_free != NIL) {
+            slot = _free;
+            _free = _next[slot];
+        }
+        else {
+            if (_used == _values.length) {
+                int capacity = Math.max(_values.length + (_values.length >> 1), DEFAULT_CAPACITY);
+                _values = Arrays.copyOf(_values, capacity);
+                _next = Arrays.copyOf(_next, capacity);
+                _prev = Arrays.copyOf(_prev, capacity);
+            }
+            slot = _used;
+            _used++;
+        }
+        return slot;
+    }
+
+
+    /**
+     * Empties the links of this list and frees every slot.
+     */
+    private void reset() {
+        _head = NIL;
+        _tail = NIL;
+        _free = NIL;
+        _used = EMPTY;
+        _ordered = true;
+        _size = EMPTY;
+    }
+
+
+    /**
+     * ArrayListIterator is an inner class of ArrayLinkedList
+     * and an implementation of the ListIterator interface.
+     *
+     * The iterator holds the slot of the element it will return next and follows the links.
+     * If this list is structurally modified other than through this iterator,
+     * the position of the iterator is resolved again from its index on the next move.
+     */
+    private class ArrayListIterator implements ListIterator<E> {
+
+        private int _nextSlot;
+        private int _lastReturned;
+        private int _nextIndex;
+        private int _expectedModCount;
+
+
+        /**
+         * Creates an instance of an ArrayListIterator positioned before the specified index.
+         *
+         * @param index - index of the first element to be returned by next().
+         */
+        private ArrayListIterator(int index) {
+            _nextIndex = index;
+            _nextSlot = (index == size()) ? NIL : traverse(index);
+            _lastReturned = NIL;
+            _expectedModCount = _modCount;
+        }
+
+
+        /**
+         * Returns true if the iteration has more elements when moving forwards.
+         *
+         * @return true if the iteration has more elements.
+         */
+        public boolean hasNext() {
+            return _nextIndex < size();
+        }
+
+
+        /**
+         * Returns the next element in the iteration.
+         *
+         * @return the next element in the iteration.
+         * @throws NoSuchElementException if the iteration has no more elements.
+         */
+        public E next() {
+            synchronize();
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            _lastReturned = _nextSlot;
+            _nextSlot = _next[_nextSlot];
+            _nextIndex++;
+            return value(_lastReturned);
+        }
+
+
+        /**
+         * Returns true if the iteration has more elements when moving backwards.
+         *
+         * @return true if the iteration has more elements in the reverse direction.
+         */
+        public boolean hasPrevious() {
+            return _nextIndex > EMPTY;
+        }
+
+
+        /**
+         * Returns the previous element in the iteration.
+         *
+         * @return the previous element in the iteration.
+         * @throws NoSuchElementException if the iteration has no previous element.
+         */
+        public E previous() {
+            synchronize();
+            if (!hasPrevious()) {
+                throw new NoSuchElementException();
+            }
+            _nextSlot = (_nextSlot == NIL) ? _tail : _prev[_nextSlot];
+            _lastReturned = _nextSlot;
+            _nextIndex--;
+            return value(_lastReturned);
+        }
+
+
+        /**
+         * Returns the index of the element that would be returned by next().
+         *
+         * @return the index of the next element, or the size of the list if at the end.
+         */
+        public int nextIndex() {
+            return _nextIndex;
+        }
+
+
+        /**
+         * Returns the index of the element that would be returned by previous().
+         *
+         * @return the index of the previous element, or -1 if at the head of the list.
+         */
+        public int previousIndex() {
+            return _nextIndex - 1;
+        }
+
+
+        /**
+         * Removes the element last returned by next() or previous() from the list.
+         *
+         * @throws IllegalStateException if no element has been returned since the last
+         * call to add() or remove().
+         */
+        public void remove() {
+            synchronize();
+            if (_lastReturned == NIL) {
+                throw new IllegalStateException();
+            }
+            if (_nextSlot == _lastReturned) {
+                _nextSlot = _next[_lastReturned];
+            }
+            else {
+                _nextIndex--;
+            }
+            unlink(_lastReturned);
+            _lastReturned = NIL;
+            _expectedModCount = _modCount;
+        }
+
+
+        /**
+         * Replaces the element last returned by next() or previous() with the specified element.
+         *
+         * @param element - element with which to replace the last returned element.
+         * @throws IllegalStateException if no element has been returned since the last
+         * call to add() or remove().
+         */
+        public void set(E element) {
+            synchronize();
+            if (_lastReturned == NIL) {
+                throw new IllegalStateException();
+            }
+            _values[_lastReturned] = element;
+        }
+
+
+        /**
+         * Inserts the specified element into the list at the position of this iterator.
+         *
+         * @param element - element to be inserted.
+         */
+        public void add(E element) {
+            synchronize();
+            linkBefore(element, _nextSlot);
+            _nextIndex++;
+            _lastReturned = NIL;
+            _expectedModCount = _modCount;
+        }
+
+
+        /**
+         * Resolves the position of this iterator again if the list has been
+         * structurally modified other than through this iterator.
+         */
+        private void synchronize() {
+            if (_expectedModCount != _modCount) {
+                if (_nextIndex > size()) {
+                    _nextIndex = size();
+                }
+                _nextSlot = (_nextIndex == size()) ? NIL : traverse(_nextIndex);
+                _lastReturned = NIL;
+                _expectedModCount = _modCount;
+            }
+        }
+    }
+
+
+    /**
+     * ReverseArrayListIterator is an inner class of ArrayLinkedList
+     * and an implementation of the Iterator interface.
+     *
+     * This Iterator walks backwards from the tail of the list by following
+     * the previous() moves of an ArrayListIterator positioned at the end of the list.
+     */
+    private class ReverseArrayListIterator implements Iterator<E> {
+
+        private ListIterator<E> _iterator;
+
+
+        /**
+         * Creates an instance of a ReverseArrayListIterator positioned after the last element.
+         */
+        private ReverseArrayListIterator() {
+            _iterator = new ArrayListIterator(size());
+        }
+
+
+        /**
+         * Returns true if the iteration has more elements.
+         *
+         * @return true if the iteration has more elements.
+         */
+        public boolean hasNext() {
+            return _iterator.hasPrevious();
+        }
+
+
+        /**
+         * Returns the next element in the iteration, moving towards the head.
+         *
+         * @return the next element in the iteration.
+         * @throws NoSuchElementException if the iteration has no more elements.
+         */
+        public E next() {
+            return _iterator.previous();
+        }
+
+
+        /**
+         * Removes the element last returned by next() from the list.
+         *
+         * @throws IllegalStateException if next() has not been called,
+         * or if remove() has already been called after the last call to next().
+         */
+        public void remove() {
+            _iterator.remove();
+        }
+    }
+}
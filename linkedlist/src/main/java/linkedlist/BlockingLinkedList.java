@@ -0,0 +1,1023 @@
+package linkedlist;
+
+import java.util.AbstractQueue;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * The BlockingLinkedList class describes an optionally bounded BlockingDeque backed by a LinkedList.
+ *
+ * Every operation takes a single ReentrantLock, and threads that must wait for an element or
+ * for space wait on a Condition of that lock. Unlike a monitor used with wait and notify,
+ * a ReentrantLock never pins a virtual thread to its carrier, so thousands of virtual producers
+ * can block on a full deque while the carriers run other work.
+ *
+ * Taking the lock is the main cost of each operation, so offerAll and drainTo move many elements
+ * per acquisition: a consumer that drains a batch pays for the lock once instead of once per element.
+ * Iterators walk a snapshot of the deque taken when they are created, so they never block
+ * and never throw ConcurrentModificationException; they may miss elements added later.
+ * Null elements are not permitted.
+ *
+ * @param <E> - the type of elements held in this collection.
+ * @author ereimer18georgefox.edu
+ */
+public class BlockingLinkedList<E> extends AbstractQueue<E> implements BlockingDeque<E> {
+
+    private final LinkedList<E> _list;
+    private final int _capacity;
+    private final ReentrantLock _lock;
+    private final Condition _notEmpty;
+    private final Condition _notFull;
+
+
+    /**
+     * Constructs an instance of an unbounded BlockingLinkedList.
+     */
+    public BlockingLinkedList() {
+        this(Integer.MAX_VALUE);
+    }
+
+
+    /**
+     * Constructs an instance of a BlockingLinkedList that holds at most the specified number of elements.
+     *
+     * @param capacity - the largest number of elements this deque may hold.
+     * @throws IllegalArgumentException if the capacity is not positive.
+     */
+    public BlockingLinkedList(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException();
+        }
+        _list = new LinkedList<>(false);
+        _capacity = capacity;
+        _lock = new ReentrantLock();
+        _notEmpty = _lock.newCondition();
+        _notFull = _lock.newCondition();
+    }
+
+
+    /**
+     * Inserts the specified element at the front of this deque if there is space.
+     *
+     * @param element - the element to add.
+     * @throws IllegalStateException if this deque is full.
+     * @throws NullPointerException if the element is null.
+     */
+    public void addFirst(E element) {
+        if (!offerFirst(element)) {
+            throw new IllegalStateException("Deque full");
+        }
+    }
+
+
+    /**
+     * Inserts the specified element at the end of this deque if there is space.
+     *
+     * @param element - the element to add.
+     * @throws IllegalStateException if this deque is full.
+     * @throws NullPointerException if the element is null.
+     */
+    public void addLast(E element) {
+        if (!offerLast(element)) {
+            throw new IllegalStateException("Deque full");
+        }
+    }
+
+
+    /**
+     * Inserts the specified element at the front of this deque if there is space.
+     *
+     * @param element - the element to add.
+     * @return true if the element was added, false if this deque is full.
+     * @throws NullPointerException if the element is null.
+     */
+    public boolean offerFirst(E element) {
+        Objects.requireNonNull(element);
+        _lock.lock();
+        try {
+            return linkFirst(element);
+        }
+        finally {
+            _lock.unlock();
+        }
+    }
+
+
+    /**
+     * Inserts the specified element at the end of this deque if there is space.
+     *
+     * @param element - the element to add.
+     * @return true if the element was added, false if this deque is full.
+     * @throws NullPointerException if the element is null.
+     */
+    public boolean offerLast(E element) {
+        Objects.requireNonNull(element);
+        _lock.lock();
+        try {
+            return linkLast(element);
+        }
+        finally {
+            _lock.unlock();
+        }
+    }
+
+
+    /**
+     * Inserts the specified element at the front of this deque, waiting for space if necessary.
+     *
+     * @param element - the element to add.
+     * @throws InterruptedException if interrupted while waiting.
+     * @throws NullPointerException if the element is null.
+     */
+    public void putFirst(E element) throws InterruptedException {
+        Objects.requireNonNull(element);
+        _lock.lock();
+        try {
+            while (!linkFirst(element)) {
+                _notFull.await();
+            }
+        }
+        finally {
+            _lock.unlock();
+        }
+    }
+
+
+    /**
+     * Inserts the specified element at the end of this deque, waiting for space if necessary.
+     *
+     * @param element - the element to add.
+     * @throws InterruptedException if interrupted while waiting.
+     * @throws NullPointerException if the element is null.
+     */
+    public void putLast(E element) throws InterruptedException {
+        Objects.requireNonNull(element);
+        _lock.lock();
+        try {
+            while (!linkLast(element)) {
+                _notFull.await();
+            }
+        }
+        finally {
+            _lock.unlock();
+        }
+    }
+
+
+    /**
+     * Inserts the specified element at the front of this deque, waiting up to the specified time for space.
+     *
+     * @param element - the element to add.
+     * @param timeout - how long to wait before giving up, in units of unit.
+     * @param unit - the unit of the timeout.
+     * @return true if the element was added, false if the time ran out first.
+     * @throws InterruptedException if interrupted while waiting.
+     * @throws NullPointerException if the element is null.
+     */
+    public boolean offerFirst(E element, long timeout, TimeUnit unit) throws InterruptedException {
+        Objects.requireNonNull(element);
+        long nanos = unit.toNanos(timeout);
+        boolean added;
+        _lock.lock();
+        try {
+            added = linkFirst(element);
+            while (!added && nanos > 0) {
+                nanos = _notFull.awaitNanos(nanos);
+                added = linkFirst(element);
+            }
+        }
+        finally {
+            _lock.unlock();
+        }
+        return added;
+    }
+
+
+    /**
+     * Inserts the specified element at the end of this deque, waiting up to the specified time for space.
+     *
+     * @param element - the element to add.
+     * @param timeout - how long to wait before giving up, in units of unit.
+     * @param unit - the unit of the timeout.
+     * @return true if the element was added, false if the time ran out first.
+     * @throws InterruptedException if interrupted while waiting.
+     * @throws NullPointerException if the element is null.
+     */
+    public boolean offerLast(E element, long timeout, TimeUnit unit) throws InterruptedException {
+        Objects.requireNonNull(element);
+        long nanos = unit.toNanos(timeout);
+        boolean added;
+        _lock.lock();
+        try {
+            added = linkLast(element);
+            while (!added && nanos > 0) {
+                nanos = _notFull.awaitNanos(nanos);
+                added = linkLast(element);
+            }
+        }
+        finally {
+            _lock.unlock();
+        }
+        return added;
+    }
+
+
+    /**
+     * Appends as many of the specified elements as there is space for, under a single acquisition of the lock.
+     *
+     * Elements are appended in the iteration order of the collection until it is exhausted
+     * or this deque is full, and then as many waiting consumers are woken as elements were added.
+     *
+     * @param elements - the elements to add.
+     * @return the number of elements added.
+     * @throws NullPointerException if the collection or one of its elements is null;
+     * the elements before it have been added.
+     * @throws IllegalArgumentException if the collection is this deque.
+     */
+    public int offerAll(Collection<? extends E> elements) {
+        Objects.requireNonNull(elements);
+        if (elements == this) {
+            throw new IllegalArgumentException();
+        }
+        int added = 0;
+        _lock.lock();
+        try {
+            Iterator<? extends E> iterator = elements.iterator();
+            while (_list.size() < _capacity && iterator.hasNext()) {
+                _list.addLast(Objects.requireNonNull(iterator.next()));
+                added++;
+            }
+        }
+        finally {
+            signal(_notEmpty, added);
+            _lock.unlock();
+        }
+        return added;
+    }
+
+
+    /**
+     * Removes and returns the first element of this deque.
+     *
+     * @return the first element of this deque.
+     * @throws NoSuchElementException if this deque is empty.
+     */
+    public E removeFirst() {
+        E element = pollFirst();
+        if (element == null) {
+            throw new NoSuchElementException();
+        }
+        return element;
+    }
+
+
+    /**
+     * Removes and returns the last element of this deque.
+     *
+     * @return the last element of this deque.
+     * @throws NoSuchElementException if this deque is empty.
+     */
+    public E removeLast() {
+        E element = pollLast();
+        if (element == null) {
+            throw new NoSuchElementException();
+        }
+        return element;
+    }
+
+
+    /**
+     * Removes and returns the first element of this deque, or returns null if it is empty.
+     *
+     * @return the first element, or null if this deque is empty.
+     */
+    public E pollFirst() {
+        _lock.lock();
+        try {
+            return unlinkFirst();
+        }
+        finally {
+            _lock.unlock();
+        }
+    }
+
+
+    /**
+     * Removes and returns the last element of this deque, or returns null if it is empty.
+     *
+     * @return the last element, or null if this deque is empty.
+     */
+    public E pollLast() {
+        _lock.lock();
+        try {
+            return unlinkLast();
+        }
+        finally {
+            _lock.unlock();
+        }
+    }
+
+
+    /**
+     * Removes and returns the first element of this deque, waiting for one if necessary.
+     *
+     * @return the first element of this deque.
+     * @throws InterruptedException if interrupted while waiting.
+     */
+    public E takeFirst() throws InterruptedException {
+        E element;
+        _lock.lock();
+        try {
+            while ((element = unlinkFirst()) == null) {
+                _notEmpty.await();
+            }
+        }
+        finally {
+            _lock.unlock();
+        }
+        return element;
+    }
+
+
+    /**
+     * Removes and returns the last element of this deque, waiting for one if necessary.
+     *
+     * @return the last element of this deque.
+     * @throws InterruptedException if interrupted while waiting.
+     */
+    public E takeLast() throws InterruptedException {
+        E element;
+        _lock.lock();
+        try {
+            while ((element = unlinkLast()) == null) {
+                _notEmpty.await();
+            }
+        }
+        finally {
+            _lock.unlock();
+        }
+        return element;
+    }
+
+
+    /**
+     * Removes and returns the first element of this deque, waiting up to the specified time for one.
+     *
+     * @param timeout - how long to wait before giving up, in units of unit.
+     * @param unit - the unit of the timeout.
+     * @return the first element, or null if the time ran out first.
+     * @throws InterruptedException if interrupted while waiting.
+     */
+    public E pollFirst(long timeout, TimeUnit unit) throws InterruptedException {
+        long nanos = unit.toNanos(timeout);
+        E element;
+        _lock.lock();
+        try {
+            element = unlinkFirst();
+            while (element == null && nanos > 0) {
+                nanos = _notEmpty.awaitNanos(nanos);
+                element = unlinkFirst();
+            }
+        }
+        finally {
+            _lock.unlock();
+        }
+        return element;
+    }
+
+
+    /**
+     * Removes and returns the last element of this deque, waiting up to the specified time for one.
+     *
+     * @param timeout - how long to wait before giving up, in units of unit.
+     * @param unit - the unit of the timeout.
+     * @return the last element, or null if the time ran out first.
+     * @throws InterruptedException if interrupted while waiting.
+     */
+    public E pollLast(long timeout, TimeUnit unit) throws InterruptedException {
+        long nanos = unit.toNanos(timeout);
+        E element;
+        _lock.lock();
+        try {
+            element = unlinkLast();
+            while (element == null && nanos > 0) {
+                nanos = _notEmpty.awaitNanos(nanos);
+                element = unlinkLast();
+            }
+        }
+        finally {
+            _lock.unlock();
+        }
+        return element;
+    }
+
+
+    /**
+     * Returns the first element of this deque without removing it.
+     *
+     * @return the first element of this deque.
+     * @throws NoSuchElementException if this deque is empty.
+     */
+    public E getFirst() {
+        E element = peekFirst();
+        if (element == null) {
+            throw new NoSuchElementException();
+        }
+        return element;
+    }
+
+
+    /**
+     * Returns the last element of this deque without removing it.
+     *
+     * @return the last element of this deque.
+     * @throws NoSuchElementException if this deque is empty.
+     */
+    public E getLast() {
+        E element = peekLast();
+        if (element == null) {
+            throw new NoSuchElementException();
+        }
+        return element;
+    }
+
+
+    /**
+     * Returns the first element of this deque without removing it, or null if it is empty.
+     *
+     * @return the first element, or null if this deque is empty.
+     */
+    public E peekFirst() {
+        _lock.lock();
+        try {
+            return _list.peekFirst();
+        }
+        finally {
+            _lock.unlock();
+        }
+    }
+
+
+    /**
+     * Returns the last element of this deque without removing it, or null if it is empty.
+     *
+     * @return the last element, or null if this deque is empty.
+     */
+    public E peekLast() {
+        _lock.lock();
+        try {
+            return _list.peekLast();
+        }
+        finally {
+            _lock.unlock();
+        }
+    }
+
+
+    /**
+     * Removes the first occurrence of the specified element from this deque, if it is present.
+     *
+     * @param element - element to be removed, if present.
+     * @return true if an element was removed.
+     */
+    public boolean removeFirstOccurrence(Object element) {
+        boolean removed = false;
+        if (element != null) {
+            _lock.lock();
+            try {
+                removed = _list.removeFirstOccurrence(element);
+                if (removed) {
+                    _notFull.signal();
+                }
+            }
+            finally {
+                _lock.unlock();
+            }
+        }
+        return removed;
+    }
+
+
+    /**
+     * Removes the last occurrence of the specified element from this deque, if it is present.
+     *
+     * @param element - element to be removed, if present.
+     * @return true if an element was removed.
+     */
+    public boolean removeLastOccurrence(Object element) {
+        boolean removed = false;
+        if (element != null) {
+            _lock.lock();
+            try {
+                removed = _list.removeLastOccurrence(element);
+                if (removed) {
+                    _notFull.signal();
+                }
+            }
+            finally {
+                _lock.unlock();
+            }
+        }
+        return removed;
+    }
+
+
+    /**
+     * Inserts the specified element at the end of this deque if there is space.
+     *
+     * @param element - the element to add.
+     * @return true if the element was added, false if this deque is full.
+     * @throws NullPointerException if the element is null.
+     */
+    public boolean offer(E element) {
+        return offerLast(element);
+    }
+
+
+    /**
+     * Inserts the specified element at the end of this deque, waiting for space if necessary.
+     *
+     * @param element - the element to add.
+     * @throws InterruptedException if interrupted while waiting.
+     * @throws NullPointerException if the element is null.
+     */
+    public void put(E element) throws InterruptedException {
+        putLast(element);
+    }
+
+
+    /**
+     * Inserts the specified element at the end of this deque, waiting up to the specified time for space.
+     *
+     * @param element - the element to add.
+     * @param timeout - how long to wait before giving up, in units of unit.
+     * @param unit - the unit of the timeout.
+     * @return true if the element was added, false if the time ran out first.
+     * @throws InterruptedException if interrupted while waiting.
+     * @throws NullPointerException if the element is null.
+     */
+    public boolean offer(E element, long timeout, TimeUnit unit) throws InterruptedException {
+        return offerLast(element, timeout, unit);
+    }
+
+
+    /**
+     * Removes and returns the first element of this deque, or returns null if it is empty.
+     *
+     * @return the first element, or null if this deque is empty.
+     */
+    public E poll() {
+        return pollFirst();
+    }
+
+
+    /**
+     * Removes and returns the first element of this deque, waiting for one if necessary.
+     *
+     * @return the first element of this deque.
+     * @throws InterruptedException if interrupted while waiting.
+     */
+    public E take() throws InterruptedException {
+        return takeFirst();
+    }
+
+
+    /**
+     * Removes and returns the first element of this deque, waiting up to the specified time for one.
+     *
+     * @param timeout - how long to wait before giving up, in units of unit.
+     * @param unit - the unit of the timeout.
+     * @return the first element, or null if the time ran out first.
+     * @throws InterruptedException if interrupted while waiting.
+     */
+    public E poll(long timeout, TimeUnit unit) throws InterruptedException {
+        return pollFirst(timeout, unit);
+    }
+
+
+    /**
+     * Returns the first element of this deque without removing it, or null if it is empty.
+     *
+     * @return the first element, or null if this deque is empty.
+     */
+    public E peek() {
+        return peekFirst();
+    }
+
+
+    /**
+     * Inserts the specified element at the front of this deque if there is space.
+     *
+     * @param element - the element to push.
+     * @throws IllegalStateException if this deque is full.
+     * @throws NullPointerException if the element is null.
+     */
+    public void push(E element) {
+        addFirst(element);
+    }
+
+
+    /**
+     * Removes and returns the first element of this deque.
+     *
+     * @return the first element of this deque.
+     * @throws NoSuchElementException if this deque is empty.
+     */
+    public E pop() {
+        return removeFirst();
+    }
+
+
+    /**
+     * Removes the first occurrence of the specified element from this deque, if it is present.
+     *
+     * @param element - element to be removed, if present.
+     * @return true if an element was removed.
+     */
+    public boolean remove(Object element) {
+        return removeFirstOccurrence(element);
+    }
+
+
+    /**
+     * Returns true if this deque contains the specified element.
+     *
+     * @param element - element whose presence is to be tested.
+     * @return true if this deque contains the element.
+     */
+    public boolean contains(Object element) {
+        boolean contained = false;
+        if (element != null) {
+            _lock.lock();
+            try {
+                contained = _list.contains(element);
+            }
+            finally {
+                _lock.unlock();
+            }
+        }
+        return contained;
+    }
+
+
+    /**
+     * Returns the number of elements in this deque.
+     *
+     * @return the number of elements in this deque.
+     */
+    public int size() {
+        _lock.lock();
+        try {
+            return _list.size();
+        }
+        finally {
+            _lock.unlock();
+        }
+    }
+
+
+    /**
+     * Returns the number of elements this deque can accept before it is full.
+     *
+     * @return the remaining capacity, or Integer.MAX_VALUE less the size if this deque is unbounded.
+     */
+    public int remainingCapacity() {
+        _lock.lock();
+        try {
+            return _capacity - _list.size();
+        }
+        finally {
+            _lock.unlock();
+        }
+    }
+
+
+    /**
+     * Removes all of the elements from this deque and wakes every waiting producer.
+     */
+    public void clear() {
+        _lock.lock();
+        try {
+            _list.clear();
+            _notFull.signalAll();
+        }
+        finally {
+            _lock.unlock();
+        }
+    }
+
+
+    /**
+     * Removes every element of this deque and adds it to the specified collection.
+     *
+     * @param collection - the collection to transfer elements into.
+     * @return the number of elements transferred.
+     * @throws NullPointerException if the collection is null.
+     * @throws IllegalArgumentException if the collection is this deque.
+     */
+    public int drainTo(Collection<? super E> collection) {
+        return drainTo(collection, Integer.MAX_VALUE);
+    }
+
+
+    /**
+     * Removes up to the specified number of elements from the front of this deque
+     * and adds them to the specified collection, under a single acquisition of the lock.
+     *
+     * Each element is removed only after the collection accepted it, so an element the
+     * collection rejects with an exception stays in this deque. As many waiting producers
+     * are woken as elements were removed.
+     *
+     * @param collection - the collection to transfer elements into.
+     * @param maxElements - the largest number of elements to transfer.
+     * @return the number of elements transferred.
+     * @throws NullPointerException if the collection is null.
+     * @throws IllegalArgumentException if the collection is this deque.
+     */
+    public int drainTo(Collection<? super E> collection, int maxElements) {
+        Objects.requireNonNull(collection);
+        if (collection == this) {
+            throw new IllegalArgumentException();
+        }
+        int drained = 0;
+        _lock.lock();
+        try {
+            int count = Math.min(maxElements, _list.size());
+            while (drained < count) {
+                collection.add(_list.peekFirst());
+                _list.removeFirst();
+                drained++;
+            }
+        }
+        finally {
+            signal(_notFull, drained);
+            _lock.unlock();
+        }
+        return drained;
+    }
+
+
+    /**
+     * Returns an array containing all of the elements in this deque, from first to last.
+     *
+     * @return an array of the elements of this deque.
+     */
+    public Object[] toArray() {
+        _lock.lock();
+        try {
+            return _list.toArray();
+        }
+        finally {
+            _lock.unlock();
+        }
+    }
+
+
+    /**
+     * Returns an array containing all of the elements in this deque, from first to last;
+     * the runtime type of the returned array is that of the specified array.
+     *
+     * @param array - the array into which the elements are to be stored, if it is big enough.
+     * @return an array of the elements of this deque.
+     */
+    public <T> T[] toArray(T[] array) {
+        _lock.lock();
+        try {
+            return _list.toArray(array);
+        }
+        finally {
+            _lock.unlock();
+        }
+    }
+
+
+    /**
+     * Returns an iterator over a snapshot of this deque, from first to last.
+     *
+     * The snapshot is taken in constant time. Removing through the iterator removes
+     * the element it last returned, if that element is still in this deque.
+     *
+     * @return an Iterator over the elements this deque held when it was created.
+     */
+    public Iterator<E> iterator() {
+        return new SnapshotIterator(snapshot(), false);
+    }
+
+
+    /**
+     * Returns an iterator over a snapshot of this deque, from last to first.
+     *
+     * The nodes of the snapshot are collected when the iterator is created. Removing through
+     * the iterator removes the element it last returned, if that element is still in this deque.
+     *
+     * @return an Iterator over the elements this deque held when it was created, in reverse order.
+     */
+    public Iterator<E> descendingIterator() {
+        return new SnapshotIterator(snapshot(), true);
+    }
+
+
+    /**
+     * Takes a snapshot of the list under the lock.
+     *
+     * @return a snapshot of the list.
+     */
+    private LinkedList.Snapshot<E> snapshot() {
+        _lock.lock();
+        try {
+            return _list.snapshot();
+        }
+        finally {
+            _lock.unlock();
+        }
+    }
+
+
+    /**
+     * Links the specified element at the front of the list if there is space, and wakes a consumer.
+     *
+     * Must be called with the lock held.
+     *
+     * @param element - the element to add.
+     * @return true if the element was added.
+     */
+    private boolean linkFirst(E element) {
+        boolean linked = _list.size() < _capacity;
+        if (linked) {
+            _list.addFirst(element);
+            _notEmpty.signal();
+        }
+        return linked;
+    }
+
+
+    /**
+     * Links the specified element at the end of the list if there is space, and wakes a consumer.
+     *
+     * Must be called with the lock held.
+     *
+     * @param element - the element to add.
+     * @return true if the element was added.
+     */
+    private boolean linkLast(E element) {
+        boolean linked = _list.size() < _capacity;
+        if (linked) {
+            _list.addLast(element);
+            _notEmpty.signal();
+        }
+        return linked;
+    }
+
+
+    /**
+     * Unlinks and returns the first element of the list, and wakes a producer.
+     *
+     * Must be called with the lock held.
+     *
+     * @return the first element, or null if the list is empty.
+     */
+    private E unlinkFirst() {
+        E element = _list.pollFirst();
+        if (element != null) {
+            _notFull.signal();
+        }
+        return element;
+    }
+
+
+    /**
+     * Unlinks and returns the last element of the list, and wakes a producer.
+     *
+     * Must be called with the lock held.
+     *
+     * @return the last element, or null if the list is empty.
+     */
+    private E unlinkLast() {
+        E element = _list.pollLast();
+        if (element != null) {
+            _notFull.signal();
+        }
+        return element;
+    }
+
+
+    /**
+     * Wakes up to the specified number of threads waiting on the specified condition.
+     *
+     * Stops as soon as no thread is waiting, so a large batch costs no more than the waiters it wakes.
+     * Must be called with the lock held.
+     *
+     * @param condition - a condition of the lock.
+     * @param count - the largest number of threads to wake.
+     */
+    private void signal(Condition condition, int count) {
+        for (int i = 0; i < count && _lock.hasWaiters(condition); i++) {
+            condition.signal();
+        }
+    }
+
+
+    /**
+     * SnapshotIterator is an inner class of BlockingLinkedList
+     * and an implementation of the Iterator interface.
+     *
+     * This Iterator reads the nodes of a snapshot of the list without the lock,
+     * and takes the lock only to remove an element from the deque. It removes the node
+     * it last returned rather than an equal element, so an element that a consumer
+     * has already taken is not replaced by another equal one.
+     */
+    private class SnapshotIterator implements Iterator<E> {
+
+        private final int _generation;
+        private final LinkedList.LinkedListNode<E>[] _nodes;
+        private LinkedList.LinkedListNode<E> _next;
+        private int _remaining;
+        private LinkedList.LinkedListNode<E> _lastReturned;
+
+
+        /**
+         * Creates an instance of a SnapshotIterator.
+         *
+         * An ascending iterator follows the nodes of the snapshot as it goes; a descending one
+         * collects them first, since only their next references are kept for the snapshot.
+         *
+         * @param snapshot - a snapshot of the list.
+         * @param descending - whether to iterate from last to first.
+         */
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        private SnapshotIterator(LinkedList.Snapshot<E> snapshot, boolean descending) {
+            _generation = snapshot.generation();
+            _next = snapshot.firstNode();
+            _remaining = snapshot.size();
+            _nodes = descending ? new LinkedList.LinkedListNode[_remaining] : null;
+            for (int i = 0; descending && i < _nodes.length; i++) {
+                _nodes[i] = _next;
+                _next = _next.getNext();
+            }
+            _lastReturned = null;
+        }
+
+
+        /**
+         * Returns true if the snapshot has more elements.
+         *
+         * @return true if the iteration has more elements.
+         */
+        public boolean hasNext() {
+            return _remaining > 0;
+        }
+
+
+        /**
+         * Returns the next element of the snapshot.
+         *
+         * @return the next element in the iteration.
+         * @throws NoSuchElementException if the iteration has no more elements.
+         */
+        public E next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            _remaining--;
+            if (_nodes != null) {
+                _lastReturned = _nodes[_remaining];
+            }
+            else {
+                _lastReturned = _next;
+                if (_remaining > 0) {
+                    _next = _next.getNext();
+                }
+            }
+            return _lastReturned.getValue();
+        }
+
+
+        /**
+         * Removes the last returned element from the deque, if it is still there.
+         *
+         * @throws IllegalStateException if next() has not been called,
+         * or if remove() has already been called after the last call to next().
+         */
+        public void remove() {
+            if (_lastReturned == null) {
+                throw new IllegalStateException();
+            }
+            _lock.lock();
+            try {
+                if (_list.removeSnapshotNode(_lastReturned, _generation)) {
+                    _notFull.signal();
+                }
+            }
+            finally {
+                _lock.unlock();
+            }
+            _lastReturned = null;
+        }
+    }
+}
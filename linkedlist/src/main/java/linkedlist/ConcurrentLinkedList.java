@@ -0,0 +1,677 @@
+package linkedlist;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The ConcurrentLinkedList class describes a thread-safe, lock-free linked list.
+ *
+ * This class offers the methods of LinkedList to any number of threads without locking.
+ * Nodes are linked with compare-and-set on their next references, following the
+ * Harris-Michael design: a node is removed by first clearing its value, which is the moment
+ * the element leaves the list, and then by linking a marker node after it so that nothing
+ * can be inserted after a removed node. Any thread walking the list later unlinks the removed
+ * node from its predecessor. Elements can be added at both ends without locking.
+ *
+ * The size is kept in a LongAdder so that threads adding and removing elements do not
+ * contend on a single counter; it is exact when no other thread modifies the list.
+ * Positional operations and iterators are weakly consistent: they reflect the list
+ * at some point at or after their start, and they never throw ConcurrentModificationException.
+ * Null elements are not permitted, since a null value marks a removed node.
+ *
+ * @param <E> - the type of elements held in this collection.
+ * @author ereimer18georgefox.edu
+ */
+public class ConcurrentLinkedList<E> implements Iterable<E> {
+
+    private static final int EMPTY = 0;
+    private static final int NOT_FOUND = -1;
+    private static final VarHandle NEXT;
+    private static final VarHandle VALUE;
+    private static final VarHandle TAIL;
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            NEXT = lookup.findVarHandle(ConcurrentNode.class, "_next", ConcurrentNode.class);
+            VALUE = lookup.findVarHandle(ConcurrentNode.class, "_value", Object.class);
+            TAIL = lookup.findVarHandle(ConcurrentLinkedList.class, "_tail", ConcurrentNode.class);
+        }
+        catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final ConcurrentNode<E> _head;
+    private volatile ConcurrentNode<E> _tail;
+    private volatile ConcurrentNode<E> _tailPrevious;
+    private final LongAdder _size;
+
+
+    /**
+     * Constructs an instance of a ConcurrentLinkedList.
+     *
+     * Constructs an empty instance of a ConcurrentLinkedList.
+     * The head is a sentinel that is never removed, and the tail is a hint
+     * that starts at the head and trails the last node. A second hint remembers
+     * the node the tail hint was appended after.
+     */
+    public ConcurrentLinkedList() {
+        _head = new ConcurrentNode<>(null, null, false);
+        _tail = _head;
+        _tailPrevious = null;
+        _size = new LongAdder();
+    }
+
+
+    /**
+     * Inserts the specified element at the specified position in this list.
+     *
+     * Finds the live node before the position and links the new node after it with
+     * a single compare-and-set, retrying if another thread changed that link first.
+     * An index equal to the size of this list appends the element.
+     *
+     * @param index - index at which the specified element is to be inserted.
+     * @param element - element to be inserted.
+     * @throws IndexOutOfBoundsException if the index is out of range (index < 0 || index > size()).
+     * @throws NullPointerException if the element is null.
+     */
+    public void add(int index, E element) {
+        checkElement(element);
+        if (index < 0) {
+            throw new IndexOutOfBoundsException();
+        }
+        ConcurrentNode<E> newNode = new ConcurrentNode<>(element, null, false);
+        boolean linked = false;
+        while (!linked) {
+            ConcurrentNode<E> previous = (index == 0) ? _head : liveNode(index - 1);
+            if (previous == null) {
+                throw new IndexOutOfBoundsException();
+            }
+            ConcurrentNode<E> successor = previous._next;
+            if (successor == null || !successor._marker) {
+                newNode._next = successor;
+                linked = NEXT.compareAndSet(previous, successor, newNode);
+            }
+        }
+        _size.increment();
+    }
+
+
+    /**
+     * Appends the specified element to the end of this list.
+     *
+     * @param element - element to be appended to this list.
+     * @return if the append was successful.
+     * @throws NullPointerException if the element is null.
+     */
+    public boolean add(E element) {
+        addLast(element);
+        return true;
+    }
+
+
+    /**
+     * Inserts the specified element at the front of this list.
+     *
+     * The new node is linked after the head with a single compare-and-set.
+     *
+     * @param element - element to be inserted.
+     * @throws NullPointerException if the element is null.
+     */
+    public void addFirst(E element) {
+        checkElement(element);
+        ConcurrentNode<E> newNode = new ConcurrentNode<>(element, null, false);
+        boolean linked = false;
+        while (!linked) {
+            ConcurrentNode<E> first = _head._next;
+            newNode._next = first;
+            linked = NEXT.compareAndSet(_head, first, newNode);
+        }
+        _size.increment();
+    }
+
+
+    /**
+     * Appends the specified element to the end of this list.
+     *
+     * Starts from the tail hint, walks to the last node and links the new node after it
+     * with a single compare-and-set. Removed nodes met on the way are unlinked from
+     * their predecessors. If the tail hint itself was removed, the walk starts again from
+     * the node it was appended after, as long as that node is still in the list, so removing
+     * the last element and appending another does not walk from the head; only when both
+     * were removed does the walk start again from the head. The hints are moved afterwards.
+     *
+     * @param element - element to be appended.
+     * @throws NullPointerException if the element is null.
+     */
+    public void addLast(E element) {
+        checkElement(element);
+        ConcurrentNode<E> newNode = new ConcurrentNode<>(element, null, false);
+        boolean linked = false;
+        while (!linked) {
+            ConcurrentNode<E> tail = _tail;
+            ConcurrentNode<E> previous = null;
+            ConcurrentNode<E> currentNode = tail;
+            ConcurrentNode<E> nextNode = currentNode._next;
+            while (nextNode != null) {
+                if (!nextNode._marker) {
+                    previous = currentNode;
+                    currentNode = nextNode;
+                }
+                else if (previous == null) {
+                    ConcurrentNode<E> tailPrevious = _tailPrevious;
+                    currentNode = (tailPrevious != null && tailPrevious._value != null) ? tailPrevious : _head;
+                }
+                else {
+                    helpUnlink(previous, currentNode, nextNode);
+                    currentNode = previous;
+                    previous = null;
+                }
+                nextNode = currentNode._next;
+            }
+            linked = NEXT.compareAndSet(currentNode, null, newNode);
+            if (linked && TAIL.compareAndSet(this, tail, newNode)) {
+                _tailPrevious = currentNode;
+            }
+        }
+        _size.increment();
+    }
+
+
+    /**
+     * Removes all of the elements from this list.
+     *
+     * Elements are removed one at a time from the front, so elements added
+     * by other threads during the call may remain afterwards.
+     */
+    public void clear() {
+        while (pollFirst() != null) {
+            // keep removing until the list is observed empty
+        }
+    }
+
+
+    /**
+     * Returns the element at the specified position in this list.
+     *
+     * @param index - index of the element to return.
+     * @return the element at the specified position in this list.
+     * @throws IndexOutOfBoundsException - if the index is out of range
+     * (index < 0 || index >= size()).
+     */
+    public E get(int index) {
+        if (index < 0) {
+            throw new IndexOutOfBoundsException();
+        }
+        E element = null;
+        while (element == null) {
+            ConcurrentNode<E> node = liveNode(index);
+            if (node == null) {
+                throw new IndexOutOfBoundsException();
+            }
+            element = node._value;
+        }
+        return element;
+    }
+
+
+    /**
+     * Returns the index of the first occurrence of the specified element in this list,
+     * or -1 if this list does not contain the element.
+     *
+     * Elements are compared with equals.
+     *
+     * @param element - element to search for.
+     * @return the index of the first occurrence of the specified element in this list,
+     * or -1 if this list does not contain the element.
+     */
+    public int indexOf(E element) {
+        int index = NOT_FOUND;
+        int position = EMPTY;
+        ConcurrentNode<E> currentNode = _head._next;
+        while (index == NOT_FOUND && currentNode != null) {
+            E value = currentNode._value;
+            if (value != null && !currentNode._marker) {
+                if (value.equals(element)) {
+                    index = position;
+                }
+                position++;
+            }
+            currentNode = currentNode._next;
+        }
+        return index;
+    }
+
+
+    /**
+     * Returns true if this list contains no elements.
+     *
+     * Looks for a live node instead of reading the size.
+     *
+     * @return if this list contains no elements.
+     */
+    public boolean isEmpty() {
+        return liveNode(0) == null;
+    }
+
+
+    /**
+     * Removes and returns the first element of this list, or returns null if this list is empty.
+     *
+     * @return the first element of this list, or null if this list is empty.
+     */
+    public E pollFirst() {
+        E element = null;
+        boolean done = false;
+        while (!done) {
+            ConcurrentNode<E> node = liveNode(0);
+            if (node == null) {
+                done = true;
+            }
+            else {
+                element = node._value;
+                done = element != null && delete(node, element);
+            }
+        }
+        return element;
+    }
+
+
+    /**
+     * Removes the element at the specified position in this list.
+     *
+     * The value of the node is cleared with a compare-and-set, which removes the element;
+     * a marker node is then linked after it and later walks unlink it.
+     *
+     * @param index - the index of the element to be removed.
+     * @return the element previously at the specified position.
+     * @throws IndexOutOfBoundsException - if the index is out of range
+     * (index < 0 || index >= size()).
+     */
+    public E remove(int index) {
+        if (index < 0) {
+            throw new IndexOutOfBoundsException();
+        }
+        E element = null;
+        boolean removed = false;
+        while (!removed) {
+            ConcurrentNode<E> node = liveNode(index);
+            if (node == null) {
+                throw new IndexOutOfBoundsException();
+            }
+            element = node._value;
+            removed = element != null && delete(node, element);
+        }
+        return element;
+    }
+
+
+    /**
+     * Replaces the element at the specified position in this list with the specified element.
+     *
+     * @param index - index of the element to replace.
+     * @param element - element to be stored at the specified position.
+     * @return the element previously at the specified position.
+     * @throws IndexOutOfBoundsException - if the index is out of range
+     * (index < 0 || index >= size()).
+     * @throws NullPointerException if the element is null.
+     */
+    public E set(int index, E element) {
+        checkElement(element);
+        if (index < 0) {
+            throw new IndexOutOfBoundsException();
+        }
+        E previousElement = null;
+        boolean replaced = false;
+        while (!replaced) {
+            ConcurrentNode<E> node = liveNode(index);
+            if (node == null) {
+                throw new IndexOutOfBoundsException();
+            }
+            previousElement = node._value;
+            replaced = previousElement != null && VALUE.compareAndSet(node, previousElement, element);
+        }
+        return previousElement;
+    }
+
+
+    /**
+     * Returns the number of elements in this list.
+     *
+     * The count is the sum of a LongAdder and may be momentarily out of date
+     * while other threads modify the list.
+     *
+     * @return the number of elements in this list.
+     */
+    public int size() {
+        long size = _size.sum();
+        return (int) Math.max(EMPTY, Math.min(Integer.MAX_VALUE, size));
+    }
+
+
+    /**
+     * Returns a weakly consistent iterator over elements of type E, starting at the head.
+     *
+     * @return an Iterator.
+     */
+    public Iterator<E> iterator() {
+        return new ConcurrentListIterator();
+    }
+
+
+    /**
+     * Returns a weakly consistent iterator over elements of type E, starting at the tail.
+     *
+     * Since the nodes are only linked forwards, the live nodes are collected
+     * when the iterator is created and then returned in reverse order.
+     *
+     * @return an Iterator.
+     */
+    public Iterator<E> reverseIterator() {
+        return new ReverseConcurrentListIterator();
+    }
+
+
+    /**
+     * Returns the live node at the specified index, or null if there are not that many.
+     *
+     * Walks forwards from the head. Removed nodes found on the way are unlinked
+     * from their predecessors, and the walk starts again if the predecessor it
+     * holds is removed by another thread.
+     *
+     * @param index - the index of the live node to be returned.
+     * @return the live node at the specified position, or null.
+     */
+    private ConcurrentNode<E> liveNode(int index) {
+        ConcurrentNode<E> found = null;
+        boolean done = false;
+        while (!done) {
+            ConcurrentNode<E> previous = _head;
+            ConcurrentNode<E> currentNode = previous._next;
+            int position = EMPTY;
+            boolean restart = false;
+            while (!restart && !done) {
+                if (currentNode == null) {
+                    done = true;
+                }
+                else if (currentNode._marker) {
+                    restart = true;
+                }
+                else {
+                    ConcurrentNode<E> nextNode = currentNode._next;
+                    if (currentNode._value == null) {
+                        helpUnlink(previous, currentNode, nextNode);
+                        currentNode = previous._next;
+                    }
+                    else if (position == index) {
+                        found = currentNode;
+                        done = true;
+                    }
+                    else {
+                        position++;
+                        previous = currentNode;
+                        currentNode = nextNode;
+                    }
+                }
+            }
+        }
+        return found;
+    }
+
+
+    /**
+     * Removes the specified node if it still holds the specified element.
+     *
+     * Clearing the value is the point at which the element leaves the list.
+     * A marker is then linked after the node so that no thread can link a new node after it.
+     *
+     * @param node - the node to be removed.
+     * @param element - the element the node is expected to hold.
+     * @return true if this call removed the element.
+     */
+    private boolean delete(ConcurrentNode<E> node, E element) {
+        boolean deleted = VALUE.compareAndSet(node, element, null);
+        if (deleted) {
+            _size.decrement();
+            boolean marked = false;
+            while (!marked) {
+                ConcurrentNode<E> successor = node._next;
+                marked = (successor != null && successor._marker)
+                        || NEXT.compareAndSet(node, successor, new ConcurrentNode<E>(null, successor, true));
+            }
+        }
+        return deleted;
+    }
+
+
+    /**
+     * Helps to unlink a removed node from its predecessor.
+     *
+     * If the removed node has no marker yet, a marker is linked after it;
+     * otherwise the predecessor is linked past the node and its marker.
+     *
+     * @param previous - the predecessor of the removed node.
+     * @param node - the removed node.
+     * @param successor - the successor of the removed node when it was read.
+     */
+    private void helpUnlink(ConcurrentNode<E> previous, ConcurrentNode<E> node, ConcurrentNode<E> successor) {
+        if (successor == node._next && node == previous._next) {
+            if (successor == null || !successor._marker) {
+                NEXT.compareAndSet(node, successor, new ConcurrentNode<E>(null, successor, true));
+            }
+            else {
+                NEXT.compareAndSet(previous, node, successor._next);
+            }
+        }
+    }
+
+
+    /**
+     * Throws a NullPointerException if the specified element is null.
+     *
+     * @param element - the element to be checked.
+     */
+    private static void checkElement(Object element) {
+        if (element == null) {
+            throw new NullPointerException();
+        }
+    }
+
+
+    /**
+     * This inner class describes the nodes of which a ConcurrentLinkedList consists of.
+     *
+     * Each node has a value of type E and a reference to the node succeeding it.
+     * A null value means the node has been removed. A marker node holds no value
+     * and is linked after a removed node to stop insertions after it.
+     *
+     * @param <E> - the type of value this node contains.
+     */
+    private static class ConcurrentNode<E> {
+        private volatile E _value;
+        private volatile ConcurrentNode<E> _next;
+        private final boolean _marker;
+
+
+        /**
+         * Creates an instance of a ConcurrentNode.
+         *
+         * @param value - the value of this node, or null for the head and markers.
+         * @param next - a reference to the succeeding node.
+         * @param marker - true if this node is a marker.
+         */
+        private ConcurrentNode(E value, ConcurrentNode<E> next, boolean marker) {
+            _value = value;
+            _next = next;
+            _marker = marker;
+        }
+    }
+
+
+    /**
+     * ConcurrentListIterator is an inner class of ConcurrentLinkedList
+     * and a weakly consistent implementation of the Iterator interface.
+     *
+     * The iterator reads the next live element ahead of time, so hasNext() and next()
+     * always agree even if other threads remove that element in between.
+     * Walking through a marker continues with the successor of the removed node.
+     */
+    private class ConcurrentListIterator implements Iterator<E> {
+
+        private ConcurrentNode<E> _nextNode;
+        private E _nextElement;
+        private ConcurrentNode<E> _lastReturned;
+        private E _lastElement;
+
+
+        /**
+         * Creates an instance of a ConcurrentListIterator positioned at the head.
+         */
+        private ConcurrentListIterator() {
+            _lastReturned = null;
+            advance(_head);
+        }
+
+
+        /**
+         * Returns true if the iteration has more elements.
+         *
+         * @return true if the iteration has more elements.
+         */
+        public boolean hasNext() {
+            return _nextNode != null;
+        }
+
+
+        /**
+         * Returns the next element in the iteration.
+         *
+         * @return the next element in the iteration.
+         * @throws NoSuchElementException if the iteration has no more elements.
+         */
+        public E next() {
+            if (_nextNode == null) {
+                throw new NoSuchElementException();
+            }
+            _lastReturned = _nextNode;
+            _lastElement = _nextElement;
+            advance(_nextNode);
+            return _lastElement;
+        }
+
+
+        /**
+         * Removes the element last returned by next() from the list,
+         * unless another thread has already removed or replaced it.
+         *
+         * @throws IllegalStateException if next() has not been called,
+         * or if remove() has already been called after the last call to next().
+         */
+        public void remove() {
+            if (_lastReturned == null) {
+                throw new IllegalStateException();
+            }
+            delete(_lastReturned, _lastElement);
+            _lastReturned = null;
+        }
+
+
+        /**
+         * Moves to the first live node after the specified node.
+         *
+         * @param node - the node to continue from.
+         */
+        private void advance(ConcurrentNode<E> node) {
+            ConcurrentNode<E> currentNode = node._next;
+            E value = null;
+            while (currentNode != null && (currentNode._marker || (value = currentNode._value) == null)) {
+                currentNode = currentNode._next;
+            }
+            _nextNode = currentNode;
+            _nextElement = value;
+        }
+    }
+
+
+    /**
+     * ReverseConcurrentListIterator is an inner class of ConcurrentLinkedList
+     * and a weakly consistent implementation of the Iterator interface.
+     *
+     * The live nodes are collected when the iterator is created and returned from the last to the first.
+     */
+    private class ReverseConcurrentListIterator implements Iterator<E> {
+
+        private final List<ConcurrentNode<E>> _nodes;
+        private final List<E> _elements;
+        private int _index;
+        private boolean _canRemove;
+
+
+        /**
+         * Creates an instance of a ReverseConcurrentListIterator by collecting the live nodes.
+         */
+        private ReverseConcurrentListIterator() {
+            _nodes = new ArrayList<>();
+            _elements = new ArrayList<>();
+            ConcurrentNode<E> currentNode = _head._next;
+            while (currentNode != null) {
+                E value = currentNode._value;
+                if (value != null && !currentNode._marker) {
+                    _nodes.add(currentNode);
+                    _elements.add(value);
+                }
+                currentNode = currentNode._next;
+            }
+            _index = _nodes.size();
+            _canRemove = false;
+        }
+
+
+        /**
+         * Returns true if the iteration has more elements.
+         *
+         * @return true if the iteration has more elements.
+         */
+        public boolean hasNext() {
+            return _index > EMPTY;
+        }
+
+
+        /**
+         * Returns the next element in the iteration, moving towards the head.
+         *
+         * @return the next element in the iteration.
+         * @throws NoSuchElementException if the iteration has no more elements.
+         */
+        public E next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            _index--;
+            _canRemove = true;
+            return _elements.get(_index);
+        }
+
+
+        /**
+         * Removes the element last returned by next() from the list,
+         * unless another thread has already removed or replaced it.
+         *
+         * @throws IllegalStateException if next() has not been called,
+         * or if remove() has already been called after the last call to next().
+         */
+        public void remove() {
+            if (!_canRemove) {
+                throw new IllegalStateException();
+            }
+            delete(_nodes.get(_index), _elements.get(_index));
+            _canRemove = false;
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package linkedlist;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * The ElementCodec interface describes how the elements of a list are written to and read from bytes.
+ *
+ * LinkedListStore uses a codec to write every element of a list into a buffer and to read
+ * the elements back from a mapped file. A codec writes each element at the position of the buffer
+ * and advances the position past it; an element may take any number of bytes, as long as
+ * decoding reads exactly the bytes that encoding wrote. Codecs for common element types are
+ * provided by the static methods of this interface.
+ *
+ * @param <E> - the type of elements this codec writes and reads.
+ * @author ereimer18georgefox.edu
+ */
+public interface ElementCodec<E> {
+
+    /**
+     * Writes the specified element at the position of the buffer.
+     *
+     * @param element - the element to write.
+     * @param buffer - the buffer to write the element into.
+     * @throws java.nio.BufferOverflowException if the buffer has too little space left for the element.
+     */
+    void encode(E element, ByteBuffer buffer);
+
+
+    /**
+     * Reads an element from the position of the buffer.
+     *
+     * @param buffer - the buffer to read the element from.
+     * @return the element read.
+     * @throws BufferUnderflowException if the buffer ends before the element does.
+     */
+    E decode(ByteBuffer buffer);
+
+
+    /**
+     * Returns a codec that writes each Integer as four bytes.
+     *
+     * @return a codec for non-null Integer elements.
+     */
+    static ElementCodec<Integer> integers() {
+        return new ElementCodec<Integer>() {
+            public void encode(Integer element, ByteBuffer buffer) {
+                buffer.putInt(element);
+            }
+
+            public Integer decode(ByteBuffer buffer) {
+                return buffer.getInt();
+            }
+        };
+    }
+
+
+    /**
+     * Returns a codec that writes each Long as eight bytes.
+     *
+     * @return a codec for non-null Long elements.
+     */
+    static ElementCodec<Long> longs() {
+        return new ElementCodec<Long>() {
+            public void encode(Long element, ByteBuffer buffer) {
+                buffer.putLong(element);
+            }
+
+            public Long decode(ByteBuffer buffer) {
+                return buffer.getLong();
+            }
+        };
+    }
+
+
+    /**
+     * Returns a codec that writes each Double as eight bytes.
+     *
+     * @return a codec for non-null Double elements.
+     */
+    static ElementCodec<Double> doubles() {
+        return new ElementCodec<Double>() {
+            public void encode(Double element, ByteBuffer buffer) {
+                buffer.putDouble(element);
+            }
+
+            public Double decode(ByteBuffer buffer) {
+                return buffer.getDouble();
+            }
+        };
+    }
+
+
+    /**
+     * Returns a codec that writes each String as its length in bytes followed by its UTF-8 bytes.
+     *
+     * A null element is written as the length -1 with no bytes.
+     *
+     * @return a codec for String elements, including null.
+     */
+    static ElementCodec<String> strings() {
+        return new ElementCodec<String>() {
+            public void encode(String element, ByteBuffer buffer) {
+                if (element == null) {
+                    buffer.putInt(-1);
+                }
+                else {
+                    byte[] bytes = element.getBytes(StandardCharsets.UTF_8);
+                    buffer.putInt(bytes.length);
+                    buffer.put(bytes);
+                }
+            }
+
+            public String decode(ByteBuffer buffer) {
+                String element = null;
+                int length = buffer.getInt();
+                if (length >= 0) {
+                    if (buffer.remaining() < length) {
+                        throw new BufferUnderflowException();
+                    }
+                    byte[] bytes = new byte[length];
+                    buffer.get(bytes);
+                    element = new String(bytes, StandardCharsets.UTF_8);
+                }
+                return element;
+            }
+        };
+    }
+}
@@ -0,0 +1,824 @@
+package linkedlist;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * The IndexedLinkedList class describes a doubly-linked list
+ * with an indexable skip list layered above its nodes.
+ *
+ * This class offers the same methods as LinkedList. The nodes form the same doubly-linked
+ * chain, so sequential iteration follows one reference per element. In addition, about one node
+ * in four is promoted to one or more express lanes, and every express link records its span:
+ * the number of positions it skips. Positional operations descend the lanes from the top,
+ * so get, set, add(int, E) and remove(int) run in expected O(log n) instead of walking the chain.
+ * Appending links the new node after the last node of each of its lanes, which takes
+ * expected constant time.
+ *
+ * @param <E> - the type of elements held in this collection.
+ * @author ereimer18georgefox.edu
+ */
+public class IndexedLinkedList<E> implements Iterable<E> {
+
+    private static final int EMPTY = 0;
+    private static final int NOT_FOUND = -1;
+    private static final int MAX_LEVEL = 16;
+    private static final int PROMOTION_MASK = 3;
+    private static final int PROMOTION_BITS = 2;
+
+    private final IndexedNode<E> _head;
+    private final IndexedNode<E>[] _last;
+    private final int[] _lastIndex;
+    private final IndexedNode<E>[] _update;
+    private final int[] _updateIndex;
+    private int _level;
+    private int _size;
+    private int _modCount;
+
+
+    /**
+     * Constructs an instance of an IndexedLinkedList.
+     *
+     * Constructs an empty instance of an IndexedLinkedList.
+     * The head is a sentinel that spans every lane, and it is the last node
+     * of every lane until elements are added.
+     */
+    public IndexedLinkedList() {
+        _head = new IndexedNode<>(null, MAX_LEVEL);
+        _last = newNodeArray(MAX_LEVEL);
+        _lastIndex = new int[MAX_LEVEL];
+        _update = newNodeArray(MAX_LEVEL);
+        _updateIndex = new int[MAX_LEVEL];
+        reset();
+    }
+
+
+    /**
+     * Inserts the specified element at the specified position in this list.
+     *
+     * Descends the express lanes to the predecessors of the position in each lane,
+     * links the new node after them and adjusts the spans of the links passing over it.
+     *
+     * @param index - index at which the specified element is to be inserted.
+     * @param element - element to be inserted.
+     * @throws IndexOutOfBoundsException if the index is out of range (index < 0 || index >= size()).
+     */
+    public void add(int index, E element) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException();
+        }
+        insert(index, element);
+    }
+
+
+    /**
+     * Appends the specified element to the end of this list.
+     *
+     * The new node is linked after the last node of each lane it belongs to,
+     * so no search is needed.
+     *
+     * @param element - element to be appended to this list.
+     * @return if the append was successful.
+     */
+    public boolean add(E element) {
+        insert(size(), element);
+        return true;
+    }
+
+
+    /**
+     * Removes all of the elements from this list.
+     *
+     * The links of the head are cleared and the nodes are left to be recycled.
+     */
+    public void clear() {
+        reset();
+        _modCount++;
+    }
+
+
+    /**
+     * Returns the element at the specified position in this list.
+     *
+     * @param index - index of the element to return.
+     * @return the element at the specified position in this list.
+     * @throws IndexOutOfBoundsException - if the index is out of range
+     * (index < 0 || index >= size()).
+     */
+    public E get(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException();
+        }
+        return traverse(index)._value;
+    }
+
+
+    /**
+     * Returns the index of the first occurrence of the specified element in this list,
+     * or -1 if this list does not contain the element.
+     *
+     * Scans the chain of nodes forwards from the head, comparing elements with equals.
+     *
+     * @param element - element to search for.
+     * @return the index of the first occurrence of the specified element in this list,
+     * or -1 if this list does not contain the element.
+     */
+    public int indexOf(E element) {
+        int index = EMPTY;
+        IndexedNode<E> currentNode = _head._next;
+        while (currentNode != null && !Objects.equals(currentNode._value, element)) {
+            currentNode = currentNode._next;
+            index++;
+        }
+        if (currentNode == null) {
+            index = NOT_FOUND;
+        }
+        return index;
+    }
+
+
+    /**
+     * Returns true if this list contains no elements.
+     *
+     * @return if this list contains no elements.
+     */
+    public boolean isEmpty() {
+        return size() <= EMPTY;
+    }
+
+
+    /**
+     * Removes the element at the specified position in this list.
+     *
+     * Shifts any subsequent elements to the left.
+     *
+     * @param index - the index of the element to be removed.
+     * @return the element previously at the specified position.
+     * @throws IndexOutOfBoundsException - if the index is out of range
+     * (index < 0 || index >= size()).
+     */
+    public E remove(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException();
+        }
+        return delete(index);
+    }
+
+
+    /**
+     * Replaces the element at the specified position in this list with the specified element.
+     *
+     * @param index - index of the element to replace.
+     * @param element - element to be stored at the specified position.
+     * @return the element previously at the specified position.
+     * @throws IndexOutOfBoundsException - if the index is out of range
+     * (index < 0 || index >= size()).
+     */
+    public E set(int index, E element) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException();
+        }
+        IndexedNode<E> currentNode = traverse(index);
+        E previousElement = currentNode._value;
+        currentNode._value = element;
+        return previousElement;
+    }
+
+
+    /**
+     * Returns the number of elements in this list.
+     *
+     * @return the number of elements in this list.
+     */
+    public int size() {
+        return _size;
+    }
+
+
+    /**
+     * Returns an iterator over elements of type E, starting at the head.
+     *
+     * @return an Iterator.
+     */
+    public Iterator<E> iterator() {
+        return new IndexedListIterator(0);
+    }
+
+
+    /**
+     * Returns an iterator over elements of type E, starting at the tail.
+     *
+     * @return an Iterator.
+     */
+    public Iterator<E> reverseIterator() {
+        return new ReverseIndexedListIterator();
+    }
+
+
+    /**
+     * Returns a list iterator over the elements in this list.
+     *
+     * @return a ListIterator positioned at the head of this list.
+     */
+    public ListIterator<E> listIterator() {
+        return new IndexedListIterator(0);
+    }
+
+
+    /**
+     * Returns a list iterator over the elements in this list,
+     * starting at the specified position in this list.
+     *
+     * Moving the iterator follows a single node reference. Adding or removing
+     * through the iterator updates the express lanes in expected O(log n).
+     *
+     * @param index - index of the first element to be returned by next().
+     * @return a ListIterator positioned at the specified index.
+     * @throws IndexOutOfBoundsException - if the index is out of range
+     * (index < 0 || index > size()).
+     */
+    public ListIterator<E> listIterator(int index) {
+        if (index < 0 || index > size()) {
+            throw new IndexOutOfBoundsException();
+        }
+        return new IndexedListIterator(index);
+    }
+
+
+    /**
+     * Returns the node at the specified index.
+     *
+     * Starting from the highest lane of the head, each lane is followed as long as
+     * its span does not pass the index, and then the search drops to the lane below.
+     * The last node is returned directly.
+     *
+     * @param index - index of the node to be returned (0 <= index < size()).
+     * @return the node at the specified position.
+     */
+    private IndexedNode<E> traverse(int index) {
+        IndexedNode<E> currentNode;
+        if (index == size() - 1) {
+            currentNode = _last[0];
+        }
+        else {
+            currentNode = _head;
+            int position = NOT_FOUND;
+            for (int level = _level - 1; level >= 0; level--) {
+                while (currentNode.getNext(level) != null && position + currentNode.getSpan(level) <= index) {
+                    position += currentNode.getSpan(level);
+                    currentNode = currentNode.getNext(level);
+                }
+            }
+        }
+        return currentNode;
+    }
+
+
+    /**
+     * Records in the update arrays, for every lane in use, the last node before
+     * the specified index and the index of that node (-1 for the head).
+     *
+     * @param index - the index whose predecessors are to be found (0 <= index <= size()).
+     */
+    private void findPredecessors(int index) {
+        IndexedNode<E> currentNode = _head;
+        int position = NOT_FOUND;
+        for (int level = _level - 1; level >= 0; level--) {
+            while (currentNode.getNext(level) != null && position + currentNode.getSpan(level) < index) {
+                position += currentNode.getSpan(level);
+                currentNode = currentNode.getNext(level);
+            }
+            _update[level] = currentNode;
+            _updateIndex[level] = position;
+        }
+    }
+
+
+    /**
+     * Returns the number of elements ordered before the specified element,
+     * for a list whose elements are sorted by the specified comparator.
+     *
+     * Descends the express lanes like a positional lookup, but follows each lane for as long as
+     * the node it leads to is ordered before the element, so it runs in expected O(log n).
+     * With inclusive set, elements equal to the specified element are counted as well.
+     *
+     * @param element - the element to rank.
+     * @param comparator - the order the elements of this list are sorted in.
+     * @param inclusive - whether elements equal to the specified element are counted.
+     * @return the index of the first element after the ones counted (0 <= rank <= size()).
+     */
+    int rank(E element, Comparator<? super E> comparator, boolean inclusive) {
+        IndexedNode<E> currentNode = _head;
+        int position = NOT_FOUND;
+        for (int level = _level - 1; level >= 0; level--) {
+            IndexedNode<E> nextNode = currentNode.getNext(level);
+            while (nextNode != null && precedes(nextNode._value, element, comparator, inclusive)) {
+                position += currentNode.getSpan(level);
+                currentNode = nextNode;
+                nextNode = currentNode.getNext(level);
+            }
+        }
+        return position + 1;
+    }
+
+
+    /**
+     * Returns true if the value of a node is counted when ranking the specified element.
+     *
+     * @param value - the value of a node.
+     * @param element - the element being ranked.
+     * @param comparator - the order the elements of this list are sorted in.
+     * @param inclusive - whether a value equal to the element is counted.
+     * @return true if the value is ordered before the element, or equal to it when inclusive.
+     */
+    private static <E> boolean precedes(E value, E element, Comparator<? super E> comparator, boolean inclusive) {
+        int comparison = comparator.compare(value, element);
+        return comparison < 0 || (inclusive && comparison == 0);
+    }
+
+
+    /**
+     * Inserts a new node holding the specified element at the specified index.
+     *
+     * Appends take their predecessors from the last node of each lane;
+     * other insertions search for them.
+     *
+     * @param index - index at which the element is to be inserted (0 <= index <= size()).
+     * @param element - element to be inserted.
+     */
+    private void insert(int index, E element) {
+        if (index == size()) {
+            System.arraycopy(_last, 0, _update, 0, _level);
+            System.arraycopy(_lastIndex, 0, _updateIndex, 0, _level);
+        }
+        else {
+            findPredecessors(index);
+        }
+        int height = randomHeight();
+        for (int level = _level; level < height; level++) {
+            _update[level] = _head;
+            _updateIndex[level] = NOT_FOUND;
+            _last[level] = _head;
+            _lastIndex[level] = NOT_FOUND;
+        }
+        if (height > _level) {
+            _level = height;
+        }
+
+        IndexedNode<E> newNode = new IndexedNode<>(element, height);
+        int previousIndex = index - 1;
+        for (int level = 0; level < _level; level++) {
+            IndexedNode<E> predecessor = _update[level];
+            IndexedNode<E> successor = predecessor.getNext(level);
+            if (level < height) {
+                newNode.setNext(level, successor);
+                predecessor.setNext(level, newNode);
+                if (successor != null) {
+                    newNode.setSpan(level, predecessor.getSpan(level) - (previousIndex - _updateIndex[level]));
+                }
+                predecessor.setSpan(level, previousIndex - _updateIndex[level] + 1);
+            }
+            else if (successor != null) {
+                predecessor.setSpan(level, predecessor.getSpan(level) + 1);
+            }
+
+            if (_last[level] == predecessor && successor == null && level < height) {
+                _last[level] = newNode;
+                _lastIndex[level] = index;
+            }
+            else if (_lastIndex[level] >= index) {
+                _lastIndex[level]++;
+            }
+        }
+
+        IndexedNode<E> successor = newNode._next;
+        newNode._prev = _update[0];
+        if (successor != null) {
+            successor._prev = newNode;
+        }
+        _size++;
+        _modCount++;
+    }
+
+
+    /**
+     * Removes the node at the specified index and returns its element.
+     *
+     * Every lane passing over the node has its span shortened,
+     * and every lane the node belongs to is relinked around it.
+     *
+     * @param index - index of the element to be removed (0 <= index < size()).
+     * @return the removed element.
+     */
+    private E delete(int index) {
+        findPredecessors(index);
+        IndexedNode<E> node = _update[0]._next;
+        for (int level = 0; level < _level; level++) {
+            IndexedNode<E> predecessor = _update[level];
+            IndexedNode<E> successor = predecessor.getNext(level);
+            if (successor == node) {
+                IndexedNode<E> nextNode = node.getNext(level);
+                predecessor.setNext(level, nextNode);
+                if (nextNode != null) {
+                    predecessor.setSpan(level, predecessor.getSpan(level) + node.getSpan(level) - 1);
+                    _lastIndex[level]--;
+                }
+                else {
+                    _last[level] = predecessor;
+                    _lastIndex[level] = _updateIndex[level];
+                }
+            }
+            else {
+                if (successor != null) {
+                    predecessor.setSpan(level, predecessor.getSpan(level) - 1);
+                }
+                if (_lastIndex[level] > index) {
+                    _lastIndex[level]--;
+                }
+            }
+        }
+        while (_level > 1 && _head.getNext(_level - 1) == null) {
+            _level--;
+        }
+
+        if (node._next != null) {
+            node._next._prev = node._prev;
+        }
+        E element = node._value;
+        node._value = null;
+        node._prev = null;
+        _size--;
+        _modCount++;
+        return element;
+    }
+
+
+    /**
+     * Returns the number of lanes a new node belongs to.
+     *
+     * Each additional lane is taken with a probability of one in four.
+     *
+     * @return a height between 1 and the maximum level.
+     */
+    private int randomHeight() {
+        int bits = ThreadLocalRandom.current().nextInt();
+        int height = 1;
+        while (height < MAX_LEVEL && (bits & PROMOTION_MASK) == 0) {
+            height++;
+            bits >>>= PROMOTION_BITS;
+        }
+        return height;
+    }
+
+
+    /**
+     * Empties the lanes of the head and makes the head the last node of every lane.
+     */
+    private void reset() {
+        for (int level = 0; level < MAX_LEVEL; level++) {
+            _head.setNext(level, null);
+        }
+        Arrays.fill(_last, _head);
+        Arrays.fill(_lastIndex, NOT_FOUND);
+        _level = 1;
+        _size = EMPTY;
+    }
+
+
+    /**
+     * Creates an array of nodes of the specified length.
+     *
+     * @param length - the length of the array.
+     * @return an array of nodes, all null.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static <E> IndexedNode<E>[] newNodeArray(int length) {
+        return new IndexedNode[length];
+    }
+
+
+    /**
+     * This inner class describes the nodes of which an IndexedLinkedList consists of.
+     *
+     * Each node has a value and the references to the preceding and succeeding nodes in the chain.
+     * A node promoted to express lanes also holds, for each of those lanes,
+     * the next node in the lane and the number of positions that link spans.
+     * The chain itself always spans one position.
+     *
+     * @param <E> - the type of value this node contains.
+     */
+    private static class IndexedNode<E> {
+        private E _value;
+        private IndexedNode<E> _prev;
+        private IndexedNode<E> _next;
+        private final IndexedNode<E>[] _express;
+        private final int[] _spans;
+
+
+        /**
+         * Creates an instance of an IndexedNode belonging to the specified number of lanes.
+         *
+         * @param value - the value of this node.
+         * @param height - the number of lanes, including the chain, this node belongs to.
+         */
+        private IndexedNode(E value, int height) {
+            _value = value;
+            _prev = null;
+            _next = null;
+            if (height > 1) {
+                _express = newNodeArray(height - 1);
+                _spans = new int[height - 1];
+            }
+            else {
+                _express = null;
+                _spans = null;
+            }
+        }
+
+
+        /**
+         * Returns the next node of this node in the specified lane.
+         *
+         * @param level - the lane, where 0 is the chain.
+         * @return the next node in the lane, or null if this is the last node of the lane.
+         */
+        private IndexedNode<E> getNext(int level) {
+            return (level == 0) ? _next : _express[level - 1];
+        }
+
+
+        /**
+         * Sets the next node of this node in the specified lane.
+         *
+         * @param level - the lane, where 0 is the chain.
+         * @param next - the next node in the lane.
+         */
+        private void setNext(int level, IndexedNode<E> next) {
+            if (level == 0) {
+                _next = next;
+            }
+            else {
+                _express[level - 1] = next;
+            }
+        }
+
+
+        /**
+         * Returns the number of positions the link of this node in the specified lane spans.
+         *
+         * @param level - the lane, where 0 is the chain.
+         * @return the span of the link; only meaningful if the link is not null.
+         */
+        private int getSpan(int level) {
+            return (level == 0) ? 1 : _spans[level - 1];
+        }
+
+
+        /**
+         * Sets the number of positions the link of this node in the specified lane spans.
+         * The chain always spans one position, so level 0 is ignored.
+         *
+         * @param level - the lane, where 0 is the chain.
+         * @param span - the span of the link.
+         */
+        private void setSpan(int level, int span) {
+            if (level > 0) {
+                _spans[level - 1] = span;
+            }
+        }
+    }
+
+
+    /**
+     * IndexedListIterator is an inner class of IndexedLinkedList
+     * and an implementation of the ListIterator interface.
+     *
+     * The iterator holds a reference to the node it will return next and moves along the chain.
+     * If this list is structurally modified other than through this iterator,
+     * the position of the iterator is resolved again from its index on the next move.
+     */
+    private class IndexedListIterator implements ListIterator<E> {
+
+        private IndexedNode<E> _next;
+        private IndexedNode<E> _lastReturned;
+        private int _nextIndex;
+        private int _expectedModCount;
+
+
+        /**
+         * Creates an instance of an IndexedListIterator positioned before the specified index.
+         *
+         * @param index - index of the first element to be returned by next().
+         */
+        private IndexedListIterator(int index) {
+            _nextIndex = index;
+            _next = (index == size()) ? null : traverse(index);
+            _lastReturned = null;
+            _expectedModCount = _modCount;
+        }
+
+
+        /**
+         * Returns true if the iteration has more elements when moving forwards.
+         *
+         * @return true if the iteration has more elements.
+         */
+        public boolean hasNext() {
+            return _nextIndex < size();
+        }
+
+
+        /**
+         * Returns the next element in the iteration.
+         *
+         * @return the next element in the iteration.
+         * @throws NoSuchElementException if the iteration has no more elements.
+         */
+        public E next() {
+            synchronize();
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            _lastReturned = _next;
+            _next = _next._next;
+            _nextIndex++;
+            return _lastReturned._value;
+        }
+
+
+        /**
+         * Returns true if the iteration has more elements when moving backwards.
+         *
+         * @return true if the iteration has more elements in the reverse direction.
+         */
+        public boolean hasPrevious() {
+            return _nextIndex > EMPTY;
+        }
+
+
+        /**
+         * Returns the previous element in the iteration.
+         *
+         * @return the previous element in the iteration.
+         * @throws NoSuchElementException if the iteration has no previous element.
+         */
+        public E previous() {
+            synchronize();
+            if (!hasPrevious()) {
+                throw new NoSuchElementException();
+            }
+            _next = (_next == null) ? _last[0] : _next._prev;
+            _lastReturned = _next;
+            _nextIndex--;
+            return _lastReturned._value;
+        }
+
+
+        /**
+         * Returns the index of the element that would be returned by next().
+         *
+         * @return the index of the next element, or the size of the list if at the end.
+         */
+        public int nextIndex() {
+            return _nextIndex;
+        }
+
+
+        /**
+         * Returns the index of the element that would be returned by previous().
+         *
+         * @return the index of the previous element, or -1 if at the head of the list.
+         */
+        public int previousIndex() {
+            return _nextIndex - 1;
+        }
+
+
+        /**
+         * Removes the element last returned by next() or previous() from the list.
+         *
+         * @throws IllegalStateException if no element has been returned since the last
+         * call to add() or remove().
+         */
+        public void remove() {
+            synchronize();
+            if (_lastReturned == null) {
+                throw new IllegalStateException();
+            }
+            if (_next == _lastReturned) {
+                _next = _lastReturned._next;
+                delete(_nextIndex);
+            }
+            else {
+                _nextIndex--;
+                delete(_nextIndex);
+            }
+            _lastReturned = null;
+            _expectedModCount = _modCount;
+        }
+
+
+        /**
+         * Replaces the element last returned by next() or previous() with the specified element.
+         *
+         * @param element - element with which to replace the last returned element.
+         * @throws IllegalStateException if no element has been returned since the last
+         * call to add() or remove().
+         */
+        public void set(E element) {
+            synchronize();
+            if (_lastReturned == null) {
+                throw new IllegalStateException();
+            }
+            _lastReturned._value = element;
+        }
+
+
+        /**
+         * Inserts the specified element into the list at the position of this iterator.
+         *
+         * @param element - element to be inserted.
+         */
+        public void add(E element) {
+            synchronize();
+            insert(_nextIndex, element);
+            _nextIndex++;
+            _lastReturned = null;
+            _expectedModCount = _modCount;
+        }
+
+
+        /**
+         * Resolves the position of this iterator again if the list has been
+         * structurally modified other than through this iterator.
+         */
+        private void synchronize() {
+            if (_expectedModCount != _modCount) {
+                if (_nextIndex > size()) {
+                    _nextIndex = size();
+                }
+                _next = (_nextIndex == size()) ? null : traverse(_nextIndex);
+                _lastReturned = null;
+                _expectedModCount = _modCount;
+            }
+        }
+    }
+
+
+    /**
+     * ReverseIndexedListIterator is an inner class of IndexedLinkedList
+     * and an implementation of the Iterator interface.
+     *
+     * This Iterator walks backwards from the tail of the list by following
+     * the previous() moves of an IndexedListIterator positioned at the end of the list.
+     */
+    private class ReverseIndexedListIterator implements Iterator<E> {
+
+        private ListIterator<E> _iterator;
+
+
+        /**
+         * Creates an instance of a ReverseIndexedListIterator positioned after the last element.
+         */
+        private ReverseIndexedListIterator() {
+            _iterator = new IndexedListIterator(size());
+        }
+
+
+        /**
+         * Returns true if the iteration has more elements.
+         *
+         * @return true if the iteration has more elements.
+         */
+        public boolean hasNext() {
+            return _iterator.hasPrevious();
+        }
+
+
+        /**
+         * Returns the next element in the iteration, moving towards the head.
+         *
+         * @return the next element in the iteration.
+         * @throws NoSuchElementException if the iteration has no more elements.
+         */
+        public E next() {
+            return _iterator.previous();
+        }
+
+
+        /**
+         * Removes the element last returned by next() from the list.
+         *
+         * @throws IllegalStateException if next() has not been called,
+         * or if remove() has already been called after the last call to next().
+         */
+        public void remove() {
+            _iterator.remove();
+        }
+    }
+}
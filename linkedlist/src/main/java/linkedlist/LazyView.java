@@ -0,0 +1,205 @@
+package linkedlist;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * The LazyView class describes a sequence of elements that is computed from a source each time it is iterated.
+ *
+ * A view holds no elements of its own. Mapping, filtering and limiting a view return new views
+ * that wrap it, so a pipeline such as list.filter(p).map(f).limit(n) builds three small objects
+ * and no intermediate lists; the work is done one element at a time as the final view is iterated,
+ * and stops as soon as the limit is reached. Because nothing is copied, a view reflects the
+ * current contents of its source each time it is iterated.
+ *
+ * @param <T> - the type of elements in this view.
+ * @author ereimer18georgefox.edu
+ */
+public abstract class LazyView<T> implements Iterable<T> {
+
+    /**
+     * Creates an instance of a LazyView.
+     */
+    private LazyView() {
+    }
+
+
+    /**
+     * Returns a view of the elements of the specified source.
+     *
+     * @param source - the elements to view.
+     * @return a LazyView that iterates over the source.
+     * @throws NullPointerException if the source is null.
+     */
+    public static <T> LazyView<T> of(Iterable<T> source) {
+        Objects.requireNonNull(source);
+        return new LazyView<T>() {
+            public Iterator<T> iterator() {
+                return source.iterator();
+            }
+        };
+    }
+
+
+    /**
+     * Returns a view of the results of applying the specified function to the elements of this view.
+     *
+     * @param mapper - the function to apply to each element.
+     * @return a LazyView of the mapped elements.
+     * @throws NullPointerException if the function is null.
+     */
+    public <R> LazyView<R> map(Function<? super T, ? extends R> mapper) {
+        Objects.requireNonNull(mapper);
+        LazyView<T> source = this;
+        return new LazyView<R>() {
+            public Iterator<R> iterator() {
+                Iterator<T> iterator = source.iterator();
+                return new Iterator<R>() {
+                    public boolean hasNext() {
+                        return iterator.hasNext();
+                    }
+
+
+                    public R next() {
+                        return mapper.apply(iterator.next());
+                    }
+                };
+            }
+        };
+    }
+
+
+    /**
+     * Returns a view of the elements of this view that match the specified predicate.
+     *
+     * @param predicate - the predicate an element must match to be included.
+     * @return a LazyView of the matching elements.
+     * @throws NullPointerException if the predicate is null.
+     */
+    public LazyView<T> filter(Predicate<? super T> predicate) {
+        Objects.requireNonNull(predicate);
+        LazyView<T> source = this;
+        return new LazyView<T>() {
+            public Iterator<T> iterator() {
+                return new FilterIterator<>(source.iterator(), predicate);
+            }
+        };
+    }
+
+
+    /**
+     * Returns a view of at most the specified number of elements from the front of this view.
+     *
+     * @param maxSize - the largest number of elements the view may hold.
+     * @return a LazyView of the first elements of this view.
+     * @throws IllegalArgumentException if the maximum size is negative.
+     */
+    public LazyView<T> limit(long maxSize) {
+        if (maxSize < 0) {
+            throw new IllegalArgumentException();
+        }
+        LazyView<T> source = this;
+        return new LazyView<T>() {
+            public Iterator<T> iterator() {
+                Iterator<T> iterator = source.iterator();
+                return new Iterator<T>() {
+                    private long _remaining = maxSize;
+
+
+                    public boolean hasNext() {
+                        return _remaining > 0 && iterator.hasNext();
+                    }
+
+
+                    public T next() {
+                        if (_remaining <= 0) {
+                            throw new NoSuchElementException();
+                        }
+                        _remaining--;
+                        return iterator.next();
+                    }
+                };
+            }
+        };
+    }
+
+
+    /**
+     * Returns a new LinkedList holding the elements of this view.
+     *
+     * @return a LinkedList of the elements of this view, in iteration order.
+     */
+    public LinkedList<T> toLinkedList() {
+        LinkedList<T> list = new LinkedList<>();
+        for (T element : this) {
+            list.addLast(element);
+        }
+        return list;
+    }
+
+
+    /**
+     * This inner class describes an Iterator that skips the elements of another Iterator
+     * that do not match a predicate.
+     *
+     * The next matching element is found ahead of time by hasNext() and held until next() returns it.
+     */
+    private static class FilterIterator<T> implements Iterator<T> {
+
+        private final Iterator<T> _source;
+        private final Predicate<? super T> _predicate;
+        private T _next;
+        private boolean _ready;
+
+
+        /**
+         * Creates an instance of a FilterIterator.
+         *
+         * @param source - the iterator to take elements from.
+         * @param predicate - the predicate an element must match to be returned.
+         */
+        private FilterIterator(Iterator<T> source, Predicate<? super T> predicate) {
+            _source = source;
+            _predicate = predicate;
+            _next = null;
+            _ready = false;
+        }
+
+
+        /**
+         * Returns true if the source has another matching element.
+         *
+         * @return true if the iteration has more elements.
+         */
+        public boolean hasNext() {
+            while (!_ready && _source.hasNext()) {
+                T candidate = _source.next();
+                if (_predicate.test(candidate)) {
+                    _next = candidate;
+                    _ready = true;
+                }
+            }
+            return _ready;
+        }
+
+
+        /**
+         * Returns the next matching element of the source.
+         *
+         * @return the next matching element.
+         * @throws NoSuchElementException if the iteration has no more elements.
+         */
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            T element = _next;
+            _next = null;
+            _ready = false;
+            return element;
+        }
+    }
+}
@@ -0,0 +1,546 @@
+package linkedlist;
+
+import java.util.HashMap;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.ToLongBiFunction;
+
+/**
+ * The LinkedCache class describes a bounded in-process cache that evicts by recency or by frequency.
+ *
+ * Entries are held in chains of LinkedList nodes, and a hash index maps each key to its node,
+ * so a hit moves its entry to the front of its chain in constant time without any search.
+ * The chains are grouped into buckets by access frequency. With the LRU policy there is a
+ * single bucket, which holds every entry from most to least recently used. With the LFU policy
+ * each bucket holds the entries of one frequency, the buckets are kept in order of frequency,
+ * and a hit moves an entry to the front of the next bucket up; recency breaks ties within a bucket.
+ * Either way, the victim is the tail of the lowest bucket and is found in constant time.
+ *
+ * The capacity bounds the total weight of the entries. Every entry weighs 1 unless a weigher
+ * is given, in which case the capacity is a total weight such as a number of bytes.
+ * Hits, misses and evictions are counted. This class is not thread-safe.
+ *
+ * @param <K> - the type of keys held in this cache.
+ * @param <V> - the type of values held in this cache.
+ * @author ereimer18georgefox.edu
+ */
+public class LinkedCache<K, V> {
+
+    /**
+     * The orders in which a LinkedCache chooses entries to evict.
+     */
+    public enum Policy {
+        LRU, LFU
+    }
+
+
+    private static final int EMPTY = 0;
+    private static final long INITIAL_FREQUENCY = 1;
+
+    private final HashMap<K, LinkedList.LinkedListNode<CacheEntry<K, V>>> _index;
+    private final long _capacity;
+    private final Policy _policy;
+    private final ToLongBiFunction<? super K, ? super V> _weigher;
+    private Bucket<K, V> _lowest;
+    private long _weight;
+    private long _hits;
+    private long _misses;
+    private long _evictions;
+
+
+    /**
+     * Constructs an instance of a LinkedCache that holds up to the specified number of entries
+     * and evicts the least recently used entry first.
+     *
+     * @param capacity - the largest number of entries this cache may hold.
+     * @throws IllegalArgumentException if the capacity is not positive.
+     */
+    public LinkedCache(long capacity) {
+        this(capacity, Policy.LRU, null);
+    }
+
+
+    /**
+     * Constructs an instance of a LinkedCache that holds up to the specified number of entries
+     * and evicts according to the specified policy.
+     *
+     * @param capacity - the largest number of entries this cache may hold.
+     * @param policy - the order in which entries are evicted.
+     * @throws IllegalArgumentException if the capacity is not positive.
+     */
+    public LinkedCache(long capacity, Policy policy) {
+        this(capacity, policy, null);
+    }
+
+
+    /**
+     * Constructs an instance of a LinkedCache that holds entries up to the specified total weight
+     * and evicts according to the specified policy.
+     *
+     * The weigher is applied once to each key and value as they are put, and its result must not be negative.
+     *
+     * @param capacity - the largest total weight of the entries this cache may hold.
+     * @param policy - the order in which entries are evicted.
+     * @param weigher - the function that gives the weight of an entry, or null to weigh every entry as 1.
+     * @throws IllegalArgumentException if the capacity is not positive.
+     * @throws NullPointerException if the policy is null.
+     */
+    public LinkedCache(long capacity, Policy policy, ToLongBiFunction<? super K, ? super V> weigher) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException();
+        }
+        _index = new HashMap<>();
+        _capacity = capacity;
+        _policy = Objects.requireNonNull(policy);
+        _weigher = weigher;
+        _lowest = null;
+        _weight = EMPTY;
+        _hits = 0;
+        _misses = 0;
+        _evictions = 0;
+    }
+
+
+    /**
+     * Returns the value cached for the specified key, or null if there is none.
+     *
+     * A hit promotes the entry: to the front under LRU, or to the next frequency under LFU.
+     * No entry is searched for, so this runs in constant time.
+     *
+     * @param key - the key whose value is to be returned.
+     * @return the cached value, or null if the key is not cached.
+     */
+    public V get(Object key) {
+        V value = null;
+        LinkedList.LinkedListNode<CacheEntry<K, V>> node = _index.get(key);
+        if (node == null) {
+            _misses++;
+        }
+        else {
+            _hits++;
+            promote(node);
+            value = node.getValue()._value;
+        }
+        return value;
+    }
+
+
+    /**
+     * Returns the value cached for the specified key, loading and caching it on a miss.
+     *
+     * @param key - the key whose value is to be returned.
+     * @param loader - the function that computes the value of a key that is not cached.
+     * @return the cached or loaded value, or null if the loader returned null, in which case nothing is cached.
+     * @throws NullPointerException if the key or the loader is null.
+     */
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        Objects.requireNonNull(loader);
+        V value = get(key);
+        if (value == null) {
+            value = loader.apply(Objects.requireNonNull(key));
+            if (value != null) {
+                put(key, value);
+            }
+        }
+        return value;
+    }
+
+
+    /**
+     * Caches the specified value for the specified key and returns the value it replaced, if any.
+     *
+     * Before a new entry is linked, entries are evicted from the tail of the lowest bucket until
+     * it fits, so under LFU a new entry competes with the old ones instead of evicting itself.
+     * A new entry starts at the front of the lowest frequency. Replacing the value of an entry
+     * promotes it as a hit does, without being counted as one. An entry heavier than the whole
+     * capacity is not cached; it replaces nothing else and is counted as an eviction.
+     *
+     * @param key - the key to cache the value under.
+     * @param value - the value to cache.
+     * @return the value previously cached for the key, or null if there was none.
+     * @throws NullPointerException if the key or the value is null.
+     * @throws IllegalArgumentException if the weigher gives a negative weight.
+     */
+    public V put(K key, V value) {
+        Objects.requireNonNull(key);
+        Objects.requireNonNull(value);
+        long weight = (_weigher == null) ? 1 : _weigher.applyAsLong(key, value);
+        if (weight < 0) {
+            throw new IllegalArgumentException();
+        }
+        V previous = null;
+        LinkedList.LinkedListNode<CacheEntry<K, V>> node = _index.get(key);
+        if (weight > _capacity) {
+            previous = remove(key);
+            _evictions++;
+        }
+        else if (node == null) {
+            while (_weight + weight > _capacity) {
+                evict();
+            }
+            node = new LinkedList.LinkedListNode<>(new CacheEntry<>(key, value, weight));
+            _index.put(key, node);
+            Bucket<K, V> bucket = _lowest;
+            if (bucket == null || (_policy == Policy.LFU && bucket._frequency != INITIAL_FREQUENCY)) {
+                bucket = new Bucket<>(INITIAL_FREQUENCY);
+                bucket._next = _lowest;
+                if (_lowest != null) {
+                    _lowest._previous = bucket;
+                }
+                _lowest = bucket;
+            }
+            bucket.linkFirst(node);
+            node.getValue()._bucket = bucket;
+            _weight += weight;
+        }
+        else {
+            CacheEntry<K, V> entry = node.getValue();
+            previous = entry._value;
+            _weight += weight - entry._weight;
+            entry._value = value;
+            entry._weight = weight;
+            promote(node);
+            while (_weight > _capacity) {
+                evict();
+            }
+        }
+        return previous;
+    }
+
+
+    /**
+     * Removes the entry for the specified key, if it is cached, and returns its value.
+     *
+     * @param key - the key whose entry is to be removed.
+     * @return the value that was cached for the key, or null if there was none.
+     */
+    public V remove(Object key) {
+        V value = null;
+        LinkedList.LinkedListNode<CacheEntry<K, V>> node = _index.remove(key);
+        if (node != null) {
+            value = node.getValue()._value;
+            unlink(node);
+        }
+        return value;
+    }
+
+
+    /**
+     * Returns true if a value is cached for the specified key.
+     *
+     * The entry is not promoted and no hit or miss is counted.
+     *
+     * @param key - the key to look for.
+     * @return true if the key is cached.
+     */
+    public boolean containsKey(Object key) {
+        return _index.containsKey(key);
+    }
+
+
+    /**
+     * Removes every entry from this cache. The statistics are kept.
+     */
+    public void clear() {
+        _index.clear();
+        _lowest = null;
+        _weight = EMPTY;
+    }
+
+
+    /**
+     * Returns the number of entries in this cache.
+     *
+     * @return the number of entries in this cache.
+     */
+    public int size() {
+        return _index.size();
+    }
+
+
+    /**
+     * Returns true if this cache holds no entries.
+     *
+     * @return true if this cache holds no entries.
+     */
+    public boolean isEmpty() {
+        return _index.isEmpty();
+    }
+
+
+    /**
+     * Returns the total weight of the entries in this cache.
+     *
+     * @return the total weight, which is the number of entries if there is no weigher.
+     */
+    public long weight() {
+        return _weight;
+    }
+
+
+    /**
+     * Returns the largest total weight this cache may hold.
+     *
+     * @return the capacity of this cache.
+     */
+    public long capacity() {
+        return _capacity;
+    }
+
+
+    /**
+     * Returns the eviction policy of this cache.
+     *
+     * @return the eviction policy.
+     */
+    public Policy policy() {
+        return _policy;
+    }
+
+
+    /**
+     * Returns the number of calls to get that found a cached value.
+     *
+     * @return the number of hits.
+     */
+    public long getHits() {
+        return _hits;
+    }
+
+
+    /**
+     * Returns the number of calls to get that found no cached value.
+     *
+     * @return the number of misses.
+     */
+    public long getMisses() {
+        return _misses;
+    }
+
+
+    /**
+     * Returns the number of entries evicted to keep this cache within its capacity.
+     *
+     * @return the number of evictions.
+     */
+    public long getEvictions() {
+        return _evictions;
+    }
+
+
+    /**
+     * Returns the fraction of calls to get that found a cached value.
+     *
+     * @return the hit rate, or 0 if get has not been called.
+     */
+    public double getHitRate() {
+        long requests = _hits + _misses;
+        return (requests == 0) ? 0.0 : (double) _hits / requests;
+    }
+
+
+    /**
+     * Resets the hit, miss and eviction counters to zero.
+     */
+    public void resetStatistics() {
+        _hits = 0;
+        _misses = 0;
+        _evictions = 0;
+    }
+
+
+    /**
+     * Moves the specified node to the front of its bucket under LRU,
+     * or to the front of the bucket of the next frequency under LFU.
+     *
+     * The bucket of the next frequency is created after the current one if it does not exist,
+     * and the current bucket is dropped if the node was its last entry.
+     *
+     * @param node - a node of this cache.
+     */
+    private void promote(LinkedList.LinkedListNode<CacheEntry<K, V>> node) {
+        CacheEntry<K, V> entry = node.getValue();
+        Bucket<K, V> bucket = entry._bucket;
+        if (_policy == Policy.LRU) {
+            if (bucket._head != node) {
+                bucket.unlink(node);
+                bucket.linkFirst(node);
+            }
+        }
+        else {
+            Bucket<K, V> target = bucket._next;
+            if (target == null || target._frequency != bucket._frequency + 1) {
+                target = new Bucket<>(bucket._frequency + 1);
+                target._previous = bucket;
+                target._next = bucket._next;
+                if (bucket._next != null) {
+                    bucket._next._previous = target;
+                }
+                bucket._next = target;
+            }
+            bucket.unlink(node);
+            target.linkFirst(node);
+            entry._bucket = target;
+            if (bucket.isEmpty()) {
+                removeBucket(bucket);
+            }
+        }
+    }
+
+
+    /**
+     * Evicts the entry at the tail of the lowest bucket.
+     */
+    private void evict() {
+        LinkedList.LinkedListNode<CacheEntry<K, V>> victim = _lowest._tail;
+        _index.remove(victim.getValue()._key);
+        unlink(victim);
+        _evictions++;
+    }
+
+
+    /**
+     * Unlinks the specified node from its bucket and subtracts its weight.
+     *
+     * @param node - a node of this cache that has been removed from the index.
+     */
+    private void unlink(LinkedList.LinkedListNode<CacheEntry<K, V>> node) {
+        CacheEntry<K, V> entry = node.getValue();
+        Bucket<K, V> bucket = entry._bucket;
+        bucket.unlink(node);
+        _weight -= entry._weight;
+        if (bucket.isEmpty()) {
+            removeBucket(bucket);
+        }
+    }
+
+
+    /**
+     * Removes the specified empty bucket from the chain of buckets.
+     *
+     * @param bucket - an empty bucket of this cache.
+     */
+    private void removeBucket(Bucket<K, V> bucket) {
+        if (bucket._previous == null) {
+            _lowest = bucket._next;
+        }
+        else {
+            bucket._previous._next = bucket._next;
+        }
+        if (bucket._next != null) {
+            bucket._next._previous = bucket._previous;
+        }
+    }
+
+
+    /**
+     * This nested class describes the key, value and bookkeeping of an entry of a LinkedCache.
+     *
+     * It is the value of the LinkedListNode that links the entry into its bucket.
+     */
+    private static class CacheEntry<K, V> {
+
+        private final K _key;
+        private V _value;
+        private long _weight;
+        private Bucket<K, V> _bucket;
+
+
+        /**
+         * Creates an instance of a CacheEntry.
+         *
+         * @param key - the key of the entry.
+         * @param value - the value of the entry.
+         * @param weight - the weight of the entry.
+         */
+        private CacheEntry(K key, V value, long weight) {
+            _key = key;
+            _value = value;
+            _weight = weight;
+            _bucket = null;
+        }
+    }
+
+
+    /**
+     * This nested class describes a chain of the entries of one access frequency, most recent first.
+     *
+     * Buckets are themselves linked in order of increasing frequency.
+     * Under LRU there is only one bucket and its frequency is not used.
+     */
+    private static class Bucket<K, V> {
+
+        private final long _frequency;
+        private LinkedList.LinkedListNode<CacheEntry<K, V>> _head;
+        private LinkedList.LinkedListNode<CacheEntry<K, V>> _tail;
+        private Bucket<K, V> _previous;
+        private Bucket<K, V> _next;
+
+
+        /**
+         * Creates an instance of an empty Bucket.
+         *
+         * @param frequency - the access frequency of the entries of this bucket.
+         */
+        private Bucket(long frequency) {
+            _frequency = frequency;
+            _head = null;
+            _tail = null;
+            _previous = null;
+            _next = null;
+        }
+
+
+        /**
+         * Returns true if this bucket holds no entries.
+         *
+         * @return true if this bucket holds no entries.
+         */
+        private boolean isEmpty() {
+            return _head == null;
+        }
+
+
+        /**
+         * Links the specified node at the front of this bucket.
+         *
+         * @param node - a node that is in no bucket.
+         */
+        private void linkFirst(LinkedList.LinkedListNode<CacheEntry<K, V>> node) {
+            node.setPrevious(null);
+            node.setNext(_head);
+            if (_head == null) {
+                _tail = node;
+            }
+            else {
+                _head.setPrevious(node);
+            }
+            _head = node;
+        }
+
+
+        /**
+         * Unlinks the specified node from this bucket.
+         *
+         * @param node - a node of this bucket.
+         */
+        private void unlink(LinkedList.LinkedListNode<CacheEntry<K, V>> node) {
+            LinkedList.LinkedListNode<CacheEntry<K, V>> previousNode = node.getPrevious();
+            LinkedList.LinkedListNode<CacheEntry<K, V>> nextNode = node.getNext();
+            if (previousNode == null) {
+                _head = nextNode;
+            }
+            else {
+                previousNode.setNext(nextNode);
+            }
+            if (nextNode == null) {
+                _tail = previousNode;
+            }
+            else {
+                nextNode.setPrevious(previousNode);
+            }
+            node.setPrevious(null);
+            node.setNext(null);
+        }
+    }
+}
@@ -0,0 +1,3127 @@
+package linkedlist;
+
+import java.lang.reflect.Array;
+import java.util.AbstractSequentialList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * The LinkedList class describes a doubly-linked list
+ * that supports forward and reverse iteration.
+ *
+ * This class implements Deque, so it can serve as a queue or a stack:
+ * every operation at either end follows the head or the tail directly and runs in constant time.
+ * A snapshot of this list can be taken in constant time and read by other threads
+ * while this list keeps changing.
+ *
+ * Elements of this list are of type E and each element is a node with a value
+ * and references to the preceding and succeeding nodes.
+ * This class offers methods to access and manipulate the list and its elements,
+ * as well as inner classes to support iteration and create the nodes of which this
+ * list is built with.
+ *
+ * @param <E> - the type of elements held in this collection.
+ * @author ereimer18georgefox.edu
+ */
+public class LinkedList<E> implements Deque<E> {
+
+    private static final int EMPTY = 0;
+    private static final int NOT_FOUND = -1;
+    private static final int PARALLEL_SORT_THRESHOLD = 1 << 13;
+
+    private LinkedListNode<E> _head;
+    private LinkedListNode<E> _tail;
+    private int _size;
+    private int _modCount;
+    private LinkedListNode<E> _finger;
+    private int _fingerIndex;
+    private long _fingerHits;
+    private long _fingerMisses;
+    private final boolean _fingerEnabled;
+    private LinkedListNode<E> _pool;
+    private int _poolSize;
+    private final int _poolCapacity;
+    private HashMap<Object, Object> _valueIndex;
+    private boolean _shared;
+    private int _generation;
+    private int _detachedGeneration;
+    private LinkedListMetrics _metrics;
+    private ListChangeFeed<E> _changeFeed;
+
+
+    /**
+     * Constructs an instance of a LinkedList.
+     *
+     * Constructs an empty instance of a LinkedList.
+     * The size is initialized as 0 and the head and tail are null
+     * until the first element is added; no nodes are allocated up front.
+     */
+    public LinkedList() {
+        this(true, 0);
+    }
+
+
+    /**
+     * Constructs an instance of a LinkedList that recycles its nodes.
+     *
+     * Nodes released by remove and clear are kept in a pool of up to the specified number of nodes,
+     * and later adds take their nodes from the pool before allocating new ones.
+     * A list that repeatedly grows and shrinks, such as a queue, then produces little or no garbage.
+     * The pool holds on to its nodes for as long as the list is reachable.
+     *
+     * @param poolCapacity - the maximum number of nodes to keep for reuse.
+     * @throws IllegalArgumentException if the pool capacity is negative.
+     */
+    public LinkedList(int poolCapacity) {
+        this(true, poolCapacity);
+    }
+
+
+    /**
+     * Constructs an instance of a LinkedList that may or may not keep a finger.
+     *
+     * A list without a finger never writes to its own fields while it is only being read,
+     * so several threads may read it at once as long as no thread modifies it.
+     * Lookups on such a list always walk from the head or the tail
+     * and are not counted in the finger statistics.
+     *
+     * @param fingerEnabled - whether positional lookups should remember the last node reached.
+     */
+    LinkedList(boolean fingerEnabled) {
+        this(fingerEnabled, 0);
+    }
+
+
+    /**
+     * Constructs an instance of a LinkedList with the specified finger and pool settings.
+     *
+     * @param fingerEnabled - whether positional lookups should remember the last node reached.
+     * @param poolCapacity - the maximum number of nodes to keep for reuse.
+     * @throws IllegalArgumentException if the pool capacity is negative.
+     */
+    private LinkedList(boolean fingerEnabled, int poolCapacity) {
+        if (poolCapacity < 0) {
+            throw new IllegalArgumentException();
+        }
+        _fingerEnabled = fingerEnabled;
+        _poolCapacity = poolCapacity;
+        _pool = null;
+        _poolSize = 0;
+        _valueIndex = null;
+        _shared = false;
+        _generation = 0;
+        _detachedGeneration = NOT_FOUND;
+        _head = null;
+        _tail = null;
+        _size = 0;
+        _modCount = 0;
+        _finger = null;
+        _fingerIndex = NOT_FOUND;
+        _fingerHits = 0;
+        _fingerMisses = 0;
+    }
+
+
+    /**
+     * Inserts the specified element at the specified position in this list.
+     *
+     * Adds the element as a new node to the list with references to the nodes before and after it.
+     * Shifts the element currently at that position (if any) and any subsequent elements to the right.
+     * An index equal to the size of this list appends the element, so index 0 is valid for an empty list.
+     *
+     * @param index - index at which the specified element is to be inserted.
+     * @param element - element to be inserted.
+     * @throws IndexOutOfBoundsException if the index is out of range (index < 0 || index > size()).
+     */
+    public void add(int index, E element) {
+        if (index < 0 || index > size()) {
+            throw new IndexOutOfBoundsException();
+        }
+        if (index != 0 && index != size()) {
+            unshare();
+        }
+        linkBefore(element, (index == size()) ? null : traverse(index), index);
+    }
+
+
+    /**
+     * Appends the specified element to the end of this list.
+     *
+     * Adds the element as a new node to the end of the list.
+     * The new node is linked directly after the tail,
+     * so no traversal is needed.
+     *
+     * @param element - element to be appended to this list.
+     * @return if the append was successful.
+     */
+    public boolean add(E element) {
+        linkBefore(element, null, size());
+        return true;
+    }
+
+
+    /**
+     * Appends all of the elements in the specified collection to the end of this list.
+     *
+     * The new nodes are chained to each other first and then linked after the tail at once,
+     * in the order they are returned by the collection's iterator.
+     *
+     * @param elements - collection containing elements to be added to this list.
+     * @return true if this list changed as a result of the call.
+     */
+    public boolean addAll(Collection<? extends E> elements) {
+        return addAll(size(), elements);
+    }
+
+
+    /**
+     * Inserts all of the elements in the specified collection into this list at the specified position.
+     *
+     * The new nodes are chained to each other first, and the chain is then linked into this list
+     * after a single traversal to the position. Shifts the element currently at that position (if any)
+     * and any subsequent elements to the right. An index equal to the size
+     * of this list appends the elements.
+     *
+     * @param index - index at which to insert the first element from the specified collection.
+     * @param elements - collection containing elements to be added to this list.
+     * @return true if this list changed as a result of the call.
+     * @throws IndexOutOfBoundsException if the index is out of range (index < 0 || index > size()).
+     */
+    public boolean addAll(int index, Collection<? extends E> elements) {
+        if (index < 0 || index > size()) {
+            throw new IndexOutOfBoundsException();
+        }
+        boolean modified = false;
+        if (!elements.isEmpty()) {
+            LinkedListNode<E> first = null;
+            LinkedListNode<E> last = null;
+            int count = 0;
+            for (E element : elements) {
+                LinkedListNode<E> newNode = newNode(element, last, null);
+                if (last == null) {
+                    first = newNode;
+                }
+                else {
+                    last.setNext(newNode);
+                }
+                last = newNode;
+                count++;
+            }
+            if (index != 0 && index != size()) {
+                unshare();
+            }
+            LinkedListNode<E> successor = (index == size()) ? null : traverse(index);
+            linkChainBefore(first, last, count, successor, index);
+            modified = true;
+        }
+        return modified;
+    }
+
+
+    /**
+     * Moves all of the elements of the specified list to the end of this list.
+     *
+     * The nodes of the other list are relinked after the tail of this list
+     * without being copied, so this runs in constant time regardless of either size.
+     * The other list is empty after this call returns.
+     *
+     * @param other - the list whose elements are moved to this list.
+     * @throws IllegalArgumentException if the other list is this list.
+     */
+    public void splice(LinkedList<E> other) {
+        splice(size(), other);
+    }
+
+
+    /**
+     * Moves all of the elements of the specified list into this list at the specified position.
+     *
+     * The nodes of the other list are relinked into this list without being copied;
+     * only the traversal to the position depends on the size of this list.
+     * Shifts the element currently at that position (if any) and any subsequent elements to the right.
+     * An index equal to the size of this list appends the elements.
+     * The other list is empty after this call returns.
+     *
+     * @param index - index at which to insert the first element of the other list.
+     * @param other - the list whose elements are moved to this list.
+     * @throws IndexOutOfBoundsException if the index is out of range (index < 0 || index > size()).
+     * @throws IllegalArgumentException if the other list is this list.
+     */
+    public void splice(int index, LinkedList<E> other) {
+        if (other == this) {
+            throw new IllegalArgumentException();
+        }
+        if (index < 0 || index > size()) {
+            throw new IndexOutOfBoundsException();
+        }
+        if (!other.isEmpty()) {
+            LinkedListNode<E> first = other._head;
+            LinkedListNode<E> last = other._tail;
+            int count = other.size();
+            boolean otherShared = other._shared;
+            other.detachAll();
+            if (index != 0 && index != size()) {
+                unshare();
+            }
+            _shared = _shared || otherShared;
+            LinkedListNode<E> successor = (index == size()) ? null : traverse(index);
+            linkChainBefore(first, last, count, successor, index);
+        }
+    }
+
+
+    /**
+     * Removes all of the elements from this list.
+     *
+     * The head and tail release their references to the nodes.
+     * If this list keeps a node pool and has no snapshot, nodes are returned to it until it is full;
+     * the rest of the nodes are left to be garbage collected once they are no longer referenced.
+     * The list will be empty after this call returns.
+     */
+    public void clear() {
+        LinkedListNode<E> currentNode = _shared ? null : _head;
+        while (currentNode != null && _poolSize < _poolCapacity) {
+            LinkedListNode<E> nextNode = currentNode.getNext();
+            recycle(currentNode);
+            currentNode = nextNode;
+        }
+        detachAll();
+    }
+
+
+    /**
+     * Returns the element at the specified position in this list.
+     *
+     * Traverses through the list to find the element at the specified index.
+     * An error is thrown if the target index is out of range for the list.
+     *
+     * @param index - index of the element to return.
+     * @return the element at the specified position in this list.
+     * @throws IndexOutOfBoundsException - if the index is out of range
+     * (index < 0 || index >= size()).
+     */
+    public E get(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException();
+        }
+        if (_metrics != null) {
+            _metrics.recordOperation(LinkedListMetrics.Operation.GET);
+        }
+        return traverse(index).getValue();
+    }
+
+
+    /**
+     * Returns the index of the first occurrence of the specified element in this list,
+     * or -1 if this list does not contain the element.
+     *
+     * Traverses forwards through the list until the first occurrence of the element is found,
+     * or to the end if the list does not contain the element. Elements are compared with equals.
+     * If this list keeps a value index, an element that is not in the list is reported
+     * without any traversal.
+     * Returns the index of the element, or -1 if the element is not found.
+     *
+     * @param element - element to search for.
+     * @return the index of the first occurrence of the specified element in this list,
+     * or -1 if this list does not contain the element.
+     */
+    public int indexOf(Object element) {
+        boolean found = false;
+        if (_metrics != null) {
+            _metrics.recordOperation(LinkedListMetrics.Operation.SEARCH);
+        }
+        int index = (_valueIndex == null || _valueIndex.containsKey(element)) ? EMPTY : size();
+        LinkedListNode<E> currentNode = _head;
+        while (!found && index < size()) {
+            if (Objects.equals(currentNode.getValue(), element)) {
+                found = true;
+            }
+            else {
+                currentNode = currentNode.getNext();
+                index++;
+            }
+        }
+        if (!found) {
+            index = NOT_FOUND;
+        }
+
+        return index;
+    }
+
+
+    /**
+     * Returns the index of the last occurrence of the specified element in this list,
+     * or -1 if this list does not contain the element.
+     *
+     * Traverses backwards through the list from the tail until the last occurrence of the element
+     * is found, or to the head if the list does not contain the element. Elements are compared with equals.
+     * If this list keeps a value index, an element that is not in the list is reported
+     * without any traversal.
+     *
+     * @param element - element to search for.
+     * @return the index of the last occurrence of the specified element in this list,
+     * or -1 if this list does not contain the element.
+     */
+    public int lastIndexOf(Object element) {
+        boolean found = false;
+        if (_metrics != null) {
+            _metrics.recordOperation(LinkedListMetrics.Operation.SEARCH);
+        }
+        int index = (_valueIndex == null || _valueIndex.containsKey(element)) ? size() - 1 : NOT_FOUND;
+        LinkedListNode<E> currentNode = _tail;
+        while (!found && index > NOT_FOUND) {
+            if (Objects.equals(currentNode.getValue(), element)) {
+                found = true;
+            }
+            else {
+                currentNode = currentNode.getPrevious();
+                index--;
+            }
+        }
+
+        return index;
+    }
+
+
+    /**
+     * Returns true if this list contains the specified element.
+     *
+     * Elements are compared with equals. If this list keeps a value index,
+     * the answer is a single hash lookup; otherwise the list is searched from the head.
+     *
+     * @param element - element whose presence in this list is to be tested.
+     * @return true if this list contains the specified element.
+     */
+    public boolean contains(Object element) {
+        boolean contained;
+        if (_valueIndex != null) {
+            if (_metrics != null) {
+                _metrics.recordOperation(LinkedListMetrics.Operation.SEARCH);
+            }
+            contained = _valueIndex.containsKey(element);
+        }
+        else {
+            contained = lastIndexOf(element) != NOT_FOUND;
+        }
+        return contained;
+    }
+
+
+    /**
+     * Returns true if this list contains no elements.
+     *
+     * Checks the size of this list, which is automatically updated as the list changes.
+     * If the list is empty, this method returns true.
+     *
+     * @return if this list contains no elements.
+     */
+    public boolean isEmpty() {
+        return size() <= EMPTY;
+    }
+
+
+    /**
+     * Removes the element at the specified position in this list.
+     *
+     * Traverses through list to index and removes the element at that position.
+     * Shifts any subsequent elements to the left.
+     * Returns the element that was removed from the list.
+     * An error is thrown if the target index is out of the range of this list.
+     *
+     * @param index - the index of the element to be removed.
+     * @return the element previously at the specified position.
+     * @throws IndexOutOfBoundsException - if the index is out of range
+     * (index < 0 || index >= size()).
+     */
+    public E remove(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException();
+        }
+        if (index != 0) {
+            unshare();
+        }
+        return unlink(traverse(index), index);
+    }
+
+
+    /**
+     * Removes the first occurrence of the specified element from this list, if it is present.
+     *
+     * Elements are compared with equals. If this list keeps a value index and holds the element once,
+     * its node is found with a single hash lookup and unlinked without any traversal.
+     * Otherwise the list is searched from the head; with a value index, an element
+     * that is not in the list is still reported without any traversal.
+     * While this list shares its nodes with a snapshot, they are copied only once a match is found.
+     *
+     * @param element - element to be removed from this list, if present.
+     * @return true if this list contained the specified element.
+     */
+    public boolean remove(Object element) {
+        boolean removed = false;
+        if (_metrics != null) {
+            _metrics.recordOperation(LinkedListMetrics.Operation.SEARCH);
+        }
+        Object entry = (_valueIndex == null) ? null : _valueIndex.get(element);
+        if (entry instanceof LinkedListNode) {
+            @SuppressWarnings("unchecked")
+            LinkedListNode<E> node = (LinkedListNode<E>) entry;
+            unlinkNode(node);
+            removed = true;
+        }
+        else if (_valueIndex == null || entry != null) {
+            LinkedListNode<E> currentNode = _head;
+            int index = EMPTY;
+            while (!removed && currentNode != null) {
+                if (Objects.equals(currentNode.getValue(), element)) {
+                    unlink(ownNode(currentNode, index), index);
+                    removed = true;
+                }
+                else {
+                    currentNode = currentNode.getNext();
+                    index++;
+                }
+            }
+        }
+        return removed;
+    }
+
+
+    /**
+     * Replaces the element at the specified position in this list with the specified element.
+     *
+     * Traverses through list to the specified index.
+     * Replaces the existing element at that position with the specified element.
+     * The existing element is returned.
+     * An error is thrown if the target index is out of the range of this list.
+     *
+     * @param index - index of the element to replace.
+     * @param element - element to be stored at the specified position.
+     * @return the element previously at the specified position.
+     * @throws IndexOutOfBoundsException - if the index is out of range
+     * (index < 0 || index >= size()).
+     */
+    public E set(int index, E element) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException();
+        }
+        unshare();
+        if (_metrics != null) {
+            _metrics.recordOperation(LinkedListMetrics.Operation.SET);
+        }
+        LinkedListNode<E> currentNode = traverse(index);
+        E previousElement = currentNode.getValue();
+        replaceValue(currentNode, element, index);
+        return previousElement;
+    }
+
+
+    /**
+     * Returns the number of elements in this list.
+     *
+     * @return the number of elements in this list.
+     */
+    public int size() {
+        return _size;
+    }
+
+
+    /**
+     * Inserts the specified element at the front of this list.
+     *
+     * The new node is linked directly before the head, so no traversal is needed.
+     *
+     * @param element - the element to add.
+     */
+    public void addFirst(E element) {
+        linkBefore(element, _head, 0);
+    }
+
+
+    /**
+     * Appends the specified element to the end of this list.
+     *
+     * Equivalent to add(E).
+     *
+     * @param element - the element to add.
+     */
+    public void addLast(E element) {
+        linkBefore(element, null, size());
+    }
+
+
+    /**
+     * Inserts the specified element at the front of this list.
+     *
+     * @param element - the element to add.
+     * @return true, since this list has no capacity limit.
+     */
+    public boolean offerFirst(E element) {
+        addFirst(element);
+        return true;
+    }
+
+
+    /**
+     * Appends the specified element to the end of this list.
+     *
+     * @param element - the element to add.
+     * @return true, since this list has no capacity limit.
+     */
+    public boolean offerLast(E element) {
+        addLast(element);
+        return true;
+    }
+
+
+    /**
+     * Appends the specified element to the end of this list.
+     *
+     * This is the tail of the queue when this list is used as a queue.
+     *
+     * @param element - the element to add.
+     * @return true, since this list has no capacity limit.
+     */
+    public boolean offer(E element) {
+        return offerLast(element);
+    }
+
+
+    /**
+     * Pushes an element onto the stack represented by this list.
+     *
+     * Equivalent to addFirst(E).
+     *
+     * @param element - the element to push.
+     */
+    public void push(E element) {
+        addFirst(element);
+    }
+
+
+    /**
+     * Removes and returns the first element of this list.
+     *
+     * @return the first element of this list.
+     * @throws NoSuchElementException if this list is empty.
+     */
+    public E removeFirst() {
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return unlink(_head, 0);
+    }
+
+
+    /**
+     * Removes and returns the last element of this list.
+     *
+     * @return the last element of this list.
+     * @throws NoSuchElementException if this list is empty.
+     */
+    public E removeLast() {
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        unshare();
+        return unlink(_tail, size() - 1);
+    }
+
+
+    /**
+     * Removes and returns the first element of this list.
+     *
+     * Equivalent to removeFirst().
+     *
+     * @return the first element of this list.
+     * @throws NoSuchElementException if this list is empty.
+     */
+    public E remove() {
+        return removeFirst();
+    }
+
+
+    /**
+     * Pops an element from the stack represented by this list.
+     *
+     * Equivalent to removeFirst().
+     *
+     * @return the first element of this list.
+     * @throws NoSuchElementException if this list is empty.
+     */
+    public E pop() {
+        return removeFirst();
+    }
+
+
+    /**
+     * Removes and returns the first element of this list, or returns null if this list is empty.
+     *
+     * @return the first element of this list, or null if this list is empty.
+     */
+    public E pollFirst() {
+        return isEmpty() ? null : unlink(_head, 0);
+    }
+
+
+    /**
+     * Removes and returns the last element of this list, or returns null if this list is empty.
+     *
+     * @return the last element of this list, or null if this list is empty.
+     */
+    public E pollLast() {
+        E element = null;
+        if (!isEmpty()) {
+            unshare();
+            element = unlink(_tail, size() - 1);
+        }
+        return element;
+    }
+
+
+    /**
+     * Removes and returns the first element of this list, or returns null if this list is empty.
+     *
+     * This is the head of the queue when this list is used as a queue.
+     *
+     * @return the first element of this list, or null if this list is empty.
+     */
+    public E poll() {
+        return pollFirst();
+    }
+
+
+    /**
+     * Returns the first element of this list without removing it.
+     *
+     * @return the first element of this list.
+     * @throws NoSuchElementException if this list is empty.
+     */
+    public E getFirst() {
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return _head.getValue();
+    }
+
+
+    /**
+     * Returns the last element of this list without removing it.
+     *
+     * @return the last element of this list.
+     * @throws NoSuchElementException if this list is empty.
+     */
+    public E getLast() {
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return _tail.getValue();
+    }
+
+
+    /**
+     * Returns the first element of this list without removing it.
+     *
+     * Equivalent to getFirst().
+     *
+     * @return the first element of this list.
+     * @throws NoSuchElementException if this list is empty.
+     */
+    public E element() {
+        return getFirst();
+    }
+
+
+    /**
+     * Returns the first element of this list without removing it, or null if this list is empty.
+     *
+     * @return the first element of this list, or null if this list is empty.
+     */
+    public E peekFirst() {
+        return isEmpty() ? null : _head.getValue();
+    }
+
+
+    /**
+     * Returns the last element of this list without removing it, or null if this list is empty.
+     *
+     * @return the last element of this list, or null if this list is empty.
+     */
+    public E peekLast() {
+        return isEmpty() ? null : _tail.getValue();
+    }
+
+
+    /**
+     * Returns the first element of this list without removing it, or null if this list is empty.
+     *
+     * Equivalent to peekFirst().
+     *
+     * @return the first element of this list, or null if this list is empty.
+     */
+    public E peek() {
+        return peekFirst();
+    }
+
+
+    /**
+     * Removes the first occurrence of the specified element from this list, if it is present.
+     *
+     * Equivalent to remove(Object).
+     *
+     * @param element - element to be removed from this list, if present.
+     * @return true if this list contained the specified element.
+     */
+    public boolean removeFirstOccurrence(Object element) {
+        return remove(element);
+    }
+
+
+    /**
+     * Removes the last occurrence of the specified element from this list, if it is present.
+     *
+     * Traverses backwards from the tail, comparing elements with equals.
+     * If this list keeps a value index, an element that is not in the list
+     * is reported without any traversal. While this list shares its nodes with a snapshot,
+     * they are copied only once a match is found.
+     *
+     * @param element - element to be removed from this list, if present.
+     * @return true if this list contained the specified element.
+     */
+    public boolean removeLastOccurrence(Object element) {
+        boolean removed = false;
+        if (_valueIndex == null || _valueIndex.containsKey(element)) {
+            LinkedListNode<E> currentNode = _tail;
+            int index = size() - 1;
+            while (!removed && currentNode != null) {
+                if (Objects.equals(currentNode.getValue(), element)) {
+                    unlink(ownNode(currentNode, index), index);
+                    removed = true;
+                }
+                else {
+                    currentNode = currentNode.getPrevious();
+                    index--;
+                }
+            }
+        }
+        return removed;
+    }
+
+
+    /**
+     * Returns true if this list contains all of the elements in the specified collection.
+     *
+     * @param elements - collection to be checked for containment in this list.
+     * @return true if this list contains all of the elements in the specified collection.
+     */
+    public boolean containsAll(Collection<?> elements) {
+        boolean containsAll = true;
+        Iterator<?> iterator = elements.iterator();
+        while (containsAll && iterator.hasNext()) {
+            containsAll = contains(iterator.next());
+        }
+        return containsAll;
+    }
+
+
+    /**
+     * Removes all of the elements of this list that are also contained in the specified collection.
+     *
+     * Walks this list once and unlinks every node whose element the collection contains.
+     *
+     * @param elements - collection containing elements to be removed from this list.
+     * @return true if this list changed as a result of the call.
+     */
+    public boolean removeAll(Collection<?> elements) {
+        Objects.requireNonNull(elements);
+        return removeIf(elements::contains);
+    }
+
+
+    /**
+     * Retains only the elements of this list that are contained in the specified collection.
+     *
+     * Walks this list once and unlinks every node whose element the collection does not contain.
+     *
+     * @param elements - collection containing elements to be retained in this list.
+     * @return true if this list changed as a result of the call.
+     */
+    public boolean retainAll(Collection<?> elements) {
+        Objects.requireNonNull(elements);
+        return removeIf(element -> !elements.contains(element));
+    }
+
+
+    /**
+     * Removes all of the elements of this list that match the specified predicate.
+     *
+     * Walks this list once from the head and unlinks each matching node as it is reached,
+     * so removing k of n elements takes O(n) time rather than a traversal per removal.
+     * If the predicate throws an exception, the elements already removed stay removed.
+     * While this list shares its nodes with a snapshot, they are copied only once
+     * a match is found, and the walk continues from the copy.
+     *
+     * @param filter - the predicate that returns true for elements to be removed.
+     * @return true if any elements were removed.
+     * @throws NullPointerException if the predicate is null.
+     */
+    public boolean removeIf(Predicate<? super E> filter) {
+        Objects.requireNonNull(filter);
+        boolean removed = false;
+        LinkedListNode<E> currentNode = _head;
+        int index = EMPTY;
+        while (currentNode != null) {
+            LinkedListNode<E> nextNode;
+            if (filter.test(currentNode.getValue())) {
+                currentNode = ownNode(currentNode, index);
+                nextNode = currentNode.getNext();
+                unlink(currentNode, index);
+                removed = true;
+            }
+            else {
+                nextNode = currentNode.getNext();
+                index++;
+            }
+            currentNode = nextNode;
+        }
+        return removed;
+    }
+
+
+    /**
+     * Removes the elements of this list from fromIndex, inclusive, to toIndex, exclusive.
+     *
+     * Traverses once to fromIndex and unlinks the following nodes one after another,
+     * so the whole range is removed in a single pass. Subsequent elements shift to the left.
+     *
+     * @param fromIndex - index of the first element to be removed.
+     * @param toIndex - index after the last element to be removed.
+     * @throws IndexOutOfBoundsException if an index is out of range
+     * (fromIndex < 0 || toIndex > size() || fromIndex > toIndex).
+     */
+    public void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > size() || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException();
+        }
+        if (fromIndex != 0 && fromIndex < toIndex) {
+            unshare();
+        }
+        LinkedListNode<E> currentNode = (fromIndex == toIndex) ? null : traverse(fromIndex);
+        for (int i = fromIndex; i < toIndex; i++) {
+            LinkedListNode<E> nextNode = currentNode.getNext();
+            unlink(currentNode, fromIndex);
+            currentNode = nextNode;
+        }
+    }
+
+
+    /**
+     * Returns an array containing all of the elements in this list in order.
+     *
+     * @return an array containing all of the elements in this list.
+     */
+    public Object[] toArray() {
+        Object[] array = new Object[size()];
+        int index = EMPTY;
+        for (LinkedListNode<E> node = _head; node != null; node = node.getNext()) {
+            array[index++] = node.getValue();
+        }
+        return array;
+    }
+
+
+    /**
+     * Returns an array containing all of the elements in this list in order,
+     * using the runtime type of the specified array.
+     *
+     * The elements are stored in the specified array if it is large enough, and the element
+     * following the last one is set to null; otherwise a new array of the same type is allocated.
+     *
+     * @param array - the array into which the elements of this list are to be stored, if it is big enough.
+     * @return an array containing all of the elements in this list.
+     * @throws ArrayStoreException if the type of the array is not a supertype of every element.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T[] toArray(T[] array) {
+        T[] result = array;
+        if (result.length < size()) {
+            result = (T[]) Array.newInstance(array.getClass().getComponentType(), size());
+        }
+        int index = EMPTY;
+        for (LinkedListNode<E> node = _head; node != null; node = node.getNext()) {
+            result[index++] = (T) node.getValue();
+        }
+        if (result.length > size()) {
+            result[size()] = null;
+        }
+        return result;
+    }
+
+
+    /**
+     * Sorts this list into the order given by the specified comparator.
+     *
+     * The nodes are relinked in place with a bottom-up merge sort, so no array or new nodes
+     * are allocated and the values stay in their nodes. The sort is stable: equal elements keep
+     * their relative order. It takes O(n log n) comparisons and constant extra memory.
+     * If the comparator throws an exception, this list is left in its original order.
+     *
+     * @param comparator - the comparator used to compare elements, or null to use their natural ordering.
+     * @throws ClassCastException if the list holds elements that cannot be compared with each other.
+     */
+    public void sort(Comparator<? super E> comparator) {
+        Comparator<? super E> order = ordering(comparator);
+        unshare();
+        if (_metrics != null) {
+            _metrics.recordOperation(LinkedListMetrics.Operation.SORT);
+        }
+        if (size() > 1) {
+            try {
+                _head = sortChain(_head, size(), order);
+            }
+            catch (RuntimeException e) {
+                restoreChain();
+                throw e;
+            }
+            relinkChain();
+            if (_changeFeed != null) {
+                recordReorder();
+            }
+        }
+        _modCount++;
+        _finger = null;
+        _fingerIndex = NOT_FOUND;
+    }
+
+
+    /**
+     * Sorts this list into the order given by the specified comparator, using the common ForkJoinPool.
+     *
+     * The chain of nodes is cut into segments that are sorted in parallel with the same merge sort
+     * as sort(Comparator), and the sorted segments are merged by relinking their nodes.
+     * The result is the same stable order sort(Comparator) gives; lists too short to gain
+     * from parallelism are sorted in the calling thread.
+     * If the comparator throws an exception, this list is left in its original order.
+     *
+     * @param comparator - the comparator used to compare elements, or null to use their natural ordering.
+     * @throws ClassCastException if the list holds elements that cannot be compared with each other.
+     */
+    public void parallelSort(Comparator<? super E> comparator) {
+        Comparator<? super E> order = ordering(comparator);
+        unshare();
+        if (_metrics != null) {
+            _metrics.recordOperation(LinkedListMetrics.Operation.SORT);
+        }
+        if (size() > 1) {
+            try {
+                _head = ForkJoinPool.commonPool().invoke(new SortTask<>(_head, size(), order));
+            }
+            catch (RuntimeException e) {
+                restoreChain();
+                throw e;
+            }
+            relinkChain();
+            if (_changeFeed != null) {
+                recordReorder();
+            }
+        }
+        _modCount++;
+        _finger = null;
+        _fingerIndex = NOT_FOUND;
+    }
+
+
+    /**
+     * Returns an immutable view of the elements of this list as they are now.
+     *
+     * The snapshot shares the nodes of this list instead of copying them, so it is taken in constant time.
+     * Until the next snapshot, this list keeps every node a snapshot can reach unchanged:
+     * adding elements at either end and removing the first element leave those nodes alone,
+     * and the first other change copies the nodes of this list once, leaving the old nodes
+     * to the snapshots. A list used as a queue or an append-only log is therefore never copied.
+     * This method must be called by the thread that modifies this list, like any other method,
+     * but the snapshot may be handed to another thread and read there while this list keeps changing;
+     * it is safe to publish through a data race, since its fields are final.
+     *
+     * @return an immutable view of the elements of this list.
+     */
+    public Snapshot<E> snapshot() {
+        if (!isEmpty()) {
+            _shared = true;
+        }
+        return new Snapshot<>(_head, size(), _generation);
+    }
+
+
+    /**
+     * Returns the number of positional lookups that started their walk from the finger.
+     *
+     * The finger is the node most recently reached by a positional lookup.
+     * A lookup starts from the finger whenever it is closer to the index than the head and the tail.
+     *
+     * @return the number of lookups that started from the finger.
+     */
+    public long getFingerHits() {
+        return _fingerHits;
+    }
+
+
+    /**
+     * Returns the number of positional lookups that started their walk from the head or the tail.
+     *
+     * @return the number of lookups that did not start from the finger.
+     */
+    public long getFingerMisses() {
+        return _fingerMisses;
+    }
+
+
+    /**
+     * Resets the finger hit and miss counters to zero.
+     */
+    public void resetFingerStatistics() {
+        _fingerHits = 0;
+        _fingerMisses = 0;
+    }
+
+
+    /**
+     * Returns the metrics this list records its work into, or null if it records none.
+     *
+     * @return the attached LinkedListMetrics, or null.
+     */
+    public LinkedListMetrics getMetrics() {
+        return _metrics;
+    }
+
+
+    /**
+     * Attaches the specified metrics to this list, or detaches them if the argument is null.
+     *
+     * While metrics are attached, this list counts its operations, traversals, iterator seeks
+     * and node allocations into them. Several lists may share one LinkedListMetrics.
+     *
+     * @param metrics - the metrics to record into, or null to stop recording.
+     */
+    public void setMetrics(LinkedListMetrics metrics) {
+        _metrics = metrics;
+    }
+
+
+    /**
+     * Returns the feed this list publishes its changes to, or null if it publishes none.
+     *
+     * @return the attached ListChangeFeed, or null.
+     */
+    public ListChangeFeed<E> getChangeFeed() {
+        return _changeFeed;
+    }
+
+
+    /**
+     * Attaches the specified change feed to this list, or detaches it if the argument is null.
+     *
+     * While a feed is attached, every element this list adds, sets or removes, and every clear,
+     * is recorded in the feed with its index, to be published to the subscribers in batches.
+     * A sort is recorded as a SET of every index. Removing an element found through the value index
+     * walks the list once to find its index for the feed.
+     *
+     * @param changeFeed - the feed to publish to, or null to stop publishing.
+     */
+    public void setChangeFeed(ListChangeFeed<E> changeFeed) {
+        _changeFeed = changeFeed;
+    }
+
+
+    /**
+     * Returns true if this list keeps a value index.
+     *
+     * @return true if this list keeps a value index.
+     */
+    public boolean isValueIndexed() {
+        return _valueIndex != null;
+    }
+
+
+    /**
+     * Turns the value index of this list on or off.
+     *
+     * The value index is a hash map from each distinct element to the node holding it,
+     * or to all of the nodes holding it if the element occurs more than once.
+     * It is kept up to date by every method that adds, removes or replaces elements,
+     * and it lets contains and remove(Object) find an element without traversing the list,
+     * and indexOf and lastIndexOf report a missing element without traversing the list.
+     * The index costs a hash map entry per distinct element and a hash lookup on every change.
+     * Elements must have hash codes consistent with equals and must not change while in this list.
+     * Turning the index on builds it from the current elements in a single pass.
+     *
+     * @param indexed - whether this list should keep a value index.
+     */
+    public void setValueIndexed(boolean indexed) {
+        if (!indexed) {
+            _valueIndex = null;
+        }
+        else if (_valueIndex == null) {
+            _valueIndex = new HashMap<>();
+            for (LinkedListNode<E> node = _head; node != null; node = node.getNext()) {
+                indexNode(node);
+            }
+        }
+    }
+
+
+    /**
+     * Returns an iterator over elements of type T.
+     *
+     * Accesses the inner class LinkedListIterator and constructs an instance
+     * positioned before the first element in order to iterate forwards from the head.
+     *
+     * @return an Iterator.
+     */
+    public Iterator<E> iterator() {
+        return new LinkedListIterator(0);
+    }
+
+
+    /**
+     * Returns an iterator over elements of type T.
+     *
+     * Accesses the inner class ReverseLinkedListIterator and constructs an instance
+     * positioned after the last element in order to iterate backwards from the tail.
+     *
+     * @return an Iterator.
+     */
+    public Iterator<E> reverseIterator() {
+        return new ReverseLinkedListIterator();
+    }
+
+
+    /**
+     * Returns an iterator over the elements in this list in reverse order.
+     *
+     * The iterator walks backwards from the tail by following the previous reference of each node.
+     * Equivalent to reverseIterator().
+     *
+     * @return an Iterator over the elements of this list from last to first.
+     */
+    public Iterator<E> descendingIterator() {
+        return new ReverseLinkedListIterator();
+    }
+
+
+    /**
+     * Returns a list iterator over the elements in this list.
+     *
+     * The list iterator starts before the first element of this list.
+     *
+     * @return a ListIterator positioned at the head of this list.
+     */
+    public ListIterator<E> listIterator() {
+        return new LinkedListIterator(0);
+    }
+
+
+    /**
+     * Returns a list iterator over the elements in this list,
+     * starting at the specified position in this list.
+     *
+     * The first call to next() returns the element at the specified index,
+     * and the first call to previous() returns the element at index - 1.
+     * The starting node is found with a single traversal; every later move of
+     * the iterator follows a single node reference.
+     *
+     * @param index - index of the first element to be returned by next().
+     * @return a ListIterator positioned at the specified index.
+     * @throws IndexOutOfBoundsException - if the index is out of range
+     * (index < 0 || index > size()).
+     */
+    public ListIterator<E> listIterator(int index) {
+        if (index < 0 || index > size()) {
+            throw new IndexOutOfBoundsException();
+        }
+        return new LinkedListIterator(index);
+    }
+
+
+    /**
+     * Returns a live view of the portion of this list between the specified indices.
+     *
+     * The view is bound to the node at fromIndex, which is found with a single traversal;
+     * the view then moves from that node by following node references and never
+     * traverses this list from the head or the tail again. Changes made through the view,
+     * including through its iterators, are made to this list. A structural change made to
+     * this list other than through the view causes the view to throw a
+     * ConcurrentModificationException.
+     *
+     * @param fromIndex - index of the first element of the view.
+     * @param toIndex - index after the last element of the view.
+     * @return a List view of the specified range of this list.
+     * @throws IndexOutOfBoundsException if an index is out of range
+     * (fromIndex < 0 || toIndex > size() || fromIndex > toIndex).
+     */
+    public List<E> subList(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > size() || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException();
+        }
+        return new SubList(fromIndex, toIndex - fromIndex);
+    }
+
+
+    /**
+     * Returns a lazy view of the results of applying the specified function to the elements of this list.
+     *
+     * Nothing is computed until the view is iterated, and each iteration applies the function
+     * to each element as it is reached.
+     *
+     * @param mapper - the function to apply to each element.
+     * @return a LazyView of the mapped elements.
+     */
+    public <R> LazyView<R> map(Function<? super E, ? extends R> mapper) {
+        return LazyView.of(this).map(mapper);
+    }
+
+
+    /**
+     * Returns a lazy view of the elements of this list that match the specified predicate.
+     *
+     * Nothing is computed until the view is iterated, and each iteration tests each element as it is reached.
+     *
+     * @param predicate - the predicate an element must match to be included.
+     * @return a LazyView of the matching elements.
+     */
+    public LazyView<E> filter(Predicate<? super E> predicate) {
+        return LazyView.of(this).filter(predicate);
+    }
+
+
+    /**
+     * Returns a lazy view of at most the specified number of elements from the front of this list.
+     *
+     * @param maxSize - the largest number of elements the view may hold.
+     * @return a LazyView of the first elements of this list.
+     * @throws IllegalArgumentException if the maximum size is negative.
+     */
+    public LazyView<E> limit(long maxSize) {
+        return LazyView.of(this).limit(maxSize);
+    }
+
+
+    /**
+     * Returns a Spliterator over the elements in this list.
+     *
+     * The Spliterator reports SIZED, SUBSIZED and ORDERED, and walks the nodes of this list directly.
+     * Each split hands the first half of the remaining elements to a new Spliterator, so
+     * parallel streams divide the work evenly between threads. Finding the middle of a half
+     * walks a quarter of the list, and so on, so splitting a list of n elements into p parts
+     * takes about n * log2(p) / 2 steps.
+     * The list must not be structurally modified while the Spliterator is in use;
+     * a ConcurrentModificationException is thrown if it is.
+     *
+     * @return a Spliterator over the elements in this list.
+     */
+    @Override
+    public Spliterator<E> spliterator() {
+        return new LinkedListSpliterator(_head, size(), _modCount);
+    }
+
+
+    /**
+     * Returns a sequential Stream with this list as its source.
+     *
+     * @return a sequential Stream over the elements in this list.
+     */
+    public Stream<E> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+
+    /**
+     * Returns a possibly parallel Stream with this list as its source.
+     *
+     * @return a parallel Stream over the elements in this list.
+     */
+    public Stream<E> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
+
+
+    /**
+     * Returns the LinkedListNode at the specified index.
+     *
+     * Traverses through this list to the specified index.
+     * Depending on the shortest path to the index,
+     * this method will either traverse forwards from the head,
+     * backwards from the tail, or in either direction from the finger:
+     * the node returned by the previous call.
+     * The returned node becomes the new finger, so lookups of nearby indices
+     * take only a few steps. A list constructed without a finger never moves it.
+     * An error is thrown if the target index is out of the range of this list.
+     *
+     * @param index - index of the LinkedListNode to be returned.
+     * @return the LinkedListNode at the specified position.
+     * @throws IndexOutOfBoundsException - if the index is out of range
+     * (index < 0 || index >= size()).
+     */
+    private LinkedListNode<E> traverse(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException();
+        }
+        LinkedListNode<E> currentNode;
+        boolean fromFinger = false;
+        long started = (_metrics != null) ? System.nanoTime() : 0L;
+        int fromEnds = Math.min(index, size() - 1 - index);
+        if (_finger != null && Math.abs(index - _fingerIndex) < fromEnds) {
+            fromFinger = true;
+            currentNode = _finger;
+            for (int i = _fingerIndex; i < index; i++) {
+                currentNode = currentNode.getNext();
+            }
+            for (int i = _fingerIndex; i > index; i--) {
+                currentNode = currentNode.getPrevious();
+            }
+        }
+        else if (size() - index >= size() / 2) {
+            currentNode = _head;
+            for (int i = 0; i < index; i++) {
+                currentNode = currentNode.getNext();
+            }
+        }
+        else {
+            currentNode = _tail;
+            for (int i = size() - 1; i > index; i--) {
+                currentNode = currentNode.getPrevious();
+            }
+        }
+        if (_metrics != null) {
+            recordTraversal(index, fromFinger, started);
+        }
+        if (_fingerEnabled) {
+            if (fromFinger) {
+                _fingerHits++;
+            }
+            else {
+                _fingerMisses++;
+            }
+            _finger = currentNode;
+            _fingerIndex = index;
+        }
+        return currentNode;
+    }
+
+
+    /**
+     * Records a traversal to the specified index in the attached metrics.
+     *
+     * Must be called before the finger moves. A traversal that did not start from the finger
+     * started from the end traverse chose, so its hops are the distance from that end.
+     *
+     * @param index - the index the traversal went to.
+     * @param fromFinger - true if the traversal started from the finger.
+     * @param started - the System.nanoTime() at which the traversal started.
+     */
+    private void recordTraversal(int index, boolean fromFinger, long started) {
+        LinkedListMetrics.Origin origin;
+        int hops;
+        if (fromFinger) {
+            origin = LinkedListMetrics.Origin.FINGER;
+            hops = Math.abs(index - _fingerIndex);
+        }
+        else if (size() - index >= size() / 2) {
+            origin = LinkedListMetrics.Origin.HEAD;
+            hops = index;
+        }
+        else {
+            origin = LinkedListMetrics.Origin.TAIL;
+            hops = size() - 1 - index;
+        }
+        _metrics.recordTraversal(origin, hops, index, size(), System.nanoTime() - started);
+    }
+
+
+    /**
+     * Links a new node holding the specified element directly before the specified node.
+     *
+     * The successor may be any node of this list, or null to link the new node after the tail.
+     * No traversal is performed, so this runs in constant time.
+     * The index of the finger is shifted if the new node is inserted before it.
+     *
+     * @param element - element to be inserted.
+     * @param successor - the node that will follow the new node, or null to append.
+     * @param index - the index the new node will have.
+     */
+    private void linkBefore(E element, LinkedListNode<E> successor, int index) {
+        LinkedListNode<E> previous = (successor == null) ? _tail : successor.getPrevious();
+        LinkedListNode<E> newNode = newNode(element, previous, successor);
+        if (previous == null) {
+            _head = newNode;
+        }
+        else {
+            previous.setNext(newNode);
+        }
+        if (successor == null) {
+            _tail = newNode;
+        }
+        else {
+            successor.setPrevious(newNode);
+        }
+        if (_valueIndex != null) {
+            indexNode(newNode);
+        }
+        if (_metrics != null) {
+            _metrics.recordOperation(LinkedListMetrics.Operation.INSERT);
+        }
+        _size++;
+        _modCount++;
+        if (_finger != null && index <= _fingerIndex) {
+            _fingerIndex++;
+        }
+        if (_changeFeed != null) {
+            _changeFeed.record(ListChange.Type.ADD, index, element);
+        }
+    }
+
+
+    /**
+     * Links a chain of nodes directly before the specified node.
+     *
+     * The chain runs from the first to the last node through their next references,
+     * and may come from a new collection or from another list.
+     * Only the ends of the chain are relinked, so this runs in constant time.
+     * The index of the finger is shifted if the chain is inserted before it.
+     *
+     * @param first - the first node of the chain.
+     * @param last - the last node of the chain.
+     * @param count - the number of nodes in the chain.
+     * @param successor - the node that will follow the chain, or null to append.
+     * @param index - the index the first node of the chain will have.
+     */
+    private void linkChainBefore(LinkedListNode<E> first, LinkedListNode<E> last, int count,
+                                 LinkedListNode<E> successor, int index) {
+        LinkedListNode<E> previous = (successor == null) ? _tail : successor.getPrevious();
+        first.setPrevious(previous);
+        last.setNext(successor);
+        if (previous == null) {
+            _head = first;
+        }
+        else {
+            previous.setNext(first);
+        }
+        if (successor == null) {
+            _tail = last;
+        }
+        else {
+            successor.setPrevious(last);
+        }
+        if (_valueIndex != null) {
+            for (LinkedListNode<E> node = first; node != successor; node = node.getNext()) {
+                indexNode(node);
+            }
+        }
+        if (_metrics != null) {
+            _metrics.recordOperations(LinkedListMetrics.Operation.INSERT, count);
+        }
+        _size += count;
+        _modCount++;
+        if (_finger != null && index <= _fingerIndex) {
+            _fingerIndex += count;
+        }
+        if (_changeFeed != null) {
+            int position = index;
+            for (LinkedListNode<E> node = first; node != successor; node = node.getNext()) {
+                _changeFeed.record(ListChange.Type.ADD, position++, node.getValue());
+            }
+        }
+    }
+
+
+    /**
+     * Unlinks the specified node from this list and returns its value.
+     *
+     * The neighbours of the node are linked to each other, and the head or tail
+     * moves if the node was at either end.
+     * No traversal is performed, so this runs in constant time.
+     * If the node is the finger, the finger moves to a neighbour;
+     * otherwise the index of the finger is shifted if the node was before it.
+     * If the index of the node is not known, the finger is dropped instead.
+     * The node is returned to the pool if this list keeps one. While this list is shared
+     * with a snapshot, only the head may be unlinked; it is left intact for the snapshot,
+     * except that its previous reference is pointed at itself to mark it as removed.
+     *
+     * @param node - the node to be removed.
+     * @param index - the index of the node to be removed, or -1 if it is not known.
+     * @return the element held by the removed node.
+     */
+    private E unlink(LinkedListNode<E> node, int index) {
+        LinkedListNode<E> nextNode = node.getNext();
+        LinkedListNode<E> previousNode = node.getPrevious();
+        E element = node.getValue();
+        if (_metrics != null) {
+            _metrics.recordOperation(LinkedListMetrics.Operation.REMOVE);
+        }
+        int position = (_changeFeed != null && index == NOT_FOUND) ? positionOf(node) : index;
+
+        if (index == NOT_FOUND) {
+            _finger = null;
+            _fingerIndex = NOT_FOUND;
+        }
+        else if (node == _finger) {
+            if (nextNode != null) {
+                _finger = nextNode;
+            }
+            else if (previousNode != null) {
+                _finger = previousNode;
+                _fingerIndex--;
+            }
+            else {
+                _finger = null;
+                _fingerIndex = NOT_FOUND;
+            }
+        }
+        else if (_finger != null && index < _fingerIndex) {
+            _fingerIndex--;
+        }
+
+        if (_valueIndex != null) {
+            unindexNode(node);
+        }
+        if (nextNode == null) {
+            _tail = previousNode;
+        }
+        else {
+            nextNode.setPrevious(previousNode);
+        }
+        if (previousNode == null) {
+            _head = nextNode;
+        }
+        else {
+            previousNode.setNext(nextNode);
+        }
+        if (!_shared) {
+            node.setNext(null);
+            node.setPrevious(null);
+            node.setValue(null);
+            if (_poolSize < _poolCapacity) {
+                recycle(node);
+            }
+        }
+        else {
+            node.setPrevious(node);
+        }
+        _size--;
+        _modCount++;
+        if (_changeFeed != null) {
+            _changeFeed.record(ListChange.Type.REMOVE, position, element);
+        }
+        return element;
+    }
+
+
+    /**
+     * Removes the specified node, read from a snapshot of this list, if it is still in this list.
+     *
+     * Each time this list copies its nodes away from a snapshot, the previous reference of every
+     * old node is pointed at its copy, so the node is followed to its copy in the current generation.
+     * A node removed while it was shared points at itself instead, and a node removed while it was
+     * not shared has no previous reference, so either ends the search. If the nodes of the snapshot
+     * were all detached by clear or splice, nothing is followed. The node that is found is
+     * removed only if it still holds the same element and is still linked into this list,
+     * so an equal element, or even the same instance held by another node, is never removed in its place.
+     * The nodes of a list with a pool may be reused, so this is meant for lists without one.
+     *
+     * @param node - a node read from a snapshot of this list.
+     * @param generation - the generation of the nodes of the snapshot.
+     * @return true if an element was removed.
+     */
+    boolean removeSnapshotNode(LinkedListNode<E> node, int generation) {
+        LinkedListNode<E> currentNode = (generation <= _detachedGeneration) ? null : node;
+        for (int i = generation; currentNode != null && i < _generation; i++) {
+            LinkedListNode<E> copy = currentNode.getPrevious();
+            currentNode = (copy == currentNode) ? null : copy;
+        }
+        boolean removed = currentNode != null && currentNode.getValue() == node.getValue() && isLinked(currentNode);
+        if (removed) {
+            unlinkNode(currentNode);
+        }
+        return removed;
+    }
+
+
+    /**
+     * Returns true if the specified node of the current generation is linked into this list.
+     *
+     * @param node - a node of the current generation.
+     * @return true if the node is the head or its previous node links to it.
+     */
+    private boolean isLinked(LinkedListNode<E> node) {
+        LinkedListNode<E> previousNode = node.getPrevious();
+        return (previousNode == null) ? node == _head : previousNode != node && previousNode.getNext() == node;
+    }
+
+
+    /**
+     * Unlinks the specified node of this list without knowing its index.
+     *
+     * The node is unlinked in constant time unless this list shares its nodes with a snapshot
+     * and the node is not the head; then its index is found and the chain is copied first.
+     *
+     * @param node - a node of this list.
+     */
+    private void unlinkNode(LinkedListNode<E> node) {
+        if (_shared && node != _head) {
+            int index = positionOf(node);
+            unlink(ownNode(node, index), index);
+        }
+        else {
+            unlink(node, NOT_FOUND);
+        }
+    }
+
+
+    /**
+     * Empties this list without touching its nodes.
+     *
+     * The head and tail are set to null and the value index is emptied, so the nodes
+     * may be relinked into another list or left to be garbage collected.
+     * The generation moves on and the old one is recorded as detached,
+     * since no node of it or of an earlier generation is a node of this list any more.
+     */
+    private void detachAll() {
+        boolean wasEmpty = isEmpty();
+        if (_valueIndex != null) {
+            _valueIndex.clear();
+        }
+        _detachedGeneration = _generation;
+        _generation++;
+        _shared = false;
+        _head = null;
+        _tail = null;
+        _size = EMPTY;
+        _modCount++;
+        _finger = null;
+        _fingerIndex = NOT_FOUND;
+        if (_changeFeed != null && !wasEmpty) {
+            _changeFeed.record(ListChange.Type.CLEAR, NOT_FOUND, null);
+        }
+    }
+
+
+    /**
+     * Gives this list nodes of its own if it shares its nodes with a snapshot.
+     *
+     * Copies the chain of nodes in a single pass and moves the finger and the value index
+     * to the copies. The old nodes keep their values and next references for the snapshots,
+     * which never read previous references, so each old node's previous reference is pointed
+     * at its copy for removeSnapshotNode to follow. Iterators notice the new generation
+     * of nodes and find their positions again by index.
+     */
+    private void unshare() {
+        if (_shared) {
+            LinkedListNode<E> first = null;
+            LinkedListNode<E> last = null;
+            for (LinkedListNode<E> node = _head; node != null; node = node.getNext()) {
+                LinkedListNode<E> copy = newNode(node.getValue(), last, null);
+                if (last == null) {
+                    first = copy;
+                }
+                else {
+                    last.setNext(copy);
+                }
+                if (node == _finger) {
+                    _finger = copy;
+                }
+                node.setPrevious(copy);
+                last = copy;
+            }
+            _head = first;
+            _tail = last;
+            _shared = false;
+            _generation++;
+            if (_valueIndex != null) {
+                _valueIndex.clear();
+                for (LinkedListNode<E> node = _head; node != null; node = node.getNext()) {
+                    indexNode(node);
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Returns the node of this list at the position of the specified node, ready to be unlinked.
+     *
+     * If this list shares its nodes with a snapshot, the chain is copied and the copy
+     * at the same index is returned. The head is returned as it is, since unlink
+     * can remove it while the nodes are shared.
+     *
+     * @param node - a node of this list.
+     * @param index - the index of the node.
+     * @return the node at the index in the chain this list owns.
+     */
+    private LinkedListNode<E> ownNode(LinkedListNode<E> node, int index) {
+        LinkedListNode<E> ownNode = node;
+        if (_shared && node != _head) {
+            unshare();
+            ownNode = traverse(index);
+        }
+        return ownNode;
+    }
+
+
+    /**
+     * Replaces the value of the specified node, keeping the value index up to date.
+     *
+     * @param node - a node of this list.
+     * @param element - the new value of the node.
+     * @param index - the index of the node.
+     */
+    private void replaceValue(LinkedListNode<E> node, E element, int index) {
+        if (_valueIndex != null) {
+            unindexNode(node);
+        }
+        node.setValue(element);
+        if (_valueIndex != null) {
+            indexNode(node);
+        }
+        if (_changeFeed != null) {
+            _changeFeed.record(ListChange.Type.SET, index, element);
+        }
+    }
+
+
+    /**
+     * Adds the specified node to the value index under its value.
+     *
+     * The first node holding a value is stored in the index directly; once a second node
+     * holds an equal value, the entry becomes a list of all of those nodes.
+     *
+     * @param node - a node of this list that is not yet in the value index.
+     */
+    @SuppressWarnings("unchecked")
+    private void indexNode(LinkedListNode<E> node) {
+        Object entry = _valueIndex.get(node.getValue());
+        if (entry == null) {
+            _valueIndex.put(node.getValue(), node);
+        }
+        else if (entry instanceof LinkedListNode) {
+            ArrayList<LinkedListNode<E>> nodes = new ArrayList<>(2);
+            nodes.add((LinkedListNode<E>) entry);
+            nodes.add(node);
+            _valueIndex.put(node.getValue(), nodes);
+        }
+        else {
+            ((ArrayList<LinkedListNode<E>>) entry).add(node);
+        }
+    }
+
+
+    /**
+     * Removes the specified node from the value index.
+     *
+     * When only one node is left holding the value, the entry goes back to referring to that node directly.
+     *
+     * @param node - a node of this list that is in the value index.
+     */
+    @SuppressWarnings("unchecked")
+    private void unindexNode(LinkedListNode<E> node) {
+        Object entry = _valueIndex.get(node.getValue());
+        if (entry == node) {
+            _valueIndex.remove(node.getValue());
+        }
+        else {
+            ArrayList<LinkedListNode<E>> nodes = (ArrayList<LinkedListNode<E>>) entry;
+            nodes.remove(node);
+            if (nodes.size() == 1) {
+                _valueIndex.put(node.getValue(), nodes.get(0));
+            }
+        }
+    }
+
+
+    /**
+     * Publishes a SET of every index to the change feed after the elements were reordered.
+     */
+    private void recordReorder() {
+        int index = EMPTY;
+        for (LinkedListNode<E> node = _head; node != null; node = node.getNext()) {
+            _changeFeed.record(ListChange.Type.SET, index++, node.getValue());
+        }
+    }
+
+
+    /**
+     * Returns the index of the specified node by walking from the head.
+     *
+     * @param node - a node of this list.
+     * @return the index of the node.
+     */
+    private int positionOf(LinkedListNode<E> node) {
+        int index = EMPTY;
+        for (LinkedListNode<E> currentNode = _head; currentNode != node; currentNode = currentNode.getNext()) {
+            index++;
+        }
+        return index;
+    }
+
+
+    /**
+     * Sets the previous references and the tail after the next references were sorted.
+     */
+    private void relinkChain() {
+        LinkedListNode<E> previousNode = null;
+        for (LinkedListNode<E> node = _head; node != null; node = node.getNext()) {
+            node.setPrevious(previousNode);
+            previousNode = node;
+        }
+        _tail = previousNode;
+    }
+
+
+    /**
+     * Puts the next references back into the original order after a sort failed.
+     *
+     * A sort only changes next references, so the previous references still hold the original order.
+     */
+    private void restoreChain() {
+        _tail.setNext(null);
+        LinkedListNode<E> node = _tail;
+        while (node.getPrevious() != null) {
+            node.getPrevious().setNext(node);
+            node = node.getPrevious();
+        }
+        _head = node;
+    }
+
+
+    /**
+     * Returns the specified comparator, or the natural ordering if it is null.
+     *
+     * @param comparator - a comparator, or null.
+     * @return a comparator that is not null.
+     */
+    @SuppressWarnings("unchecked")
+    private static <E> Comparator<? super E> ordering(Comparator<? super E> comparator) {
+        return (comparator == null) ? (Comparator<? super E>) Comparator.naturalOrder() : comparator;
+    }
+
+
+    /**
+     * Returns the first node of the specified chain after sorting it by its next references.
+     *
+     * Merges runs of one node into runs of two, then runs of two into runs of four, and so on
+     * until a single run is left. Previous references are not read or changed.
+     *
+     * @param first - the first node of a chain whose last next reference is null.
+     * @param count - the number of nodes in the chain.
+     * @param comparator - the comparator used to compare values.
+     * @return the first node of the sorted chain.
+     */
+    private static <E> LinkedListNode<E> sortChain(LinkedListNode<E> first, int count,
+                                                   Comparator<? super E> comparator) {
+        LinkedListNode<E> anchor = new LinkedListNode<>();
+        anchor.setNext(first);
+        boolean sorted = count < 2;
+        int width = 1;
+        while (!sorted) {
+            LinkedListNode<E> remaining = anchor.getNext();
+            LinkedListNode<E> tail = anchor;
+            int runs = EMPTY;
+            while (remaining != null) {
+                LinkedListNode<E> left = remaining;
+                LinkedListNode<E> right = cutChain(left, width);
+                remaining = cutChain(right, width);
+                tail = mergeChains(tail, left, right, comparator);
+                runs++;
+            }
+            sorted = runs <= 1;
+            width = (width > count / 2) ? count : width * 2;
+        }
+        return anchor.getNext();
+    }
+
+
+    /**
+     * Cuts the specified chain after the specified number of nodes.
+     *
+     * @param first - the first node of a chain, or null.
+     * @param count - the number of nodes to keep in the chain.
+     * @return the first node after the cut, or null if the chain was no longer than count.
+     */
+    private static <E> LinkedListNode<E> cutChain(LinkedListNode<E> first, int count) {
+        LinkedListNode<E> rest = null;
+        if (first != null) {
+            LinkedListNode<E> last = first;
+            for (int i = 1; i < count && last.getNext() != null; i++) {
+                last = last.getNext();
+            }
+            rest = last.getNext();
+            last.setNext(null);
+        }
+        return rest;
+    }
+
+
+    /**
+     * Merges two sorted chains after the specified node and returns the last node of the merged chain.
+     *
+     * Takes from the left chain when values are equal, which keeps the merge stable.
+     *
+     * @param tail - the node to link the merged chain after.
+     * @param left - the first node of the earlier chain, or null.
+     * @param right - the first node of the later chain, or null.
+     * @param comparator - the comparator used to compare values.
+     * @return the last node of the merged chain.
+     */
+    private static <E> LinkedListNode<E> mergeChains(LinkedListNode<E> tail, LinkedListNode<E> left,
+                                                     LinkedListNode<E> right, Comparator<? super E> comparator) {
+        LinkedListNode<E> last = tail;
+        while (left != null && right != null) {
+            if (comparator.compare(right.getValue(), left.getValue()) < 0) {
+                last.setNext(right);
+                right = right.getNext();
+            }
+            else {
+                last.setNext(left);
+                left = left.getNext();
+            }
+            last = last.getNext();
+        }
+        last.setNext((left != null) ? left : right);
+        while (last.getNext() != null) {
+            last = last.getNext();
+        }
+        return last;
+    }
+
+
+    /**
+     * Returns a node holding the specified element and references.
+     *
+     * Takes a node from the pool if one is available, and allocates a new node otherwise.
+     *
+     * @param element - the value of the node.
+     * @param previous - the preceding node, or null.
+     * @param next - the succeeding node, or null.
+     * @return a node holding the element and references.
+     */
+    private LinkedListNode<E> newNode(E element, LinkedListNode<E> previous, LinkedListNode<E> next) {
+        LinkedListNode<E> node;
+        if (_pool == null) {
+            node = new LinkedListNode<>(element, previous, next);
+            if (_metrics != null) {
+                _metrics.recordNodeAllocation();
+            }
+        }
+        else {
+            if (_metrics != null) {
+                _metrics.recordPoolReuse();
+            }
+            node = _pool;
+            _pool = node.getNext();
+            _poolSize--;
+            node.setValue(element);
+            node.setPrevious(previous);
+            node.setNext(next);
+        }
+        return node;
+    }
+
+
+    /**
+     * Returns the specified node to the pool.
+     *
+     * The node releases its value and its previous reference,
+     * and its next reference links it to the rest of the pool.
+     *
+     * @param node - a node that is no longer part of this list.
+     */
+    private void recycle(LinkedListNode<E> node) {
+        node.setValue(null);
+        node.setPrevious(null);
+        node.setNext(_pool);
+        _pool = node;
+        _poolSize++;
+    }
+
+
+    /**
+     * This nested class describes the nodes of which a LinkedList consists of.
+     * It is static, so a node holds no hidden reference to its list and consists
+     * of an object header and three references: 24 bytes with compressed references.
+     * Each node has a value of type E as well as a reference to the LinkedListNode
+     * preceding this node and the node succeeding this node in the list.
+     * The class is package-private so that LinkedCache can build its recency chains from the same nodes.
+     * @param <E> - the type of value this node contains.
+     */
+    static class LinkedListNode<E> {
+        private E _value;
+        private LinkedListNode<E> _prev;
+        private LinkedListNode<E> _next;
+
+
+        /**
+         * Creates an instance of a LinkedListNode.
+         *
+         * Creates an empty instance of a LinkedListNode of type E.
+         * The value of this node is an element E and the node
+         * contains references to the next and previous nodes in the list.
+         * The value and references are set to null.
+         */
+        LinkedListNode() {
+            _value = null;
+            _prev = null;
+            _next = null;
+        }
+
+        /**
+         * Creates an instance of a LinkedListNode.
+         *
+         * Creates an instance of a LinkedListNode of type E.
+         * The value of this node is an element E.
+         * The node contains references to the next and previous nodes in the list.
+         * The value is specified and the references are set to null.
+         *
+         * @param value - the specified value of this node.
+         */
+        LinkedListNode(E value) {
+            _value = value;
+            _prev = null;
+            _next = null;
+        }
+
+
+        /**
+         * Creates an instance of a LinkedListNode.
+         *
+         * Creates an instance of a LinkedListNode of type E.
+         * The value of this node is an element E.
+         * The node contains references to the next and previous nodes in the list.
+         * The value and references are specified in the parameters.
+         *
+         * @param value - the specified value of this node.
+         * @param prev - a reference to the preceding node in this list.
+         * @param next - a reference to the succeeding node in this list.
+         */
+        LinkedListNode(E value, LinkedListNode<E> prev, LinkedListNode<E> next) {
+            _value = value;
+            _prev = prev;
+            _next = next;
+        }
+
+
+        /**
+         * Returns the value of this node.
+         *
+         * Returns the value of type E for this node.
+         *
+         * @return - the value of this node.
+         */
+        public E getValue() {
+            return _value;
+        }
+
+
+        /**
+         * Returns the previous node in this list.
+         *
+         * Returns a reference to the node preceding this node
+         * in this LinkedList.
+         *
+         * @return the previous node in this list.
+         */
+        public LinkedListNode<E> getPrevious() {
+            return _prev;
+        }
+
+
+        /**
+         * Returns the next node in this list.
+         *
+         * Returns a reference to the node succeeding this node
+         * in this LinkedList.
+         *
+         * @return the next node in this list.
+         */
+        public LinkedListNode<E> getNext() {
+            return _next;
+        }
+
+
+        /**
+         * Sets the value of this list to the specified value.
+         *
+         * @param value - the specified value to set this node's value to.
+         */
+        public void setValue(E value) {
+            _value = value;
+        }
+
+
+        /**
+         * Sets this node's reference to the preceding node to the specified reference.
+         *
+         * @param prev - a reference to a preceding node in this list.
+         */
+        public void setPrevious(LinkedListNode<E> prev) {
+            _prev = prev;
+        }
+
+
+        /**
+         * Sets this node's reference to the succeeding node to the specified reference.
+         *
+         * @param next - a reference to a succeeding node in this list.
+         */
+        public void setNext(LinkedListNode<E> next) {
+            _next = next;
+        }
+    }
+
+
+    /**
+     * LinkedListIterator is an inner class of LinkedList
+     * and an implementation of the ListIterator interface.
+     *
+     * This ListIterator supports both forward and reverse iteration.
+     * The iterator holds a reference to the node it will return next,
+     * so each step follows a single link instead of traversing from the head.
+     * Elements can be added, removed and replaced at the position of the
+     * iterator in constant time.
+     * If this list is structurally modified other than through this iterator,
+     * the position of the iterator is resolved again from its index on the next move.
+     * The class and constructor are private so that
+     * the iterator can only be created from an existing
+     * LinkedList.
+     */
+    private class LinkedListIterator implements ListIterator<E> {
+
+        private LinkedListNode<E> _next;
+        private LinkedListNode<E> _lastReturned;
+        private int _nextIndex;
+        private int _expectedModCount;
+        private int _expectedGeneration;
+
+
+        /**
+         * Creates an instance of a LinkedListIterator.
+         *
+         * This constructor is automatically called when the iterator()
+         * or listIterator() methods of the LinkedList class are used to create an iterator.
+         * The initial position is directly before the element at the specified index,
+         * or after the tail if the index is equal to the size of the list.
+         *
+         * @param index - index of the first element to be returned by next().
+         */
+        private LinkedListIterator(int index) {
+            _nextIndex = index;
+            if (_metrics != null && index != size()) {
+                _metrics.recordIteratorSeek();
+            }
+            _next = (index == size()) ? null : traverse(index);
+            _lastReturned = null;
+            _expectedModCount = _modCount;
+            _expectedGeneration = _generation;
+        }
+
+
+        /**
+         * Returns true if the iteration has more elements when moving forwards.
+         *
+         * Returns true if next() would return the next element in a list
+         * rather than throwing an exception.
+         *
+         * @return true if the iteration has more elements.
+         */
+        public boolean hasNext() {
+            return _nextIndex < size();
+        }
+
+
+        /**
+         * Returns the next element in the iteration.
+         *
+         * Returns the next element of the list being iterated over
+         * and moves the iterator one node towards the tail.
+         * A NoSuchElementException is thrown if this method is called
+         * on a list with no more elements to iterate over.
+         *
+         * @return the next element in the iteration.
+         * @throws NoSuchElementException if the iteration has no more elements.
+         */
+        public E next() {
+            synchronize();
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            _lastReturned = _next;
+            _next = _next.getNext();
+            _nextIndex++;
+            return _lastReturned.getValue();
+        }
+
+
+        /**
+         * Returns true if the iteration has more elements when moving backwards.
+         *
+         * Returns true if previous() would return the previous element in a list
+         * rather than throwing an exception.
+         *
+         * @return true if the iteration has more elements in the reverse direction.
+         */
+        public boolean hasPrevious() {
+            return _nextIndex > EMPTY;
+        }
+
+
+        /**
+         * Returns the previous element in the iteration.
+         *
+         * Returns the previous element of the list being iterated over
+         * and moves the iterator one node towards the head.
+         * A NoSuchElementException is thrown if this method is called
+         * when the iterator is already at the head of the list.
+         *
+         * @return the previous element in the iteration.
+         * @throws NoSuchElementException if the iteration has no previous element.
+         */
+        public E previous() {
+            synchronize();
+            if (!hasPrevious()) {
+                throw new NoSuchElementException();
+            }
+            _next = (_next == null) ? _tail : _next.getPrevious();
+            _lastReturned = _next;
+            _nextIndex--;
+            return _lastReturned.getValue();
+        }
+
+
+        /**
+         * Returns the index of the element that would be returned by next().
+         *
+         * @return the index of the next element, or the size of the list if at the end.
+         */
+        public int nextIndex() {
+            return _nextIndex;
+        }
+
+
+        /**
+         * Returns the index of the element that would be returned by previous().
+         *
+         * @return the index of the previous element, or -1 if at the head of the list.
+         */
+        public int previousIndex() {
+            return _nextIndex - 1;
+        }
+
+
+        /**
+         * Removes the element last returned by next() or previous() from the list.
+         *
+         * The node is unlinked from its neighbours in constant time.
+         * An error is thrown if no element has been returned since the last
+         * call to add() or remove().
+         *
+         * @throws IllegalStateException if neither next() nor previous() have been called,
+         * or if remove() or add() have been called after the last call to next() or previous().
+         */
+        public void remove() {
+            unshare();
+            synchronize();
+            if (_lastReturned == null) {
+                throw new IllegalStateException();
+            }
+            LinkedListNode<E> lastNext = _lastReturned.getNext();
+            if (_next == _lastReturned) {
+                _next = lastNext;
+            }
+            else {
+                _nextIndex--;
+            }
+            unlink(_lastReturned, _nextIndex);
+            _lastReturned = null;
+            _expectedModCount = _modCount;
+        }
+
+
+        /**
+         * Replaces the element last returned by next() or previous() with the specified element.
+         *
+         * @param element - element with which to replace the last returned element.
+         * @throws IllegalStateException if neither next() nor previous() have been called,
+         * or if remove() or add() have been called after the last call to next() or previous().
+         */
+        public void set(E element) {
+            unshare();
+            synchronize();
+            if (_lastReturned == null) {
+                throw new IllegalStateException();
+            }
+            replaceValue(_lastReturned, element, (_next == _lastReturned) ? _nextIndex : _nextIndex - 1);
+        }
+
+
+        /**
+         * Inserts the specified element into the list at the position of this iterator.
+         *
+         * The element is inserted before the element that would be returned by next(),
+         * so a subsequent call to next() is unaffected and a call to previous()
+         * returns the new element.
+         *
+         * @param element - element to be inserted.
+         */
+        public void add(E element) {
+            unshare();
+            synchronize();
+            linkBefore(element, _next, _nextIndex);
+            _nextIndex++;
+            _lastReturned = null;
+            _expectedModCount = _modCount;
+        }
+
+
+        /**
+         * Resolves the position of this iterator again if the list has been
+         * structurally modified other than through this iterator.
+         *
+         * The next node is found again by traversing to the index of this iterator,
+         * and the last returned node is forgotten since it may no longer be in the list.
+         * If the list only copied its nodes away from a snapshot, both nodes are found
+         * again at their indices, since every element kept its position.
+         */
+        private void synchronize() {
+            if (_expectedModCount != _modCount) {
+                if (_nextIndex > size()) {
+                    _nextIndex = size();
+                }
+                if (_metrics != null && _nextIndex != size()) {
+                    _metrics.recordIteratorSeek();
+                }
+                _next = (_nextIndex == size()) ? null : traverse(_nextIndex);
+                _lastReturned = null;
+                _expectedModCount = _modCount;
+            }
+            else if (_expectedGeneration != _generation) {
+                int lastIndex = NOT_FOUND;
+                if (_lastReturned != null) {
+                    lastIndex = (_lastReturned == _next) ? _nextIndex : _nextIndex - 1;
+                }
+                if (_metrics != null) {
+                    _metrics.recordIteratorSeek();
+                }
+                _next = (_nextIndex == size()) ? null : traverse(_nextIndex);
+                _lastReturned = (lastIndex == NOT_FOUND) ? null : traverse(lastIndex);
+            }
+            _expectedGeneration = _generation;
+        }
+    }
+
+
+    /**
+     * ReverseLinkedListIterator is an inner class of LinkedList
+     * and an implementation of the Iterator interface.
+     *
+     * This Iterator walks backwards from the tail of the list by following
+     * the previous references of a LinkedListIterator positioned at the end of the list.
+     */
+    private class ReverseLinkedListIterator implements Iterator<E> {
+
+        private ListIterator<E> _iterator;
+
+
+        /**
+         * Creates an instance of a ReverseLinkedListIterator.
+         *
+         * This constructor is automatically called when the reverseIterator()
+         * method of the LinkedList class is used to create an iterator.
+         * The initial position is after the last element of the list.
+         */
+        private ReverseLinkedListIterator() {
+            _iterator = new LinkedListIterator(size());
+        }
+
+
+        /**
+         * Returns true if the iteration has more elements.
+         *
+         * @return true if the iteration has more elements.
+         */
+        public boolean hasNext() {
+            return _iterator.hasPrevious();
+        }
+
+
+        /**
+         * Returns the next element in the iteration, moving towards the head.
+         *
+         * @return the next element in the iteration.
+         * @throws NoSuchElementException if the iteration has no more elements.
+         */
+        public E next() {
+            return _iterator.previous();
+        }
+
+
+        /**
+         * Removes the element last returned by next() from the list.
+         *
+         * @throws IllegalStateException if next() has not been called,
+         * or if remove() has already been called after the last call to next().
+         */
+        public void remove() {
+            _iterator.remove();
+        }
+    }
+
+
+    /**
+     * This inner class describes a Spliterator over a run of consecutive nodes of a LinkedList.
+     *
+     * The run is given by its first node and its length, and the Spliterator
+     * follows node references to move through it.
+     */
+    private class LinkedListSpliterator implements Spliterator<E> {
+
+        private LinkedListNode<E> _current;
+        private int _remaining;
+        private final int _expectedModCount;
+
+
+        /**
+         * Creates an instance of a LinkedListSpliterator.
+         *
+         * @param first - the first node of the run.
+         * @param length - the number of nodes in the run.
+         * @param expectedModCount - the modification count of the list when the run was taken.
+         */
+        private LinkedListSpliterator(LinkedListNode<E> first, int length, int expectedModCount) {
+            _current = first;
+            _remaining = length;
+            _expectedModCount = expectedModCount;
+        }
+
+
+        /**
+         * Performs the given action on the next element, if there is one.
+         *
+         * @param action - the action to perform.
+         * @return false if no elements remained, true otherwise.
+         * @throws ConcurrentModificationException if the list was structurally modified.
+         */
+        public boolean tryAdvance(Consumer<? super E> action) {
+            boolean advanced = false;
+            if (_remaining > EMPTY) {
+                checkForComodification();
+                E element = _current.getValue();
+                _current = _current.getNext();
+                _remaining--;
+                action.accept(element);
+                advanced = true;
+            }
+            return advanced;
+        }
+
+
+        /**
+         * Performs the given action on each remaining element.
+         *
+         * @param action - the action to perform.
+         * @throws ConcurrentModificationException if the list was structurally modified.
+         */
+        public void forEachRemaining(Consumer<? super E> action) {
+            LinkedListNode<E> currentNode = _current;
+            int remaining = _remaining;
+            _current = null;
+            _remaining = EMPTY;
+            for (int i = 0; i < remaining; i++) {
+                action.accept(currentNode.getValue());
+                currentNode = currentNode.getNext();
+            }
+            checkForComodification();
+        }
+
+
+        /**
+         * Returns a Spliterator over the first half of the remaining elements.
+         *
+         * Walks to the middle of the run; this Spliterator keeps the second half.
+         *
+         * @return a Spliterator over the first half, or null if fewer than two elements remain.
+         * @throws ConcurrentModificationException if the list was structurally modified.
+         */
+        public Spliterator<E> trySplit() {
+            Spliterator<E> prefix = null;
+            if (_remaining > 1) {
+                checkForComodification();
+                int half = _remaining / 2;
+                LinkedListNode<E> first = _current;
+                for (int i = 0; i < half; i++) {
+                    _current = _current.getNext();
+                }
+                _remaining -= half;
+                prefix = new LinkedListSpliterator(first, half, _expectedModCount);
+            }
+            return prefix;
+        }
+
+
+        /**
+         * Returns the exact number of elements this Spliterator has left.
+         *
+         * @return the number of remaining elements.
+         */
+        public long estimateSize() {
+            return _remaining;
+        }
+
+
+        /**
+         * Returns the characteristics of this Spliterator.
+         *
+         * @return SIZED, SUBSIZED and ORDERED.
+         */
+        public int characteristics() {
+            return Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.ORDERED;
+        }
+
+
+        /**
+         * Throws an exception if the list was structurally modified since the run was taken.
+         *
+         * @throws ConcurrentModificationException if the list was structurally modified.
+         */
+        private void checkForComodification() {
+            if (_modCount != _expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+
+
+    /**
+     * This nested class describes an immutable view of a LinkedList at one moment.
+     *
+     * A snapshot holds the first node and the size of the list when it was taken,
+     * and reads the nodes it shares with the list by following their next references.
+     * The list never changes the values or next references of those nodes while the snapshot may still read them.
+     *
+     * @param <E> - the type of elements held in the snapshot.
+     */
+    public static final class Snapshot<E> implements Iterable<E> {
+
+        private final LinkedListNode<E> _first;
+        private final int _size;
+        private final int _generation;
+
+
+        /**
+         * Creates an instance of a Snapshot.
+         *
+         * @param first - the first node of the list, or null if the list is empty.
+         * @param size - the number of elements in the list.
+         * @param generation - the generation of the nodes of the list.
+         */
+        private Snapshot(LinkedListNode<E> first, int size, int generation) {
+            _first = first;
+            _size = size;
+            _generation = generation;
+        }
+
+
+        /**
+         * Returns the first node of this snapshot, so that BlockingLinkedList can remove
+         * the nodes its iterators return with removeSnapshotNode.
+         *
+         * @return the first node, or null if this snapshot is empty.
+         */
+        LinkedListNode<E> firstNode() {
+            return _first;
+        }
+
+
+        /**
+         * Returns the generation of the nodes of the list when this snapshot was taken.
+         *
+         * @return the generation of the nodes of this snapshot.
+         */
+        int generation() {
+            return _generation;
+        }
+
+
+        /**
+         * Returns the element at the specified position in this snapshot.
+         *
+         * Traverses forwards from the first element.
+         *
+         * @param index - index of the element to return.
+         * @return the element at the specified position in this snapshot.
+         * @throws IndexOutOfBoundsException - if the index is out of range
+         * (index < 0 || index >= size()).
+         */
+        public E get(int index) {
+            if (index < 0 || index >= _size) {
+                throw new IndexOutOfBoundsException();
+            }
+            LinkedListNode<E> currentNode = _first;
+            for (int i = 0; i < index; i++) {
+                currentNode = currentNode.getNext();
+            }
+            return currentNode.getValue();
+        }
+
+
+        /**
+         * Returns true if this snapshot contains no elements.
+         *
+         * @return true if this snapshot contains no elements.
+         */
+        public boolean isEmpty() {
+            return _size == EMPTY;
+        }
+
+
+        /**
+         * Returns the number of elements in this snapshot.
+         *
+         * @return the number of elements in this snapshot.
+         */
+        public int size() {
+            return _size;
+        }
+
+
+        /**
+         * Returns an iterator over the elements in this snapshot from first to last.
+         *
+         * The iterator does not support removal.
+         *
+         * @return an Iterator over the elements in this snapshot.
+         */
+        public Iterator<E> iterator() {
+            return new Iterator<E>() {
+                private LinkedListNode<E> _next = _first;
+                private int _remaining = _size;
+
+                public boolean hasNext() {
+                    return _remaining > EMPTY;
+                }
+
+                public E next() {
+                    if (_remaining <= EMPTY) {
+                        throw new NoSuchElementException();
+                    }
+                    E element = _next.getValue();
+                    _remaining--;
+                    if (_remaining > EMPTY) {
+                        _next = _next.getNext();
+                    }
+                    return element;
+                }
+            };
+        }
+
+
+        /**
+         * Returns a sequential Stream over the elements in this snapshot.
+         *
+         * @return a Stream over the elements in this snapshot.
+         */
+        public Stream<E> stream() {
+            return StreamSupport.stream(Spliterators.spliterator(iterator(), _size,
+                    Spliterator.ORDERED | Spliterator.IMMUTABLE), false);
+        }
+    }
+
+
+    /**
+     * This inner class describes a live view of a range of a LinkedList.
+     *
+     * The view holds the node at the start of the range, the index of that node and the
+     * size of the range. It inherits the List methods of AbstractSequentialList, which all
+     * work through SubListIterator.
+     */
+    private class SubList extends AbstractSequentialList<E> {
+
+        private final int _offset;
+        private int _size;
+        private LinkedListNode<E> _first;
+        private int _expectedModCount;
+        private int _expectedGeneration;
+
+
+        /**
+         * Creates an instance of a SubList.
+         *
+         * @param offset - the index in the list of the first element of the view.
+         * @param size - the number of elements in the view.
+         */
+        private SubList(int offset, int size) {
+            _offset = offset;
+            _size = size;
+            _first = (offset == LinkedList.this.size()) ? null : traverse(offset);
+            _expectedModCount = _modCount;
+            _expectedGeneration = _generation;
+        }
+
+
+        /**
+         * Returns the number of elements in this view.
+         *
+         * @return the number of elements in this view.
+         * @throws ConcurrentModificationException if the list was structurally modified outside this view.
+         */
+        public int size() {
+            checkForComodification();
+            return _size;
+        }
+
+
+        /**
+         * Returns a list iterator over the elements in this view, starting at the specified position.
+         *
+         * @param index - index in this view of the first element to be returned by next().
+         * @return a ListIterator over this view.
+         * @throws IndexOutOfBoundsException if the index is out of range (index < 0 || index > size()).
+         * @throws ConcurrentModificationException if the list was structurally modified outside this view.
+         */
+        public ListIterator<E> listIterator(int index) {
+            checkForComodification();
+            if (index < 0 || index > _size) {
+                throw new IndexOutOfBoundsException();
+            }
+            return new SubListIterator(this, index);
+        }
+
+
+        /**
+         * Throws an exception if the list was structurally modified outside this view,
+         * and finds the first node again if the list copied its nodes away from a snapshot.
+         *
+         * @throws ConcurrentModificationException if the list was structurally modified outside this view.
+         */
+        private void checkForComodification() {
+            if (_modCount != _expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (_generation != _expectedGeneration) {
+                _first = (_offset == LinkedList.this.size()) ? null : traverse(_offset);
+                _expectedGeneration = _generation;
+            }
+        }
+    }
+
+
+    /**
+     * This inner class describes a ListIterator over a SubList.
+     *
+     * The iterator holds the node it will return next and moves by following node references.
+     * Positions are kept relative to the view and translated to indices of the list
+     * only when the list is changed.
+     */
+    private class SubListIterator implements ListIterator<E> {
+
+        private final SubList _subList;
+        private LinkedListNode<E> _next;
+        private LinkedListNode<E> _lastReturned;
+        private int _nextIndex;
+        private int _expectedModCount;
+        private int _expectedGeneration;
+
+
+        /**
+         * Creates an instance of a SubListIterator.
+         *
+         * Walks from the first node of the view to the starting position.
+         *
+         * @param subList - the view to iterate over.
+         * @param index - index in the view of the first element to be returned by next().
+         */
+        private SubListIterator(SubList subList, int index) {
+            _subList = subList;
+            _nextIndex = index;
+            _next = nodeAt(index);
+            _lastReturned = null;
+            _expectedModCount = _modCount;
+            _expectedGeneration = _generation;
+        }
+
+
+        /**
+         * Returns true if the view has more elements when moving forwards.
+         *
+         * @return true if the iteration has more elements.
+         */
+        public boolean hasNext() {
+            return _nextIndex < _subList._size;
+        }
+
+
+        /**
+         * Returns the next element in the view.
+         *
+         * @return the next element in the view.
+         * @throws NoSuchElementException if the iteration has no more elements.
+         * @throws ConcurrentModificationException if the list was structurally modified outside this iterator.
+         */
+        public E next() {
+            checkForComodification();
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            _lastReturned = _next;
+            _next = _next.getNext();
+            _nextIndex++;
+            return _lastReturned.getValue();
+        }
+
+
+        /**
+         * Returns true if the view has more elements when moving backwards.
+         *
+         * @return true if the iteration has more elements in the reverse direction.
+         */
+        public boolean hasPrevious() {
+            return _nextIndex > 0;
+        }
+
+
+        /**
+         * Returns the previous element in the view.
+         *
+         * @return the previous element in the view.
+         * @throws NoSuchElementException if the iteration has no previous element.
+         * @throws ConcurrentModificationException if the list was structurally modified outside this iterator.
+         */
+        public E previous() {
+            checkForComodification();
+            if (!hasPrevious()) {
+                throw new NoSuchElementException();
+            }
+            _next = (_next == null) ? _tail : _next.getPrevious();
+            _lastReturned = _next;
+            _nextIndex--;
+            return _lastReturned.getValue();
+        }
+
+
+        /**
+         * Returns the index in the view of the element that would be returned by next().
+         *
+         * @return the index of the next element, or the size of the view if at the end.
+         */
+        public int nextIndex() {
+            return _nextIndex;
+        }
+
+
+        /**
+         * Returns the index in the view of the element that would be returned by previous().
+         *
+         * @return the index of the previous element, or -1 if at the start.
+         */
+        public int previousIndex() {
+            return _nextIndex - 1;
+        }
+
+
+        /**
+         * Removes the element last returned by next() or previous() from the view and the list.
+         *
+         * @throws IllegalStateException if neither next() nor previous() have been called,
+         * or if remove() or add() have been called after the last call to next() or previous().
+         * @throws ConcurrentModificationException if the list was structurally modified outside this iterator.
+         */
+        public void remove() {
+            unshare();
+            checkForComodification();
+            if (_lastReturned == null) {
+                throw new IllegalStateException();
+            }
+            LinkedListNode<E> lastNext = _lastReturned.getNext();
+            if (_next == _lastReturned) {
+                _next = lastNext;
+            }
+            else {
+                _nextIndex--;
+            }
+            if (_lastReturned == _subList._first) {
+                _subList._first = lastNext;
+            }
+            unlink(_lastReturned, _subList._offset + _nextIndex);
+            _subList._size--;
+            _lastReturned = null;
+            recordModification();
+        }
+
+
+        /**
+         * Replaces the element last returned by next() or previous() with the specified element.
+         *
+         * @param element - element with which to replace the last returned element.
+         * @throws IllegalStateException if neither next() nor previous() have been called,
+         * or if remove() or add() have been called after the last call to next() or previous().
+         * @throws ConcurrentModificationException if the list was structurally modified outside this iterator.
+         */
+        public void set(E element) {
+            unshare();
+            checkForComodification();
+            if (_lastReturned == null) {
+                throw new IllegalStateException();
+            }
+            int index = (_next == _lastReturned) ? _nextIndex : _nextIndex - 1;
+            replaceValue(_lastReturned, element, _subList._offset + index);
+        }
+
+
+        /**
+         * Inserts the specified element into the view and the list at the position of this iterator.
+         *
+         * @param element - element to be inserted.
+         * @throws ConcurrentModificationException if the list was structurally modified outside this iterator.
+         */
+        public void add(E element) {
+            unshare();
+            checkForComodification();
+            linkBefore(element, _next, _subList._offset + _nextIndex);
+            if (_nextIndex == 0) {
+                _subList._first = (_next == null) ? _tail : _next.getPrevious();
+            }
+            _nextIndex++;
+            _subList._size++;
+            _lastReturned = null;
+            recordModification();
+        }
+
+
+        /**
+         * Returns the node at the specified index of the view,
+         * or the node after the view if the index is equal to the size of the view.
+         *
+         * @param index - index in the view.
+         * @return the node at that position, or null if it is past the end of the list.
+         */
+        private LinkedListNode<E> nodeAt(int index) {
+            LinkedListNode<E> currentNode = _subList._first;
+            for (int i = 0; i < index; i++) {
+                currentNode = currentNode.getNext();
+            }
+            return currentNode;
+        }
+
+
+        /**
+         * Records a change made through this iterator as expected by this iterator and the view.
+         */
+        private void recordModification() {
+            _expectedModCount = _modCount;
+            _subList._expectedModCount = _modCount;
+        }
+
+
+        /**
+         * Throws an exception if the list was structurally modified other than through this iterator,
+         * and finds the nodes of this iterator again if the list copied its nodes away from a snapshot.
+         *
+         * @throws ConcurrentModificationException if the list was structurally modified outside this iterator.
+         */
+        private void checkForComodification() {
+            if (_modCount != _expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (_generation != _expectedGeneration) {
+                _subList.checkForComodification();
+                int lastIndex = NOT_FOUND;
+                if (_lastReturned != null) {
+                    lastIndex = (_lastReturned == _next) ? _nextIndex : _nextIndex - 1;
+                }
+                _next = nodeAt(_nextIndex);
+                _lastReturned = (lastIndex == NOT_FOUND) ? null : nodeAt(lastIndex);
+                _expectedGeneration = _generation;
+            }
+        }
+    }
+
+
+    /**
+     * This inner class describes a task that sorts a chain of nodes in a ForkJoinPool.
+     *
+     * A chain longer than the threshold is cut in half; the first half is sorted by a forked task
+     * while the second half is sorted by this one, and the halves are merged when both are done.
+     * Shorter chains are sorted with the sequential merge sort.
+     */
+    private static class SortTask<E> extends RecursiveTask<LinkedListNode<E>> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final LinkedListNode<E> _first;
+        private final int _count;
+        private final Comparator<? super E> _comparator;
+
+
+        /**
+         * Creates an instance of a SortTask.
+         *
+         * @param first - the first node of a chain whose last next reference is null.
+         * @param count - the number of nodes in the chain.
+         * @param comparator - the comparator used to compare values.
+         */
+        private SortTask(LinkedListNode<E> first, int count, Comparator<? super E> comparator) {
+            _first = first;
+            _count = count;
+            _comparator = comparator;
+        }
+
+
+        /**
+         * Sorts the chain of this task.
+         *
+         * Waits for the forked half even if sorting the other half fails,
+         * so no task is still changing nodes when the exception reaches the list.
+         *
+         * @return the first node of the sorted chain.
+         */
+        protected LinkedListNode<E> compute() {
+            LinkedListNode<E> first;
+            if (_count <= PARALLEL_SORT_THRESHOLD) {
+                first = sortChain(_first, _count, _comparator);
+            }
+            else {
+                int half = _count / 2;
+                LinkedListNode<E> second = cutChain(_first, half);
+                SortTask<E> leftTask = new SortTask<>(_first, half, _comparator);
+                leftTask.fork();
+                LinkedListNode<E> right;
+                try {
+                    right = new SortTask<>(second, _count - half, _comparator).compute();
+                }
+                catch (RuntimeException e) {
+                    leftTask.quietlyJoin();
+                    throw e;
+                }
+                LinkedListNode<E> left = leftTask.join();
+                LinkedListNode<E> anchor = new LinkedListNode<>();
+                mergeChains(anchor, left, right, _comparator);
+                first = anchor.getNext();
+            }
+            return first;
+        }
+    }
+}
@@ -0,0 +1,346 @@
+package linkedlist;
+
+import java.lang.management.ManagementFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+/**
+ * The LinkedListMetrics class describes counters of the work done inside a LinkedList.
+ *
+ * Metrics are opt-in: a list counts nothing until a LinkedListMetrics is attached with
+ * LinkedList.setMetrics, and a list without metrics pays a single null check on its hot paths.
+ * Once attached, the list counts its operations by type, the origin and the number of hops
+ * of every traversal, the traversals its iterators make to find their positions, and the nodes
+ * it allocates or takes from its pool. The counters are LongAdders, so one LinkedListMetrics
+ * may be shared by lists used in different threads.
+ *
+ * Traversals of at least a threshold of hops are counted as slow and are also reported to
+ * Java Flight Recorder as SlowTraversalEvents with the stack trace of the caller.
+ * The counters can be read with the getters, copied all at once with snapshot(),
+ * or published through JMX with registerMBean.
+ *
+ * @author ereimer18georgefox.edu
+ */
+public final class LinkedListMetrics implements LinkedListMetricsMXBean {
+
+    /**
+     * The types of operation counted by LinkedListMetrics.
+     */
+    public enum Operation {
+        GET, SET, INSERT, REMOVE, SEARCH, SORT
+    }
+
+
+    /**
+     * The places a traversal can start from.
+     */
+    public enum Origin {
+        HEAD, TAIL, FINGER
+    }
+
+
+    public static final int DEFAULT_SLOW_TRAVERSAL_HOPS = 4096;
+
+    private static final int HISTOGRAM_BUCKETS = Integer.SIZE;
+
+    private final LongAdder[] _operations;
+    private final LongAdder[] _origins;
+    private final LongAdder[] _hopHistogram;
+    private final LongAdder _totalHops;
+    private final LongAdder _iteratorSeeks;
+    private final LongAdder _nodeAllocations;
+    private final LongAdder _poolReuses;
+    private final LongAdder _slowTraversals;
+    private final int _slowTraversalHops;
+
+
+    /**
+     * Constructs an instance of LinkedListMetrics.
+     *
+     * Traversals of at least DEFAULT_SLOW_TRAVERSAL_HOPS hops are counted as slow.
+     */
+    public LinkedListMetrics() {
+        this(DEFAULT_SLOW_TRAVERSAL_HOPS);
+    }
+
+
+    /**
+     * Constructs an instance of LinkedListMetrics with the specified slow traversal threshold.
+     *
+     * @param slowTraversalHops - the number of hops at which a traversal is counted as slow.
+     * @throws IllegalArgumentException if the threshold is not positive.
+     */
+    public LinkedListMetrics(int slowTraversalHops) {
+        if (slowTraversalHops < 1) {
+            throw new IllegalArgumentException();
+        }
+        _operations = newCounters(Operation.values().length);
+        _origins = newCounters(Origin.values().length);
+        _hopHistogram = newCounters(HISTOGRAM_BUCKETS);
+        _totalHops = new LongAdder();
+        _iteratorSeeks = new LongAdder();
+        _nodeAllocations = new LongAdder();
+        _poolReuses = new LongAdder();
+        _slowTraversals = new LongAdder();
+        _slowTraversalHops = slowTraversalHops;
+    }
+
+
+    /**
+     * Returns the number of operations of the specified type.
+     *
+     * @param operation - the type of operation.
+     * @return the number of operations of that type.
+     */
+    public long getOperationCount(Operation operation) {
+        return _operations[operation.ordinal()].sum();
+    }
+
+
+    /**
+     * Returns the number of traversals that started from the specified origin.
+     *
+     * @param origin - the place a traversal starts from.
+     * @return the number of traversals from that origin.
+     */
+    public long getOriginCount(Origin origin) {
+        return _origins[origin.ordinal()].sum();
+    }
+
+
+    public Map<String, Long> getOperationCounts() {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (Operation operation : Operation.values()) {
+            counts.put(operation.name(), getOperationCount(operation));
+        }
+        return counts;
+    }
+
+
+    public Map<String, Long> getOriginCounts() {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (Origin origin : Origin.values()) {
+            counts.put(origin.name(), getOriginCount(origin));
+        }
+        return counts;
+    }
+
+
+    public long[] getHopHistogram() {
+        long[] histogram = new long[HISTOGRAM_BUCKETS];
+        for (int i = 0; i < HISTOGRAM_BUCKETS; i++) {
+            histogram[i] = _hopHistogram[i].sum();
+        }
+        return histogram;
+    }
+
+
+    public long getTraversals() {
+        long traversals = 0;
+        for (LongAdder origin : _origins) {
+            traversals += origin.sum();
+        }
+        return traversals;
+    }
+
+
+    public long getTotalHops() {
+        return _totalHops.sum();
+    }
+
+
+    public long getIteratorSeeks() {
+        return _iteratorSeeks.sum();
+    }
+
+
+    public long getNodeAllocations() {
+        return _nodeAllocations.sum();
+    }
+
+
+    public long getPoolReuses() {
+        return _poolReuses.sum();
+    }
+
+
+    public long getSlowTraversals() {
+        return _slowTraversals.sum();
+    }
+
+
+    public int getSlowTraversalHops() {
+        return _slowTraversalHops;
+    }
+
+
+    /**
+     * Returns a copy of every counter, keyed by name.
+     *
+     * Operations are keyed as "operation.GET", origins as "origin.HEAD" and histogram buckets
+     * as "hops.k"; the other counters are keyed by the names of their getters without "get".
+     * Counters still being updated by other threads are copied one at a time, so the copy
+     * is not an atomic view of all of them.
+     *
+     * @return a map from the name of each counter to its value, in a fixed order.
+     */
+    public Map<String, Long> snapshot() {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (Operation operation : Operation.values()) {
+            counts.put("operation." + operation.name(), getOperationCount(operation));
+        }
+        for (Origin origin : Origin.values()) {
+            counts.put("origin." + origin.name(), getOriginCount(origin));
+        }
+        long[] histogram = getHopHistogram();
+        for (int i = 0; i < histogram.length; i++) {
+            counts.put("hops." + i, histogram[i]);
+        }
+        counts.put("TotalHops", getTotalHops());
+        counts.put("IteratorSeeks", getIteratorSeeks());
+        counts.put("NodeAllocations", getNodeAllocations());
+        counts.put("PoolReuses", getPoolReuses());
+        counts.put("SlowTraversals", getSlowTraversals());
+        return counts;
+    }
+
+
+    public void reset() {
+        resetCounters(_operations);
+        resetCounters(_origins);
+        resetCounters(_hopHistogram);
+        _totalHops.reset();
+        _iteratorSeeks.reset();
+        _nodeAllocations.reset();
+        _poolReuses.reset();
+        _slowTraversals.reset();
+    }
+
+
+    /**
+     * Registers these metrics with the platform MBean server under the specified name.
+     *
+     * @param name - the JMX object name, such as "linkedlist:type=LinkedListMetrics,name=orders".
+     * @return the object name the metrics were registered under.
+     * @throws JMException if the name is malformed or already registered.
+     */
+    public ObjectName registerMBean(String name) throws JMException {
+        ObjectName objectName = new ObjectName(name);
+        ManagementFactory.getPlatformMBeanServer().registerMBean(this, objectName);
+        return objectName;
+    }
+
+
+    /**
+     * Returns the histogram bucket for the specified number of hops.
+     *
+     * @param hops - the number of hops of a traversal.
+     * @return 0 for no hops, or the number of bits needed to hold the hops.
+     */
+    static int bucket(int hops) {
+        return Integer.SIZE - Integer.numberOfLeadingZeros(hops);
+    }
+
+
+    /**
+     * Counts an operation of the specified type.
+     *
+     * @param operation - the type of operation.
+     */
+    void recordOperation(Operation operation) {
+        _operations[operation.ordinal()].increment();
+    }
+
+
+    /**
+     * Counts the specified number of operations of the specified type.
+     *
+     * @param operation - the type of operation.
+     * @param count - the number of operations.
+     */
+    void recordOperations(Operation operation, long count) {
+        _operations[operation.ordinal()].add(count);
+    }
+
+
+    /**
+     * Counts a traversal, and reports it to Flight Recorder if it was slow.
+     *
+     * @param origin - the place the traversal started from.
+     * @param hops - the number of nodes the traversal passed.
+     * @param index - the index the traversal went to.
+     * @param size - the size of the list.
+     * @param walkTime - the nanoseconds the traversal took.
+     */
+    void recordTraversal(Origin origin, int hops, int index, int size, long walkTime) {
+        _origins[origin.ordinal()].increment();
+        _hopHistogram[bucket(hops)].increment();
+        _totalHops.add(hops);
+        if (hops >= _slowTraversalHops) {
+            _slowTraversals.increment();
+            SlowTraversalEvent event = new SlowTraversalEvent();
+            if (event.isEnabled()) {
+                event.index = index;
+                event.size = size;
+                event.hops = hops;
+                event.origin = origin.name();
+                event.walkTime = walkTime;
+                event.commit();
+            }
+        }
+    }
+
+
+    /**
+     * Counts a traversal made by an iterator to find its position.
+     */
+    void recordIteratorSeek() {
+        _iteratorSeeks.increment();
+    }
+
+
+    /**
+     * Counts a node that was allocated.
+     */
+    void recordNodeAllocation() {
+        _nodeAllocations.increment();
+    }
+
+
+    /**
+     * Counts a node that was taken from a pool instead of allocated.
+     */
+    void recordPoolReuse() {
+        _poolReuses.increment();
+    }
+
+
+    /**
+     * Returns an array of new counters.
+     *
+     * @param count - the number of counters.
+     * @return an array of counters at zero.
+     */
+    private static LongAdder[] newCounters(int count) {
+        LongAdder[] counters = new LongAdder[count];
+        for (int i = 0; i < count; i++) {
+            counters[i] = new LongAdder();
+        }
+        return counters;
+    }
+
+
+    /**
+     * Sets each of the specified counters back to zero.
+     *
+     * @param counters - the counters to reset.
+     */
+    private static void resetCounters(LongAdder[] counters) {
+        for (LongAdder counter : counters) {
+            counter.reset();
+        }
+    }
+}
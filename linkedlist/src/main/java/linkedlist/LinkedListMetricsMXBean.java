@@ -0,0 +1,103 @@
+package linkedlist;
+
+import java.util.Map;
+
+/**
+ * The LinkedListMetricsMXBean interface describes the counters of a LinkedListMetrics as seen through JMX.
+ *
+ * Register a LinkedListMetrics with LinkedListMetrics.registerMBean to read these attributes
+ * from a JMX console such as JConsole or Mission Control.
+ *
+ * @author ereimer18georgefox.edu
+ */
+public interface LinkedListMetricsMXBean {
+
+    /**
+     * Returns the number of operations of each type, keyed by the name of the operation.
+     *
+     * @return the operation counts.
+     */
+    Map<String, Long> getOperationCounts();
+
+
+    /**
+     * Returns the number of traversals started from the head, the tail and the finger,
+     * keyed by the name of the origin.
+     *
+     * @return the traversal origin counts.
+     */
+    Map<String, Long> getOriginCounts();
+
+
+    /**
+     * Returns the histogram of hops per traversal.
+     *
+     * Bucket 0 counts traversals of no hops, and bucket k counts traversals of
+     * 2^(k-1) to 2^k - 1 hops.
+     *
+     * @return the number of traversals in each bucket.
+     */
+    long[] getHopHistogram();
+
+
+    /**
+     * Returns the number of traversals.
+     *
+     * @return the number of traversals.
+     */
+    long getTraversals();
+
+
+    /**
+     * Returns the number of hops taken by all traversals.
+     *
+     * @return the total number of hops.
+     */
+    long getTotalHops();
+
+
+    /**
+     * Returns the number of traversals made by iterators to find their positions.
+     *
+     * @return the number of iterator seeks.
+     */
+    long getIteratorSeeks();
+
+
+    /**
+     * Returns the number of nodes allocated.
+     *
+     * @return the number of node allocations.
+     */
+    long getNodeAllocations();
+
+
+    /**
+     * Returns the number of nodes taken from a node pool instead of allocated.
+     *
+     * @return the number of pool reuses.
+     */
+    long getPoolReuses();
+
+
+    /**
+     * Returns the number of traversals of at least the slow traversal threshold.
+     *
+     * @return the number of slow traversals.
+     */
+    long getSlowTraversals();
+
+
+    /**
+     * Returns the number of hops at which a traversal is counted as slow.
+     *
+     * @return the slow traversal threshold.
+     */
+    int getSlowTraversalHops();
+
+
+    /**
+     * Sets every counter back to zero.
+     */
+    void reset();
+}
@@ -0,0 +1,132 @@
+package linkedlist;
+
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * The LinkedListStore class writes lists to files in a compact binary format and reads them back.
+ *
+ * A file starts with a header of three ints: a magic number, the format version and the number
+ * of elements. The elements follow one after another, each written by an ElementCodec, with nothing
+ * in between, so a list of Integers takes four bytes per element plus the header.
+ * Writing encodes elements into a large direct buffer and hands each full buffer to a FileChannel.
+ * Reading maps the file into memory and decodes elements straight out of the mapping: read() builds
+ * a LinkedList by linking the decoded elements into a chain of nodes, and map() returns a lazy view
+ * that decodes elements only as they are iterated.
+ *
+ * @author ereimer18georgefox.edu
+ */
+public final class LinkedListStore {
+
+    static final int MAGIC = 0x4C4C5354;
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 3 * Integer.BYTES;
+    private static final int BUFFER_SIZE = 1 << 20;
+
+
+    /**
+     * This class only has static methods and is not instantiated.
+     */
+    private LinkedListStore() {
+    }
+
+
+    /**
+     * Writes the elements of the specified list to the specified file.
+     *
+     * The file is created if it does not exist and replaced if it does.
+     * Elements are encoded into a direct buffer of one megabyte, which is written to the file
+     * whenever the next element does not fit; a buffer is grown if a single element does not fit.
+     *
+     * @param list - the list to write.
+     * @param path - the file to write to.
+     * @param codec - the codec that writes each element.
+     * @throws IOException if the file cannot be written.
+     */
+    public static <E> void write(LinkedList<? extends E> list, Path path, ElementCodec<? super E> codec)
+            throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+            buffer.putInt(MAGIC).putInt(VERSION).putInt(list.size());
+            for (E element : list) {
+                boolean written = false;
+                while (!written) {
+                    int start = buffer.position();
+                    try {
+                        codec.encode(element, buffer);
+                        written = true;
+                    }
+                    catch (BufferOverflowException e) {
+                        buffer.position(start);
+                        if (start == 0) {
+                            buffer = ByteBuffer.allocateDirect(2 * buffer.capacity());
+                        }
+                        else {
+                            flush(channel, buffer);
+                        }
+                    }
+                }
+            }
+            flush(channel, buffer);
+        }
+    }
+
+
+    /**
+     * Reads a list from the specified file.
+     *
+     * The file is mapped into memory and every element is decoded from the mapping
+     * and linked into the new list in a single pass.
+     *
+     * @param path - the file to read from.
+     * @param codec - the codec that reads each element.
+     * @return a LinkedList holding the elements stored in the file.
+     * @throws IOException if the file cannot be read or is not in the format written by write().
+     */
+    public static <E> LinkedList<E> read(Path path, ElementCodec<? extends E> codec) throws IOException {
+        LinkedList<E> list = new LinkedList<>();
+        try (MappedLinkedList<? extends E> mapped = map(path, codec)) {
+            list.addAll(mapped);
+        }
+        return list;
+    }
+
+
+    /**
+     * Returns a lazy view of the list stored in the specified file.
+     *
+     * Only the header is read right away. The elements are decoded from a mapping of the file
+     * each time the view is iterated, so a caller that needs only some of the elements
+     * never pays for the rest, and nothing is held in memory beyond the mapping.
+     * The view must be closed once it is no longer needed.
+     *
+     * @param path - the file to read from.
+     * @param codec - the codec that reads each element.
+     * @return a view of the elements stored in the file.
+     * @throws IOException if the file cannot be read or is not in the format written by write().
+     */
+    public static <E> MappedLinkedList<E> map(Path path, ElementCodec<E> codec) throws IOException {
+        return new MappedLinkedList<>(path, codec, MappedLinkedList.WINDOW_SIZE);
+    }
+
+
+    /**
+     * Writes the contents of the buffer to the channel and clears the buffer.
+     *
+     * @param channel - the channel to write to.
+     * @param buffer - the buffer holding the bytes to write.
+     * @throws IOException if the bytes cannot be written.
+     */
+    private static void flush(FileChannel channel, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+}
@@ -0,0 +1,105 @@
+package linkedlist;
+
+/**
+ * The ListChange class describes a single change made to a LinkedList.
+ *
+ * Changes are published by a ListChangeFeed in the order the list made them, and each
+ * carries the index it was made at as the list was at that moment. Applying them in order
+ * to a copy of the list, as applyTo does, keeps the copy equal to the list.
+ * A sort is published as a SET of every index, since every element may have moved.
+ *
+ * @param <E> - the type of elements held in the list.
+ * @author ereimer18georgefox.edu
+ */
+public final class ListChange<E> {
+
+    /**
+     * The kinds of change a LinkedList publishes.
+     */
+    public enum Type {
+        ADD, SET, REMOVE, CLEAR
+    }
+
+
+    private final Type _type;
+    private final int _index;
+    private final E _value;
+
+
+    /**
+     * Constructs an instance of ListChange.
+     *
+     * @param type - the kind of change.
+     * @param index - the index the change was made at, or -1 for a CLEAR.
+     * @param value - the element added, stored or removed, or null for a CLEAR.
+     */
+    ListChange(Type type, int index, E value) {
+        _type = type;
+        _index = index;
+        _value = value;
+    }
+
+
+    /**
+     * Returns the kind of this change.
+     *
+     * @return the kind of this change.
+     */
+    public Type getType() {
+        return _type;
+    }
+
+
+    /**
+     * Returns the index this change was made at.
+     *
+     * @return the index of the element added, set or removed, or -1 for a CLEAR.
+     */
+    public int getIndex() {
+        return _index;
+    }
+
+
+    /**
+     * Returns the element this change concerns.
+     *
+     * @return the element added, the new element of a SET, the element removed, or null for a CLEAR.
+     */
+    public E getValue() {
+        return _value;
+    }
+
+
+    /**
+     * Makes this change to the specified list.
+     *
+     * @param replica - a list equal to the published list as it was before this change.
+     * @throws IndexOutOfBoundsException if the index of this change is out of the range of the replica.
+     */
+    public void applyTo(LinkedList<E> replica) {
+        switch (_type) {
+            case ADD:
+                replica.add(_index, _value);
+                break;
+            case SET:
+                replica.set(_index, _value);
+                break;
+            case REMOVE:
+                replica.remove(_index);
+                break;
+            default:
+                replica.clear();
+                break;
+        }
+    }
+
+
+    /**
+     * Returns a string of the kind, index and element of this change, such as "ADD 3 Gondor".
+     *
+     * @return a string representation of this change.
+     */
+    public String toString() {
+        return (_type == Type.CLEAR) ? _type.name() : _type + " " + _index + " " + _value;
+    }
+}
@@ -0,0 +1,229 @@
+package linkedlist;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+
+/**
+ * The ListChangeFeed class describes a publisher of the changes made to a LinkedList.
+ *
+ * A feed is opt-in: a list publishes nothing until a ListChangeFeed is attached with
+ * LinkedList.setChangeFeed, and a list without a feed pays a single null check when it changes.
+ * Once attached, every element the list adds, sets or removes and every time it is cleared
+ * becomes a ListChange, so a subscriber can keep a replica of the list by applying them
+ * instead of copying the whole list again.
+ *
+ * Changes are coalesced into batches: a batch is published once it holds the maximum batch size,
+ * when flush() is called, and when a subscriber joins or the feed is closed. The thread that
+ * changes the list should call flush() after each group of changes it wants its subscribers to see.
+ * Batches are delivered through a java.util.concurrent.SubmissionPublisher, which hands each
+ * subscriber no more batches than it has requested and buffers up to a limit of batches for it.
+ * When a buffer is full, the thread changing the list waits for that subscriber to request more,
+ * so a slow subscriber slows the list down instead of losing changes.
+ *
+ * A subscriber is sent only the changes made after it joined. To start a replica, subscribe and
+ * take a snapshot of the list from the thread that changes it, with no change in between, and apply
+ * the changes received to a copy of the snapshot. A feed should be attached to one list at a time.
+ *
+ * @param <E> - the type of elements held in the list.
+ * @author ereimer18georgefox.edu
+ */
+public class ListChangeFeed<E> implements Flow.Publisher<List<ListChange<E>>>, AutoCloseable {
+
+    public static final int DEFAULT_MAX_BATCH_SIZE = 256;
+
+    private final SubmissionPublisher<List<ListChange<E>>> _publisher;
+    private final int _maxBatchSize;
+    private ArrayList<ListChange<E>> _pending;
+    private long _publishedBatches;
+    private long _publishedChanges;
+
+
+    /**
+     * Constructs an instance of ListChangeFeed.
+     *
+     * Batches hold up to DEFAULT_MAX_BATCH_SIZE changes and are delivered on the common
+     * ForkJoinPool, buffering up to Flow.defaultBufferSize() batches for each subscriber.
+     */
+    public ListChangeFeed() {
+        this(new SubmissionPublisher<>(), DEFAULT_MAX_BATCH_SIZE);
+    }
+
+
+    /**
+     * Constructs an instance of ListChangeFeed with the specified delivery settings.
+     *
+     * @param executor - the executor that delivers batches to the subscribers.
+     * @param maxBufferedBatches - the number of batches buffered for each subscriber
+     *                             before the list waits for it, rounded up to a power of two.
+     * @param maxBatchSize - the number of changes at which a batch is published without a flush.
+     * @throws IllegalArgumentException if the buffer or batch size is not positive.
+     * @throws NullPointerException if the executor is null.
+     */
+    public ListChangeFeed(Executor executor, int maxBufferedBatches, int maxBatchSize) {
+        this(new SubmissionPublisher<>(executor, maxBufferedBatches), maxBatchSize);
+    }
+
+
+    /**
+     * Constructs an instance of ListChangeFeed that publishes through the specified publisher.
+     *
+     * @param publisher - the publisher that delivers batches to the subscribers.
+     * @param maxBatchSize - the number of changes at which a batch is published without a flush.
+     * @throws IllegalArgumentException if the batch size is not positive.
+     */
+    private ListChangeFeed(SubmissionPublisher<List<ListChange<E>>> publisher, int maxBatchSize) {
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException();
+        }
+        _publisher = publisher;
+        _maxBatchSize = maxBatchSize;
+        _pending = new ArrayList<>();
+        _publishedBatches = 0;
+        _publishedChanges = 0;
+    }
+
+
+    /**
+     * Adds the specified subscriber, which will be sent every batch of changes made from now on.
+     *
+     * Changes still waiting to be published are published first, to the earlier subscribers only.
+     * A subscriber that joins after the feed was closed is completed at once.
+     *
+     * @param subscriber - the subscriber to add.
+     * @throws NullPointerException if the subscriber is null.
+     */
+    public synchronized void subscribe(Flow.Subscriber<? super List<ListChange<E>>> subscriber) {
+        publishPending();
+        _publisher.subscribe(subscriber);
+    }
+
+
+    /**
+     * Publishes the changes made since the last batch, if there are any.
+     *
+     * Waits while the buffer of any subscriber is full.
+     */
+    public synchronized void flush() {
+        publishPending();
+    }
+
+
+    /**
+     * Publishes the changes still waiting, then completes every subscriber.
+     *
+     * Changes recorded after the feed is closed are dropped.
+     */
+    public synchronized void close() {
+        publishPending();
+        _publisher.close();
+    }
+
+
+    /**
+     * Returns true if this feed has been closed.
+     *
+     * @return true if this feed has been closed.
+     */
+    public boolean isClosed() {
+        return _publisher.isClosed();
+    }
+
+
+    /**
+     * Returns the number of current subscribers.
+     *
+     * @return the number of subscribers that have neither cancelled nor been completed.
+     */
+    public int getSubscriberCount() {
+        return _publisher.getNumberOfSubscribers();
+    }
+
+
+    /**
+     * Returns an estimate of the largest number of batches published but not yet consumed by a subscriber.
+     *
+     * @return the estimated lag of the slowest subscriber, in batches.
+     */
+    public int estimateMaximumLag() {
+        return _publisher.estimateMaximumLag();
+    }
+
+
+    /**
+     * Returns the number of changes recorded but not yet published.
+     *
+     * @return the size of the batch being coalesced.
+     */
+    public synchronized int getPendingChanges() {
+        return _pending.size();
+    }
+
+
+    /**
+     * Returns the number of batches published so far.
+     *
+     * @return the number of batches published.
+     */
+    public synchronized long getPublishedBatches() {
+        return _publishedBatches;
+    }
+
+
+    /**
+     * Returns the number of changes published so far.
+     *
+     * @return the number of changes published in all batches.
+     */
+    public synchronized long getPublishedChanges() {
+        return _publishedChanges;
+    }
+
+
+    /**
+     * Returns the largest number of changes coalesced into one batch.
+     *
+     * @return the maximum batch size.
+     */
+    public int getMaxBatchSize() {
+        return _maxBatchSize;
+    }
+
+
+    /**
+     * Records a change made to the list, publishing the batch once it is full.
+     *
+     * Changes made while nobody is subscribed are dropped, since no subscriber could be sent them.
+     *
+     * @param type - the kind of change.
+     * @param index - the index the change was made at, or -1 for a CLEAR.
+     * @param value - the element added, stored or removed, or null for a CLEAR.
+     */
+    synchronized void record(ListChange.Type type, int index, E value) {
+        if (_publisher.hasSubscribers()) {
+            _pending.add(new ListChange<>(type, index, value));
+            if (_pending.size() >= _maxBatchSize) {
+                publishPending();
+            }
+        }
+    }
+
+
+    /**
+     * Submits the changes waiting to be published as one batch and starts a new one.
+     */
+    private void publishPending() {
+        if (!_pending.isEmpty()) {
+            List<ListChange<E>> batch = Collections.unmodifiableList(_pending);
+            _pending = new ArrayList<>();
+            if (!_publisher.isClosed()) {
+                _publishedBatches++;
+                _publishedChanges += batch.size();
+                _publisher.submit(batch);
+            }
+        }
+    }
+}
@@ -0,0 +1,387 @@
+package linkedlist;
+
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/**
+ * The LongLinkedList class describes a doubly-linked list of long values
+ * that supports forward and reverse iteration.
+ *
+ * This class offers the methods of LinkedList specialized for the primitive type long.
+ * Each node stores its value in a long field, so adding, reading and searching
+ * never box the value, and each element costs one node instead of a node and a Long.
+ * Iteration is provided through PrimitiveIterator.OfLong so that callers using nextLong()
+ * can also avoid boxing.
+ *
+ * @author ereimer18georgefox.edu
+ */
+public class LongLinkedList implements Iterable<Long> {
+
+    private static final int EMPTY = 0;
+    private static final int NOT_FOUND = -1;
+
+    private LongNode _head;
+    private LongNode _tail;
+    private int _size;
+    private int _modCount;
+
+
+    /**
+     * Constructs an instance of a LongLinkedList.
+     *
+     * Constructs an empty instance of a LongLinkedList.
+     * The size is initialized as 0 and the head and tail nodes
+     * are sentinels that reference each other.
+     */
+    public LongLinkedList() {
+        _head = new LongNode(0L);
+        _tail = new LongNode(0L);
+        _head._next = _tail;
+        _tail._prev = _head;
+        _size = 0;
+        _modCount = 0;
+    }
+
+
+    /**
+     * Inserts the specified value at the specified position in this list.
+     *
+     * Shifts the value currently at that position (if any) and any subsequent values to the right.
+     *
+     * @param index - index at which the specified value is to be inserted.
+     * @param value - value to be inserted.
+     * @throws IndexOutOfBoundsException if the index is out of range (index < 0 || index >= size()).
+     */
+    public void add(int index, long value) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException();
+        }
+        linkBefore(value, traverse(index));
+    }
+
+
+    /**
+     * Appends the specified value to the end of this list.
+     *
+     * @param value - value to be appended to this list.
+     * @return if the append was successful.
+     */
+    public boolean add(long value) {
+        linkBefore(value, _tail);
+        return true;
+    }
+
+
+    /**
+     * Removes all of the values from this list.
+     *
+     * The head and tail sentinels are linked to each other and the rest
+     * of the nodes are left to be recycled.
+     */
+    public void clear() {
+        _head._next = _tail;
+        _tail._prev = _head;
+        _size = EMPTY;
+        _modCount++;
+    }
+
+
+    /**
+     * Returns the value at the specified position in this list.
+     *
+     * @param index - index of the value to return.
+     * @return the value at the specified position in this list.
+     * @throws IndexOutOfBoundsException - if the index is out of range
+     * (index < 0 || index >= size()).
+     */
+    public long getLong(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException();
+        }
+        return traverse(index)._value;
+    }
+
+
+    /**
+     * Returns the index of the first occurrence of the specified value in this list,
+     * or -1 if this list does not contain the value.
+     *
+     * @param value - value to search for.
+     * @return the index of the first occurrence of the specified value in this list,
+     * or -1 if this list does not contain the value.
+     */
+    public int indexOf(long value) {
+        int index = EMPTY;
+        LongNode currentNode = _head._next;
+        while (index < size() && !(currentNode._value == value)) {
+            currentNode = currentNode._next;
+            index++;
+        }
+        if (index == size()) {
+            index = NOT_FOUND;
+        }
+        return index;
+    }
+
+
+    /**
+     * Returns true if this list contains no values.
+     *
+     * @return if this list contains no values.
+     */
+    public boolean isEmpty() {
+        return size() <= EMPTY;
+    }
+
+
+    /**
+     * Removes the value at the specified position in this list.
+     *
+     * Shifts any subsequent values to the left.
+     *
+     * @param index - the index of the value to be removed.
+     * @return the value previously at the specified position.
+     * @throws IndexOutOfBoundsException - if the index is out of range
+     * (index < 0 || index >= size()).
+     */
+    public long removeLong(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException();
+        }
+        return unlink(traverse(index));
+    }
+
+
+    /**
+     * Replaces the value at the specified position in this list with the specified value.
+     *
+     * @param index - index of the value to replace.
+     * @param value - value to be stored at the specified position.
+     * @return the value previously at the specified position.
+     * @throws IndexOutOfBoundsException - if the index is out of range
+     * (index < 0 || index >= size()).
+     */
+    public long set(int index, long value) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException();
+        }
+        LongNode currentNode = traverse(index);
+        long previousValue = currentNode._value;
+        currentNode._value = value;
+        return previousValue;
+    }
+
+
+    /**
+     * Returns the number of values in this list.
+     *
+     * @return the number of values in this list.
+     */
+    public int size() {
+        return _size;
+    }
+
+
+    /**
+     * Returns a primitive iterator over the values in this list, starting at the head.
+     *
+     * @return a PrimitiveIterator.OfLong.
+     */
+    public PrimitiveIterator.OfLong iterator() {
+        return new LongListIterator(false);
+    }
+
+
+    /**
+     * Returns a primitive iterator over the values in this list, starting at the tail.
+     *
+     * @return a PrimitiveIterator.OfLong.
+     */
+    public PrimitiveIterator.OfLong reverseIterator() {
+        return new LongListIterator(true);
+    }
+
+
+    /**
+     * Returns the node at the specified index.
+     *
+     * Depending on the shortest path to the index,
+     * this method will either traverse forwards from the head
+     * or backwards from the tail.
+     *
+     * @param index - index of the node to be returned (0 <= index < size()).
+     * @return the node at the specified position.
+     */
+    private LongNode traverse(int index) {
+        LongNode currentNode;
+        if (size() - index >= size() / 2) {
+            currentNode = _head._next;
+            for (int i = 0; i < index; i++) {
+                currentNode = currentNode._next;
+            }
+        }
+        else {
+            currentNode = _tail._prev;
+            for (int i = size() - 1; i > index; i--) {
+                currentNode = currentNode._prev;
+            }
+        }
+        return currentNode;
+    }
+
+
+    /**
+     * Links a new node holding the specified value directly before the specified node.
+     *
+     * @param value - value to be inserted.
+     * @param successor - the node that will follow the new node.
+     */
+    private void linkBefore(long value, LongNode successor) {
+        LongNode newNode = new LongNode(value);
+        newNode._prev = successor._prev;
+        newNode._next = successor;
+        successor._prev._next = newNode;
+        successor._prev = newNode;
+        _size++;
+        _modCount++;
+    }
+
+
+    /**
+     * Unlinks the specified node from this list and returns its value.
+     *
+     * @param node - the node to be removed; must not be a sentinel.
+     * @return the value held by the removed node.
+     */
+    private long unlink(LongNode node) {
+        node._prev._next = node._next;
+        node._next._prev = node._prev;
+        node._prev = null;
+        node._next = null;
+        _size--;
+        _modCount++;
+        return node._value;
+    }
+
+
+    /**
+     * This inner class describes the nodes of which a LongLinkedList consists of.
+     * Each node has a long value as well as a reference to the node
+     * preceding this node and the node succeeding this node in the list.
+     */
+    private static class LongNode {
+        private long _value;
+        private LongNode _prev;
+        private LongNode _next;
+
+
+        /**
+         * Creates an instance of a LongNode holding the specified value.
+         *
+         * @param value - the value of this node.
+         */
+        private LongNode(long value) {
+            _value = value;
+            _prev = null;
+            _next = null;
+        }
+    }
+
+
+    /**
+     * LongListIterator is an inner class of LongLinkedList
+     * and an implementation of the PrimitiveIterator.OfLong interface.
+     *
+     * This iterator supports both forward and reverse iteration
+     * by following the node references, and it can remove the value it last returned.
+     * If this list is structurally modified other than through this iterator,
+     * the position of the iterator is resolved again from its index on the next call.
+     */
+    private class LongListIterator implements PrimitiveIterator.OfLong {
+
+        private LongNode _next;
+        private LongNode _lastReturned;
+        private int _remaining;
+        private boolean _reverse;
+        private int _expectedModCount;
+
+
+        /**
+         * Creates an instance of a LongListIterator at the head or the tail of this list.
+         *
+         * @param reverse - true if the iterator is supposed to reverse iterate.
+         */
+        private LongListIterator(boolean reverse) {
+            _reverse = reverse;
+            _next = reverse ? _tail._prev : _head._next;
+            _lastReturned = null;
+            _remaining = size();
+            _expectedModCount = _modCount;
+        }
+
+
+        /**
+         * Returns true if the iteration has more values.
+         *
+         * @return true if the iteration has more values.
+         */
+        public boolean hasNext() {
+            return _remaining > EMPTY;
+        }
+
+
+        /**
+         * Returns the next value in the iteration without boxing it.
+         *
+         * @return the next value in the iteration.
+         * @throws NoSuchElementException if the iteration has no more values.
+         */
+        public long nextLong() {
+            synchronize();
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            _lastReturned = _next;
+            _next = _reverse ? _next._prev : _next._next;
+            _remaining--;
+            return _lastReturned._value;
+        }
+
+
+        /**
+         * Removes the value last returned by this iterator from the list.
+         *
+         * @throws IllegalStateException if no value has been returned since the last call to remove().
+         */
+        public void remove() {
+            synchronize();
+            if (_lastReturned == null) {
+                throw new IllegalStateException();
+            }
+            unlink(_lastReturned);
+            _lastReturned = null;
+            _expectedModCount = _modCount;
+        }
+
+
+        /**
+         * Resolves the position of this iterator again if the list has been
+         * structurally modified other than through this iterator.
+         */
+        private void synchronize() {
+            if (_expectedModCount != _modCount) {
+                if (_remaining > size()) {
+                    _remaining = size();
+                }
+                if (_remaining == EMPTY) {
+                    _next = _reverse ? _head : _tail;
+                }
+                else {
+                    _next = traverse(_reverse ? _remaining - 1 : size() - _remaining);
+                }
+                _lastReturned = null;
+                _expectedModCount = _modCount;
+            }
+        }
+    }
+}
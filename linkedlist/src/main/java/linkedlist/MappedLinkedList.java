@@ -0,0 +1,203 @@
+package linkedlist;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractCollection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * The MappedLinkedList class describes a read-only view of a list stored by LinkedListStore.
+ *
+ * The view maps the file into memory and decodes the elements each time it is iterated,
+ * so opening it costs only the header and iterating it allocates nothing but the elements.
+ * A file larger than a mapping can cover is read through a window that moves forward
+ * whenever the next element runs past its end. load() turns the view into a LinkedList.
+ * The view keeps the file open until it is closed.
+ *
+ * @param <E> - the type of elements held in the file.
+ * @author ereimer18georgefox.edu
+ */
+public class MappedLinkedList<E> extends AbstractCollection<E> implements Closeable {
+
+    static final long WINDOW_SIZE = 1L << 30;
+
+    private final FileChannel _channel;
+    private final ElementCodec<E> _codec;
+    private final long _fileSize;
+    private final long _windowSize;
+    private final int _size;
+
+
+    /**
+     * Creates an instance of a MappedLinkedList.
+     *
+     * Opens the file and reads its header.
+     *
+     * @param path - the file to read from.
+     * @param codec - the codec that reads each element.
+     * @param windowSize - the largest number of bytes to map at once.
+     * @throws IOException if the file cannot be read or does not start with a valid header.
+     */
+    MappedLinkedList(Path path, ElementCodec<E> codec, long windowSize) throws IOException {
+        _channel = FileChannel.open(path, StandardOpenOption.READ);
+        _codec = codec;
+        _windowSize = windowSize;
+        try {
+            _fileSize = _channel.size();
+            if (_fileSize < LinkedListStore.HEADER_SIZE) {
+                throw new EOFException(path.toString());
+            }
+            ByteBuffer header = _channel.map(FileChannel.MapMode.READ_ONLY, 0, LinkedListStore.HEADER_SIZE);
+            if (header.getInt() != LinkedListStore.MAGIC || header.getInt() != LinkedListStore.VERSION) {
+                throw new IOException("Not a LinkedList file: " + path);
+            }
+            _size = header.getInt();
+        }
+        catch (IOException e) {
+            _channel.close();
+            throw e;
+        }
+    }
+
+
+    /**
+     * Returns the number of elements in the file.
+     *
+     * @return the number of elements in the file.
+     */
+    public int size() {
+        return _size;
+    }
+
+
+    /**
+     * Returns an iterator that decodes the elements of the file from first to last.
+     *
+     * @return an Iterator over the elements of the file.
+     * @throws UncheckedIOException if the file cannot be mapped or ends before its last element.
+     */
+    public Iterator<E> iterator() {
+        return new MappedIterator();
+    }
+
+
+    /**
+     * Returns a new LinkedList holding all of the elements of the file.
+     *
+     * @return a LinkedList holding the elements of the file.
+     * @throws UncheckedIOException if the file cannot be mapped or ends before its last element.
+     */
+    public LinkedList<E> load() {
+        LinkedList<E> list = new LinkedList<>();
+        list.addAll(this);
+        return list;
+    }
+
+
+    /**
+     * Closes the file.
+     *
+     * Iterators created before the view is closed cannot move their window any further.
+     *
+     * @throws IOException if the file cannot be closed.
+     */
+    public void close() throws IOException {
+        _channel.close();
+    }
+
+
+    /**
+     * This inner class describes an iterator that decodes elements through a moving window of the file.
+     */
+    private class MappedIterator implements Iterator<E> {
+
+        private MappedByteBuffer _window;
+        private long _windowStart;
+        private int _remaining;
+
+
+        /**
+         * Creates an instance of a MappedIterator positioned at the first element.
+         */
+        private MappedIterator() {
+            _window = null;
+            _windowStart = LinkedListStore.HEADER_SIZE;
+            _remaining = _size;
+        }
+
+
+        /**
+         * Returns true if the file has more elements.
+         *
+         * @return true if the iteration has more elements.
+         */
+        public boolean hasNext() {
+            return _remaining > 0;
+        }
+
+
+        /**
+         * Decodes and returns the next element of the file.
+         *
+         * If the element runs past the end of the window, the window is moved to start
+         * at the element and the element is decoded again.
+         *
+         * @return the next element in the file.
+         * @throws NoSuchElementException if the iteration has no more elements.
+         * @throws UncheckedIOException if the file cannot be mapped or ends before the element does.
+         */
+        public E next() {
+            if (_remaining <= 0) {
+                throw new NoSuchElementException();
+            }
+            if (_window == null) {
+                moveWindow(_windowStart);
+            }
+            E element = null;
+            boolean decoded = false;
+            while (!decoded) {
+                int start = _window.position();
+                try {
+                    element = _codec.decode(_window);
+                    decoded = true;
+                }
+                catch (BufferUnderflowException e) {
+                    if (start == 0) {
+                        throw new UncheckedIOException(new EOFException(
+                                "Element at offset " + _windowStart + " does not fit in the file or the window"));
+                    }
+                    moveWindow(_windowStart + start);
+                }
+            }
+            _remaining--;
+            return element;
+        }
+
+
+        /**
+         * Maps the part of the file starting at the specified offset.
+         *
+         * @param offset - the offset in the file at which the window starts.
+         * @throws UncheckedIOException if the file cannot be mapped.
+         */
+        private void moveWindow(long offset) {
+            try {
+                _windowStart = offset;
+                _window = _channel.map(FileChannel.MapMode.READ_ONLY, offset,
+                        Math.min(_windowSize, _fileSize - offset));
+            }
+            catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package linkedlist;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * The SlowTraversalEvent class describes a Flight Recorder event for a traversal that took many hops.
+ *
+ * LinkedListMetrics commits one of these events for every traversal of at least its slow traversal
+ * threshold while a recording has the event enabled. The stack trace of the event shows which
+ * caller reached into the middle of a long list.
+ *
+ * @author ereimer18georgefox.edu
+ */
+@Name(SlowTraversalEvent.NAME)
+@Label("Slow Traversal")
+@Category("Linked List")
+@Description("A LinkedList traversal that took at least the slow traversal threshold of hops")
+@StackTrace(true)
+final class SlowTraversalEvent extends Event {
+
+    static final String NAME = "linkedlist.SlowTraversal";
+
+    @Label("Index")
+    int index;
+
+    @Label("Size")
+    int size;
+
+    @Label("Hops")
+    int hops;
+
+    @Label("Origin")
+    String origin;
+
+    @Label("Walk Time")
+    @Timespan(Timespan.NANOSECONDS)
+    long walkTime;
+}
@@ -0,0 +1,372 @@
+package linkedlist;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * The SortedLinkedList class describes a doubly-linked list that keeps its elements in sorted order.
+ *
+ * The elements are held in an IndexedLinkedList, whose nodes form a doubly-linked chain
+ * with an indexable skip list layered above it. Searches by value descend the express lanes
+ * comparing elements instead of counting positions, so insertSorted, floor, ceiling and the start
+ * of a range take expected O(log n) instead of the linear search and linear traversal of computing
+ * an index and calling add(int, E) on a LinkedList. A range is then iterated along the chain,
+ * one reference per element. Elements that compare equal keep the order they were inserted in,
+ * which suits a timeline of events where several fall on the same instant.
+ *
+ * Elements are ordered by a comparator, or by their natural ordering if none is given.
+ * Elements must not be changed in a way that changes their order while they are in the list.
+ *
+ * @param <E> - the type of elements held in this collection.
+ * @author ereimer18georgefox.edu
+ */
+public class SortedLinkedList<E> implements Iterable<E> {
+
+    private final IndexedLinkedList<E> _list;
+    private final Comparator<? super E> _comparator;
+
+
+    /**
+     * Constructs an instance of a SortedLinkedList.
+     *
+     * Constructs an empty instance of a SortedLinkedList
+     * that orders its elements by their natural ordering.
+     */
+    public SortedLinkedList() {
+        this(null);
+    }
+
+
+    /**
+     * Constructs an instance of a SortedLinkedList that orders its elements by the specified comparator.
+     *
+     * @param comparator - the comparator used to order the elements, or null to use their natural ordering.
+     */
+    @SuppressWarnings("unchecked")
+    public SortedLinkedList(Comparator<? super E> comparator) {
+        _list = new IndexedLinkedList<>();
+        _comparator = (comparator == null) ? (Comparator<? super E>) Comparator.naturalOrder() : comparator;
+    }
+
+
+    /**
+     * Inserts the specified element at its place in the order of this list and returns its index.
+     *
+     * The element is placed after every element that compares equal to it. An element ordered
+     * at or after the last element is appended in expected constant time; any other element
+     * is placed with a search down the express lanes in expected O(log n).
+     *
+     * @param element - element to be inserted.
+     * @return the index the element was inserted at.
+     * @throws ClassCastException if the element cannot be compared with the elements of this list.
+     * @throws NullPointerException if the element is null and the ordering does not permit null.
+     */
+    public int insertSorted(E element) {
+        int index = size();
+        if (isEmpty()) {
+            _comparator.compare(element, element);
+            _list.add(element);
+        }
+        else if (_comparator.compare(element, _list.get(size() - 1)) >= 0) {
+            _list.add(element);
+        }
+        else {
+            index = _list.rank(element, _comparator, true);
+            _list.add(index, element);
+        }
+        return index;
+    }
+
+
+    /**
+     * Returns the greatest element of this list that is less than or equal to the specified element.
+     *
+     * Of several equal elements, the last one inserted is returned.
+     *
+     * @param element - the element to look for.
+     * @return the greatest element not ordered after the specified element, or null if there is none.
+     */
+    public E floor(E element) {
+        int index = _list.rank(element, _comparator, true);
+        return (index == 0) ? null : _list.get(index - 1);
+    }
+
+
+    /**
+     * Returns the least element of this list that is greater than or equal to the specified element.
+     *
+     * Of several equal elements, the first one inserted is returned.
+     *
+     * @param element - the element to look for.
+     * @return the least element not ordered before the specified element, or null if there is none.
+     */
+    public E ceiling(E element) {
+        int index = _list.rank(element, _comparator, false);
+        return (index == size()) ? null : _list.get(index);
+    }
+
+
+    /**
+     * Returns a lazy view of the elements from the specified element, inclusive,
+     * to the other specified element, exclusive.
+     *
+     * Every iteration of the view finds the first element of the range in expected O(log n)
+     * and then follows the chain, stopping at the first element that is not before the end,
+     * so iterating k elements costs O(log n + k). The view reflects this list as it is
+     * when an iteration starts, and may be mapped, filtered or limited like any LazyView.
+     *
+     * @param from - the least element of the range.
+     * @param to - the element the range ends before.
+     * @return a view of the elements in the range, in order.
+     * @throws IllegalArgumentException if from is ordered after to.
+     */
+    public LazyView<E> range(E from, E to) {
+        if (_comparator.compare(from, to) > 0) {
+            throw new IllegalArgumentException();
+        }
+        return LazyView.of(() -> new RangeIterator(from, to));
+    }
+
+
+    /**
+     * Returns true if this list contains the specified element.
+     *
+     * The elements that compare equal to it are found in expected O(log n)
+     * and are then compared with equals.
+     *
+     * @param element - element whose presence in this list is to be tested.
+     * @return true if this list contains the specified element.
+     */
+    public boolean contains(E element) {
+        return find(element) != null;
+    }
+
+
+    /**
+     * Removes the specified element from this list, if it is present.
+     *
+     * Of the elements that compare equal to it, the first one that is also equal by equals is removed.
+     *
+     * @param element - element to be removed from this list, if present.
+     * @return true if this list contained the specified element.
+     */
+    public boolean remove(E element) {
+        ListIterator<E> iterator = find(element);
+        if (iterator != null) {
+            iterator.remove();
+        }
+        return iterator != null;
+    }
+
+
+    /**
+     * Removes the element at the specified position in this list.
+     *
+     * @param index - the index of the element to be removed.
+     * @return the element previously at the specified position.
+     * @throws IndexOutOfBoundsException - if the index is out of range
+     * (index < 0 || index >= size()).
+     */
+    public E remove(int index) {
+        return _list.remove(index);
+    }
+
+
+    /**
+     * Returns the element at the specified position in this list.
+     *
+     * @param index - index of the element to return.
+     * @return the element at the specified position in this list.
+     * @throws IndexOutOfBoundsException - if the index is out of range
+     * (index < 0 || index >= size()).
+     */
+    public E get(int index) {
+        return _list.get(index);
+    }
+
+
+    /**
+     * Returns the least element in this list.
+     *
+     * @return the first element in this list.
+     * @throws NoSuchElementException if this list is empty.
+     */
+    public E getFirst() {
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return _list.get(0);
+    }
+
+
+    /**
+     * Returns the greatest element in this list.
+     *
+     * @return the last element in this list.
+     * @throws NoSuchElementException if this list is empty.
+     */
+    public E getLast() {
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return _list.get(size() - 1);
+    }
+
+
+    /**
+     * Removes and returns the least element in this list, or returns null if this list is empty.
+     *
+     * @return the first element of this list, or null if this list is empty.
+     */
+    public E pollFirst() {
+        return isEmpty() ? null : _list.remove(0);
+    }
+
+
+    /**
+     * Removes all of the elements from this list.
+     */
+    public void clear() {
+        _list.clear();
+    }
+
+
+    /**
+     * Returns true if this list contains no elements.
+     *
+     * @return if this list contains no elements.
+     */
+    public boolean isEmpty() {
+        return _list.isEmpty();
+    }
+
+
+    /**
+     * Returns the number of elements in this list.
+     *
+     * @return the number of elements in this list.
+     */
+    public int size() {
+        return _list.size();
+    }
+
+
+    /**
+     * Returns the comparator that orders the elements of this list.
+     *
+     * @return the comparator, which is the natural ordering if none was given.
+     */
+    public Comparator<? super E> comparator() {
+        return _comparator;
+    }
+
+
+    /**
+     * Returns an iterator over the elements in this list in sorted order.
+     *
+     * Removing elements through the iterator keeps this list sorted.
+     *
+     * @return an Iterator.
+     */
+    public Iterator<E> iterator() {
+        return _list.iterator();
+    }
+
+
+    /**
+     * Returns a list iterator positioned just after the specified element, or null if it is not in this list.
+     *
+     * @param element - the element to look for.
+     * @return an iterator whose last returned element is equal to the specified element, or null.
+     */
+    private ListIterator<E> find(E element) {
+        ListIterator<E> iterator = _list.listIterator(_list.rank(element, _comparator, false));
+        ListIterator<E> found = null;
+        boolean searching = true;
+        while (searching && iterator.hasNext()) {
+            E value = iterator.next();
+            if (_comparator.compare(value, element) != 0) {
+                searching = false;
+            }
+            else if (Objects.equals(value, element)) {
+                found = iterator;
+                searching = false;
+            }
+        }
+        return found;
+    }
+
+
+    /**
+     * RangeIterator is an inner class of SortedLinkedList
+     * and an implementation of the Iterator interface.
+     *
+     * The iterator starts at the first element not ordered before the start of the range
+     * and reads one element ahead, to know when the end of the range has been reached.
+     */
+    private class RangeIterator implements Iterator<E> {
+
+        private final Iterator<E> _iterator;
+        private final E _to;
+        private E _next;
+        private boolean _hasNext;
+
+
+        /**
+         * Creates an instance of a RangeIterator over the elements from one element to another.
+         *
+         * @param from - the least element of the range.
+         * @param to - the element the range ends before.
+         */
+        private RangeIterator(E from, E to) {
+            _iterator = _list.listIterator(_list.rank(from, _comparator, false));
+            _to = to;
+            advance();
+        }
+
+
+        /**
+         * Returns true if the range has more elements.
+         *
+         * @return true if the iteration has more elements.
+         */
+        public boolean hasNext() {
+            return _hasNext;
+        }
+
+
+        /**
+         * Returns the next element of the range.
+         *
+         * @return the next element in the range.
+         * @throws NoSuchElementException if the iteration has no more elements.
+         */
+        public E next() {
+            if (!_hasNext) {
+                throw new NoSuchElementException();
+            }
+            E element = _next;
+            advance();
+            return element;
+        }
+
+
+        /**
+         * Reads the element after the current one, if it is still in the range.
+         */
+        private void advance() {
+            _hasNext = false;
+            _next = null;
+            if (_iterator.hasNext()) {
+                E element = _iterator.next();
+                if (_comparator.compare(element, _to) < 0) {
+                    _next = element;
+                    _hasNext = true;
+                }
+            }
+        }
+    }
+}
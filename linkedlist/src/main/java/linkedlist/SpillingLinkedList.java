@@ -0,0 +1,924 @@
+package linkedlist;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.TreeMap;
+
+/**
+ * The SpillingLinkedList class describes a doubly-linked list of segments
+ * that keeps only a bounded number of its elements in memory.
+ *
+ * The elements are packed into segments of a fixed capacity, as in UnrolledLinkedList,
+ * and the segments are linked together. At most a memory budget of elements is kept on the heap:
+ * once more segments are in memory than the budget allows, the segment used least recently is
+ * encoded with an ElementCodec and written to a spill file through a FileChannel, and its elements
+ * are released. The head and tail segments are never spilled, so a list used as a queue or a log
+ * works in memory at both ends while its cold middle waits on disk. A spilled segment is read back
+ * as soon as get, set, an insertion, a removal or an iterator reaches it; walking past it to
+ * another index only reads its element count, which stays in memory.
+ *
+ * A segment read back and not changed is dropped again without being written, since the spill file
+ * still holds its elements; a changed segment is written back in place when it still fits.
+ * The bytes of segments that are removed are reused by later spills, so a list used as a queue
+ * does not grow its spill file without bound.
+ * The spill file is created in the specified directory and deleted when the list is closed.
+ * Failures to read or write the spill file are thrown as UncheckedIOExceptions.
+ *
+ * @param <E> - the type of elements held in this collection.
+ * @author ereimer18georgefox.edu
+ */
+public class SpillingLinkedList<E> implements Iterable<E>, Closeable {
+
+    private static final int EMPTY = 0;
+    private static final int NOT_SPILLED = -1;
+    private static final int DEFAULT_SEGMENT_CAPACITY = 1024;
+    private static final int MINIMUM_SEGMENT_CAPACITY = 2;
+    private static final int MINIMUM_RESIDENT_SEGMENTS = 3;
+    private static final int INITIAL_BUFFER_SIZE = 1 << 16;
+
+    private final ElementCodec<E> _codec;
+    private final FileChannel _channel;
+    private final int _segmentCapacity;
+    private final int _maxResidentSegments;
+    private final LinkedHashMap<Segment<E>, Segment<E>> _resident;
+    private Segment<E> _head;
+    private Segment<E> _tail;
+    private int _size;
+    private int _modCount;
+    private int _segmentCount;
+    private long _fileEnd;
+    private final TreeMap<Integer, ArrayDeque<Long>> _freeSlots;
+    private ByteBuffer _buffer;
+    private long _spills;
+    private long _reloads;
+    private long _bytesWritten;
+    private long _bytesRead;
+
+
+    /**
+     * Constructs an instance of a SpillingLinkedList with segments of 1024 elements.
+     *
+     * @param codec - the codec that writes and reads the elements of spilled segments.
+     * @param directory - the directory to create the spill file in.
+     * @param memoryBudget - the largest number of elements to keep in memory.
+     * @throws IllegalArgumentException if the budget is smaller than three segments.
+     * @throws IOException if the spill file cannot be created.
+     */
+    public SpillingLinkedList(ElementCodec<E> codec, Path directory, int memoryBudget) throws IOException {
+        this(codec, directory, memoryBudget, DEFAULT_SEGMENT_CAPACITY);
+    }
+
+
+    /**
+     * Constructs an instance of a SpillingLinkedList with the specified segment capacity.
+     *
+     * The budget is rounded down to whole segments and must hold at least three of them:
+     * the head, the tail and one segment being worked on in between.
+     *
+     * @param codec - the codec that writes and reads the elements of spilled segments.
+     * @param directory - the directory to create the spill file in.
+     * @param memoryBudget - the largest number of elements to keep in memory.
+     * @param segmentCapacity - the number of elements each segment can hold.
+     * @throws IllegalArgumentException if the segment capacity is less than 2
+     * or the budget is smaller than three segments.
+     * @throws IOException if the spill file cannot be created.
+     */
+    public SpillingLinkedList(ElementCodec<E> codec, Path directory, int memoryBudget, int segmentCapacity)
+            throws IOException {
+        if (segmentCapacity < MINIMUM_SEGMENT_CAPACITY
+                || memoryBudget / segmentCapacity < MINIMUM_RESIDENT_SEGMENTS) {
+            throw new IllegalArgumentException();
+        }
+        _codec = codec;
+        _segmentCapacity = segmentCapacity;
+        _maxResidentSegments = memoryBudget / segmentCapacity;
+        _resident = new LinkedHashMap<>(16, 0.75f, true);
+        _freeSlots = new TreeMap<>();
+        Path file = Files.createTempFile(directory, "spill", ".seg");
+        _channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE,
+                StandardOpenOption.DELETE_ON_CLOSE);
+        _buffer = ByteBuffer.allocate(INITIAL_BUFFER_SIZE);
+        _head = null;
+        _tail = null;
+        _size = 0;
+        _modCount = 0;
+        _segmentCount = 0;
+        _fileEnd = 0;
+    }
+
+
+    /**
+     * Inserts the specified element at the specified position in this list.
+     *
+     * Shifts the element currently at that position (if any) and any subsequent elements to the right.
+     * The segment holding the position is read back if it was spilled, and split in half if it is full.
+     *
+     * @param index - index at which the specified element is to be inserted.
+     * @param element - element to be inserted.
+     * @throws IndexOutOfBoundsException if the index is out of range (index < 0 || index > size()).
+     */
+    public void add(int index, E element) {
+        if (index < 0 || index > size()) {
+            throw new IndexOutOfBoundsException();
+        }
+        if (index == size()) {
+            addLast(element);
+        }
+        else {
+            Segment<E> segment = traverse(index);
+            insert(segment, index - segment._startIndex, element);
+        }
+    }
+
+
+    /**
+     * Appends the specified element to the end of this list.
+     *
+     * @param element - element to be appended to this list.
+     * @return if the append was successful.
+     */
+    public boolean add(E element) {
+        addLast(element);
+        return true;
+    }
+
+
+    /**
+     * Inserts the specified element at the beginning of this list.
+     *
+     * The element is stored in the head segment, or in a new head segment if the head is full.
+     *
+     * @param element - the element to add.
+     */
+    public void addFirst(E element) {
+        if (_head == null || _head._count == _segmentCapacity) {
+            linkAfter(new Segment<>(_segmentCapacity), null);
+            admit(_head);
+        }
+        else {
+            load(_head);
+        }
+        insert(_head, 0, element);
+    }
+
+
+    /**
+     * Appends the specified element to the end of this list.
+     *
+     * The element is stored in the tail segment, or in a new tail segment if the tail is full.
+     * The segment that was the tail may then be spilled to keep within the memory budget.
+     *
+     * @param element - the element to add.
+     */
+    public void addLast(E element) {
+        if (_tail == null || _tail._count == _segmentCapacity) {
+            linkAfter(new Segment<>(_segmentCapacity), _tail);
+            admit(_tail);
+        }
+        else {
+            load(_tail);
+        }
+        insert(_tail, _tail._count, element);
+    }
+
+
+    /**
+     * Removes all of the elements from this list.
+     *
+     * Every segment is released and the spill file is emptied.
+     *
+     * @throws UncheckedIOException if the spill file cannot be truncated.
+     */
+    public void clear() {
+        try {
+            _channel.truncate(0);
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        _resident.clear();
+        _freeSlots.clear();
+        _head = null;
+        _tail = null;
+        _size = EMPTY;
+        _segmentCount = 0;
+        _fileEnd = 0;
+        _modCount++;
+    }
+
+
+    /**
+     * Returns the element at the specified position in this list.
+     *
+     * Walks segment by segment to the segment holding the index, reading it back if it was spilled.
+     *
+     * @param index - index of the element to return.
+     * @return the element at the specified position in this list.
+     * @throws IndexOutOfBoundsException - if the index is out of range
+     * (index < 0 || index >= size()).
+     */
+    public E get(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException();
+        }
+        Segment<E> segment = traverse(index);
+        return segment.get(index - segment._startIndex);
+    }
+
+
+    /**
+     * Returns the first element in this list.
+     *
+     * @return the first element in this list.
+     * @throws NoSuchElementException if this list is empty.
+     */
+    public E getFirst() {
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return get(0);
+    }
+
+
+    /**
+     * Returns the last element in this list.
+     *
+     * @return the last element in this list.
+     * @throws NoSuchElementException if this list is empty.
+     */
+    public E getLast() {
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return get(size() - 1);
+    }
+
+
+    /**
+     * Returns true if this list contains no elements.
+     *
+     * @return true if this list contains no elements.
+     */
+    public boolean isEmpty() {
+        return _size == EMPTY;
+    }
+
+
+    /**
+     * Removes the element at the specified position in this list and returns it.
+     *
+     * Shifts any subsequent elements to the left. An emptied segment is unlinked, and a segment
+     * left at most half full is merged with its successor if that is in memory and both fit.
+     *
+     * @param index - the index of the element to be removed.
+     * @return the element previously at the specified position.
+     * @throws IndexOutOfBoundsException - if the index is out of range
+     * (index < 0 || index >= size()).
+     */
+    public E remove(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException();
+        }
+        Segment<E> segment = traverse(index);
+        return delete(segment, index - segment._startIndex);
+    }
+
+
+    /**
+     * Removes and returns the first element of this list.
+     *
+     * @return the first element of this list.
+     * @throws NoSuchElementException if this list is empty.
+     */
+    public E removeFirst() {
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return remove(0);
+    }
+
+
+    /**
+     * Removes and returns the last element of this list.
+     *
+     * @return the last element of this list.
+     * @throws NoSuchElementException if this list is empty.
+     */
+    public E removeLast() {
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return remove(size() - 1);
+    }
+
+
+    /**
+     * Replaces the element at the specified position in this list with the specified element.
+     *
+     * @param index - index of the element to replace.
+     * @param element - element to be stored at the specified position.
+     * @return the element previously at the specified position.
+     * @throws IndexOutOfBoundsException - if the index is out of range
+     * (index < 0 || index >= size()).
+     */
+    public E set(int index, E element) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException();
+        }
+        Segment<E> segment = traverse(index);
+        int offset = index - segment._startIndex;
+        E previousElement = segment.get(offset);
+        segment._elements[offset] = element;
+        segment._dirty = true;
+        return previousElement;
+    }
+
+
+    /**
+     * Returns the number of elements in this list.
+     *
+     * @return the number of elements in this list.
+     */
+    public int size() {
+        return _size;
+    }
+
+
+    /**
+     * Returns an iterator over the elements in this list in proper sequence.
+     *
+     * Spilled segments are read back as the iterator reaches them, and may be spilled again
+     * once the iterator has moved on, so a whole list can be iterated within the memory budget.
+     *
+     * @return an Iterator over the elements in this list.
+     */
+    public Iterator<E> iterator() {
+        return new SpillingIterator();
+    }
+
+
+    /**
+     * Closes and deletes the spill file.
+     *
+     * Elements that were spilled can no longer be read once this list is closed.
+     *
+     * @throws IOException if the spill file cannot be closed.
+     */
+    public void close() throws IOException {
+        _channel.close();
+    }
+
+
+    /**
+     * Returns the largest number of elements this list keeps in memory.
+     *
+     * @return the memory budget, rounded down to whole segments.
+     */
+    public int getMemoryBudget() {
+        return _maxResidentSegments * _segmentCapacity;
+    }
+
+
+    /**
+     * Returns the number of segments this list consists of.
+     *
+     * @return the number of segments, in memory or spilled.
+     */
+    public int getSegmentCount() {
+        return _segmentCount;
+    }
+
+
+    /**
+     * Returns the number of segments whose elements are in memory.
+     *
+     * @return the number of resident segments, never more than the budget allows.
+     */
+    public int getResidentSegments() {
+        return _resident.size();
+    }
+
+
+    /**
+     * Returns the number of times a segment was spilled out of memory.
+     *
+     * @return the number of spills, including those of unchanged segments that needed no write.
+     */
+    public long getSpills() {
+        return _spills;
+    }
+
+
+    /**
+     * Returns the number of times a spilled segment was read back into memory.
+     *
+     * @return the number of reloads.
+     */
+    public long getReloads() {
+        return _reloads;
+    }
+
+
+    /**
+     * Returns the number of bytes written to the spill file.
+     *
+     * @return the number of bytes written.
+     */
+    public long getBytesWritten() {
+        return _bytesWritten;
+    }
+
+
+    /**
+     * Returns the number of bytes of the spill file in use or free for reuse.
+     *
+     * @return the size of the spill file.
+     */
+    public long getSpillFileSize() {
+        return _fileEnd;
+    }
+
+
+    /**
+     * Returns the number of bytes read back from the spill file.
+     *
+     * @return the number of bytes read.
+     */
+    public long getBytesRead() {
+        return _bytesRead;
+    }
+
+
+    /**
+     * Returns the segment holding the specified index, read back into memory.
+     *
+     * Depending on the shortest path to the index, this method walks forwards from the head
+     * or backwards from the tail, skipping a whole segment per step by its element count,
+     * so the segments passed on the way are not read back. The start index of the segment found
+     * is stored in it.
+     *
+     * @param index - index of an element of this list (0 <= index < size()).
+     * @return the segment holding the index.
+     */
+    private Segment<E> traverse(int index) {
+        Segment<E> currentSegment;
+        int start;
+        if (index < size() / 2) {
+            currentSegment = _head;
+            start = 0;
+            while (index >= start + currentSegment._count) {
+                start += currentSegment._count;
+                currentSegment = currentSegment._next;
+            }
+        }
+        else {
+            currentSegment = _tail;
+            start = size() - _tail._count;
+            while (index < start) {
+                currentSegment = currentSegment._prev;
+                start -= currentSegment._count;
+            }
+        }
+        currentSegment._startIndex = start;
+        load(currentSegment);
+        return currentSegment;
+    }
+
+
+    /**
+     * Inserts the specified element at the specified offset of a segment in memory.
+     *
+     * If the segment is full, it is split in half first, and the new half may push
+     * another segment out of memory.
+     *
+     * @param segment - a segment of this list that is in memory.
+     * @param offset - the offset within the segment to insert at.
+     * @param element - element to be inserted.
+     */
+    private void insert(Segment<E> segment, int offset, E element) {
+        if (segment._count == _segmentCapacity) {
+            Segment<E> newSegment = new Segment<>(_segmentCapacity);
+            int half = segment._count / 2;
+            int moved = segment._count - half;
+            System.arraycopy(segment._elements, half, newSegment._elements, 0, moved);
+            Arrays.fill(segment._elements, half, segment._count, null);
+            newSegment._count = moved;
+            segment._count = half;
+            linkAfter(newSegment, segment);
+            _resident.put(newSegment, newSegment);
+            if (offset > half) {
+                segment = newSegment;
+                offset -= half;
+            }
+        }
+        System.arraycopy(segment._elements, offset, segment._elements, offset + 1, segment._count - offset);
+        segment._elements[offset] = element;
+        segment._count++;
+        segment._dirty = true;
+        _size++;
+        _modCount++;
+        evict(segment);
+    }
+
+
+    /**
+     * Removes the element at the specified offset of a segment in memory and returns it.
+     *
+     * @param segment - a segment of this list that is in memory.
+     * @param offset - the offset of the element within the segment.
+     * @return the removed element.
+     */
+    private E delete(Segment<E> segment, int offset) {
+        E element = segment.get(offset);
+        System.arraycopy(segment._elements, offset + 1, segment._elements, offset, segment._count - offset - 1);
+        segment._count--;
+        segment._elements[segment._count] = null;
+        segment._dirty = true;
+        if (segment._count == EMPTY) {
+            unlink(segment);
+        }
+        else if (segment._next != null && segment._next._elements != null
+                && segment._count <= _segmentCapacity / 2
+                && segment._count + segment._next._count <= _segmentCapacity) {
+            Segment<E> nextSegment = segment._next;
+            System.arraycopy(nextSegment._elements, 0, segment._elements, segment._count, nextSegment._count);
+            segment._count += nextSegment._count;
+            unlink(nextSegment);
+        }
+        _size--;
+        _modCount++;
+        return element;
+    }
+
+
+    /**
+     * Links the specified segment directly after the specified predecessor,
+     * or at the head of this list if the predecessor is null.
+     *
+     * @param segment - the segment to be linked.
+     * @param predecessor - the segment that will precede the new segment, or null.
+     */
+    private void linkAfter(Segment<E> segment, Segment<E> predecessor) {
+        Segment<E> successor = (predecessor == null) ? _head : predecessor._next;
+        segment._prev = predecessor;
+        segment._next = successor;
+        if (predecessor == null) {
+            _head = segment;
+        }
+        else {
+            predecessor._next = segment;
+        }
+        if (successor == null) {
+            _tail = segment;
+        }
+        else {
+            successor._prev = segment;
+        }
+        _segmentCount++;
+    }
+
+
+    /**
+     * Unlinks the specified segment from the chain of segments and forgets it.
+     *
+     * The bytes it occupied in the spill file are freed for later spills.
+     *
+     * @param segment - the segment to be unlinked.
+     */
+    private void unlink(Segment<E> segment) {
+        if (segment._prev == null) {
+            _head = segment._next;
+        }
+        else {
+            segment._prev._next = segment._next;
+        }
+        if (segment._next == null) {
+            _tail = segment._prev;
+        }
+        else {
+            segment._next._prev = segment._prev;
+        }
+        segment._prev = null;
+        segment._next = null;
+        _resident.remove(segment);
+        releaseSlot(segment);
+        _segmentCount--;
+    }
+
+
+    /**
+     * Makes sure the elements of the specified segment are in memory, and marks it as just used.
+     *
+     * @param segment - a segment of this list.
+     * @throws UncheckedIOException if the segment cannot be read from the spill file.
+     */
+    private void load(Segment<E> segment) {
+        if (segment._elements == null) {
+            reload(segment);
+            admit(segment);
+        }
+        else {
+            _resident.get(segment);
+        }
+    }
+
+
+    /**
+     * Counts the specified segment as being in memory, spilling others if that exceeds the budget.
+     *
+     * @param segment - a segment of this list whose elements are in memory.
+     */
+    private void admit(Segment<E> segment) {
+        _resident.put(segment, segment);
+        evict(segment);
+    }
+
+
+    /**
+     * Spills the segments used least recently until the budget is met.
+     *
+     * The head, the tail and the specified segment are never spilled.
+     *
+     * @param pinned - a segment that is being worked on.
+     * @throws UncheckedIOException if a segment cannot be written to the spill file.
+     */
+    private void evict(Segment<E> pinned) {
+        Iterator<Segment<E>> candidates = _resident.keySet().iterator();
+        while (_resident.size() > _maxResidentSegments && candidates.hasNext()) {
+            Segment<E> candidate = candidates.next();
+            if (candidate != _head && candidate != _tail && candidate != pinned) {
+                spill(candidate);
+                candidates.remove();
+            }
+        }
+    }
+
+
+    /**
+     * Writes the elements of the specified segment to the spill file, unless the file already holds
+     * them, and releases them.
+     *
+     * A changed segment is written over its previous bytes if it still fits there,
+     * and otherwise into the smallest free slot it fits in or at the end of the file.
+     *
+     * @param segment - a segment of this list whose elements are in memory.
+     * @throws UncheckedIOException if the segment cannot be written.
+     */
+    private void spill(Segment<E> segment) {
+        if (segment._dirty || segment._spillOffset == NOT_SPILLED) {
+            encode(segment);
+            int length = _buffer.remaining();
+            if (length > segment._spillCapacity) {
+                releaseSlot(segment);
+                allocateSlot(segment, length);
+            }
+            segment._spillLength = length;
+            try {
+                long position = segment._spillOffset;
+                while (_buffer.hasRemaining()) {
+                    position += _channel.write(_buffer, position);
+                }
+            }
+            catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            _bytesWritten += length;
+            segment._dirty = false;
+        }
+        segment._elements = null;
+        _spills++;
+    }
+
+
+    /**
+     * Gives the specified segment the smallest free slot of the spill file that holds the specified
+     * number of bytes, or new bytes at the end of the file if no free slot is large enough.
+     *
+     * @param segment - a segment of this list without a slot.
+     * @param length - the number of bytes the segment needs.
+     */
+    private void allocateSlot(Segment<E> segment, int length) {
+        Map.Entry<Integer, ArrayDeque<Long>> slots = _freeSlots.ceilingEntry(length);
+        if (slots == null) {
+            segment._spillOffset = _fileEnd;
+            segment._spillCapacity = length;
+            _fileEnd += length;
+        }
+        else {
+            segment._spillOffset = slots.getValue().pop();
+            segment._spillCapacity = slots.getKey();
+            if (slots.getValue().isEmpty()) {
+                _freeSlots.remove(slots.getKey());
+            }
+        }
+    }
+
+
+    /**
+     * Frees the slot of the spill file the specified segment was written to, if it has one.
+     *
+     * @param segment - a segment of this list.
+     */
+    private void releaseSlot(Segment<E> segment) {
+        if (segment._spillOffset != NOT_SPILLED) {
+            _freeSlots.computeIfAbsent(segment._spillCapacity, capacity -> new ArrayDeque<>())
+                    .push(segment._spillOffset);
+            segment._spillOffset = NOT_SPILLED;
+            segment._spillCapacity = 0;
+        }
+    }
+
+
+    /**
+     * Encodes the elements of the specified segment into the buffer and flips it for writing.
+     *
+     * The buffer is doubled for as long as the elements do not fit.
+     *
+     * @param segment - a segment of this list whose elements are in memory.
+     */
+    private void encode(Segment<E> segment) {
+        boolean encoded = false;
+        while (!encoded) {
+            _buffer.clear();
+            try {
+                for (int i = 0; i < segment._count; i++) {
+                    _codec.encode(segment.get(i), _buffer);
+                }
+                encoded = true;
+            }
+            catch (BufferOverflowException e) {
+                _buffer = ByteBuffer.allocate(2 * _buffer.capacity());
+            }
+        }
+        _buffer.flip();
+    }
+
+
+    /**
+     * Reads the elements of the specified spilled segment back from the spill file.
+     *
+     * @param segment - a segment of this list whose elements were spilled.
+     * @throws UncheckedIOException if the segment cannot be read.
+     */
+    @SuppressWarnings("unchecked")
+    private void reload(Segment<E> segment) {
+        if (_buffer.capacity() < segment._spillLength) {
+            _buffer = ByteBuffer.allocate(Integer.highestOneBit(segment._spillLength) << 1);
+        }
+        _buffer.clear().limit(segment._spillLength);
+        try {
+            long position = segment._spillOffset;
+            while (_buffer.hasRemaining()) {
+                int read = _channel.read(_buffer, position);
+                if (read < 0) {
+                    throw new EOFException(
+                            "Segment at offset " + segment._spillOffset + " is past the end of the spill file");
+                }
+                position += read;
+            }
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        _buffer.flip();
+        Object[] elements = new Object[_segmentCapacity];
+        for (int i = 0; i < segment._count; i++) {
+            elements[i] = _codec.decode(_buffer);
+        }
+        segment._elements = elements;
+        _bytesRead += segment._spillLength;
+        _reloads++;
+    }
+
+
+    /**
+     * This inner class describes the segments of which a SpillingLinkedList consists of.
+     * Each segment has the number of elements it holds and references to the segments
+     * preceding and succeeding it, which always stay in memory, and either an array of its elements
+     * or the place in the spill file its elements were written to.
+     * The start index is the index of its first element as last found by traverse.
+     *
+     * @param <E> - the type of value this segment contains.
+     */
+    private static class Segment<E> {
+        private Object[] _elements;
+        private int _count;
+        private int _startIndex;
+        private boolean _dirty;
+        private long _spillOffset;
+        private int _spillLength;
+        private int _spillCapacity;
+        private Segment<E> _prev;
+        private Segment<E> _next;
+
+
+        /**
+         * Creates an empty instance of a Segment with the specified capacity.
+         *
+         * @param capacity - the number of elements this segment can hold.
+         */
+        private Segment(int capacity) {
+            _elements = new Object[capacity];
+            _count = 0;
+            _startIndex = 0;
+            _dirty = true;
+            _spillOffset = NOT_SPILLED;
+            _spillLength = 0;
+            _spillCapacity = 0;
+            _prev = null;
+            _next = null;
+        }
+
+
+        /**
+         * Returns the element at the specified offset in this segment.
+         *
+         * @param offset - offset of the element within this segment.
+         * @return the element at the specified offset.
+         */
+        @SuppressWarnings("unchecked")
+        private E get(int offset) {
+            return (E) _elements[offset];
+        }
+    }
+
+
+    /**
+     * SpillingIterator is an inner class of SpillingLinkedList
+     * and an implementation of the Iterator interface.
+     *
+     * The iterator reads each segment back when it reaches it and marks it as used only then,
+     * so iterating costs one reload per spilled segment and no extra work per element.
+     */
+    private class SpillingIterator implements Iterator<E> {
+
+        private Segment<E> _segment;
+        private int _offset;
+        private int _nextIndex;
+        private final int _expectedModCount;
+
+
+        /**
+         * Creates an instance of a SpillingIterator positioned at the first element.
+         */
+        private SpillingIterator() {
+            _segment = _head;
+            _offset = 0;
+            _nextIndex = 0;
+            _expectedModCount = _modCount;
+        }
+
+
+        /**
+         * Returns true if the iteration has more elements.
+         *
+         * @return true if the iteration has more elements.
+         */
+        public boolean hasNext() {
+            return _nextIndex < size();
+        }
+
+
+        /**
+         * Returns the next element in the iteration.
+         *
+         * @return the next element in the list.
+         * @throws NoSuchElementException if the iteration has no more elements.
+         * @throws ConcurrentModificationException if the list was structurally modified.
+         * @throws UncheckedIOException if a spilled segment cannot be read back.
+         */
+        public E next() {
+            if (_modCount != _expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            if (_offset == _segment._count) {
+                _segment = _segment._next;
+                _offset = 0;
+                load(_segment);
+            }
+            else if (_segment._elements == null) {
+                load(_segment);
+            }
+            _nextIndex++;
+            return _segment.get(_offset++);
+        }
+    }
+}
@@ -0,0 +1,279 @@
+package linkedlist;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Function;
+
+/**
+ * The StampedLinkedList class describes a thread-safe wrapper around a LinkedList for read-mostly use.
+ *
+ * Every read first runs optimistically: it takes a stamp from a StampedLock without blocking,
+ * reads the list, and then checks that no writer took the lock in the meantime. Only when a writer
+ * did intervene is the read repeated under the read lock, so any number of readers can work at once
+ * without writing to a shared monitor. Writes take the write lock.
+ *
+ * An optimistic read may observe the list halfway through a write. Such a read can return a wrong
+ * value or fail with an exception, but its stamp will then not validate, and the read is discarded
+ * and repeated under the lock. The wrapped list is created without a finger, so that reading it
+ * never writes to it. Iterators walk a snapshot of the list taken when they are created.
+ *
+ * @param <E> - the type of elements held in this collection.
+ * @author ereimer18georgefox.edu
+ */
+public class StampedLinkedList<E> implements Iterable<E> {
+
+    private final LinkedList<E> _list;
+    private final StampedLock _lock;
+
+
+    /**
+     * Constructs an instance of a StampedLinkedList.
+     *
+     * Constructs an empty instance of a StampedLinkedList
+     * backed by a new LinkedList without a finger.
+     */
+    public StampedLinkedList() {
+        _list = new LinkedList<>(false);
+        _lock = new StampedLock();
+    }
+
+
+    /**
+     * Inserts the specified element at the specified position in this list.
+     *
+     * Takes the write lock and inserts the element into the wrapped list.
+     *
+     * @param index - index at which the specified element is to be inserted.
+     * @param element - element to be inserted.
+     * @throws IndexOutOfBoundsException - if the index is out of range
+     * (index < 0 || index > size()).
+     */
+    public void add(int index, E element) {
+        long stamp = _lock.writeLock();
+        try {
+            _list.add(index, element);
+        }
+        finally {
+            _lock.unlockWrite(stamp);
+        }
+    }
+
+
+    /**
+     * Appends the specified element to the end of this list.
+     *
+     * Takes the write lock and appends the element to the wrapped list.
+     *
+     * @param element - element to be appended to this list.
+     * @return true.
+     */
+    public boolean add(E element) {
+        long stamp = _lock.writeLock();
+        try {
+            return _list.add(element);
+        }
+        finally {
+            _lock.unlockWrite(stamp);
+        }
+    }
+
+
+    /**
+     * Removes all of the elements from this list.
+     *
+     * Takes the write lock and clears the wrapped list.
+     */
+    public void clear() {
+        long stamp = _lock.writeLock();
+        try {
+            _list.clear();
+        }
+        finally {
+            _lock.unlockWrite(stamp);
+        }
+    }
+
+
+    /**
+     * Returns the element at the specified position in this list.
+     *
+     * Reads the element optimistically, and again under the read lock if a writer intervened.
+     *
+     * @param index - index of the element to return.
+     * @return the element at the specified position in this list.
+     * @throws IndexOutOfBoundsException - if the index is out of range
+     * (index < 0 || index >= size()).
+     */
+    public E get(int index) {
+        return read(list -> list.get(index));
+    }
+
+
+    /**
+     * Returns the index of the first occurrence of the specified element in this list.
+     *
+     * Searches the list optimistically, and again under the read lock if a writer intervened.
+     *
+     * @param element - element to search for.
+     * @return the index of the first occurrence of the element, or -1 if it is not in this list.
+     */
+    public int indexOf(E element) {
+        return read(list -> list.indexOf(element));
+    }
+
+
+    /**
+     * Returns true if this list contains no elements.
+     *
+     * @return true if this list contains no elements.
+     */
+    public boolean isEmpty() {
+        return read(LinkedList::isEmpty);
+    }
+
+
+    /**
+     * Removes the element at the specified position in this list.
+     *
+     * Takes the write lock and removes the element from the wrapped list.
+     *
+     * @param index - the index of the element to be removed.
+     * @return the element previously at the specified position.
+     * @throws IndexOutOfBoundsException - if the index is out of range
+     * (index < 0 || index >= size()).
+     */
+    public E remove(int index) {
+        long stamp = _lock.writeLock();
+        try {
+            return _list.remove(index);
+        }
+        finally {
+            _lock.unlockWrite(stamp);
+        }
+    }
+
+
+    /**
+     * Replaces the element at the specified position in this list with the specified element.
+     *
+     * Takes the write lock and replaces the element in the wrapped list.
+     *
+     * @param index - index of the element to replace.
+     * @param element - element to be stored at the specified position.
+     * @return the element previously at the specified position.
+     * @throws IndexOutOfBoundsException - if the index is out of range
+     * (index < 0 || index >= size()).
+     */
+    public E set(int index, E element) {
+        long stamp = _lock.writeLock();
+        try {
+            return _list.set(index, element);
+        }
+        finally {
+            _lock.unlockWrite(stamp);
+        }
+    }
+
+
+    /**
+     * Returns the number of elements in this list.
+     *
+     * @return the number of elements in this list.
+     */
+    public int size() {
+        return read(LinkedList::size);
+    }
+
+
+    /**
+     * Returns an iterator over a snapshot of this list.
+     *
+     * The snapshot is copied with a single read, so the iterator sees the list
+     * as it was at one moment and is not affected by later writes.
+     * The iterator does not support removal.
+     *
+     * @return an Iterator over the elements of this list from first to last.
+     */
+    public Iterator<E> iterator() {
+        return read(StampedLinkedList::copy).iterator();
+    }
+
+
+    /**
+     * Returns an iterator over a snapshot of this list in reverse order.
+     *
+     * The snapshot is copied with a single read, so the iterator sees the list
+     * as it was at one moment and is not affected by later writes.
+     * The iterator does not support removal.
+     *
+     * @return an Iterator over the elements of this list from last to first.
+     */
+    public Iterator<E> reverseIterator() {
+        List<E> snapshot = read(StampedLinkedList::copy);
+        Collections.reverse(snapshot);
+        return snapshot.iterator();
+    }
+
+
+    /**
+     * Returns the result of the specified read of the wrapped list.
+     *
+     * Runs the read without locking and keeps its result, or the exception it threw,
+     * if no writer took the lock while it ran. Otherwise the read is run again under
+     * the read lock, where it cannot observe a write in progress.
+     *
+     * @param reader - the read to perform on the wrapped list.
+     * @return the result of the read.
+     */
+    private <T> T read(Function<LinkedList<E>, T> reader) {
+        T result = null;
+        RuntimeException failure = null;
+        long stamp = _lock.tryOptimisticRead();
+        if (stamp != 0) {
+            try {
+                result = reader.apply(_list);
+            }
+            catch (RuntimeException e) {
+                failure = e;
+            }
+        }
+        if (stamp == 0 || !_lock.validate(stamp)) {
+            failure = null;
+            stamp = _lock.readLock();
+            try {
+                result = reader.apply(_list);
+            }
+            finally {
+                _lock.unlockRead(stamp);
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+        return result;
+    }
+
+
+    /**
+     * Returns a copy of the elements of the specified list.
+     *
+     * Copies at most as many elements as the list held when the copy started,
+     * so a copy taken during a write cannot run on indefinitely.
+     * The result is only used if the read it belongs to is valid.
+     *
+     * @param list - the list to copy.
+     * @return a modifiable List holding the elements of the list in order.
+     */
+    private static <E> List<E> copy(LinkedList<E> list) {
+        int size = list.size();
+        List<E> snapshot = new ArrayList<>(size);
+        Iterator<E> iterator = list.iterator();
+        for (int i = 0; i < size && iterator.hasNext(); i++) {
+            snapshot.add(iterator.next());
+        }
+        return snapshot;
+    }
+}
@@ -0,0 +1,781 @@
+package linkedlist;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * The UnrolledLinkedList class describes a doubly-linked list
+ * whose nodes each hold a small array of elements.
+ *
+ * This class offers the same methods as LinkedList, but instead of one node per element
+ * the elements are packed into arrays that are linked together.
+ * Sequential scans read neighbouring array slots instead of chasing a reference per element,
+ * and the per-element overhead drops from a whole node to a single array slot.
+ * A node is split in half when an element is inserted into it while it is full,
+ * and it is merged with its successor when a removal leaves both of them at most half full.
+ *
+ * @param <E> - the type of elements held in this collection.
+ * @author ereimer18georgefox.edu
+ */
+public class UnrolledLinkedList<E> implements Iterable<E> {
+
+    private static final int EMPTY = 0;
+    private static final int NOT_FOUND = -1;
+    private static final int DEFAULT_NODE_CAPACITY = 32;
+    private static final int MINIMUM_NODE_CAPACITY = 2;
+
+    private final int _nodeCapacity;
+    private UnrolledNode<E> _head;
+    private UnrolledNode<E> _tail;
+    private int _size;
+    private int _modCount;
+
+
+    /**
+     * Constructs an instance of an UnrolledLinkedList.
+     *
+     * Constructs an empty instance of an UnrolledLinkedList
+     * whose nodes hold up to 32 elements each.
+     */
+    public UnrolledLinkedList() {
+        this(DEFAULT_NODE_CAPACITY);
+    }
+
+
+    /**
+     * Constructs an instance of an UnrolledLinkedList.
+     *
+     * Constructs an empty instance of an UnrolledLinkedList
+     * whose nodes hold up to the specified number of elements each.
+     * The head and tail are null until the first element is added.
+     *
+     * @param nodeCapacity - the number of elements each node can hold.
+     * @throws IllegalArgumentException if the node capacity is less than 2.
+     */
+    public UnrolledLinkedList(int nodeCapacity) {
+        if (nodeCapacity < MINIMUM_NODE_CAPACITY) {
+            throw new IllegalArgumentException();
+        }
+        _nodeCapacity = nodeCapacity;
+        _head = null;
+        _tail = null;
+        _size = 0;
+        _modCount = 0;
+    }
+
+
+    /**
+     * Inserts the specified element at the specified position in this list.
+     *
+     * Shifts the element currently at that position (if any) and any subsequent elements to the right.
+     * Only the elements of the node holding the position are moved;
+     * the node is split in half first if it is full.
+     *
+     * @param index - index at which the specified element is to be inserted.
+     * @param element - element to be inserted.
+     * @throws IndexOutOfBoundsException if the index is out of range (index < 0 || index >= size()).
+     */
+    public void add(int index, E element) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException();
+        }
+        insert(traverse(index), element);
+    }
+
+
+    /**
+     * Appends the specified element to the end of this list.
+     *
+     * The element is stored in the tail node, or in a new tail node if the tail is full.
+     *
+     * @param element - element to be appended to this list.
+     * @return if the append was successful.
+     */
+    public boolean add(E element) {
+        if (_tail == null || _tail._count == _nodeCapacity) {
+            UnrolledNode<E> newNode = new UnrolledNode<>(_nodeCapacity);
+            linkAfter(newNode, _tail);
+        }
+        _tail._elements[_tail._count] = element;
+        _tail._count++;
+        _size++;
+        _modCount++;
+        return true;
+    }
+
+
+    /**
+     * Removes all of the elements from this list.
+     *
+     * The head and tail are set to null and the nodes are left to be recycled.
+     * The list will be empty after this call returns.
+     */
+    public void clear() {
+        _head = null;
+        _tail = null;
+        _size = EMPTY;
+        _modCount++;
+    }
+
+
+    /**
+     * Returns the element at the specified position in this list.
+     *
+     * Traverses node by node to the node holding the index and reads the element from its array.
+     *
+     * @param index - index of the element to return.
+     * @return the element at the specified position in this list.
+     * @throws IndexOutOfBoundsException - if the index is out of range
+     * (index < 0 || index >= size()).
+     */
+    public E get(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException();
+        }
+        Position<E> position = traverse(index);
+        return position._node.get(position._offset);
+    }
+
+
+    /**
+     * Returns the index of the first occurrence of the specified element in this list,
+     * or -1 if this list does not contain the element.
+     *
+     * Scans the array of each node in turn, starting from the head,
+     * and compares elements with equals.
+     *
+     * @param element - element to search for.
+     * @return the index of the first occurrence of the specified element in this list,
+     * or -1 if this list does not contain the element.
+     */
+    public int indexOf(E element) {
+        int index = NOT_FOUND;
+        int start = EMPTY;
+        UnrolledNode<E> currentNode = _head;
+        while (index == NOT_FOUND && currentNode != null) {
+            Object[] elements = currentNode._elements;
+            int count = currentNode._count;
+            for (int i = 0; i < count && index == NOT_FOUND; i++) {
+                if (Objects.equals(elements[i], element)) {
+                    index = start + i;
+                }
+            }
+            start += count;
+            currentNode = currentNode._next;
+        }
+        return index;
+    }
+
+
+    /**
+     * Returns true if this list contains no elements.
+     *
+     * @return if this list contains no elements.
+     */
+    public boolean isEmpty() {
+        return size() <= EMPTY;
+    }
+
+
+    /**
+     * Removes the element at the specified position in this list.
+     *
+     * Shifts any subsequent elements to the left.
+     * Returns the element that was removed from the list.
+     * The node is unlinked if it becomes empty, or merged with its successor
+     * if both of them fit into a single node.
+     *
+     * @param index - the index of the element to be removed.
+     * @return the element previously at the specified position.
+     * @throws IndexOutOfBoundsException - if the index is out of range
+     * (index < 0 || index >= size()).
+     */
+    public E remove(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException();
+        }
+        return delete(traverse(index));
+    }
+
+
+    /**
+     * Replaces the element at the specified position in this list with the specified element.
+     *
+     * @param index - index of the element to replace.
+     * @param element - element to be stored at the specified position.
+     * @return the element previously at the specified position.
+     * @throws IndexOutOfBoundsException - if the index is out of range
+     * (index < 0 || index >= size()).
+     */
+    public E set(int index, E element) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException();
+        }
+        Position<E> position = traverse(index);
+        E previousElement = position._node.get(position._offset);
+        position._node._elements[position._offset] = element;
+        return previousElement;
+    }
+
+
+    /**
+     * Returns the number of elements in this list.
+     *
+     * @return the number of elements in this list.
+     */
+    public int size() {
+        return _size;
+    }
+
+
+    /**
+     * Returns an iterator over elements of type E.
+     *
+     * The iterator starts at the head and walks each node's array in order.
+     *
+     * @return an Iterator.
+     */
+    public Iterator<E> iterator() {
+        return new UnrolledListIterator(0);
+    }
+
+
+    /**
+     * Returns an iterator over elements of type E that iterates backwards from the tail.
+     *
+     * @return an Iterator.
+     */
+    public Iterator<E> reverseIterator() {
+        return new ReverseUnrolledListIterator();
+    }
+
+
+    /**
+     * Returns a list iterator over the elements in this list.
+     *
+     * @return a ListIterator positioned at the head of this list.
+     */
+    public ListIterator<E> listIterator() {
+        return new UnrolledListIterator(0);
+    }
+
+
+    /**
+     * Returns a list iterator over the elements in this list,
+     * starting at the specified position in this list.
+     *
+     * @param index - index of the first element to be returned by next().
+     * @return a ListIterator positioned at the specified index.
+     * @throws IndexOutOfBoundsException - if the index is out of range
+     * (index < 0 || index > size()).
+     */
+    public ListIterator<E> listIterator(int index) {
+        if (index < 0 || index > size()) {
+            throw new IndexOutOfBoundsException();
+        }
+        return new UnrolledListIterator(index);
+    }
+
+
+    /**
+     * Returns the position of the element at the specified index.
+     *
+     * Depending on the shortest path to the index, this method walks
+     * forwards from the head or backwards from the tail, skipping a whole node per step.
+     * An index equal to the size of this list returns the position after the last element.
+     *
+     * @param index - index of the position to be returned (0 <= index <= size()).
+     * @return the node holding the index and the offset of the index within that node.
+     */
+    private Position<E> traverse(int index) {
+        UnrolledNode<E> currentNode;
+        int offset;
+        if (index == size()) {
+            currentNode = _tail;
+            offset = (_tail == null) ? 0 : _tail._count;
+        }
+        else if (size() - index >= size() / 2) {
+            currentNode = _head;
+            offset = index;
+            while (offset >= currentNode._count) {
+                offset -= currentNode._count;
+                currentNode = currentNode._next;
+            }
+        }
+        else {
+            currentNode = _tail;
+            offset = index - (size() - _tail._count);
+            while (offset < 0) {
+                currentNode = currentNode._prev;
+                offset += currentNode._count;
+            }
+        }
+        return new Position<>(currentNode, offset);
+    }
+
+
+    /**
+     * Inserts the specified element before the specified position.
+     *
+     * If the node at the position is full, it is split in half first.
+     * Afterwards the position refers to the element that followed the inserted element.
+     *
+     * @param position - the position to insert at; updated to the slot after the new element.
+     * @param element - element to be inserted.
+     */
+    private void insert(Position<E> position, E element) {
+        UnrolledNode<E> node = position._node;
+        int offset = position._offset;
+        if (node == null) {
+            node = new UnrolledNode<>(_nodeCapacity);
+            linkAfter(node, null);
+            offset = 0;
+        }
+        else if (node._count == _nodeCapacity) {
+            UnrolledNode<E> newNode = new UnrolledNode<>(_nodeCapacity);
+            int half = node._count / 2;
+            int moved = node._count - half;
+            System.arraycopy(node._elements, half, newNode._elements, 0, moved);
+            Arrays.fill(node._elements, half, node._count, null);
+            newNode._count = moved;
+            node._count = half;
+            linkAfter(newNode, node);
+            if (offset > half) {
+                node = newNode;
+                offset -= half;
+            }
+        }
+        System.arraycopy(node._elements, offset, node._elements, offset + 1, node._count - offset);
+        node._elements[offset] = element;
+        node._count++;
+        _size++;
+        _modCount++;
+        position._node = node;
+        position._offset = offset + 1;
+    }
+
+
+    /**
+     * Removes the element at the specified position and returns it.
+     *
+     * An empty node is unlinked, and a node that is at most half full is merged with
+     * its successor if both fit into one node.
+     * Afterwards the position refers to the element that followed the removed element.
+     *
+     * @param position - the position of the element; updated to the slot of the following element.
+     * @return the removed element.
+     */
+    private E delete(Position<E> position) {
+        UnrolledNode<E> node = position._node;
+        int offset = position._offset;
+        if (offset == node._count) {
+            node = node._next;
+            offset = 0;
+        }
+        E element = node.get(offset);
+        System.arraycopy(node._elements, offset + 1, node._elements, offset, node._count - offset - 1);
+        node._count--;
+        node._elements[node._count] = null;
+
+        if (node._count == EMPTY) {
+            UnrolledNode<E> nextNode = node._next;
+            UnrolledNode<E> previousNode = node._prev;
+            unlink(node);
+            if (nextNode != null) {
+                node = nextNode;
+                offset = 0;
+            }
+            else {
+                node = previousNode;
+                offset = (previousNode == null) ? 0 : previousNode._count;
+            }
+        }
+        else if (node._next != null && node._count <= _nodeCapacity / 2
+                && node._count + node._next._count <= _nodeCapacity) {
+            UnrolledNode<E> nextNode = node._next;
+            System.arraycopy(nextNode._elements, 0, node._elements, node._count, nextNode._count);
+            node._count += nextNode._count;
+            unlink(nextNode);
+        }
+        _size--;
+        _modCount++;
+        position._node = node;
+        position._offset = offset;
+        return element;
+    }
+
+
+    /**
+     * Links the specified node directly after the specified predecessor,
+     * or at the head of this list if the predecessor is null.
+     *
+     * @param node - the node to be linked.
+     * @param predecessor - the node that will precede the new node, or null.
+     */
+    private void linkAfter(UnrolledNode<E> node, UnrolledNode<E> predecessor) {
+        UnrolledNode<E> successor = (predecessor == null) ? _head : predecessor._next;
+        node._prev = predecessor;
+        node._next = successor;
+        if (predecessor == null) {
+            _head = node;
+        }
+        else {
+            predecessor._next = node;
+        }
+        if (successor == null) {
+            _tail = node;
+        }
+        else {
+            successor._prev = node;
+        }
+    }
+
+
+    /**
+     * Unlinks the specified node from the chain of nodes.
+     *
+     * @param node - the node to be unlinked.
+     */
+    private void unlink(UnrolledNode<E> node) {
+        if (node._prev == null) {
+            _head = node._next;
+        }
+        else {
+            node._prev._next = node._next;
+        }
+        if (node._next == null) {
+            _tail = node._prev;
+        }
+        else {
+            node._next._prev = node._prev;
+        }
+        node._prev = null;
+        node._next = null;
+    }
+
+
+    /**
+     * This inner class describes the nodes of which an UnrolledLinkedList consists of.
+     * Each node has an array of elements, the number of elements in use, and a reference
+     * to the node preceding this node and the node succeeding this node in the list.
+     *
+     * @param <E> - the type of value this node contains.
+     */
+    private static class UnrolledNode<E> {
+        private final Object[] _elements;
+        private int _count;
+        private UnrolledNode<E> _prev;
+        private UnrolledNode<E> _next;
+
+
+        /**
+         * Creates an empty instance of an UnrolledNode with the specified capacity.
+         *
+         * @param capacity - the number of elements this node can hold.
+         */
+        private UnrolledNode(int capacity) {
+            _elements = new Object[capacity];
+            _count = 0;
+            _prev = null;
+            _next = null;
+        }
+
+
+        /**
+         * Returns the element at the specified offset in this node.
+         *
+         * @param offset - offset of the element within this node.
+         * @return the element at the specified offset.
+         */
+        @SuppressWarnings("unchecked")
+        private E get(int offset) {
+            return (E) _elements[offset];
+        }
+    }
+
+
+    /**
+     * This inner class describes a position in an UnrolledLinkedList:
+     * a node and an offset into the array of that node.
+     * An offset equal to the count of the node refers to the slot after its last element.
+     *
+     * @param <E> - the type of value the node contains.
+     */
+    private static class Position<E> {
+        private UnrolledNode<E> _node;
+        private int _offset;
+
+
+        /**
+         * Creates an instance of a Position.
+         *
+         * @param node - the node of this position.
+         * @param offset - the offset within the node.
+         */
+        private Position(UnrolledNode<E> node, int offset) {
+            _node = node;
+            _offset = offset;
+        }
+    }
+
+
+    /**
+     * UnrolledListIterator is an inner class of UnrolledLinkedList
+     * and an implementation of the ListIterator interface.
+     *
+     * The iterator holds the position of the element it will return next,
+     * so moving forwards or backwards reads the neighbouring array slot.
+     * If this list is structurally modified other than through this iterator,
+     * the position of the iterator is resolved again from its index on the next move.
+     */
+    private class UnrolledListIterator implements ListIterator<E> {
+
+        private Position<E> _cursor;
+        private int _nextIndex;
+        private boolean _canModify;
+        private boolean _lastWasNext;
+        private int _expectedModCount;
+
+
+        /**
+         * Creates an instance of an UnrolledListIterator positioned before the specified index.
+         *
+         * @param index - index of the first element to be returned by next().
+         */
+        private UnrolledListIterator(int index) {
+            _cursor = traverse(index);
+            _nextIndex = index;
+            _canModify = false;
+            _expectedModCount = _modCount;
+        }
+
+
+        /**
+         * Returns true if the iteration has more elements when moving forwards.
+         *
+         * @return true if the iteration has more elements.
+         */
+        public boolean hasNext() {
+            return _nextIndex < size();
+        }
+
+
+        /**
+         * Returns the next element in the iteration.
+         *
+         * Moves to the next node once the array of the current node is exhausted.
+         *
+         * @return the next element in the iteration.
+         * @throws NoSuchElementException if the iteration has no more elements.
+         */
+        public E next() {
+            synchronize();
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            if (_cursor._offset == _cursor._node._count) {
+                _cursor._node = _cursor._node._next;
+                _cursor._offset = 0;
+            }
+            E element = _cursor._node.get(_cursor._offset);
+            _cursor._offset++;
+            _nextIndex++;
+            _canModify = true;
+            _lastWasNext = true;
+            return element;
+        }
+
+
+        /**
+         * Returns true if the iteration has more elements when moving backwards.
+         *
+         * @return true if the iteration has more elements in the reverse direction.
+         */
+        public boolean hasPrevious() {
+            return _nextIndex > EMPTY;
+        }
+
+
+        /**
+         * Returns the previous element in the iteration.
+         *
+         * @return the previous element in the iteration.
+         * @throws NoSuchElementException if the iteration has no previous element.
+         */
+        public E previous() {
+            synchronize();
+            if (!hasPrevious()) {
+                throw new NoSuchElementException();
+            }
+            stepBack();
+            _nextIndex--;
+            _canModify = true;
+            _lastWasNext = false;
+            return _cursor._node.get(_cursor._offset);
+        }
+
+
+        /**
+         * Returns the index of the element that would be returned by next().
+         *
+         * @return the index of the next element, or the size of the list if at the end.
+         */
+        public int nextIndex() {
+            return _nextIndex;
+        }
+
+
+        /**
+         * Returns the index of the element that would be returned by previous().
+         *
+         * @return the index of the previous element, or -1 if at the head of the list.
+         */
+        public int previousIndex() {
+            return _nextIndex - 1;
+        }
+
+
+        /**
+         * Removes the element last returned by next() or previous() from the list.
+         *
+         * Only the elements of the node holding the removed element are moved.
+         *
+         * @throws IllegalStateException if no element has been returned since the last
+         * call to add() or remove().
+         */
+        public void remove() {
+            synchronize();
+            if (!_canModify) {
+                throw new IllegalStateException();
+            }
+            if (_lastWasNext) {
+                stepBack();
+                _nextIndex--;
+            }
+            delete(_cursor);
+            _canModify = false;
+            _expectedModCount = _modCount;
+        }
+
+
+        /**
+         * Replaces the element last returned by next() or previous() with the specified element.
+         *
+         * @param element - element with which to replace the last returned element.
+         * @throws IllegalStateException if no element has been returned since the last
+         * call to add() or remove().
+         */
+        public void set(E element) {
+            synchronize();
+            if (!_canModify) {
+                throw new IllegalStateException();
+            }
+            if (_lastWasNext) {
+                stepBack();
+                _cursor._node._elements[_cursor._offset] = element;
+                _cursor._offset++;
+            }
+            else {
+                _cursor._node._elements[_cursor._offset] = element;
+            }
+        }
+
+
+        /**
+         * Inserts the specified element into the list at the position of this iterator.
+         *
+         * @param element - element to be inserted.
+         */
+        public void add(E element) {
+            synchronize();
+            insert(_cursor, element);
+            _nextIndex++;
+            _canModify = false;
+            _expectedModCount = _modCount;
+        }
+
+
+        /**
+         * Moves the cursor to the slot of the element before it.
+         */
+        private void stepBack() {
+            if (_cursor._offset == 0) {
+                _cursor._node = _cursor._node._prev;
+                _cursor._offset = _cursor._node._count;
+            }
+            _cursor._offset--;
+        }
+
+
+        /**
+         * Resolves the position of this iterator again if the list has been
+         * structurally modified other than through this iterator.
+         */
+        private void synchronize() {
+            if (_expectedModCount != _modCount) {
+                if (_nextIndex > size()) {
+                    _nextIndex = size();
+                }
+                _cursor = traverse(_nextIndex);
+                _canModify = false;
+                _expectedModCount = _modCount;
+            }
+        }
+    }
+
+
+    /**
+     * ReverseUnrolledListIterator is an inner class of UnrolledLinkedList
+     * and an implementation of the Iterator interface.
+     *
+     * This Iterator walks backwards from the tail of the list by following
+     * the previous() moves of an UnrolledListIterator positioned at the end of the list.
+     */
+    private class ReverseUnrolledListIterator implements Iterator<E> {
+
+        private ListIterator<E> _iterator;
+
+
+        /**
+         * Creates an instance of a ReverseUnrolledListIterator positioned after the last element.
+         */
+        private ReverseUnrolledListIterator() {
+            _iterator = new UnrolledListIterator(size());
+        }
+
+
+        /**
+         * Returns true if the iteration has more elements.
+         *
+         * @return true if the iteration has more elements.
+         */
+        public boolean hasNext() {
+            return _iterator.hasPrevious();
+        }
+
+
+        /**
+         * Returns the next element in the iteration, moving towards the head.
+         *
+         * @return the next element in the iteration.
+         * @throws NoSuchElementException if the iteration has no more elements.
+         */
+        public E next() {
+            return _iterator.previous();
+        }
+
+
+        /**
+         * Removes the element last returned by next() from the list.
+         *
+         * @throws IllegalStateException if next() has not been called,
+         * or if remove() has already been called after the last call to next().
+         */
+        public void remove() {
+            _iterator.remove();
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package linkedlist;
+
+import static org.hamcrest.CoreMatchers.*;
+import org.junit.*;
+import org.junit.rules.*;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class ArrayLinkedListTest {
+    private static final int OPERATIONS = 20000;
+    private static final long SEED = 7L;
+    private static final String STRING_VAL1 = "Gondor";
+    private static final String STRING_VAL2 = "Mordor";
+    private static final String STRING_VAL3 = "Trees";
+    private static final String STRING_VAL4 = "Saturn";
+
+    @Rule
+    public final ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void test_ArrayLinkedList_empty() {
+        ArrayLinkedList<String> list = new ArrayLinkedList<>();
+        assertThat(list.isEmpty(), equalTo(true));
+        assertThat(list.iterator().hasNext(), equalTo(false));
+        assertThat(list.reverseIterator().hasNext(), equalTo(false));
+    }
+
+    @Test
+    public void test_ArrayLinkedList_get_empty() {
+        thrown.expect(IndexOutOfBoundsException.class);
+        new ArrayLinkedList<String>().get(0);
+    }
+
+    @Test
+    public void test_ArrayLinkedList_add_index() {
+        ArrayLinkedList<String> list = new ArrayLinkedList<>();
+        list.add(STRING_VAL1);
+        list.add(STRING_VAL3);
+        list.add(1, STRING_VAL2);
+        list.add(0, STRING_VAL4);
+        assertThat(list.size(), equalTo(4));
+        assertThat(list.get(0), equalTo(STRING_VAL4));
+        assertThat(list.get(1), equalTo(STRING_VAL1));
+        assertThat(list.get(2), equalTo(STRING_VAL2));
+        assertThat(list.get(3), equalTo(STRING_VAL3));
+        assertThat(list.isCompacted(), equalTo(false));
+    }
+
+    @Test
+    public void test_ArrayLinkedList_remove_set_indexOf() {
+        ArrayLinkedList<String> list = new ArrayLinkedList<>();
+        list.add(STRING_VAL1);
+        list.add(STRING_VAL2);
+        list.add(STRING_VAL3);
+        assertThat(list.remove(1), equalTo(STRING_VAL2));
+        assertThat(list.set(1, STRING_VAL4), equalTo(STRING_VAL3));
+        assertThat(list.indexOf(STRING_VAL4), equalTo(1));
+        assertThat(list.indexOf(STRING_VAL2), equalTo(-1));
+        assertThat(list.getFirst(), equalTo(STRING_VAL1));
+        assertThat(list.getLast(), equalTo(STRING_VAL4));
+    }
+
+    @Test
+    public void test_ArrayLinkedList_reusesFreeSlots() {
+        ArrayLinkedList<Integer> list = new ArrayLinkedList<>(4);
+        for (int i = 0; i < 4; i++) {
+            list.add(i);
+        }
+        list.remove(1);
+        list.removeFirst();
+        list.addFirst(10);
+        list.add(1, 11);
+        assertThat(list.capacity(), equalTo(4));
+        list.add(12);
+        assertThat(list.capacity(), equalTo(16));
+        Iterator<Integer> iterator = list.iterator();
+        assertThat(iterator.next(), equalTo(10));
+        assertThat(iterator.next(), equalTo(11));
+        assertThat(iterator.next(), equalTo(2));
+        assertThat(iterator.next(), equalTo(3));
+        assertThat(iterator.next(), equalTo(12));
+    }
+
+    @Test
+    public void test_ArrayLinkedList_compact() {
+        ArrayLinkedList<Integer> list = new ArrayLinkedList<>();
+        for (int i = 0; i < 100; i++) {
+            list.add(0, i);
+        }
+        assertThat(list.isCompacted(), equalTo(false));
+        list.compact();
+        assertThat(list.isCompacted(), equalTo(true));
+        assertThat(list.get(0), equalTo(99));
+        assertThat(list.get(99), equalTo(0));
+        list.add(-1);
+        list.removeLast();
+        list.add(-2);
+        assertThat(list.isCompacted(), equalTo(true));
+        assertThat(list.get(100), equalTo(-2));
+        list.remove(5);
+        assertThat(list.isCompacted(), equalTo(false));
+        assertThat(list.get(5), equalTo(93));
+    }
+
+    @Test
+    public void test_ArrayLinkedList_compact_iteratorResolvesAgain() {
+        ArrayLinkedList<String> list = new ArrayLinkedList<>();
+        list.add(STRING_VAL1);
+        list.add(0, STRING_VAL2);
+        list.add(STRING_VAL3);
+        ListIterator<String> iterator = list.listIterator(1);
+        list.compact();
+        assertThat(iterator.next(), equalTo(STRING_VAL1));
+        iterator.remove();
+        assertThat(iterator.next(), equalTo(STRING_VAL3));
+        assertThat(list.size(), equalTo(2));
+    }
+
+    @Test
+    public void test_ArrayLinkedList_clear() {
+        ArrayLinkedList<String> list = new ArrayLinkedList<>();
+        list.add(STRING_VAL1);
+        list.add(0, STRING_VAL2);
+        list.clear();
+        assertThat(list.isEmpty(), equalTo(true));
+        assertThat(list.isCompacted(), equalTo(true));
+        list.add(STRING_VAL3);
+        assertThat(list.get(0), equalTo(STRING_VAL3));
+    }
+
+    @Test
+    public void test_ArrayLinkedList_listIterator() {
+        ArrayLinkedList<String> list = new ArrayLinkedList<>();
+        list.add(STRING_VAL1);
+        list.add(STRING_VAL3);
+        ListIterator<String> iterator = list.listIterator();
+        iterator.next();
+        iterator.add(STRING_VAL2);
+        iterator.next();
+        iterator.set(STRING_VAL4);
+        assertThat(iterator.previous(), equalTo(STRING_VAL4));
+        assertThat(iterator.previous(), equalTo(STRING_VAL2));
+        iterator.remove();
+        assertThat(iterator.nextIndex(), equalTo(1));
+        Iterator<String> reverse = list.reverseIterator();
+        assertThat(reverse.next(), equalTo(STRING_VAL4));
+        assertThat(reverse.next(), equalTo(STRING_VAL1));
+        assertThat(reverse.hasNext(), equalTo(false));
+    }
+
+    @Test
+    public void test_ArrayLinkedList_matchesArrayList() {
+        Random random = new Random(SEED);
+        ArrayLinkedList<Integer> list = new ArrayLinkedList<>();
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < OPERATIONS; i++) {
+            int operation = random.nextInt(10);
+            if (operation < 5 || expected.isEmpty()) {
+                int index = random.nextInt(expected.size() + 1);
+                list.add(index, i);
+                expected.add(index, i);
+            }
+            else if (operation < 8) {
+                int index = random.nextInt(expected.size());
+                assertThat(list.remove(index), equalTo(expected.remove(index)));
+            }
+            else if (operation < 9) {
+                int index = random.nextInt(expected.size());
+                assertThat(list.get(index), equalTo(expected.get(index)));
+            }
+            else {
+                list.compact();
+            }
+        }
+        List<Integer> actual = new ArrayList<>();
+        for (Integer element : list) {
+            actual.add(element);
+        }
+        assertThat(actual, equalTo(expected));
+    }
+
+    @Test
+    public void test_ArrayLinkedList_badCapacity() {
+        thrown.expect(IllegalArgumentException.class);
+        new ArrayLinkedList<String>(-1);
+    }
+}
@@ -0,0 +1,216 @@
+package linkedlist;
+
+import static org.hamcrest.CoreMatchers.*;
+import org.junit.*;
+import org.junit.rules.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+public class BlockingLinkedListTest {
+    private static final int PRODUCERS = 4;
+    private static final int ELEMENTS = 20000;
+    private static final String STRING_VAL1 = "Gondor";
+    private static final String STRING_VAL2 = "Mordor";
+    private static final String STRING_VAL3 = "Trees";
+
+    @Rule
+    public final ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void test_BlockingLinkedList_dequeOperations() {
+        BlockingLinkedList<String> deque = new BlockingLinkedList<>();
+        deque.offerLast(STRING_VAL2);
+        deque.offerFirst(STRING_VAL1);
+        deque.push(STRING_VAL3);
+        assertThat(deque.size(), equalTo(3));
+        assertThat(deque.peekFirst(), equalTo(STRING_VAL3));
+        assertThat(deque.peekLast(), equalTo(STRING_VAL2));
+        assertThat(deque.pollLast(), equalTo(STRING_VAL2));
+        assertThat(deque.pop(), equalTo(STRING_VAL3));
+        assertThat(deque.contains(STRING_VAL1), equalTo(true));
+        assertThat(deque.remove(STRING_VAL1), equalTo(true));
+        assertThat(deque.poll(), equalTo(null));
+        assertThat(deque.isEmpty(), equalTo(true));
+    }
+
+    @Test
+    public void test_BlockingLinkedList_bounded() throws InterruptedException {
+        BlockingLinkedList<String> deque = new BlockingLinkedList<>(2);
+        assertThat(deque.offer(STRING_VAL1), equalTo(true));
+        assertThat(deque.offer(STRING_VAL2), equalTo(true));
+        assertThat(deque.offer(STRING_VAL3), equalTo(false));
+        assertThat(deque.offer(STRING_VAL3, 10, TimeUnit.MILLISECONDS), equalTo(false));
+        assertThat(deque.remainingCapacity(), equalTo(0));
+        thrown.expect(IllegalStateException.class);
+        deque.add(STRING_VAL3);
+    }
+
+    @Test
+    public void test_BlockingLinkedList_putWaitsForTake() throws InterruptedException {
+        BlockingLinkedList<Integer> deque = new BlockingLinkedList<>(1);
+        deque.put(1);
+        CountDownLatch started = new CountDownLatch(1);
+        Thread producer = new Thread(() -> {
+            started.countDown();
+            try {
+                deque.put(2);
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        producer.start();
+        started.await();
+        assertThat(deque.take(), equalTo(1));
+        assertThat(deque.poll(5, TimeUnit.SECONDS), equalTo(2));
+        producer.join();
+    }
+
+    @Test
+    public void test_BlockingLinkedList_pollTimesOut() throws InterruptedException {
+        BlockingLinkedList<Integer> deque = new BlockingLinkedList<>();
+        assertThat(deque.pollFirst(10, TimeUnit.MILLISECONDS), equalTo(null));
+        assertThat(deque.pollLast(0, TimeUnit.MILLISECONDS), equalTo(null));
+    }
+
+    @Test
+    public void test_BlockingLinkedList_offerAllDrainTo() {
+        BlockingLinkedList<Integer> deque = new BlockingLinkedList<>(4);
+        assertThat(deque.offerAll(Arrays.asList(1, 2, 3, 4, 5, 6)), equalTo(4));
+        List<Integer> drained = new ArrayList<>();
+        assertThat(deque.drainTo(drained, 3), equalTo(3));
+        assertThat(drained, equalTo(Arrays.asList(1, 2, 3)));
+        assertThat(deque.drainTo(drained), equalTo(1));
+        assertThat(drained, equalTo(Arrays.asList(1, 2, 3, 4)));
+        assertThat(deque.drainTo(drained, 0), equalTo(0));
+    }
+
+    @Test
+    public void test_BlockingLinkedList_drainToSelf() {
+        BlockingLinkedList<Integer> deque = new BlockingLinkedList<>();
+        thrown.expect(IllegalArgumentException.class);
+        deque.drainTo(deque);
+    }
+
+    @Test
+    public void test_BlockingLinkedList_iteratorSnapshot() {
+        BlockingLinkedList<String> deque = new BlockingLinkedList<>();
+        deque.offerAll(Arrays.asList(STRING_VAL1, STRING_VAL2));
+        Iterator<String> iterator = deque.iterator();
+        deque.offer(STRING_VAL3);
+        deque.poll();
+        assertThat(iterator.next(), equalTo(STRING_VAL1));
+        assertThat(iterator.next(), equalTo(STRING_VAL2));
+        iterator.remove();
+        assertThat(iterator.hasNext(), equalTo(false));
+        assertThat(deque.toArray(), equalTo(new Object[] {STRING_VAL3}));
+        Iterator<String> descending = deque.descendingIterator();
+        assertThat(descending.next(), equalTo(STRING_VAL3));
+        assertThat(descending.hasNext(), equalTo(false));
+    }
+
+    @Test
+    public void test_BlockingLinkedList_iterator_removeAfterConsumed() {
+        BlockingLinkedList<String> deque = new BlockingLinkedList<>();
+        String first = new String("job");
+        String second = new String("job");
+        deque.offerAll(Arrays.asList(first, second));
+        Iterator<String> iterator = deque.iterator();
+        assertThat(iterator.next() == first, equalTo(true));
+        assertThat(deque.pollFirst() == first, equalTo(true));
+        iterator.remove();
+        assertThat(deque.size(), equalTo(1));
+        assertThat(deque.peekFirst() == second, equalTo(true));
+    }
+
+    @Test
+    public void test_BlockingLinkedList_descendingIterator_removeAfterConsumed() {
+        BlockingLinkedList<String> deque = new BlockingLinkedList<>();
+        String first = new String("job");
+        String second = new String("job");
+        deque.offerAll(Arrays.asList(first, STRING_VAL1, second));
+        Iterator<String> descending = deque.descendingIterator();
+        assertThat(descending.next() == second, equalTo(true));
+        assertThat(deque.pollLast() == second, equalTo(true));
+        descending.remove();
+        assertThat(descending.next(), equalTo(STRING_VAL1));
+        descending.remove();
+        assertThat(deque.size(), equalTo(1));
+        assertThat(deque.peekFirst() == first, equalTo(true));
+    }
+
+    @Test
+    public void test_BlockingLinkedList_iterator_removeSameInstanceAfterCopy() {
+        BlockingLinkedList<Integer> deque = new BlockingLinkedList<>();
+        deque.offerAll(Arrays.asList(1, 7, 5, 1));
+        Iterator<Integer> consumed = deque.iterator();
+        assertThat(consumed.next(), equalTo(1));
+        assertThat(deque.pollFirst(), equalTo(1));
+        assertThat(deque.remove(5), equalTo(true));
+        consumed.remove();
+        assertThat(deque.toArray(), equalTo(new Object[] {7, 1}));
+        Iterator<Integer> kept = deque.iterator();
+        assertThat(kept.next(), equalTo(7));
+        assertThat(kept.next(), equalTo(1));
+        deque.offerFirst(1);
+        assertThat(deque.remove(7), equalTo(true));
+        kept.remove();
+        assertThat(deque.toArray(), equalTo(new Object[] {1}));
+    }
+
+    @Test
+    public void test_BlockingLinkedList_producersAndConsumer() throws InterruptedException {
+        BlockingLinkedList<Integer> deque = new BlockingLinkedList<>(64);
+        List<Thread> producers = new ArrayList<>();
+        for (int p = 0; p < PRODUCERS; p++) {
+            Thread producer = new Thread(() -> {
+                try {
+                    for (int i = 1; i <= ELEMENTS; i++) {
+                        deque.put(i);
+                    }
+                }
+                catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            producers.add(producer);
+            producer.start();
+        }
+        long sum = 0;
+        List<Integer> batch = new ArrayList<>();
+        int received = 0;
+        while (received < PRODUCERS * ELEMENTS) {
+            batch.add(deque.take());
+            deque.drainTo(batch, 31);
+            for (Integer element : batch) {
+                sum += element;
+            }
+            received += batch.size();
+            batch.clear();
+        }
+        for (Thread producer : producers) {
+            producer.join();
+        }
+        assertThat(sum, equalTo((long) PRODUCERS * ELEMENTS * (ELEMENTS + 1) / 2));
+        assertThat(deque.isEmpty(), equalTo(true));
+    }
+
+    @Test
+    public void test_BlockingLinkedList_nullElement() {
+        thrown.expect(NullPointerException.class);
+        new BlockingLinkedList<String>().offer(null);
+    }
+
+    @Test
+    public void test_BlockingLinkedList_badCapacity() {
+        thrown.expect(IllegalArgumentException.class);
+        new BlockingLinkedList<String>(0);
+    }
+}
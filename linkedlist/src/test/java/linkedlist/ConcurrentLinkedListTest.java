@@ -0,0 +1,194 @@
+package linkedlist;
+
+import static org.hamcrest.CoreMatchers.*;
+import org.junit.*;
+import org.junit.rules.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+public class ConcurrentLinkedListTest {
+    private static final int THREADS = 4;
+    private static final int ELEMENTS_PER_THREAD = 20000;
+    private static final String STRING_VAL1 = "Gondor";
+    private static final String STRING_VAL2 = "Mordor";
+    private static final String STRING_VAL3 = "Trees";
+    private static final String STRING_VAL4 = "Saturn";
+
+    @Rule
+    public final ExpectedException thrown = ExpectedException.none();
+
+    private static void runConcurrently(int threads, Runnable task) throws InterruptedException {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> workers = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            Thread worker = new Thread(() -> {
+                try {
+                    start.await();
+                    task.run();
+                }
+                catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            worker.start();
+            workers.add(worker);
+        }
+        start.countDown();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+    }
+
+    @Test
+    public void test_ConcurrentLinkedList_addLast_afterTailRemoved() {
+        ConcurrentLinkedList<Integer> list = new ConcurrentLinkedList<>();
+        for (int i = 0; i < 3; i++) {
+            list.add(i);
+        }
+        for (int i = 3; i < 100; i++) {
+            Iterator<Integer> reverse = list.reverseIterator();
+            reverse.next();
+            reverse.remove();
+            list.add(i);
+        }
+        Iterator<Integer> reverse = list.reverseIterator();
+        for (int i = 0; i < 2; i++) {
+            reverse.next();
+            reverse.remove();
+        }
+        list.add(100);
+        List<Integer> elements = new ArrayList<>();
+        for (Integer element : list) {
+            elements.add(element);
+        }
+        assertThat(elements, equalTo(Arrays.asList(0, 100)));
+        assertThat(list.size(), equalTo(2));
+    }
+
+    @Test
+    public void test_ConcurrentLinkedList_empty() {
+        ConcurrentLinkedList<String> list = new ConcurrentLinkedList<>();
+        assertThat(list.isEmpty(), equalTo(true));
+        assertThat(list.size(), equalTo(0));
+        assertThat(list.pollFirst(), nullValue());
+        assertThat(list.iterator().hasNext(), equalTo(false));
+    }
+
+    @Test
+    public void test_ConcurrentLinkedList_get_empty() {
+        thrown.expect(IndexOutOfBoundsException.class);
+        new ConcurrentLinkedList<String>().get(0);
+    }
+
+    @Test
+    public void test_ConcurrentLinkedList_add_null() {
+        thrown.expect(NullPointerException.class);
+        new ConcurrentLinkedList<String>().add(null);
+    }
+
+    @Test
+    public void test_ConcurrentLinkedList_positional() {
+        ConcurrentLinkedList<String> list = new ConcurrentLinkedList<>();
+        list.add(STRING_VAL2);
+        list.addFirst(STRING_VAL1);
+        list.addLast(STRING_VAL4);
+        list.add(2, STRING_VAL3);
+        assertThat(list.size(), equalTo(4));
+        assertThat(list.get(0), equalTo(STRING_VAL1));
+        assertThat(list.get(1), equalTo(STRING_VAL2));
+        assertThat(list.get(2), equalTo(STRING_VAL3));
+        assertThat(list.get(3), equalTo(STRING_VAL4));
+        assertThat(list.indexOf(STRING_VAL3), equalTo(2));
+        assertThat(list.remove(1), equalTo(STRING_VAL2));
+        assertThat(list.set(0, STRING_VAL2), equalTo(STRING_VAL1));
+        assertThat(list.get(1), equalTo(STRING_VAL3));
+        assertThat(list.size(), equalTo(3));
+    }
+
+    @Test
+    public void test_ConcurrentLinkedList_iterators() {
+        ConcurrentLinkedList<String> list = new ConcurrentLinkedList<>();
+        list.add(STRING_VAL1);
+        list.add(STRING_VAL2);
+        list.add(STRING_VAL3);
+        Iterator<String> iterator = list.iterator();
+        assertThat(iterator.next(), equalTo(STRING_VAL1));
+        assertThat(iterator.next(), equalTo(STRING_VAL2));
+        iterator.remove();
+        assertThat(iterator.next(), equalTo(STRING_VAL3));
+        assertThat(iterator.hasNext(), equalTo(false));
+        Iterator<String> reverseIterator = list.reverseIterator();
+        assertThat(reverseIterator.next(), equalTo(STRING_VAL3));
+        assertThat(reverseIterator.next(), equalTo(STRING_VAL1));
+        assertThat(reverseIterator.hasNext(), equalTo(false));
+    }
+
+    @Test
+    public void test_ConcurrentLinkedList_clear() {
+        ConcurrentLinkedList<String> list = new ConcurrentLinkedList<>();
+        list.add(STRING_VAL1);
+        list.add(STRING_VAL2);
+        list.clear();
+        assertThat(list.isEmpty(), equalTo(true));
+        list.add(STRING_VAL3);
+        assertThat(list.get(0), equalTo(STRING_VAL3));
+    }
+
+    @Test
+    public void test_ConcurrentLinkedList_concurrentAddBothEnds() throws InterruptedException {
+        ConcurrentLinkedList<Integer> list = new ConcurrentLinkedList<>();
+        AtomicInteger counter = new AtomicInteger();
+        runConcurrently(THREADS, () -> {
+            for (int i = 0; i < ELEMENTS_PER_THREAD; i++) {
+                int value = counter.getAndIncrement();
+                if (value % 2 == 0) {
+                    list.addLast(value);
+                }
+                else {
+                    list.addFirst(value);
+                }
+            }
+        });
+        int total = THREADS * ELEMENTS_PER_THREAD;
+        assertThat(list.size(), equalTo(total));
+        Set<Integer> seen = new HashSet<>();
+        for (Integer value : list) {
+            assertThat(seen.add(value), equalTo(true));
+        }
+        assertThat(seen.size(), equalTo(total));
+    }
+
+    @Test
+    public void test_ConcurrentLinkedList_concurrentAddAndPoll() throws InterruptedException {
+        ConcurrentLinkedList<Integer> list = new ConcurrentLinkedList<>();
+        AtomicInteger counter = new AtomicInteger();
+        Set<Integer> polled = Collections.synchronizedSet(new HashSet<>());
+        runConcurrently(THREADS, () -> {
+            for (int i = 0; i < ELEMENTS_PER_THREAD; i++) {
+                list.add(counter.getAndIncrement());
+                Integer value = list.pollFirst();
+                if (value != null) {
+                    assertThat(polled.add(value), equalTo(true));
+                }
+            }
+        });
+        Integer value = list.pollFirst();
+        while (value != null) {
+            assertThat(polled.add(value), equalTo(true));
+            value = list.pollFirst();
+        }
+        assertThat(polled.size(), equalTo(THREADS * ELEMENTS_PER_THREAD));
+        assertThat(list.size(), equalTo(0));
+        assertThat(list.isEmpty(), equalTo(true));
+    }
+}
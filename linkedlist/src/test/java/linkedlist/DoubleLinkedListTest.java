@@ -0,0 +1,111 @@
+package linkedlist;
+
+import static org.hamcrest.CoreMatchers.*;
+import org.junit.*;
+import org.junit.rules.*;
+
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+import static org.junit.Assert.*;
+
+public class DoubleLinkedListTest {
+    private static final double VAL1 = 7.5;
+    private static final double VAL2 = -3.25;
+    private static final double VAL3 = 1e300;
+    private static final double VAL4 = Double.MIN_VALUE;
+
+    @Rule
+    public final ExpectedException thrown = ExpectedException.none();
+
+    private static DoubleLinkedList listOf(double... values) {
+        DoubleLinkedList list = new DoubleLinkedList();
+        for (double value : values) {
+            list.add(value);
+        }
+        return list;
+    }
+
+    @Test
+    public void test_DoubleLinkedList_empty() {
+        DoubleLinkedList list = new DoubleLinkedList();
+        assertThat(list.isEmpty(), equalTo(true));
+        assertThat(list.size(), equalTo(0));
+        assertThat(list.iterator().hasNext(), equalTo(false));
+    }
+
+    @Test
+    public void test_DoubleLinkedList_getDouble_empty() {
+        thrown.expect(IndexOutOfBoundsException.class);
+        new DoubleLinkedList().getDouble(0);
+    }
+
+    @Test
+    public void test_DoubleLinkedList_add_getDouble() {
+        DoubleLinkedList list = listOf(VAL1, VAL2, VAL3);
+        assertThat(list.size(), equalTo(3));
+        assertThat(list.getDouble(0), equalTo(VAL1));
+        assertThat(list.getDouble(1), equalTo(VAL2));
+        assertThat(list.getDouble(2), equalTo(VAL3));
+    }
+
+    @Test
+    public void test_DoubleLinkedList_add_index() {
+        DoubleLinkedList list = listOf(VAL1, VAL3);
+        list.add(1, VAL2);
+        assertThat(list.getDouble(1), equalTo(VAL2));
+        assertThat(list.getDouble(2), equalTo(VAL3));
+    }
+
+    @Test
+    public void test_DoubleLinkedList_set_removeDouble() {
+        DoubleLinkedList list = listOf(VAL1, VAL2, VAL3);
+        assertThat(list.set(1, VAL4), equalTo(VAL2));
+        assertThat(list.removeDouble(0), equalTo(VAL1));
+        assertThat(list.size(), equalTo(2));
+        assertThat(list.getDouble(0), equalTo(VAL4));
+    }
+
+    @Test
+    public void test_DoubleLinkedList_indexOf() {
+        DoubleLinkedList list = listOf(VAL1, VAL2, VAL3, VAL2);
+        assertThat(list.indexOf(VAL2), equalTo(1));
+        assertThat(list.indexOf(VAL4), equalTo(-1));
+    }
+
+    @Test
+    public void test_DoubleLinkedList_indexOf_NaN() {
+        DoubleLinkedList list = listOf(VAL1, Double.NaN);
+        assertThat(list.indexOf(Double.NaN), equalTo(1));
+    }
+
+    @Test
+    public void test_DoubleLinkedList_iterator() {
+        PrimitiveIterator.OfDouble iterator = listOf(VAL1, VAL2, VAL3).iterator();
+        assertThat(iterator.nextDouble(), equalTo(VAL1));
+        assertThat(iterator.nextDouble(), equalTo(VAL2));
+        assertThat(iterator.nextDouble(), equalTo(VAL3));
+        assertThat(iterator.hasNext(), equalTo(false));
+    }
+
+    @Test
+    public void test_DoubleLinkedList_iterator_end() {
+        PrimitiveIterator.OfDouble iterator = listOf(VAL1).iterator();
+        iterator.nextDouble();
+        thrown.expect(NoSuchElementException.class);
+        iterator.nextDouble();
+    }
+
+    @Test
+    public void test_DoubleLinkedList_reverseIterator_remove() {
+        DoubleLinkedList list = listOf(VAL1, VAL2, VAL3);
+        PrimitiveIterator.OfDouble iterator = list.reverseIterator();
+        assertThat(iterator.nextDouble(), equalTo(VAL3));
+        assertThat(iterator.nextDouble(), equalTo(VAL2));
+        iterator.remove();
+        assertThat(iterator.nextDouble(), equalTo(VAL1));
+        assertThat(iterator.hasNext(), equalTo(false));
+        assertThat(list.size(), equalTo(2));
+        assertThat(list.getDouble(1), equalTo(VAL3));
+    }
+}
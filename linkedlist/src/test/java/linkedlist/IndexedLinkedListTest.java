@@ -0,0 +1,193 @@
+package linkedlist;
+
+import static org.hamcrest.CoreMatchers.*;
+import org.junit.*;
+import org.junit.rules.*;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class IndexedLinkedListTest {
+    private static final int OPERATIONS = 20000;
+    private static final int LARGE_SIZE = 10000;
+    private static final long SEED = 7L;
+    private static final String STRING_VAL1 = "Gondor";
+    private static final String STRING_VAL2 = "Mordor";
+    private static final String STRING_VAL3 = "Trees";
+    private static final String STRING_VAL4 = "Saturn";
+
+    @Rule
+    public final ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void test_IndexedLinkedList_empty() {
+        IndexedLinkedList<String> list = new IndexedLinkedList<>();
+        assertThat(list.isEmpty(), equalTo(true));
+        assertThat(list.iterator().hasNext(), equalTo(false));
+        assertThat(list.reverseIterator().hasNext(), equalTo(false));
+    }
+
+    @Test
+    public void test_IndexedLinkedList_get_empty() {
+        thrown.expect(IndexOutOfBoundsException.class);
+        new IndexedLinkedList<String>().get(0);
+    }
+
+    @Test
+    public void test_IndexedLinkedList_add_index() {
+        IndexedLinkedList<String> list = new IndexedLinkedList<>();
+        list.add(STRING_VAL1);
+        list.add(STRING_VAL3);
+        list.add(1, STRING_VAL2);
+        list.add(0, STRING_VAL4);
+        assertThat(list.size(), equalTo(4));
+        assertThat(list.get(0), equalTo(STRING_VAL4));
+        assertThat(list.get(1), equalTo(STRING_VAL1));
+        assertThat(list.get(2), equalTo(STRING_VAL2));
+        assertThat(list.get(3), equalTo(STRING_VAL3));
+    }
+
+    @Test
+    public void test_IndexedLinkedList_remove_set_indexOf() {
+        IndexedLinkedList<String> list = new IndexedLinkedList<>();
+        list.add(STRING_VAL1);
+        list.add(STRING_VAL2);
+        list.add(STRING_VAL3);
+        assertThat(list.remove(1), equalTo(STRING_VAL2));
+        assertThat(list.set(1, STRING_VAL4), equalTo(STRING_VAL3));
+        assertThat(list.indexOf(STRING_VAL4), equalTo(1));
+        assertThat(list.indexOf(STRING_VAL2), equalTo(-1));
+    }
+
+    @Test
+    public void test_IndexedLinkedList_get_large() {
+        IndexedLinkedList<Integer> list = new IndexedLinkedList<>();
+        for (int i = 0; i < LARGE_SIZE; i++) {
+            list.add(i);
+        }
+        for (int i = 0; i < LARGE_SIZE; i++) {
+            assertThat(list.get(i), equalTo(i));
+        }
+    }
+
+    @Test
+    public void test_IndexedLinkedList_clear() {
+        IndexedLinkedList<Integer> list = new IndexedLinkedList<>();
+        for (int i = 0; i < LARGE_SIZE; i++) {
+            list.add(i);
+        }
+        list.clear();
+        assertThat(list.isEmpty(), equalTo(true));
+        list.add(1);
+        assertThat(list.get(0), equalTo(1));
+    }
+
+    @Test
+    public void test_IndexedLinkedList_reverseIterator() {
+        IndexedLinkedList<Integer> list = new IndexedLinkedList<>();
+        for (int i = 0; i < 100; i++) {
+            list.add(i);
+        }
+        Iterator<Integer> iterator = list.reverseIterator();
+        for (int i = 99; i >= 0; i--) {
+            assertThat(iterator.next(), equalTo(i));
+        }
+        assertThat(iterator.hasNext(), equalTo(false));
+    }
+
+    @Test
+    public void test_IndexedLinkedList_matchesArrayList() {
+        IndexedLinkedList<Integer> list = new IndexedLinkedList<>();
+        List<Integer> expected = new ArrayList<>();
+        Random random = new Random(SEED);
+        for (int i = 0; i < OPERATIONS; i++) {
+            int operation = random.nextInt(10);
+            if (operation < 3 || expected.isEmpty()) {
+                list.add(i);
+                expected.add(i);
+            }
+            else if (operation < 5) {
+                int index = random.nextInt(expected.size());
+                list.add(index, i);
+                expected.add(index, i);
+            }
+            else if (operation < 7) {
+                int index = random.nextInt(expected.size());
+                assertThat(list.remove(index), equalTo(expected.remove(index)));
+            }
+            else if (operation < 8) {
+                int index = random.nextInt(expected.size());
+                assertThat(list.set(index, -i), equalTo(expected.set(index, -i)));
+            }
+            else {
+                int index = random.nextInt(expected.size());
+                assertThat(list.get(index), equalTo(expected.get(index)));
+            }
+        }
+        assertThat(list.size(), equalTo(expected.size()));
+        Iterator<Integer> iterator = list.iterator();
+        for (Integer element : expected) {
+            assertThat(iterator.next(), equalTo(element));
+        }
+        for (int i = 0; i < expected.size(); i++) {
+            assertThat(list.get(i), equalTo(expected.get(i)));
+        }
+    }
+
+    @Test
+    public void test_IndexedLinkedList_listIterator_matchesArrayList() {
+        IndexedLinkedList<Integer> list = new IndexedLinkedList<>();
+        List<Integer> expected = new ArrayList<>();
+        ListIterator<Integer> iterator = list.listIterator();
+        ListIterator<Integer> expectedIterator = expected.listIterator();
+        Random random = new Random(SEED);
+        for (int i = 0; i < OPERATIONS; i++) {
+            int operation = random.nextInt(6);
+            if (operation < 2) {
+                iterator.add(i);
+                expectedIterator.add(i);
+            }
+            else if (operation < 4 && expectedIterator.hasNext()) {
+                assertThat(iterator.next(), equalTo(expectedIterator.next()));
+                if (random.nextBoolean()) {
+                    iterator.remove();
+                    expectedIterator.remove();
+                }
+            }
+            else if (expectedIterator.hasPrevious()) {
+                assertThat(iterator.previous(), equalTo(expectedIterator.previous()));
+                if (random.nextBoolean()) {
+                    iterator.remove();
+                    expectedIterator.remove();
+                }
+            }
+        }
+        assertThat(list.size(), equalTo(expected.size()));
+        for (int i = 0; i < expected.size(); i++) {
+            assertThat(list.get(i), equalTo(expected.get(i)));
+        }
+    }
+
+
+    @Test
+    public void test_IndexedLinkedList_rank() {
+        IndexedLinkedList<Integer> list = new IndexedLinkedList<>();
+        for (int i = 0; i < LARGE_SIZE; i++) {
+            list.add(2 * (i / 2));
+        }
+        Comparator<Integer> order = Comparator.naturalOrder();
+        assertThat(list.rank(-1, order, false), equalTo(0));
+        assertThat(list.rank(0, order, false), equalTo(0));
+        assertThat(list.rank(0, order, true), equalTo(2));
+        assertThat(list.rank(501, order, false), equalTo(502));
+        assertThat(list.rank(1000, order, false), equalTo(1000));
+        assertThat(list.rank(1000, order, true), equalTo(1002));
+        assertThat(list.rank(LARGE_SIZE, order, true), equalTo(LARGE_SIZE));
+    }
+}
@@ -0,0 +1,105 @@
+package linkedlist;
+
+import static org.hamcrest.CoreMatchers.*;
+import org.junit.*;
+import org.junit.rules.*;
+
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+import static org.junit.Assert.*;
+
+public class IntLinkedListTest {
+    private static final int VAL1 = 7;
+    private static final int VAL2 = -3;
+    private static final int VAL3 = 42;
+    private static final int VAL4 = Integer.MAX_VALUE;
+
+    @Rule
+    public final ExpectedException thrown = ExpectedException.none();
+
+    private static IntLinkedList listOf(int... values) {
+        IntLinkedList list = new IntLinkedList();
+        for (int value : values) {
+            list.add(value);
+        }
+        return list;
+    }
+
+    @Test
+    public void test_IntLinkedList_empty() {
+        IntLinkedList list = new IntLinkedList();
+        assertThat(list.isEmpty(), equalTo(true));
+        assertThat(list.size(), equalTo(0));
+        assertThat(list.iterator().hasNext(), equalTo(false));
+    }
+
+    @Test
+    public void test_IntLinkedList_getInt_empty() {
+        thrown.expect(IndexOutOfBoundsException.class);
+        new IntLinkedList().getInt(0);
+    }
+
+    @Test
+    public void test_IntLinkedList_add_getInt() {
+        IntLinkedList list = listOf(VAL1, VAL2, VAL3);
+        assertThat(list.size(), equalTo(3));
+        assertThat(list.getInt(0), equalTo(VAL1));
+        assertThat(list.getInt(1), equalTo(VAL2));
+        assertThat(list.getInt(2), equalTo(VAL3));
+    }
+
+    @Test
+    public void test_IntLinkedList_add_index() {
+        IntLinkedList list = listOf(VAL1, VAL3);
+        list.add(1, VAL2);
+        assertThat(list.getInt(1), equalTo(VAL2));
+        assertThat(list.getInt(2), equalTo(VAL3));
+    }
+
+    @Test
+    public void test_IntLinkedList_set_removeInt() {
+        IntLinkedList list = listOf(VAL1, VAL2, VAL3);
+        assertThat(list.set(1, VAL4), equalTo(VAL2));
+        assertThat(list.removeInt(0), equalTo(VAL1));
+        assertThat(list.size(), equalTo(2));
+        assertThat(list.getInt(0), equalTo(VAL4));
+    }
+
+    @Test
+    public void test_IntLinkedList_indexOf() {
+        IntLinkedList list = listOf(VAL1, VAL2, VAL3, VAL2);
+        assertThat(list.indexOf(VAL2), equalTo(1));
+        assertThat(list.indexOf(VAL4), equalTo(-1));
+    }
+
+    @Test
+    public void test_IntLinkedList_iterator() {
+        PrimitiveIterator.OfInt iterator = listOf(VAL1, VAL2, VAL3).iterator();
+        assertThat(iterator.nextInt(), equalTo(VAL1));
+        assertThat(iterator.nextInt(), equalTo(VAL2));
+        assertThat(iterator.nextInt(), equalTo(VAL3));
+        assertThat(iterator.hasNext(), equalTo(false));
+    }
+
+    @Test
+    public void test_IntLinkedList_iterator_end() {
+        PrimitiveIterator.OfInt iterator = listOf(VAL1).iterator();
+        iterator.nextInt();
+        thrown.expect(NoSuchElementException.class);
+        iterator.nextInt();
+    }
+
+    @Test
+    public void test_IntLinkedList_reverseIterator_remove() {
+        IntLinkedList list = listOf(VAL1, VAL2, VAL3);
+        PrimitiveIterator.OfInt iterator = list.reverseIterator();
+        assertThat(iterator.nextInt(), equalTo(VAL3));
+        assertThat(iterator.nextInt(), equalTo(VAL2));
+        iterator.remove();
+        assertThat(iterator.nextInt(), equalTo(VAL1));
+        assertThat(iterator.hasNext(), equalTo(false));
+        assertThat(list.size(), equalTo(2));
+        assertThat(list.getInt(1), equalTo(VAL3));
+    }
+}
@@ -0,0 +1,58 @@
+package linkedlist;
+
+import static org.hamcrest.CoreMatchers.*;
+import org.junit.*;
+import org.junit.rules.*;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import static org.junit.Assert.*;
+
+public class LazyViewTest {
+
+    @Rule
+    public final ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void test_LazyView_of_reflectsSource() {
+        LinkedList<Integer> list = new LinkedList<>();
+        LazyView<Integer> view = LazyView.of(list);
+        assertThat(view.iterator().hasNext(), equalTo(false));
+        list.add(7);
+        assertThat(view.iterator().next(), equalTo(7));
+    }
+
+    @Test
+    public void test_LazyView_filter_skipsRuns() {
+        LazyView<Integer> view = LazyView.of(Arrays.asList(1, 3, 5, 6, 7, 9, 10)).filter(element -> element % 2 == 0);
+        Iterator<Integer> iterator = view.iterator();
+        assertThat(iterator.hasNext(), equalTo(true));
+        assertThat(iterator.hasNext(), equalTo(true));
+        assertThat(iterator.next(), equalTo(6));
+        assertThat(iterator.next(), equalTo(10));
+        assertThat(iterator.hasNext(), equalTo(false));
+    }
+
+    @Test
+    public void test_LazyView_limit_stopsEarly() {
+        LazyView<Integer> view = LazyView.of(Arrays.asList(1, 2, 3)).limit(0);
+        Iterator<Integer> iterator = view.iterator();
+        assertThat(iterator.hasNext(), equalTo(false));
+        thrown.expect(NoSuchElementException.class);
+        iterator.next();
+    }
+
+    @Test
+    public void test_LazyView_limit_negative() {
+        thrown.expect(IllegalArgumentException.class);
+        LazyView.of(Arrays.asList(1, 2, 3)).limit(-1);
+    }
+
+    @Test
+    public void test_LazyView_map_toLinkedList() {
+        LazyView<String> view = LazyView.of(Arrays.asList(1, 2, 3)).map(element -> "n" + element);
+        assertThat(view.toLinkedList().toArray(), equalTo(new Object[] {"n1", "n2", "n3"}));
+    }
+}
@@ -0,0 +1,147 @@
+package linkedlist;
+
+import static org.hamcrest.CoreMatchers.*;
+import org.junit.*;
+import org.junit.rules.*;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+public class LinkedCacheTest {
+    private static final String STRING_VAL1 = "Gondor";
+    private static final String STRING_VAL2 = "Mordor";
+    private static final String STRING_VAL3 = "Trees";
+
+    @Rule
+    public final ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void test_LinkedCache_putGetRemove() {
+        LinkedCache<Integer, String> cache = new LinkedCache<>(10);
+        assertThat(cache.isEmpty(), equalTo(true));
+        assertThat(cache.put(1, STRING_VAL1), equalTo(null));
+        assertThat(cache.put(1, STRING_VAL2), equalTo(STRING_VAL1));
+        assertThat(cache.get(1), equalTo(STRING_VAL2));
+        assertThat(cache.size(), equalTo(1));
+        assertThat(cache.remove(1), equalTo(STRING_VAL2));
+        assertThat(cache.remove(1), equalTo(null));
+        assertThat(cache.containsKey(1), equalTo(false));
+        assertThat(cache.weight(), equalTo(0L));
+    }
+
+    @Test
+    public void test_LinkedCache_lru_evictsLeastRecent() {
+        LinkedCache<Integer, String> cache = new LinkedCache<>(2);
+        cache.put(1, STRING_VAL1);
+        cache.put(2, STRING_VAL2);
+        cache.get(1);
+        cache.put(3, STRING_VAL3);
+        assertThat(cache.containsKey(1), equalTo(true));
+        assertThat(cache.containsKey(2), equalTo(false));
+        assertThat(cache.containsKey(3), equalTo(true));
+        assertThat(cache.getEvictions(), equalTo(1L));
+    }
+
+    @Test
+    public void test_LinkedCache_lfu_evictsLeastFrequent() {
+        LinkedCache<Integer, String> cache = new LinkedCache<>(3, LinkedCache.Policy.LFU);
+        cache.put(1, STRING_VAL1);
+        cache.put(2, STRING_VAL2);
+        cache.put(3, STRING_VAL3);
+        cache.get(1);
+        cache.get(1);
+        cache.get(2);
+        cache.get(3);
+        cache.get(3);
+        cache.put(4, STRING_VAL1);
+        assertThat(cache.containsKey(2), equalTo(false));
+        cache.put(5, STRING_VAL2);
+        assertThat(cache.containsKey(4), equalTo(false));
+        assertThat(cache.containsKey(1), equalTo(true));
+        assertThat(cache.containsKey(3), equalTo(true));
+        assertThat(cache.containsKey(5), equalTo(true));
+    }
+
+    @Test
+    public void test_LinkedCache_lfu_breaksTiesByRecency() {
+        LinkedCache<Integer, String> cache = new LinkedCache<>(2, LinkedCache.Policy.LFU);
+        cache.put(1, STRING_VAL1);
+        cache.put(2, STRING_VAL2);
+        cache.get(2);
+        cache.get(1);
+        cache.put(3, STRING_VAL3);
+        cache.get(3);
+        assertThat(cache.containsKey(2), equalTo(false));
+        assertThat(cache.size(), equalTo(2));
+    }
+
+    @Test
+    public void test_LinkedCache_weightEviction() {
+        LinkedCache<Integer, String> cache = new LinkedCache<>(10, LinkedCache.Policy.LRU,
+                (key, value) -> value.length());
+        cache.put(1, STRING_VAL1);
+        cache.put(2, STRING_VAL3);
+        assertThat(cache.containsKey(1), equalTo(false));
+        assertThat(cache.weight(), equalTo(5L));
+        cache.put(3, STRING_VAL2);
+        assertThat(cache.containsKey(2), equalTo(false));
+        assertThat(cache.weight(), equalTo(6L));
+        cache.put(4, "an entry heavier than the capacity");
+        assertThat(cache.containsKey(4), equalTo(false));
+        assertThat(cache.containsKey(3), equalTo(true));
+        assertThat(cache.getEvictions(), equalTo(3L));
+    }
+
+    @Test
+    public void test_LinkedCache_statistics() {
+        LinkedCache<Integer, String> cache = new LinkedCache<>(1);
+        cache.put(1, STRING_VAL1);
+        cache.get(1);
+        cache.get(2);
+        cache.put(2, STRING_VAL2);
+        assertThat(cache.getHits(), equalTo(1L));
+        assertThat(cache.getMisses(), equalTo(1L));
+        assertThat(cache.getEvictions(), equalTo(1L));
+        assertThat(cache.getHitRate(), equalTo(0.5));
+        cache.resetStatistics();
+        assertThat(cache.getHits(), equalTo(0L));
+        assertThat(cache.getHitRate(), equalTo(0.0));
+    }
+
+    @Test
+    public void test_LinkedCache_loader() {
+        LinkedCache<Integer, String> cache = new LinkedCache<>(4);
+        AtomicInteger loads = new AtomicInteger();
+        assertThat(cache.get(7, key -> {
+            loads.incrementAndGet();
+            return "v" + key;
+        }), equalTo("v7"));
+        assertThat(cache.get(7, key -> "other"), equalTo("v7"));
+        assertThat(loads.get(), equalTo(1));
+    }
+
+    @Test
+    public void test_LinkedCache_clear() {
+        LinkedCache<Integer, String> cache = new LinkedCache<>(4, LinkedCache.Policy.LFU);
+        cache.put(1, STRING_VAL1);
+        cache.get(1);
+        cache.clear();
+        assertThat(cache.size(), equalTo(0));
+        cache.put(2, STRING_VAL2);
+        assertThat(cache.get(2), equalTo(STRING_VAL2));
+    }
+
+    @Test
+    public void test_LinkedCache_nullValue() {
+        LinkedCache<Integer, String> cache = new LinkedCache<>(4);
+        thrown.expect(NullPointerException.class);
+        cache.put(1, null);
+    }
+
+    @Test
+    public void test_LinkedCache_badCapacity() {
+        thrown.expect(IllegalArgumentException.class);
+        new LinkedCache<Integer, String>(0);
+    }
+}
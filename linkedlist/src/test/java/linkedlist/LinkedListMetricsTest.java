@@ -0,0 +1,163 @@
+package linkedlist;
+
+import static org.hamcrest.CoreMatchers.*;
+import org.junit.*;
+import org.junit.rules.*;
+
+import java.lang.management.ManagementFactory;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import static org.junit.Assert.*;
+
+public class LinkedListMetricsTest {
+    private static final int ELEMENTS = 100;
+
+    @Rule
+    public final ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    private static LinkedList<Integer> newList(LinkedListMetrics metrics) {
+        LinkedList<Integer> list = new LinkedList<>();
+        list.setMetrics(metrics);
+        for (int i = 0; i < ELEMENTS; i++) {
+            list.add(i);
+        }
+        return list;
+    }
+
+    @Test
+    public void test_LinkedListMetrics_disabledByDefault() {
+        LinkedList<Integer> list = new LinkedList<>();
+        assertThat(list.getMetrics(), equalTo(null));
+        list.add(1);
+        assertThat(list.get(0), equalTo(1));
+    }
+
+    @Test
+    public void test_LinkedListMetrics_countsOperations() {
+        LinkedListMetrics metrics = new LinkedListMetrics();
+        LinkedList<Integer> list = newList(metrics);
+        list.get(10);
+        list.set(20, 7);
+        list.remove(0);
+        list.indexOf(50);
+        list.sort(null);
+        assertThat(metrics.getOperationCount(LinkedListMetrics.Operation.INSERT), equalTo((long) ELEMENTS));
+        assertThat(metrics.getOperationCount(LinkedListMetrics.Operation.GET), equalTo(1L));
+        assertThat(metrics.getOperationCount(LinkedListMetrics.Operation.SET), equalTo(1L));
+        assertThat(metrics.getOperationCount(LinkedListMetrics.Operation.REMOVE), equalTo(1L));
+        assertThat(metrics.getOperationCount(LinkedListMetrics.Operation.SEARCH), equalTo(1L));
+        assertThat(metrics.getOperationCount(LinkedListMetrics.Operation.SORT), equalTo(1L));
+        assertThat(metrics.getNodeAllocations(), equalTo((long) ELEMENTS));
+    }
+
+    @Test
+    public void test_LinkedListMetrics_countsTraversals() {
+        LinkedListMetrics metrics = new LinkedListMetrics();
+        LinkedList<Integer> list = newList(metrics);
+        list.get(10);
+        list.get(12);
+        list.get(95);
+        assertThat(metrics.getOriginCount(LinkedListMetrics.Origin.HEAD), equalTo(1L));
+        assertThat(metrics.getOriginCount(LinkedListMetrics.Origin.FINGER), equalTo(1L));
+        assertThat(metrics.getOriginCount(LinkedListMetrics.Origin.TAIL), equalTo(1L));
+        assertThat(metrics.getTraversals(), equalTo(3L));
+        assertThat(metrics.getTotalHops(), equalTo(16L));
+        long[] histogram = metrics.getHopHistogram();
+        assertThat(histogram[LinkedListMetrics.bucket(2)], equalTo(1L));
+        assertThat(histogram[LinkedListMetrics.bucket(4)], equalTo(1L));
+        assertThat(histogram[LinkedListMetrics.bucket(10)], equalTo(1L));
+    }
+
+    @Test
+    public void test_LinkedListMetrics_countsIteratorSeeks() {
+        LinkedListMetrics metrics = new LinkedListMetrics();
+        LinkedList<Integer> list = newList(metrics);
+        list.listIterator(40);
+        Iterator<Integer> iterator = list.iterator();
+        iterator.next();
+        list.add(0, -1);
+        iterator.next();
+        assertThat(metrics.getIteratorSeeks(), equalTo(3L));
+    }
+
+    @Test
+    public void test_LinkedListMetrics_countsPoolReuses() {
+        LinkedListMetrics metrics = new LinkedListMetrics();
+        LinkedList<Integer> list = new LinkedList<>(4);
+        list.setMetrics(metrics);
+        list.add(1);
+        list.removeFirst();
+        list.add(2);
+        assertThat(metrics.getNodeAllocations(), equalTo(1L));
+        assertThat(metrics.getPoolReuses(), equalTo(1L));
+    }
+
+    @Test
+    public void test_LinkedListMetrics_snapshotAndReset() {
+        LinkedListMetrics metrics = new LinkedListMetrics();
+        LinkedList<Integer> list = newList(metrics);
+        list.get(50);
+        Map<String, Long> snapshot = metrics.snapshot();
+        assertThat(snapshot.get("operation.GET"), equalTo(1L));
+        assertThat(snapshot.get("origin.HEAD"), equalTo(1L));
+        assertThat(snapshot.get("TotalHops"), equalTo(50L));
+        metrics.reset();
+        assertThat(metrics.getTotalHops(), equalTo(0L));
+        assertThat(metrics.snapshot().get("operation.INSERT"), equalTo(0L));
+        assertThat(snapshot.get("operation.INSERT"), equalTo((long) ELEMENTS));
+    }
+
+    @Test
+    public void test_LinkedListMetrics_slowTraversalEvent() throws Exception {
+        LinkedListMetrics metrics = new LinkedListMetrics(40);
+        LinkedList<Integer> list = newList(metrics);
+        Path file = folder.newFile("traversals.jfr").toPath();
+        try (Recording recording = new Recording()) {
+            recording.enable(SlowTraversalEvent.NAME);
+            recording.start();
+            list.get(45);
+            list.get(5);
+            recording.stop();
+            recording.dump(file);
+        }
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+                .filter(event -> event.getEventType().getName().equals(SlowTraversalEvent.NAME))
+                .collect(Collectors.toList());
+        assertThat(metrics.getSlowTraversals(), equalTo(1L));
+        assertThat(events.size(), equalTo(1));
+        assertThat(events.get(0).getInt("hops"), equalTo(45));
+        assertThat(events.get(0).getString("origin"), equalTo("HEAD"));
+    }
+
+    @Test
+    public void test_LinkedListMetrics_registerMBean() throws Exception {
+        LinkedListMetrics metrics = new LinkedListMetrics();
+        newList(metrics);
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = metrics.registerMBean("linkedlist:type=LinkedListMetrics,name=test");
+        try {
+            assertThat(server.getAttribute(name, "NodeAllocations"), equalTo((Object) (long) ELEMENTS));
+        }
+        finally {
+            server.unregisterMBean(name);
+        }
+    }
+
+    @Test
+    public void test_LinkedListMetrics_badThreshold() {
+        thrown.expect(IllegalArgumentException.class);
+        new LinkedListMetrics(0);
+    }
+}
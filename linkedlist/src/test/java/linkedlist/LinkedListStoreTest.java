@@ -0,0 +1,121 @@
+package linkedlist;
+
+import static org.hamcrest.CoreMatchers.*;
+import org.junit.*;
+import org.junit.rules.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.*;
+
+public class LinkedListStoreTest {
+    private static final String STRING_VAL1 = "Gondor";
+    private static final String STRING_VAL2 = "Mordor";
+    private static final String STRING_VAL3 = "Trees";
+    private static final String STRING_VAL4 = "Zoë über Ångström";
+
+    @Rule
+    public final ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void test_LinkedListStore_integers() throws IOException {
+        LinkedList<Integer> list = new LinkedList<>();
+        for (int i = 0; i < 100000; i++) {
+            list.add(i * 7);
+        }
+        Path path = folder.newFile().toPath();
+        LinkedListStore.write(list, path, ElementCodec.integers());
+        assertThat(Files.size(path), equalTo((long) LinkedListStore.HEADER_SIZE + 4L * list.size()));
+        LinkedList<Integer> read = LinkedListStore.read(path, ElementCodec.integers());
+        assertThat(read.size(), equalTo(list.size()));
+        assertThat(read.stream().collect(Collectors.toList()),
+                equalTo(list.stream().collect(Collectors.toList())));
+        assertThat(read.getLast(), equalTo(99999 * 7));
+    }
+
+    @Test
+    public void test_LinkedListStore_strings() throws IOException {
+        LinkedList<String> list = new LinkedList<>();
+        list.addAll(Arrays.asList(STRING_VAL1, null, STRING_VAL2, "", STRING_VAL4));
+        Path path = folder.newFile().toPath();
+        LinkedListStore.write(list, path, ElementCodec.strings());
+        LinkedList<String> read = LinkedListStore.read(path, ElementCodec.strings());
+        assertThat(Arrays.asList(read.toArray()), equalTo(Arrays.<Object>asList(list.toArray())));
+    }
+
+    @Test
+    public void test_LinkedListStore_longsAndDoubles() throws IOException {
+        LinkedList<Long> longs = new LinkedList<>();
+        LinkedList<Double> doubles = new LinkedList<>();
+        longs.addAll(Arrays.asList(Long.MIN_VALUE, 0L, Long.MAX_VALUE));
+        doubles.addAll(Arrays.asList(Double.NaN, -0.0, 1.5));
+        Path longPath = folder.newFile().toPath();
+        Path doublePath = folder.newFile().toPath();
+        LinkedListStore.write(longs, longPath, ElementCodec.longs());
+        LinkedListStore.write(doubles, doublePath, ElementCodec.doubles());
+        assertThat(Arrays.asList(LinkedListStore.read(longPath, ElementCodec.longs()).toArray()),
+                equalTo(Arrays.<Object>asList(longs.toArray())));
+        assertThat(Arrays.asList(LinkedListStore.read(doublePath, ElementCodec.doubles()).toArray()),
+                equalTo(Arrays.<Object>asList(doubles.toArray())));
+    }
+
+    @Test
+    public void test_LinkedListStore_empty() throws IOException {
+        Path path = folder.newFile().toPath();
+        LinkedListStore.write(new LinkedList<String>(), path, ElementCodec.strings());
+        assertThat(LinkedListStore.read(path, ElementCodec.strings()).isEmpty(), equalTo(true));
+    }
+
+    @Test
+    public void test_LinkedListStore_largeElement() throws IOException {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < 1200000; i++) {
+            builder.append((char) ('a' + i % 26));
+        }
+        LinkedList<String> list = new LinkedList<>();
+        list.add(STRING_VAL1);
+        list.add(builder.toString());
+        list.add(STRING_VAL3);
+        for (int i = 0; i < 4; i++) {
+            list.add(builder.toString());
+        }
+        Path path = folder.newFile().toPath();
+        LinkedListStore.write(list, path, ElementCodec.strings());
+        LinkedList<String> read = LinkedListStore.read(path, ElementCodec.strings());
+        assertThat(read.size(), equalTo(7));
+        assertThat(read.get(1), equalTo(builder.toString()));
+        assertThat(read.get(2), equalTo(STRING_VAL3));
+    }
+
+    @Test
+    public void test_LinkedListStore_notAListFile() throws IOException {
+        Path path = folder.newFile().toPath();
+        Files.write(path, new byte[] {1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12});
+        thrown.expect(IOException.class);
+        LinkedListStore.read(path, ElementCodec.strings());
+    }
+
+    @Test
+    public void test_LinkedListStore_map_lazy() throws IOException {
+        LinkedList<String> list = new LinkedList<>();
+        list.addAll(Arrays.asList(STRING_VAL1, STRING_VAL2, STRING_VAL3));
+        Path path = folder.newFile().toPath();
+        LinkedListStore.write(list, path, ElementCodec.strings());
+        try (MappedLinkedList<String> mapped = LinkedListStore.map(path, ElementCodec.strings())) {
+            assertThat(mapped.size(), equalTo(3));
+            assertThat(mapped.iterator().next(), equalTo(STRING_VAL1));
+            List<String> all = new ArrayList<>(mapped);
+            assertThat(all, equalTo(Arrays.asList(STRING_VAL1, STRING_VAL2, STRING_VAL3)));
+            assertThat(mapped.load().getLast(), equalTo(STRING_VAL3));
+        }
+    }
+}
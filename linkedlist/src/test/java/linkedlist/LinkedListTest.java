@@ -0,0 +1,1279 @@
+package linkedlist;
+
+import static org.hamcrest.CoreMatchers.*;
+import org.junit.*;
+import org.junit.rules.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.Spliterator;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.*;
+
+public class LinkedListTest {
+    private static final int INVALID_CAP = -1;
+    private static final long SEED = 42L;
+    private static final String STRING_VAL1 = "Gondor";
+    private static final String STRING_VAL2 = "Mordor";
+    private static final String STRING_VAL3 = "Trees";
+    private static final String STRING_VAL4 = "Saturn";
+    private static final String STRING_VAL5 = "Mercury";
+    private static final String STRING_VAL6 = "Spider";
+    private static final String STRING_VAL7 = "Phone";
+    private static final String STRING_VAL8 = "White_Rabbit";
+    private static final String STRING_VAL9 = null;
+    private static final String STRING_VAL10 = "Filet";
+    private static final String STRING_VAL11 = "Smith_Bible";
+    private static final String STRING_VAL12 = "Melon_Armor";
+    private static final String STRING_VAL13 = "Gandalf";
+    private static final String STRING_VAL14 = "pen";
+    private static final String STRING_VAL15 = "salmon";
+    private static final String STRING_VAL16 = "Seattle";
+    private static final String STRING_VAL17 = "Moscow";
+    private static final String STRING_VAL18 = "Rome";
+    private static final String STRING_VAL19 = "Lisbon";
+    private static final String STRING_VAL20 = "Bryansk";
+    private static final String STRING_VAL21 = "Vancouver";
+
+    private static LinkedList<String> _list1;
+    private static LinkedList<String> _list2;
+    private static LinkedList<String> _list3;
+    private static Iterator _iterator1;
+    private static Iterator _iterator2;
+    private static Iterator _iterator3;
+    private static Iterator _reverseIterator1;
+    private static Iterator _reverseIterator2;
+    private static Iterator _reverseIterator3;
+
+    @BeforeClass
+    public static void setup() {
+        _list1 = new LinkedList<>();
+        _list2 = new LinkedList<>();
+        _list3 = new LinkedList<>();
+        _iterator1 = _list1.iterator();
+        _iterator2 = _list2.iterator();
+        _iterator3 = _list3.iterator();
+        _reverseIterator1 = _list1.reverseIterator();
+        _reverseIterator2 = _list2.reverseIterator();
+        _reverseIterator3 = _list3.reverseIterator();
+        listTwoSetUp();
+        listThreeSetUp();
+    }
+
+    private static void listTwoSetUp() {
+        _list2.add(STRING_VAL1);
+        _list2.add(STRING_VAL2);
+        _list2.add(STRING_VAL3);
+        _list2.add(STRING_VAL4);
+        _list2.add(STRING_VAL5);
+        _list2.add(STRING_VAL6);
+    }
+
+    private static void listThreeSetUp() {
+        _list3.add(STRING_VAL1);
+    }
+
+    @Rule
+    public final ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void test_LinkedList_ctor() {
+        assertThat(_list1, instanceOf(LinkedList.class));
+    }
+
+    @Test
+    public void test_LinkedList_size_empty() {
+        assertThat(_list1.size(), equalTo(0));
+    }
+
+    @Test
+    public void test_LinkedList_list1_get_empty() {
+        thrown.expect(IndexOutOfBoundsException.class);
+        _list1.get(0);
+    }
+
+    @Test
+    public void test_LinkedList_list1_remove_empty() {
+        thrown.expect(IndexOutOfBoundsException.class);
+        _list1.remove(0);
+    }
+
+    @Test
+    public void test_LinkedList_list1_remove_negative() {
+        thrown.expect(IndexOutOfBoundsException.class);
+        _list1.remove(-1);
+    }
+
+    @Test
+    public void test_LinkedList_list3_get_head() {
+        assertThat(_list3.get(0), equalTo(STRING_VAL1));
+    }
+
+    @Test
+    public void test_LinkedList_list3_get_tail() {
+        thrown.expect(IndexOutOfBoundsException.class);
+        _list3.get(1);
+    }
+
+    @Test
+    public void test_LinkedList_list2_get_head() {
+        assertThat(_list2.get(0), equalTo(STRING_VAL1));
+    }
+
+    @Test
+    public void test_LinkedList_list2_get_tail() {
+        assertThat(_list2.get(5), equalTo(STRING_VAL6));
+    }
+
+    @Test
+    public void test_LinkedList_list2_get_index() {
+        assertThat(_list2.get(1), equalTo(STRING_VAL2));
+    }
+
+    @Test
+    public void test_LinkedList_list2_get_indexOutOfBounds() {
+        thrown.expect(IndexOutOfBoundsException.class);
+        _list2.get(6);
+    }
+
+    @Test
+    public void test_LinkedList_list2_remove_negative() {
+        thrown.expect(IndexOutOfBoundsException.class);
+        _list2.remove(-1);
+    }
+
+    @Test
+    public void test_LinkedList_list2_remove_indexOutOfBounds() {
+        thrown.expect(IndexOutOfBoundsException.class);
+        _list2.remove(6);
+    }
+
+    @Test
+    public void test_LinkedList_list2_size() {
+        assertThat(_list2.size(), equalTo(6));
+    }
+
+    @Test
+    public void test_LinkedList_list3_size() {
+        assertThat(_list3.size(), equalTo(1));
+    }
+
+    @Test
+    public void test_LinkedList_list1_size() {
+        assertThat(_list1.size(), equalTo(0));
+    }
+
+    @Test
+    public void test_LinkedList_list1_isEmpty() {
+        assertThat(_list1.isEmpty(), equalTo(true));
+    }
+
+    @Test
+    public void test_LinkedList_list2_isEmpty() {
+        assertThat(_list2.isEmpty(), equalTo(false));
+    }
+
+    @Test
+    public void test_LinkedList_list3_isEmpty() {
+        assertThat(_list3.isEmpty(), equalTo(false));
+    }
+
+    @Test
+    public void test_iterator() {
+        System.out.println("***");
+        while (_iterator2.hasNext()) {
+            System.out.println(_iterator2.next());
+        }
+        System.out.println("***");
+
+        System.out.println("\n\nREVERSE_ITERATOR\n\n");
+
+        System.out.println("***");
+        while (_reverseIterator2.hasNext()) {
+            System.out.println(_reverseIterator2.next());
+        }
+        System.out.println("***");
+
+    }
+
+    @Test
+    public void test_LinkedList_listIterator_forward() {
+        LinkedList<String> list = new LinkedList<>();
+        list.add(STRING_VAL1);
+        list.add(STRING_VAL2);
+        list.add(STRING_VAL3);
+        ListIterator<String> iterator = list.listIterator();
+        assertThat(iterator.next(), equalTo(STRING_VAL1));
+        assertThat(iterator.next(), equalTo(STRING_VAL2));
+        assertThat(iterator.next(), equalTo(STRING_VAL3));
+        assertThat(iterator.hasNext(), equalTo(false));
+        assertThat(iterator.nextIndex(), equalTo(3));
+    }
+
+    @Test
+    public void test_LinkedList_listIterator_backward() {
+        LinkedList<String> list = new LinkedList<>();
+        list.add(STRING_VAL1);
+        list.add(STRING_VAL2);
+        list.add(STRING_VAL3);
+        ListIterator<String> iterator = list.listIterator(list.size());
+        assertThat(iterator.previous(), equalTo(STRING_VAL3));
+        assertThat(iterator.previous(), equalTo(STRING_VAL2));
+        assertThat(iterator.previous(), equalTo(STRING_VAL1));
+        assertThat(iterator.hasPrevious(), equalTo(false));
+        assertThat(iterator.previousIndex(), equalTo(-1));
+    }
+
+    @Test
+    public void test_LinkedList_listIterator_next_end() {
+        LinkedList<String> list = new LinkedList<>();
+        list.add(STRING_VAL1);
+        ListIterator<String> iterator = list.listIterator(1);
+        thrown.expect(NoSuchElementException.class);
+        iterator.next();
+    }
+
+    @Test
+    public void test_LinkedList_listIterator_indexOutOfBounds() {
+        thrown.expect(IndexOutOfBoundsException.class);
+        _list3.listIterator(2);
+    }
+
+    @Test
+    public void test_LinkedList_listIterator_remove() {
+        LinkedList<String> list = new LinkedList<>();
+        list.add(STRING_VAL1);
+        list.add(STRING_VAL2);
+        list.add(STRING_VAL3);
+        list.add(STRING_VAL4);
+        ListIterator<String> iterator = list.listIterator();
+        while (iterator.hasNext()) {
+            String value = iterator.next();
+            if (value.equals(STRING_VAL1) || value.equals(STRING_VAL3)) {
+                iterator.remove();
+            }
+        }
+        assertThat(list.size(), equalTo(2));
+        assertThat(list.get(0), equalTo(STRING_VAL2));
+        assertThat(list.get(1), equalTo(STRING_VAL4));
+    }
+
+    @Test
+    public void test_LinkedList_listIterator_remove_all() {
+        LinkedList<String> list = new LinkedList<>();
+        list.add(STRING_VAL1);
+        list.add(STRING_VAL2);
+        Iterator<String> iterator = list.iterator();
+        while (iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+        assertThat(list.isEmpty(), equalTo(true));
+        list.add(STRING_VAL3);
+        assertThat(list.get(0), equalTo(STRING_VAL3));
+    }
+
+    @Test
+    public void test_LinkedList_listIterator_remove_twice() {
+        LinkedList<String> list = new LinkedList<>();
+        list.add(STRING_VAL1);
+        ListIterator<String> iterator = list.listIterator();
+        iterator.next();
+        iterator.remove();
+        thrown.expect(IllegalStateException.class);
+        iterator.remove();
+    }
+
+    @Test
+    public void test_LinkedList_listIterator_remove_previous() {
+        LinkedList<String> list = new LinkedList<>();
+        list.add(STRING_VAL1);
+        list.add(STRING_VAL2);
+        ListIterator<String> iterator = list.listIterator(2);
+        assertThat(iterator.previous(), equalTo(STRING_VAL2));
+        iterator.remove();
+        assertThat(iterator.nextIndex(), equalTo(1));
+        assertThat(iterator.hasNext(), equalTo(false));
+        assertThat(iterator.previous(), equalTo(STRING_VAL1));
+    }
+
+    @Test
+    public void test_LinkedList_listIterator_add() {
+        LinkedList<String> list = new LinkedList<>();
+        ListIterator<String> iterator = list.listIterator();
+        iterator.add(STRING_VAL1);
+        iterator.add(STRING_VAL3);
+        assertThat(iterator.previous(), equalTo(STRING_VAL3));
+        iterator.add(STRING_VAL2);
+        assertThat(iterator.next(), equalTo(STRING_VAL3));
+        assertThat(list.size(), equalTo(3));
+        assertThat(list.get(0), equalTo(STRING_VAL1));
+        assertThat(list.get(1), equalTo(STRING_VAL2));
+        assertThat(list.get(2), equalTo(STRING_VAL3));
+    }
+
+    @Test
+    public void test_LinkedList_listIterator_set() {
+        LinkedList<String> list = new LinkedList<>();
+        list.add(STRING_VAL1);
+        list.add(STRING_VAL2);
+        ListIterator<String> iterator = list.listIterator();
+        iterator.next();
+        iterator.set(STRING_VAL10);
+        assertThat(list.get(0), equalTo(STRING_VAL10));
+        assertThat(list.get(1), equalTo(STRING_VAL2));
+    }
+
+    @Test
+    public void test_LinkedList_listIterator_set_afterAdd() {
+        LinkedList<String> list = new LinkedList<>();
+        ListIterator<String> iterator = list.listIterator();
+        iterator.add(STRING_VAL1);
+        thrown.expect(IllegalStateException.class);
+        iterator.set(STRING_VAL2);
+    }
+
+    @Test
+    public void test_LinkedList_reverseIterator_remove() {
+        LinkedList<String> list = new LinkedList<>();
+        list.add(STRING_VAL1);
+        list.add(STRING_VAL2);
+        list.add(STRING_VAL3);
+        Iterator<String> iterator = list.reverseIterator();
+        assertThat(iterator.next(), equalTo(STRING_VAL3));
+        assertThat(iterator.next(), equalTo(STRING_VAL2));
+        iterator.remove();
+        assertThat(iterator.next(), equalTo(STRING_VAL1));
+        assertThat(iterator.hasNext(), equalTo(false));
+        assertThat(list.size(), equalTo(2));
+        assertThat(list.get(1), equalTo(STRING_VAL3));
+    }
+
+    @Test
+    public void test_LinkedList_iterator_externalModification() {
+        LinkedList<String> list = new LinkedList<>();
+        list.add(STRING_VAL1);
+        list.add(STRING_VAL2);
+        Iterator<String> iterator = list.iterator();
+        assertThat(iterator.next(), equalTo(STRING_VAL1));
+        list.remove(0);
+        list.add(STRING_VAL3);
+        assertThat(iterator.next(), equalTo(STRING_VAL3));
+        assertThat(iterator.hasNext(), equalTo(false));
+    }
+
+    @Test
+    public void test_LinkedList_set_returnsPrevious() {
+        LinkedList<String> list = new LinkedList<>();
+        list.add(STRING_VAL1);
+        assertThat(list.set(0, STRING_VAL2), equalTo(STRING_VAL1));
+        assertThat(list.get(0), equalTo(STRING_VAL2));
+    }
+
+    @Test
+    public void test_LinkedList_remove_head() {
+        LinkedList<String> list = new LinkedList<>();
+        list.add(STRING_VAL1);
+        list.add(STRING_VAL2);
+        assertThat(list.remove(0), equalTo(STRING_VAL1));
+        assertThat(list.get(0), equalTo(STRING_VAL2));
+        assertThat(list.size(), equalTo(1));
+    }
+
+    @Test
+    public void test_LinkedList_finger_sequentialGets() {
+        LinkedList<Integer> list = new LinkedList<>();
+        for (int i = 0; i < 100; i++) {
+            list.add(i);
+        }
+        list.get(40);
+        list.resetFingerStatistics();
+        assertThat(list.get(41), equalTo(41));
+        assertThat(list.get(38), equalTo(38));
+        assertThat(list.getFingerHits(), equalTo(2L));
+        assertThat(list.getFingerMisses(), equalTo(0L));
+        assertThat(list.get(99), equalTo(99));
+        assertThat(list.getFingerMisses(), equalTo(1L));
+    }
+
+    @Test
+    public void test_LinkedList_finger_afterModification() {
+        LinkedList<Integer> list = new LinkedList<>();
+        List<Integer> expected = new ArrayList<>();
+        Random random = new Random(SEED);
+        for (int i = 0; i < 100; i++) {
+            list.add(i);
+            expected.add(i);
+        }
+        for (int i = 0; i < 5000; i++) {
+            int operation = random.nextInt(4);
+            int index = Math.max(0, Math.min(expected.size() - 1,
+                    list.size() / 2 + random.nextInt(11) - 5));
+            if (operation == 0 && expected.size() > 1) {
+                assertThat(list.remove(index), equalTo(expected.remove(index)));
+            }
+            else if (operation == 1 && !expected.isEmpty()) {
+                list.add(index, i);
+                expected.add(index, i);
+            }
+            else if (operation == 2) {
+                list.add(i);
+                expected.add(i);
+            }
+            else if (!expected.isEmpty()) {
+                assertThat(list.get(index), equalTo(expected.get(index)));
+            }
+        }
+        for (int i = 0; i < expected.size(); i++) {
+            assertThat(list.get(i), equalTo(expected.get(i)));
+        }
+        assertThat(list.getFingerHits() > 0, equalTo(true));
+    }
+
+    @Test
+    public void test_LinkedList_finger_clear() {
+        LinkedList<String> list = new LinkedList<>();
+        list.add(STRING_VAL1);
+        list.add(STRING_VAL2);
+        list.add(STRING_VAL3);
+        list.get(1);
+        list.clear();
+        list.add(STRING_VAL4);
+        list.add(STRING_VAL5);
+        list.add(STRING_VAL6);
+        assertThat(list.get(1), equalTo(STRING_VAL5));
+    }
+    @Test
+    public void test_LinkedList_finger_disabled() {
+        LinkedList<Integer> list = new LinkedList<>(false);
+        for (int i = 0; i < 100; i++) {
+            list.add(i);
+        }
+        for (int i = 0; i < 100; i++) {
+            assertThat(list.get(i), equalTo(i));
+        }
+        list.add(50, -1);
+        assertThat(list.remove(50), equalTo(-1));
+        assertThat(list.getFingerHits(), equalTo(0L));
+        assertThat(list.getFingerMisses(), equalTo(0L));
+    }
+    @Test
+    public void test_LinkedList_spliterator_characteristics() {
+        LinkedList<String> list = new LinkedList<>();
+        list.add(STRING_VAL1);
+        list.add(STRING_VAL2);
+        Spliterator<String> spliterator = list.spliterator();
+        assertThat(spliterator.hasCharacteristics(Spliterator.SIZED), equalTo(true));
+        assertThat(spliterator.hasCharacteristics(Spliterator.SUBSIZED), equalTo(true));
+        assertThat(spliterator.hasCharacteristics(Spliterator.ORDERED), equalTo(true));
+        assertThat(spliterator.getExactSizeIfKnown(), equalTo(2L));
+    }
+
+    @Test
+    public void test_LinkedList_spliterator_trySplit() {
+        LinkedList<Integer> list = new LinkedList<>();
+        for (int i = 0; i < 101; i++) {
+            list.add(i);
+        }
+        Spliterator<Integer> suffix = list.spliterator();
+        Spliterator<Integer> prefix = suffix.trySplit();
+        assertThat(prefix.estimateSize(), equalTo(50L));
+        assertThat(suffix.estimateSize(), equalTo(51L));
+        List<Integer> elements = new ArrayList<>();
+        while (prefix.tryAdvance(elements::add)) {
+        }
+        suffix.forEachRemaining(elements::add);
+        for (int i = 0; i < 101; i++) {
+            assertThat(elements.get(i), equalTo(i));
+        }
+        assertThat(suffix.trySplit(), nullValue());
+    }
+
+    @Test
+    public void test_LinkedList_stream() {
+        LinkedList<String> list = new LinkedList<>();
+        assertThat(list.stream().count(), equalTo(0L));
+        list.add(STRING_VAL1);
+        list.add(STRING_VAL2);
+        list.add(STRING_VAL3);
+        assertThat(list.stream().collect(Collectors.joining(",")),
+                equalTo(STRING_VAL1 + "," + STRING_VAL2 + "," + STRING_VAL3));
+    }
+
+    @Test
+    public void test_LinkedList_parallelStream() {
+        LinkedList<Integer> list = new LinkedList<>();
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 100000; i++) {
+            list.add(i);
+            expected.add(i);
+        }
+        assertThat(list.parallelStream().isParallel(), equalTo(true));
+        assertThat(list.parallelStream().mapToLong(Integer::longValue).sum(), equalTo(4999950000L));
+        assertThat(list.parallelStream().collect(Collectors.toList()), equalTo(expected));
+    }
+
+    @Test
+    public void test_LinkedList_spliterator_concurrentModification() {
+        LinkedList<String> list = new LinkedList<>();
+        list.add(STRING_VAL1);
+        list.add(STRING_VAL2);
+        Spliterator<String> spliterator = list.spliterator();
+        list.add(STRING_VAL3);
+        thrown.expect(ConcurrentModificationException.class);
+        spliterator.tryAdvance(element -> { });
+    }
+    @Test
+    public void test_LinkedList_addAll() {
+        LinkedList<String> list = new LinkedList<>();
+        assertThat(list.addAll(Collections.emptyList()), equalTo(false));
+        assertThat(list.addAll(Arrays.asList(STRING_VAL1, STRING_VAL4)), equalTo(true));
+        assertThat(list.addAll(1, Arrays.asList(STRING_VAL2, STRING_VAL3)), equalTo(true));
+        assertThat(list.addAll(0, Arrays.asList(STRING_VAL5)), equalTo(true));
+        assertThat(list.size(), equalTo(5));
+        assertThat(list.get(0), equalTo(STRING_VAL5));
+        assertThat(list.get(1), equalTo(STRING_VAL1));
+        assertThat(list.get(2), equalTo(STRING_VAL2));
+        assertThat(list.get(3), equalTo(STRING_VAL3));
+        assertThat(list.get(4), equalTo(STRING_VAL4));
+        Iterator<String> reverse = list.reverseIterator();
+        assertThat(reverse.next(), equalTo(STRING_VAL4));
+        assertThat(reverse.next(), equalTo(STRING_VAL3));
+    }
+
+    @Test
+    public void test_LinkedList_addAll_outOfBounds() {
+        LinkedList<String> list = new LinkedList<>();
+        thrown.expect(IndexOutOfBoundsException.class);
+        list.addAll(1, Arrays.asList(STRING_VAL1));
+    }
+
+    @Test
+    public void test_LinkedList_splice() {
+        LinkedList<String> list = new LinkedList<>();
+        LinkedList<String> other = new LinkedList<>();
+        list.add(STRING_VAL1);
+        list.add(STRING_VAL4);
+        other.add(STRING_VAL2);
+        other.add(STRING_VAL3);
+        list.get(1);
+        list.splice(1, other);
+        assertThat(other.isEmpty(), equalTo(true));
+        assertThat(list.size(), equalTo(4));
+        assertThat(list.get(1), equalTo(STRING_VAL2));
+        assertThat(list.get(2), equalTo(STRING_VAL3));
+        assertThat(list.get(3), equalTo(STRING_VAL4));
+        other.add(STRING_VAL5);
+        list.splice(other);
+        assertThat(list.get(4), equalTo(STRING_VAL5));
+        assertThat(other.size(), equalTo(0));
+        list.splice(new LinkedList<>());
+        assertThat(list.size(), equalTo(5));
+        Iterator<String> reverse = list.reverseIterator();
+        assertThat(reverse.next(), equalTo(STRING_VAL5));
+        assertThat(reverse.next(), equalTo(STRING_VAL4));
+        assertThat(reverse.next(), equalTo(STRING_VAL3));
+    }
+
+    @Test
+    public void test_LinkedList_splice_self() {
+        LinkedList<String> list = new LinkedList<>();
+        thrown.expect(IllegalArgumentException.class);
+        list.splice(list);
+    }
+    @Test
+    public void test_LinkedList_pool_negativeCapacity() {
+        thrown.expect(IllegalArgumentException.class);
+        new LinkedList<String>(INVALID_CAP);
+    }
+
+    @Test
+    public void test_LinkedList_pool_randomOperations() {
+        LinkedList<Integer> list = new LinkedList<>(16);
+        List<Integer> expected = new ArrayList<>();
+        Random random = new Random(SEED);
+        for (int i = 0; i < 5000; i++) {
+            int operation = random.nextInt(6);
+            int index = expected.isEmpty() ? 0 : random.nextInt(expected.size());
+            if (operation == 0 && !expected.isEmpty()) {
+                assertThat(list.remove(index), equalTo(expected.remove(index)));
+            }
+            else if (operation == 1 && !expected.isEmpty()) {
+                list.add(index, i);
+                expected.add(index, i);
+            }
+            else if (operation == 2) {
+                list.add(i);
+                expected.add(i);
+            }
+            else if (operation == 3 && random.nextInt(20) == 0) {
+                list.clear();
+                expected.clear();
+            }
+            else if (operation == 4 && !expected.isEmpty()) {
+                ListIterator<Integer> listIterator = list.listIterator(index);
+                listIterator.next();
+                listIterator.remove();
+                expected.remove(index);
+                listIterator.add(i);
+                expected.add(index, i);
+            }
+            else if (!expected.isEmpty()) {
+                assertThat(list.get(index), equalTo(expected.get(index)));
+            }
+            assertThat(list.size(), equalTo(expected.size()));
+        }
+        Iterator<Integer> reverse = list.reverseIterator();
+        for (int i = expected.size() - 1; i >= 0; i--) {
+            assertThat(reverse.next(), equalTo(expected.get(i)));
+        }
+        assertThat(reverse.hasNext(), equalTo(false));
+    }
+
+    @Test
+    public void test_LinkedList_pool_reuseAfterClear() {
+        LinkedList<String> list = new LinkedList<>(2);
+        list.add(STRING_VAL1);
+        list.add(STRING_VAL2);
+        list.add(STRING_VAL3);
+        list.clear();
+        assertThat(list.isEmpty(), equalTo(true));
+        assertThat(list.iterator().hasNext(), equalTo(false));
+        list.add(STRING_VAL4);
+        list.add(STRING_VAL5);
+        list.add(STRING_VAL6);
+        assertThat(list.get(0), equalTo(STRING_VAL4));
+        assertThat(list.get(1), equalTo(STRING_VAL5));
+        assertThat(list.get(2), equalTo(STRING_VAL6));
+        assertThat(list.indexOf(STRING_VAL1), equalTo(-1));
+    }
+    @Test
+    public void test_LinkedList_indexOf_equals() {
+        LinkedList<String> list = new LinkedList<>();
+        list.add(STRING_VAL1);
+        list.add(STRING_VAL2);
+        list.add(STRING_VAL1);
+        String copy = new String(STRING_VAL1);
+        Object element = copy;
+        assertThat(list.indexOf(copy), equalTo(0));
+        assertThat(list.indexOf(element), equalTo(0));
+        assertThat(list.lastIndexOf(copy), equalTo(2));
+        assertThat(list.contains(copy), equalTo(true));
+        assertThat(list.contains(STRING_VAL3), equalTo(false));
+        assertThat(list.lastIndexOf(STRING_VAL3), equalTo(-1));
+        assertThat(list.remove(copy), equalTo(true));
+        assertThat(list.remove(STRING_VAL3), equalTo(false));
+        assertThat(list.size(), equalTo(2));
+        assertThat(list.get(0), equalTo(STRING_VAL2));
+    }
+
+    @Test
+    public void test_LinkedList_valueIndex_enable() {
+        LinkedList<String> list = new LinkedList<>();
+        list.add(STRING_VAL1);
+        list.add(STRING_VAL2);
+        list.add(STRING_VAL9);
+        assertThat(list.isValueIndexed(), equalTo(false));
+        list.setValueIndexed(true);
+        assertThat(list.isValueIndexed(), equalTo(true));
+        assertThat(list.contains(STRING_VAL2), equalTo(true));
+        assertThat(list.contains(STRING_VAL9), equalTo(true));
+        assertThat(list.indexOf(STRING_VAL9), equalTo(2));
+        assertThat(list.contains(STRING_VAL3), equalTo(false));
+        assertThat(list.remove(STRING_VAL1), equalTo(true));
+        assertThat(list.indexOf(STRING_VAL2), equalTo(0));
+        list.setValueIndexed(false);
+        assertThat(list.isValueIndexed(), equalTo(false));
+        assertThat(list.contains(STRING_VAL2), equalTo(true));
+    }
+
+    @Test
+    public void test_LinkedList_valueIndex_randomOperations() {
+        LinkedList<Integer> list = new LinkedList<>(8);
+        list.setValueIndexed(true);
+        List<Integer> expected = new ArrayList<>();
+        Random random = new Random(SEED);
+        for (int i = 0; i < 5000; i++) {
+            int operation = random.nextInt(9);
+            Integer value = random.nextInt(50) + 1000;
+            int index = expected.isEmpty() ? 0 : random.nextInt(expected.size());
+            if (operation == 0) {
+                list.add(value);
+                expected.add(value);
+            }
+            else if (operation == 1 && !expected.isEmpty()) {
+                list.add(index, value);
+                expected.add(index, value);
+            }
+            else if (operation == 2 && !expected.isEmpty()) {
+                assertThat(list.remove(index), equalTo(expected.remove(index)));
+            }
+            else if (operation == 3) {
+                assertThat(list.remove(value), equalTo(expected.remove(value)));
+            }
+            else if (operation == 4 && !expected.isEmpty()) {
+                assertThat(list.set(index, value), equalTo(expected.set(index, value)));
+            }
+            else if (operation == 5 && !expected.isEmpty()) {
+                ListIterator<Integer> listIterator = list.listIterator(index);
+                listIterator.next();
+                listIterator.set(value);
+                expected.set(index, value);
+            }
+            else if (operation == 6) {
+                LinkedList<Integer> other = new LinkedList<>();
+                other.setValueIndexed(true);
+                other.add(value);
+                list.splice(expected.size() / 2, other);
+                expected.add(expected.size() / 2, value);
+                assertThat(other.contains(value), equalTo(false));
+            }
+            else if (operation == 7 && random.nextInt(25) == 0) {
+                list.clear();
+                expected.clear();
+            }
+            assertThat(list.contains(value), equalTo(expected.contains(value)));
+            assertThat(list.indexOf(value), equalTo(expected.indexOf(value)));
+            assertThat(list.lastIndexOf(value), equalTo(expected.lastIndexOf(value)));
+        }
+        for (int i = 0; i < expected.size(); i++) {
+            assertThat(list.get(i), equalTo(expected.get(i)));
+        }
+    }
+    @Test
+    public void test_LinkedList_add_atSize() {
+        LinkedList<String> list = new LinkedList<>();
+        list.add(0, STRING_VAL2);
+        list.add(1, STRING_VAL3);
+        list.add(0, STRING_VAL1);
+        assertThat(list.size(), equalTo(3));
+        assertThat(list.get(0), equalTo(STRING_VAL1));
+        assertThat(list.get(2), equalTo(STRING_VAL3));
+    }
+
+    @Test
+    public void test_LinkedList_add_pastSize() {
+        LinkedList<String> list = new LinkedList<>();
+        thrown.expect(IndexOutOfBoundsException.class);
+        list.add(1, STRING_VAL1);
+    }
+
+    @Test
+    public void test_LinkedList_deque_ends() {
+        Deque<String> deque = new LinkedList<>();
+        assertThat(deque.peekFirst(), nullValue());
+        assertThat(deque.peekLast(), nullValue());
+        assertThat(deque.pollFirst(), nullValue());
+        assertThat(deque.pollLast(), nullValue());
+        deque.addFirst(STRING_VAL2);
+        deque.addLast(STRING_VAL3);
+        deque.offerFirst(STRING_VAL1);
+        deque.offerLast(STRING_VAL4);
+        assertThat(deque.getFirst(), equalTo(STRING_VAL1));
+        assertThat(deque.getLast(), equalTo(STRING_VAL4));
+        assertThat(deque.removeFirst(), equalTo(STRING_VAL1));
+        assertThat(deque.removeLast(), equalTo(STRING_VAL4));
+        assertThat(deque.pollFirst(), equalTo(STRING_VAL2));
+        assertThat(deque.pollLast(), equalTo(STRING_VAL3));
+        assertThat(deque.isEmpty(), equalTo(true));
+    }
+
+    @Test
+    public void test_LinkedList_deque_queueAndStack() {
+        Deque<String> deque = new LinkedList<>();
+        deque.offer(STRING_VAL1);
+        deque.offer(STRING_VAL2);
+        assertThat(deque.peek(), equalTo(STRING_VAL1));
+        assertThat(deque.element(), equalTo(STRING_VAL1));
+        assertThat(deque.poll(), equalTo(STRING_VAL1));
+        assertThat(deque.remove(), equalTo(STRING_VAL2));
+        deque.push(STRING_VAL1);
+        deque.push(STRING_VAL2);
+        assertThat(deque.pop(), equalTo(STRING_VAL2));
+        assertThat(deque.pop(), equalTo(STRING_VAL1));
+        assertThat(deque.poll(), nullValue());
+    }
+
+    @Test
+    public void test_LinkedList_deque_removeFirst_empty() {
+        LinkedList<String> list = new LinkedList<>();
+        thrown.expect(NoSuchElementException.class);
+        list.removeFirst();
+    }
+
+    @Test
+    public void test_LinkedList_deque_getLast_empty() {
+        LinkedList<String> list = new LinkedList<>();
+        thrown.expect(NoSuchElementException.class);
+        list.getLast();
+    }
+
+    @Test
+    public void test_LinkedList_deque_occurrences() {
+        LinkedList<String> list = new LinkedList<>();
+        list.addAll(Arrays.asList(STRING_VAL1, STRING_VAL2, STRING_VAL1, STRING_VAL2));
+        assertThat(list.removeLastOccurrence(STRING_VAL1), equalTo(true));
+        assertThat(list.removeFirstOccurrence(STRING_VAL2), equalTo(true));
+        assertThat(list.removeLastOccurrence(STRING_VAL3), equalTo(false));
+        assertThat(Arrays.asList(list.toArray()), equalTo(Arrays.<Object>asList(STRING_VAL1, STRING_VAL2)));
+    }
+
+    @Test
+    public void test_LinkedList_deque_descendingIterator() {
+        LinkedList<String> list = new LinkedList<>();
+        list.addAll(Arrays.asList(STRING_VAL1, STRING_VAL2, STRING_VAL3));
+        Iterator<String> iterator = list.descendingIterator();
+        assertThat(iterator.next(), equalTo(STRING_VAL3));
+        iterator.remove();
+        assertThat(iterator.next(), equalTo(STRING_VAL2));
+        assertThat(iterator.next(), equalTo(STRING_VAL1));
+        assertThat(iterator.hasNext(), equalTo(false));
+        assertThat(list.getLast(), equalTo(STRING_VAL2));
+    }
+
+    @Test
+    public void test_LinkedList_collection_bulk() {
+        LinkedList<String> list = new LinkedList<>();
+        list.addAll(Arrays.asList(STRING_VAL1, STRING_VAL2, STRING_VAL3, STRING_VAL4));
+        assertThat(list.containsAll(Arrays.asList(STRING_VAL2, STRING_VAL4)), equalTo(true));
+        assertThat(list.containsAll(Arrays.asList(STRING_VAL2, STRING_VAL5)), equalTo(false));
+        assertThat(list.removeAll(Arrays.asList(STRING_VAL1, STRING_VAL3)), equalTo(true));
+        assertThat(list.retainAll(Arrays.asList(STRING_VAL4, STRING_VAL5)), equalTo(true));
+        assertThat(list.retainAll(Arrays.asList(STRING_VAL4)), equalTo(false));
+        String[] small = list.toArray(new String[0]);
+        assertThat(small.length, equalTo(1));
+        assertThat(small[0], equalTo(STRING_VAL4));
+        String[] large = list.toArray(new String[] {STRING_VAL1, STRING_VAL2, STRING_VAL3});
+        assertThat(large[0], equalTo(STRING_VAL4));
+        assertThat(large[1], nullValue());
+    }
+    @Test
+    public void test_LinkedList_snapshot_empty() {
+        LinkedList<String> list = new LinkedList<>();
+        LinkedList.Snapshot<String> snapshot = list.snapshot();
+        list.add(STRING_VAL1);
+        assertThat(snapshot.isEmpty(), equalTo(true));
+        assertThat(snapshot.size(), equalTo(0));
+        assertThat(snapshot.iterator().hasNext(), equalTo(false));
+    }
+
+    @Test
+    public void test_LinkedList_snapshot_endOperations() {
+        LinkedList<String> list = new LinkedList<>(4);
+        list.addAll(Arrays.asList(STRING_VAL1, STRING_VAL2, STRING_VAL3));
+        LinkedList.Snapshot<String> snapshot = list.snapshot();
+        list.add(STRING_VAL4);
+        list.addFirst(STRING_VAL5);
+        assertThat(list.removeFirst(), equalTo(STRING_VAL5));
+        assertThat(list.removeFirst(), equalTo(STRING_VAL1));
+        list.addAll(Arrays.asList(STRING_VAL6, STRING_VAL7));
+        assertThat(snapshot.size(), equalTo(3));
+        assertThat(snapshot.stream().collect(Collectors.toList()),
+                equalTo(Arrays.asList(STRING_VAL1, STRING_VAL2, STRING_VAL3)));
+        assertThat(snapshot.get(2), equalTo(STRING_VAL3));
+        assertThat(list.stream().collect(Collectors.toList()),
+                equalTo(Arrays.asList(STRING_VAL2, STRING_VAL3, STRING_VAL4, STRING_VAL6, STRING_VAL7)));
+    }
+
+    @Test
+    public void test_LinkedList_snapshot_copyOnWrite() {
+        LinkedList<String> list = new LinkedList<>(4);
+        list.setValueIndexed(true);
+        list.addAll(Arrays.asList(STRING_VAL1, STRING_VAL2, STRING_VAL3, STRING_VAL4));
+        LinkedList.Snapshot<String> first = list.snapshot();
+        assertThat(list.set(1, STRING_VAL5), equalTo(STRING_VAL2));
+        LinkedList.Snapshot<String> second = list.snapshot();
+        assertThat(list.remove(2), equalTo(STRING_VAL3));
+        LinkedList.Snapshot<String> third = list.snapshot();
+        assertThat(list.removeLast(), equalTo(STRING_VAL4));
+        assertThat(list.remove(STRING_VAL1), equalTo(true));
+        list.clear();
+        list.add(STRING_VAL6);
+        assertThat(first.stream().collect(Collectors.toList()),
+                equalTo(Arrays.asList(STRING_VAL1, STRING_VAL2, STRING_VAL3, STRING_VAL4)));
+        assertThat(second.stream().collect(Collectors.toList()),
+                equalTo(Arrays.asList(STRING_VAL1, STRING_VAL5, STRING_VAL3, STRING_VAL4)));
+        assertThat(third.stream().collect(Collectors.toList()),
+                equalTo(Arrays.asList(STRING_VAL1, STRING_VAL5, STRING_VAL4)));
+        assertThat(list.contains(STRING_VAL6), equalTo(true));
+        assertThat(list.contains(STRING_VAL5), equalTo(false));
+    }
+
+    @Test
+    public void test_LinkedList_snapshot_removeCopiesOnlyOnMatch() {
+        LinkedList<String> list = new LinkedList<>();
+        list.addAll(Arrays.asList(STRING_VAL1, STRING_VAL2, STRING_VAL3, STRING_VAL2));
+        LinkedListMetrics metrics = new LinkedListMetrics();
+        list.setMetrics(metrics);
+        LinkedList.Snapshot<String> snapshot = list.snapshot();
+        assertThat(list.remove(STRING_VAL4), equalTo(false));
+        assertThat(list.removeLastOccurrence(STRING_VAL4), equalTo(false));
+        assertThat(list.remove(STRING_VAL1), equalTo(true));
+        assertThat(metrics.getNodeAllocations(), equalTo(0L));
+        assertThat(list.removeLastOccurrence(STRING_VAL2), equalTo(true));
+        assertThat(metrics.getNodeAllocations(), equalTo(3L));
+        list.setValueIndexed(true);
+        LinkedList.Snapshot<String> indexed = list.snapshot();
+        assertThat(list.remove(STRING_VAL3), equalTo(true));
+        assertThat(list.stream().collect(Collectors.toList()), equalTo(Arrays.asList(STRING_VAL2)));
+        assertThat(indexed.stream().collect(Collectors.toList()), equalTo(Arrays.asList(STRING_VAL2, STRING_VAL3)));
+        assertThat(snapshot.stream().collect(Collectors.toList()),
+                equalTo(Arrays.asList(STRING_VAL1, STRING_VAL2, STRING_VAL3, STRING_VAL2)));
+    }
+
+    @Test
+    public void test_LinkedList_snapshot_removeIfCopiesOnlyOnMatch() {
+        LinkedList<Integer> list = new LinkedList<>();
+        for (int i = 0; i < 6; i++) {
+            list.add(i);
+        }
+        LinkedListMetrics metrics = new LinkedListMetrics();
+        list.setMetrics(metrics);
+        LinkedList.Snapshot<Integer> snapshot = list.snapshot();
+        List<Integer> tested = new ArrayList<>();
+        assertThat(list.removeIf(element -> tested.add(element) && element < 0), equalTo(false));
+        assertThat(list.removeIf(element -> element == 0), equalTo(true));
+        assertThat(metrics.getNodeAllocations(), equalTo(0L));
+        tested.clear();
+        assertThat(list.removeIf(element -> tested.add(element) && element % 2 == 1), equalTo(true));
+        assertThat(metrics.getNodeAllocations(), equalTo(4L));
+        assertThat(tested, equalTo(Arrays.asList(1, 2, 3, 4, 5)));
+        assertThat(list.stream().collect(Collectors.toList()), equalTo(Arrays.asList(2, 4)));
+        assertThat(snapshot.stream().collect(Collectors.toList()), equalTo(Arrays.asList(0, 1, 2, 3, 4, 5)));
+    }
+
+    @Test
+    public void test_LinkedList_snapshot_emptyRemoveRange() {
+        LinkedList<Integer> list = new LinkedList<>();
+        for (int i = 0; i < 4; i++) {
+            list.add(i);
+        }
+        LinkedListMetrics metrics = new LinkedListMetrics();
+        list.setMetrics(metrics);
+        LinkedList.Snapshot<Integer> snapshot = list.snapshot();
+        list.removeRange(2, 2);
+        list.removeRange(4, 4);
+        assertThat(metrics.getNodeAllocations(), equalTo(0L));
+        list.removeRange(1, 3);
+        assertThat(metrics.getNodeAllocations(), equalTo(4L));
+        assertThat(list.stream().collect(Collectors.toList()), equalTo(Arrays.asList(0, 3)));
+        assertThat(snapshot.stream().collect(Collectors.toList()), equalTo(Arrays.asList(0, 1, 2, 3)));
+    }
+
+    @Test
+    public void test_LinkedList_snapshot_listIterator() {
+        LinkedList<String> list = new LinkedList<>();
+        list.addAll(Arrays.asList(STRING_VAL1, STRING_VAL2, STRING_VAL3));
+        ListIterator<String> listIterator = list.listIterator();
+        assertThat(listIterator.next(), equalTo(STRING_VAL1));
+        assertThat(listIterator.next(), equalTo(STRING_VAL2));
+        LinkedList.Snapshot<String> snapshot = list.snapshot();
+        listIterator.set(STRING_VAL4);
+        assertThat(listIterator.previous(), equalTo(STRING_VAL4));
+        listIterator.remove();
+        assertThat(listIterator.next(), equalTo(STRING_VAL3));
+        assertThat(list.stream().collect(Collectors.toList()), equalTo(Arrays.asList(STRING_VAL1, STRING_VAL3)));
+        assertThat(snapshot.stream().collect(Collectors.toList()),
+                equalTo(Arrays.asList(STRING_VAL1, STRING_VAL2, STRING_VAL3)));
+    }
+
+    @Test
+    public void test_LinkedList_snapshot_splice() {
+        LinkedList<String> list = new LinkedList<>();
+        LinkedList<String> other = new LinkedList<>();
+        list.add(STRING_VAL1);
+        other.add(STRING_VAL2);
+        other.add(STRING_VAL3);
+        LinkedList.Snapshot<String> snapshot = other.snapshot();
+        list.splice(other);
+        list.set(2, STRING_VAL4);
+        assertThat(snapshot.stream().collect(Collectors.toList()), equalTo(Arrays.asList(STRING_VAL2, STRING_VAL3)));
+        assertThat(list.stream().collect(Collectors.toList()),
+                equalTo(Arrays.asList(STRING_VAL1, STRING_VAL2, STRING_VAL4)));
+    }
+
+    @Test
+    public void test_LinkedList_snapshot_concurrentReaders() throws InterruptedException {
+        LinkedList<Integer> list = new LinkedList<>();
+        AtomicReference<LinkedList.Snapshot<Integer>> published = new AtomicReference<>(list.snapshot());
+        AtomicBoolean writing = new AtomicBoolean(true);
+        AtomicInteger errors = new AtomicInteger();
+        Thread reader = new Thread(() -> {
+            while (writing.get()) {
+                LinkedList.Snapshot<Integer> snapshot = published.get();
+                int expected = -1;
+                int count = 0;
+                for (Integer element : snapshot) {
+                    if (expected != -1 && element != expected + 1) {
+                        errors.incrementAndGet();
+                    }
+                    expected = element;
+                    count++;
+                }
+                if (count != snapshot.size()) {
+                    errors.incrementAndGet();
+                }
+            }
+        });
+        reader.start();
+        for (int i = 0; i < 200000; i++) {
+            list.add(i);
+            if (list.size() > 1000) {
+                list.removeFirst();
+            }
+            if (i % 100 == 0) {
+                published.set(list.snapshot());
+            }
+        }
+        writing.set(false);
+        reader.join();
+        assertThat(errors.get(), equalTo(0));
+    }
+
+    @Test
+    public void test_LinkedList_subList_readsRange() {
+        LinkedList<Integer> list = new LinkedList<>();
+        list.addAll(Arrays.asList(0, 1, 2, 3, 4, 5));
+        List<Integer> view = list.subList(1, 4);
+        assertThat(view.size(), equalTo(3));
+        assertThat(view.get(0), equalTo(1));
+        assertThat(view.get(2), equalTo(3));
+        assertThat(view, equalTo(Arrays.asList(1, 2, 3)));
+        assertThat(list.subList(6, 6).isEmpty(), equalTo(true));
+    }
+
+    @Test
+    public void test_LinkedList_subList_writesThrough() {
+        LinkedList<Integer> list = new LinkedList<>();
+        list.addAll(Arrays.asList(0, 1, 2, 3, 4, 5));
+        List<Integer> view = list.subList(1, 4);
+        view.set(1, 20);
+        view.remove(0);
+        view.add(0, 10);
+        view.add(30);
+        assertThat(view, equalTo(Arrays.asList(10, 20, 3, 30)));
+        assertThat(list.toArray(), equalTo(new Object[] {0, 10, 20, 3, 30, 4, 5}));
+        view.clear();
+        assertThat(list.toArray(), equalTo(new Object[] {0, 4, 5}));
+        assertThat(list.indexOf(20), equalTo(-1));
+    }
+
+    @Test
+    public void test_LinkedList_subList_outsideModification() {
+        LinkedList<Integer> list = new LinkedList<>();
+        list.addAll(Arrays.asList(0, 1, 2));
+        List<Integer> view = list.subList(0, 2);
+        list.add(3);
+        thrown.expect(ConcurrentModificationException.class);
+        view.size();
+    }
+
+    @Test
+    public void test_LinkedList_subList_afterSnapshot() {
+        LinkedList<Integer> list = new LinkedList<>();
+        list.addAll(Arrays.asList(0, 1, 2, 3));
+        List<Integer> view = list.subList(1, 3);
+        LinkedList.Snapshot<Integer> snapshot = list.snapshot();
+        view.remove(0);
+        view.set(0, 9);
+        assertThat(list.toArray(), equalTo(new Object[] {0, 9, 3}));
+        assertThat(snapshot.get(1), equalTo(1));
+        assertThat(snapshot.get(2), equalTo(2));
+    }
+
+    @Test
+    public void test_LinkedList_subList_badRange() {
+        LinkedList<Integer> list = new LinkedList<>();
+        list.add(0);
+        thrown.expect(IndexOutOfBoundsException.class);
+        list.subList(1, 0);
+    }
+
+    @Test
+    public void test_LinkedList_lazyViews() {
+        LinkedList<Integer> list = new LinkedList<>();
+        list.addAll(Arrays.asList(1, 2, 3, 4, 5, 6));
+        AtomicInteger calls = new AtomicInteger();
+        LazyView<String> view = list.filter(element -> element % 2 == 0)
+                .map(element -> {
+                    calls.incrementAndGet();
+                    return "v" + element;
+                })
+                .limit(2);
+        assertThat(calls.get(), equalTo(0));
+        assertThat(view.toLinkedList().toArray(), equalTo(new Object[] {"v2", "v4"}));
+        assertThat(calls.get(), equalTo(2));
+        list.addFirst(0);
+        assertThat(view.iterator().next(), equalTo("v0"));
+    }
+
+    @Test
+    public void test_LinkedList_sort_naturalOrder() {
+        LinkedList<Integer> list = new LinkedList<>();
+        list.addAll(Arrays.asList(5, 3, 9, 1, 4, 1, 8));
+        list.sort(null);
+        assertThat(list.toArray(), equalTo(new Object[] {1, 1, 3, 4, 5, 8, 9}));
+        assertThat(list.getFirst(), equalTo(1));
+        assertThat(list.getLast(), equalTo(9));
+        Iterator<Integer> reverse = list.reverseIterator();
+        assertThat(reverse.next(), equalTo(9));
+        assertThat(reverse.next(), equalTo(8));
+    }
+
+    @Test
+    public void test_LinkedList_sort_stable() {
+        LinkedList<String> list = new LinkedList<>();
+        list.addAll(Arrays.asList("b1", "a1", "b2", "a2", "c1", "a3"));
+        list.sort(Comparator.comparing(element -> element.charAt(0)));
+        assertThat(list.toArray(), equalTo(new Object[] {"a1", "a2", "a3", "b1", "b2", "c1"}));
+    }
+
+    @Test
+    public void test_LinkedList_sort_comparatorFails() {
+        LinkedList<Object> list = new LinkedList<>();
+        list.addAll(Arrays.asList(3, 1, "two", 2));
+        try {
+            list.sort(null);
+            fail();
+        }
+        catch (ClassCastException e) {
+            assertThat(list.toArray(), equalTo(new Object[] {3, 1, "two", 2}));
+            assertThat(list.getLast(), equalTo(2));
+        }
+    }
+
+    @Test
+    public void test_LinkedList_sort_keepsSnapshot() {
+        LinkedList<Integer> list = new LinkedList<>();
+        list.addAll(Arrays.asList(3, 2, 1));
+        LinkedList.Snapshot<Integer> snapshot = list.snapshot();
+        list.sort(null);
+        assertThat(list.toArray(), equalTo(new Object[] {1, 2, 3}));
+        assertThat(snapshot.get(0), equalTo(3));
+        assertThat(snapshot.get(2), equalTo(1));
+    }
+
+    @Test
+    public void test_LinkedList_parallelSort_matchesSort() {
+        Random random = new Random(17);
+        LinkedList<Integer> list = new LinkedList<>();
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 100000; i++) {
+            int value = random.nextInt(1000);
+            list.add(value);
+            expected.add(value);
+        }
+        list.parallelSort(Comparator.reverseOrder());
+        expected.sort(Comparator.reverseOrder());
+        assertThat(list.stream().collect(Collectors.toList()), equalTo(expected));
+        assertThat(list.get(99999), equalTo(expected.get(99999)));
+        assertThat(list.getLast(), equalTo(expected.get(99999)));
+    }
+
+    @Test
+    public void test_LinkedList_parallelSort_comparatorFails() {
+        LinkedList<Integer> list = new LinkedList<>();
+        for (int i = 0; i < 50000; i++) {
+            list.add(50000 - i);
+        }
+        try {
+            list.parallelSort((first, second) -> {
+                if (first == 123 || second == 123) {
+                    throw new IllegalStateException();
+                }
+                return first.compareTo(second);
+            });
+            fail();
+        }
+        catch (IllegalStateException e) {
+            assertThat(list.size(), equalTo(50000));
+            assertThat(list.getFirst(), equalTo(50000));
+            assertThat(list.get(49999), equalTo(1));
+        }
+    }
+
+    @Test
+    public void test_LinkedList_removeIf_singlePass() {
+        LinkedList<Integer> list = new LinkedList<>();
+        for (int i = 0; i < 10; i++) {
+            list.add(i);
+        }
+        list.get(7);
+        AtomicInteger tests = new AtomicInteger();
+        boolean removed = list.removeIf(element -> {
+            tests.incrementAndGet();
+            return element % 3 == 0;
+        });
+        assertThat(removed, equalTo(true));
+        assertThat(tests.get(), equalTo(10));
+        assertThat(list.toArray(), equalTo(new Object[] {1, 2, 4, 5, 7, 8}));
+        assertThat(list.get(4), equalTo(7));
+        assertThat(list.getLast(), equalTo(8));
+        assertThat(list.removeIf(element -> element > 100), equalTo(false));
+    }
+
+    @Test
+    public void test_LinkedList_removeIf_valueIndexed() {
+        LinkedList<Integer> list = new LinkedList<>();
+        list.setValueIndexed(true);
+        list.addAll(Arrays.asList(1, 2, 2, 3));
+        list.removeIf(element -> element == 2);
+        assertThat(list.contains(2), equalTo(false));
+        assertThat(list.indexOf(3), equalTo(1));
+    }
+
+    @Test
+    public void test_LinkedList_removeAllRetainAll() {
+        LinkedList<Integer> list = new LinkedList<>();
+        list.addAll(Arrays.asList(1, 2, 3, 4, 5));
+        assertThat(list.removeAll(Arrays.asList(2, 4)), equalTo(true));
+        assertThat(list.toArray(), equalTo(new Object[] {1, 3, 5}));
+        assertThat(list.retainAll(Arrays.asList(3, 5, 9)), equalTo(true));
+        assertThat(list.toArray(), equalTo(new Object[] {3, 5}));
+    }
+
+    @Test
+    public void test_LinkedList_removeRange() {
+        LinkedList<Integer> list = new LinkedList<>();
+        list.addAll(Arrays.asList(0, 1, 2, 3, 4, 5, 6));
+        list.removeRange(2, 5);
+        assertThat(list.toArray(), equalTo(new Object[] {0, 1, 5, 6}));
+        list.removeRange(4, 4);
+        assertThat(list.size(), equalTo(4));
+        list.removeRange(2, 4);
+        assertThat(list.toArray(), equalTo(new Object[] {0, 1}));
+        assertThat(list.getLast(), equalTo(1));
+    }
+
+    @Test
+    public void test_LinkedList_removeRange_headKeepsSnapshot() {
+        LinkedList<Integer> list = new LinkedList<>();
+        list.addAll(Arrays.asList(0, 1, 2, 3));
+        LinkedList.Snapshot<Integer> snapshot = list.snapshot();
+        list.removeRange(0, 2);
+        assertThat(list.toArray(), equalTo(new Object[] {2, 3}));
+        assertThat(snapshot.size(), equalTo(4));
+        assertThat(snapshot.get(1), equalTo(1));
+    }
+
+    @Test
+    public void test_LinkedList_removeRange_badRange() {
+        LinkedList<Integer> list = new LinkedList<>();
+        list.add(0);
+        thrown.expect(IndexOutOfBoundsException.class);
+        list.removeRange(0, 2);
+    }
+}
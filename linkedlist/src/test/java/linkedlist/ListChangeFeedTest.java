@@ -0,0 +1,256 @@
+package linkedlist;
+
+import static org.hamcrest.CoreMatchers.*;
+import org.junit.*;
+import org.junit.rules.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+public class ListChangeFeedTest {
+    private static final String STRING_VAL1 = "Gondor";
+    private static final String STRING_VAL2 = "Mordor";
+    private static final String STRING_VAL3 = "Trees";
+    private static final Executor DIRECT = Runnable::run;
+
+    @Rule
+    public final ExpectedException thrown = ExpectedException.none();
+
+    /**
+     * A subscriber that keeps the batches it is sent and applies them to a replica.
+     */
+    private static final class Recorder implements Flow.Subscriber<List<ListChange<String>>> {
+        private final long _initialDemand;
+        private final List<List<ListChange<String>>> _batches = new ArrayList<>();
+        private final LinkedList<String> _replica = new LinkedList<>();
+        private volatile Flow.Subscription _subscription;
+        private volatile boolean _completed;
+
+        private Recorder(long initialDemand) {
+            _initialDemand = initialDemand;
+        }
+
+        public void onSubscribe(Flow.Subscription subscription) {
+            _subscription = subscription;
+            subscription.request(_initialDemand);
+        }
+
+        public synchronized void onNext(List<ListChange<String>> batch) {
+            _batches.add(batch);
+            for (ListChange<String> change : batch) {
+                change.applyTo(_replica);
+            }
+        }
+
+        public void onError(Throwable throwable) {
+            throw new AssertionError(throwable);
+        }
+
+        public void onComplete() {
+            _completed = true;
+        }
+
+        private synchronized int batchCount() {
+            return _batches.size();
+        }
+
+        private synchronized List<String> replica() {
+            return toList(_replica);
+        }
+    }
+
+    private static List<String> toList(Iterable<String> elements) {
+        List<String> list = new ArrayList<>();
+        for (String element : elements) {
+            list.add(element);
+        }
+        return list;
+    }
+
+    @Test
+    public void test_ListChangeFeed_disabledByDefault() {
+        LinkedList<String> list = new LinkedList<>();
+        assertThat(list.getChangeFeed(), equalTo(null));
+        list.add(STRING_VAL1);
+        assertThat(list.get(0), equalTo(STRING_VAL1));
+    }
+
+    @Test
+    public void test_ListChangeFeed_constructor_invalidBatchSize() {
+        thrown.expect(IllegalArgumentException.class);
+        new ListChangeFeed<String>(DIRECT, 4, 0);
+    }
+
+    @Test
+    public void test_ListChangeFeed_publishesChanges() {
+        ListChangeFeed<String> feed = new ListChangeFeed<>(DIRECT, 16, 100);
+        Recorder recorder = new Recorder(Long.MAX_VALUE);
+        feed.subscribe(recorder);
+        LinkedList<String> list = new LinkedList<>();
+        list.setChangeFeed(feed);
+        list.add(STRING_VAL1);
+        list.add(0, STRING_VAL2);
+        list.set(1, STRING_VAL3);
+        list.remove(0);
+        list.clear();
+        feed.flush();
+        assertThat(recorder.batchCount(), equalTo(1));
+        assertThat(recorder._batches.get(0).toString(),
+                equalTo("[ADD 0 Gondor, ADD 0 Mordor, SET 1 Trees, REMOVE 0 Mordor, CLEAR]"));
+        ListChange<String> clear = recorder._batches.get(0).get(4);
+        assertThat(clear.getType(), equalTo(ListChange.Type.CLEAR));
+        assertThat(clear.getIndex(), equalTo(-1));
+        assertThat(clear.getValue(), equalTo(null));
+    }
+
+    @Test
+    public void test_ListChangeFeed_replicaFollowsList() {
+        ListChangeFeed<String> feed = new ListChangeFeed<>(DIRECT, 16, 4);
+        Recorder recorder = new Recorder(Long.MAX_VALUE);
+        LinkedList<String> list = new LinkedList<>();
+        list.addAll(Arrays.asList("a", "b", "c", "d", "e"));
+        feed.subscribe(recorder);
+        recorder._replica.addAll(toList(list.snapshot()));
+        list.setChangeFeed(feed);
+        list.setValueIndexed(true);
+        list.addFirst(STRING_VAL1);
+        list.addAll(2, Arrays.asList("x", "y", "z"));
+        list.remove("y");
+        list.removeIf(element -> element.equals("c"));
+        list.removeRange(1, 3);
+        list.sort(null);
+        ListIterator<String> iterator = list.listIterator(2);
+        iterator.next();
+        iterator.set(STRING_VAL2);
+        iterator.previous();
+        iterator.remove();
+        list.subList(1, 3).set(0, STRING_VAL3);
+        LinkedList<String> other = new LinkedList<>();
+        other.addAll(Arrays.asList("p", "q"));
+        list.splice(1, other);
+        list.pollLast();
+        feed.flush();
+        assertThat(recorder.replica(), equalTo(toList(list)));
+    }
+
+    @Test
+    public void test_ListChangeFeed_coalescesBatches() {
+        ListChangeFeed<String> feed = new ListChangeFeed<>(DIRECT, 16, 3);
+        Recorder recorder = new Recorder(Long.MAX_VALUE);
+        feed.subscribe(recorder);
+        LinkedList<String> list = new LinkedList<>();
+        list.setChangeFeed(feed);
+        for (int i = 0; i < 7; i++) {
+            list.add(STRING_VAL1 + i);
+        }
+        assertThat(recorder.batchCount(), equalTo(2));
+        assertThat(feed.getPendingChanges(), equalTo(1));
+        feed.flush();
+        assertThat(recorder.batchCount(), equalTo(3));
+        assertThat(recorder._batches.get(2).size(), equalTo(1));
+        assertThat(feed.getPublishedBatches(), equalTo(3L));
+        assertThat(feed.getPublishedChanges(), equalTo(7L));
+        feed.flush();
+        assertThat(feed.getPublishedBatches(), equalTo(3L));
+    }
+
+    @Test
+    public void test_ListChangeFeed_respectsDemand() {
+        ListChangeFeed<String> feed = new ListChangeFeed<>(DIRECT, 16, 1);
+        Recorder recorder = new Recorder(1);
+        feed.subscribe(recorder);
+        LinkedList<String> list = new LinkedList<>();
+        list.setChangeFeed(feed);
+        list.add(STRING_VAL1);
+        list.add(STRING_VAL2);
+        list.add(STRING_VAL3);
+        assertThat(recorder.batchCount(), equalTo(1));
+        assertThat(feed.estimateMaximumLag(), equalTo(2));
+        recorder._subscription.request(2);
+        assertThat(recorder.batchCount(), equalTo(3));
+        assertThat(recorder.replica(), equalTo(Arrays.asList(STRING_VAL1, STRING_VAL2, STRING_VAL3)));
+    }
+
+    @Test
+    public void test_ListChangeFeed_fullBufferBlocksWriter() throws InterruptedException {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            ListChangeFeed<String> feed = new ListChangeFeed<>(executor, 1, 1);
+            Recorder recorder = new Recorder(1);
+            feed.subscribe(recorder);
+            LinkedList<String> list = new LinkedList<>();
+            list.setChangeFeed(feed);
+            Thread writer = new Thread(() -> {
+                for (int i = 0; i < 10; i++) {
+                    list.add(STRING_VAL1 + i);
+                }
+            });
+            writer.start();
+            writer.join(200);
+            assertTrue(writer.isAlive());
+            assertThat(recorder.batchCount(), equalTo(1));
+            recorder._subscription.request(Long.MAX_VALUE);
+            writer.join();
+            feed.close();
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+            assertThat(recorder.replica(), equalTo(toList(list)));
+            assertTrue(recorder._completed);
+        }
+        finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void test_ListChangeFeed_dropsChangesWithoutSubscribers() {
+        ListChangeFeed<String> feed = new ListChangeFeed<>(DIRECT, 16, 100);
+        LinkedList<String> list = new LinkedList<>();
+        list.setChangeFeed(feed);
+        list.add(STRING_VAL1);
+        assertThat(feed.getPendingChanges(), equalTo(0));
+        assertThat(feed.getSubscriberCount(), equalTo(0));
+    }
+
+    @Test
+    public void test_ListChangeFeed_subscribeFlushesEarlierChanges() {
+        ListChangeFeed<String> feed = new ListChangeFeed<>(DIRECT, 16, 100);
+        Recorder first = new Recorder(Long.MAX_VALUE);
+        Recorder second = new Recorder(Long.MAX_VALUE);
+        feed.subscribe(first);
+        LinkedList<String> list = new LinkedList<>();
+        list.setChangeFeed(feed);
+        list.add(STRING_VAL1);
+        feed.subscribe(second);
+        list.add(STRING_VAL2);
+        feed.flush();
+        assertThat(first.replica(), equalTo(Arrays.asList(STRING_VAL1, STRING_VAL2)));
+        assertThat(second.batchCount(), equalTo(1));
+        assertThat(second._batches.get(0).toString(), equalTo("[ADD 1 Mordor]"));
+    }
+
+    @Test
+    public void test_ListChangeFeed_closeCompletesSubscribers() {
+        ListChangeFeed<String> feed = new ListChangeFeed<>(DIRECT, 16, 100);
+        Recorder recorder = new Recorder(Long.MAX_VALUE);
+        feed.subscribe(recorder);
+        LinkedList<String> list = new LinkedList<>();
+        list.setChangeFeed(feed);
+        list.add(STRING_VAL1);
+        feed.close();
+        assertTrue(feed.isClosed());
+        assertTrue(recorder._completed);
+        assertThat(recorder.replica(), equalTo(Arrays.asList(STRING_VAL1)));
+        list.add(STRING_VAL2);
+        assertThat(feed.getPendingChanges(), equalTo(0));
+    }
+}
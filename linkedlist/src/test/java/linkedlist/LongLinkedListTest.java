@@ -0,0 +1,105 @@
+package linkedlist;
+
+import static org.hamcrest.CoreMatchers.*;
+import org.junit.*;
+import org.junit.rules.*;
+
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+import static org.junit.Assert.*;
+
+public class LongLinkedListTest {
+    private static final long VAL1 = 7L;
+    private static final long VAL2 = -3L;
+    private static final long VAL3 = 1L << 40;
+    private static final long VAL4 = Long.MIN_VALUE;
+
+    @Rule
+    public final ExpectedException thrown = ExpectedException.none();
+
+    private static LongLinkedList listOf(long... values) {
+        LongLinkedList list = new LongLinkedList();
+        for (long value : values) {
+            list.add(value);
+        }
+        return list;
+    }
+
+    @Test
+    public void test_LongLinkedList_empty() {
+        LongLinkedList list = new LongLinkedList();
+        assertThat(list.isEmpty(), equalTo(true));
+        assertThat(list.size(), equalTo(0));
+        assertThat(list.iterator().hasNext(), equalTo(false));
+    }
+
+    @Test
+    public void test_LongLinkedList_getLong_empty() {
+        thrown.expect(IndexOutOfBoundsException.class);
+        new LongLinkedList().getLong(0);
+    }
+
+    @Test
+    public void test_LongLinkedList_add_getLong() {
+        LongLinkedList list = listOf(VAL1, VAL2, VAL3);
+        assertThat(list.size(), equalTo(3));
+        assertThat(list.getLong(0), equalTo(VAL1));
+        assertThat(list.getLong(1), equalTo(VAL2));
+        assertThat(list.getLong(2), equalTo(VAL3));
+    }
+
+    @Test
+    public void test_LongLinkedList_add_index() {
+        LongLinkedList list = listOf(VAL1, VAL3);
+        list.add(1, VAL2);
+        assertThat(list.getLong(1), equalTo(VAL2));
+        assertThat(list.getLong(2), equalTo(VAL3));
+    }
+
+    @Test
+    public void test_LongLinkedList_set_removeLong() {
+        LongLinkedList list = listOf(VAL1, VAL2, VAL3);
+        assertThat(list.set(1, VAL4), equalTo(VAL2));
+        assertThat(list.removeLong(0), equalTo(VAL1));
+        assertThat(list.size(), equalTo(2));
+        assertThat(list.getLong(0), equalTo(VAL4));
+    }
+
+    @Test
+    public void test_LongLinkedList_indexOf() {
+        LongLinkedList list = listOf(VAL1, VAL2, VAL3, VAL2);
+        assertThat(list.indexOf(VAL2), equalTo(1));
+        assertThat(list.indexOf(VAL4), equalTo(-1));
+    }
+
+    @Test
+    public void test_LongLinkedList_iterator() {
+        PrimitiveIterator.OfLong iterator = listOf(VAL1, VAL2, VAL3).iterator();
+        assertThat(iterator.nextLong(), equalTo(VAL1));
+        assertThat(iterator.nextLong(), equalTo(VAL2));
+        assertThat(iterator.nextLong(), equalTo(VAL3));
+        assertThat(iterator.hasNext(), equalTo(false));
+    }
+
+    @Test
+    public void test_LongLinkedList_iterator_end() {
+        PrimitiveIterator.OfLong iterator = listOf(VAL1).iterator();
+        iterator.nextLong();
+        thrown.expect(NoSuchElementException.class);
+        iterator.nextLong();
+    }
+
+    @Test
+    public void test_LongLinkedList_reverseIterator_remove() {
+        LongLinkedList list = listOf(VAL1, VAL2, VAL3);
+        PrimitiveIterator.OfLong iterator = list.reverseIterator();
+        assertThat(iterator.nextLong(), equalTo(VAL3));
+        assertThat(iterator.nextLong(), equalTo(VAL2));
+        iterator.remove();
+        assertThat(iterator.nextLong(), equalTo(VAL1));
+        assertThat(iterator.hasNext(), equalTo(false));
+        assertThat(list.size(), equalTo(2));
+        assertThat(list.getLong(1), equalTo(VAL3));
+    }
+}
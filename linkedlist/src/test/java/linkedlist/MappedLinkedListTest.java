@@ -0,0 +1,82 @@
+package linkedlist;
+
+import static org.hamcrest.CoreMatchers.*;
+import org.junit.*;
+import org.junit.rules.*;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import static org.junit.Assert.*;
+
+public class MappedLinkedListTest {
+    private static final long SMALL_WINDOW = 16;
+
+    @Rule
+    public final ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    private Path writeStrings(int count) throws IOException {
+        LinkedList<String> list = new LinkedList<>();
+        for (int i = 0; i < count; i++) {
+            list.add("element-" + i);
+        }
+        Path path = folder.newFile().toPath();
+        LinkedListStore.write(list, path, ElementCodec.strings());
+        return path;
+    }
+
+    @Test
+    public void test_MappedLinkedList_smallWindow() throws IOException {
+        Path path = writeStrings(1000);
+        try (MappedLinkedList<String> mapped = new MappedLinkedList<>(path, ElementCodec.strings(), SMALL_WINDOW)) {
+            int i = 0;
+            for (String element : mapped) {
+                assertThat(element, equalTo("element-" + i));
+                i++;
+            }
+            assertThat(i, equalTo(1000));
+        }
+    }
+
+    @Test
+    public void test_MappedLinkedList_elementLargerThanWindow() throws IOException {
+        Path path = writeStrings(3);
+        try (MappedLinkedList<String> mapped = new MappedLinkedList<>(path, ElementCodec.strings(), 8)) {
+            thrown.expect(UncheckedIOException.class);
+            mapped.iterator().next();
+        }
+    }
+
+    @Test
+    public void test_MappedLinkedList_truncated() throws IOException {
+        Path path = writeStrings(10);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            channel.truncate(channel.size() - 3);
+        }
+        try (MappedLinkedList<String> mapped = LinkedListStore.map(path, ElementCodec.strings())) {
+            assertThat(mapped.size(), equalTo(10));
+            thrown.expect(UncheckedIOException.class);
+            mapped.load();
+        }
+    }
+
+    @Test
+    public void test_MappedLinkedList_iterator_exhausted() throws IOException {
+        Path path = writeStrings(1);
+        try (MappedLinkedList<String> mapped = LinkedListStore.map(path, ElementCodec.strings())) {
+            Iterator<String> iterator = mapped.iterator();
+            iterator.next();
+            assertThat(iterator.hasNext(), equalTo(false));
+            thrown.expect(NoSuchElementException.class);
+            iterator.next();
+        }
+    }
+}
@@ -0,0 +1,211 @@
+package linkedlist;
+
+import static org.hamcrest.CoreMatchers.*;
+import org.junit.*;
+import org.junit.rules.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class SortedLinkedListTest {
+    private static final String STRING_VAL1 = "Gondor";
+    private static final String STRING_VAL2 = "Mordor";
+    private static final String STRING_VAL3 = "Trees";
+
+    @Rule
+    public final ExpectedException thrown = ExpectedException.none();
+
+    private static <E> List<E> toList(Iterable<E> elements) {
+        List<E> list = new ArrayList<>();
+        for (E element : elements) {
+            list.add(element);
+        }
+        return list;
+    }
+
+    private static SortedLinkedList<Integer> newList(Integer... elements) {
+        SortedLinkedList<Integer> list = new SortedLinkedList<>();
+        for (Integer element : elements) {
+            list.insertSorted(element);
+        }
+        return list;
+    }
+
+    @Test
+    public void test_SortedLinkedList_insertSorted() {
+        SortedLinkedList<String> list = new SortedLinkedList<>();
+        assertThat(list.insertSorted(STRING_VAL2), equalTo(0));
+        assertThat(list.insertSorted(STRING_VAL3), equalTo(1));
+        assertThat(list.insertSorted(STRING_VAL1), equalTo(0));
+        assertThat(toList(list), equalTo(Arrays.asList(STRING_VAL1, STRING_VAL2, STRING_VAL3)));
+        assertThat(list.size(), equalTo(3));
+        assertThat(list.getFirst(), equalTo(STRING_VAL1));
+        assertThat(list.getLast(), equalTo(STRING_VAL3));
+    }
+
+    @Test
+    public void test_SortedLinkedList_insertSorted_matchesSortedArrayList() {
+        Random random = new Random(42);
+        SortedLinkedList<Integer> list = new SortedLinkedList<>();
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            int value = random.nextInt(500);
+            int index = list.insertSorted(value);
+            int expectedIndex = 0;
+            while (expectedIndex < expected.size() && expected.get(expectedIndex) <= value) {
+                expectedIndex++;
+            }
+            expected.add(expectedIndex, value);
+            assertThat(index, equalTo(expectedIndex));
+        }
+        assertThat(toList(list), equalTo(expected));
+        for (int i = 0; i < expected.size(); i += 97) {
+            assertThat(list.get(i), equalTo(expected.get(i)));
+        }
+    }
+
+    @Test
+    public void test_SortedLinkedList_insertSorted_equalElementsKeepInsertionOrder() {
+        SortedLinkedList<String> list = new SortedLinkedList<>(Comparator.comparingInt(String::length));
+        list.insertSorted(STRING_VAL1);
+        list.insertSorted(STRING_VAL3);
+        list.insertSorted(STRING_VAL2);
+        list.insertSorted("Rohan");
+        assertThat(toList(list), equalTo(Arrays.asList(STRING_VAL3, "Rohan", STRING_VAL1, STRING_VAL2)));
+        assertThat(list.floor("xxxxxx"), equalTo(STRING_VAL2));
+        assertThat(list.ceiling("xxxxxx"), equalTo(STRING_VAL1));
+    }
+
+    @Test
+    public void test_SortedLinkedList_insertSorted_null() {
+        SortedLinkedList<String> list = new SortedLinkedList<>();
+        thrown.expect(NullPointerException.class);
+        list.insertSorted(null);
+    }
+
+    @Test
+    public void test_SortedLinkedList_floor() {
+        SortedLinkedList<Integer> list = newList(10, 20, 30);
+        assertThat(list.floor(5), equalTo(null));
+        assertThat(list.floor(10), equalTo(10));
+        assertThat(list.floor(25), equalTo(20));
+        assertThat(list.floor(99), equalTo(30));
+        assertThat(new SortedLinkedList<Integer>().floor(1), equalTo(null));
+    }
+
+    @Test
+    public void test_SortedLinkedList_ceiling() {
+        SortedLinkedList<Integer> list = newList(10, 20, 30);
+        assertThat(list.ceiling(5), equalTo(10));
+        assertThat(list.ceiling(20), equalTo(20));
+        assertThat(list.ceiling(25), equalTo(30));
+        assertThat(list.ceiling(31), equalTo(null));
+        assertThat(new SortedLinkedList<Integer>().ceiling(1), equalTo(null));
+    }
+
+    @Test
+    public void test_SortedLinkedList_range() {
+        SortedLinkedList<Integer> list = newList(50, 10, 40, 20, 30, 20);
+        assertThat(toList(list.range(20, 40)), equalTo(Arrays.asList(20, 20, 30)));
+        assertThat(toList(list.range(15, 45)), equalTo(Arrays.asList(20, 20, 30, 40)));
+        assertThat(toList(list.range(0, 100)), equalTo(Arrays.asList(10, 20, 20, 30, 40, 50)));
+        assertThat(toList(list.range(60, 70)), equalTo(Arrays.asList()));
+        assertThat(toList(list.range(30, 30)), equalTo(Arrays.asList()));
+        assertThat(toList(list.range(10, 50).map(value -> value / 10).limit(2)), equalTo(Arrays.asList(1, 2)));
+    }
+
+    @Test
+    public void test_SortedLinkedList_range_reflectsLaterInsertions() {
+        SortedLinkedList<Integer> list = newList(10, 30);
+        LazyView<Integer> range = list.range(0, 25);
+        assertThat(toList(range), equalTo(Arrays.asList(10)));
+        list.insertSorted(20);
+        assertThat(toList(range), equalTo(Arrays.asList(10, 20)));
+    }
+
+    @Test
+    public void test_SortedLinkedList_range_invalid() {
+        SortedLinkedList<Integer> list = newList(10, 20);
+        thrown.expect(IllegalArgumentException.class);
+        list.range(20, 10);
+    }
+
+    @Test
+    public void test_SortedLinkedList_range_exhausted() {
+        SortedLinkedList<Integer> list = newList(10, 20);
+        Iterator<Integer> iterator = list.range(15, 20).iterator();
+        thrown.expect(NoSuchElementException.class);
+        iterator.next();
+    }
+
+    @Test
+    public void test_SortedLinkedList_containsAndRemove() {
+        SortedLinkedList<String> list = new SortedLinkedList<>(Comparator.comparingInt(String::length));
+        list.insertSorted(STRING_VAL1);
+        list.insertSorted(STRING_VAL2);
+        list.insertSorted(STRING_VAL3);
+        assertTrue(list.contains(STRING_VAL2));
+        assertFalse(list.contains("Rohan!"));
+        assertTrue(list.remove(STRING_VAL2));
+        assertFalse(list.remove(STRING_VAL2));
+        assertThat(toList(list), equalTo(Arrays.asList(STRING_VAL3, STRING_VAL1)));
+    }
+
+    @Test
+    public void test_SortedLinkedList_pollFirst() {
+        SortedLinkedList<Integer> list = newList(30, 10, 20);
+        assertThat(list.pollFirst(), equalTo(10));
+        assertThat(list.pollFirst(), equalTo(20));
+        assertThat(list.pollFirst(), equalTo(30));
+        assertThat(list.pollFirst(), equalTo(null));
+        assertTrue(list.isEmpty());
+    }
+
+    @Test
+    public void test_SortedLinkedList_getFirst_empty() {
+        SortedLinkedList<Integer> list = new SortedLinkedList<>();
+        thrown.expect(NoSuchElementException.class);
+        list.getFirst();
+    }
+
+    @Test
+    public void test_SortedLinkedList_clear() {
+        SortedLinkedList<Integer> list = newList(3, 1, 2);
+        list.clear();
+        assertTrue(list.isEmpty());
+        list.insertSorted(5);
+        assertThat(toList(list), equalTo(Arrays.asList(5)));
+    }
+
+    @Test
+    public void test_SortedLinkedList_iterator_remove() {
+        SortedLinkedList<Integer> list = newList(3, 1, 2, 4);
+        Iterator<Integer> iterator = list.iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next() % 2 == 0) {
+                iterator.remove();
+            }
+        }
+        assertThat(toList(list), equalTo(Arrays.asList(1, 3)));
+        assertThat(list.insertSorted(2), equalTo(1));
+    }
+
+    @Test
+    public void test_SortedLinkedList_comparator() {
+        Comparator<Integer> reverse = Comparator.reverseOrder();
+        SortedLinkedList<Integer> list = new SortedLinkedList<>(reverse);
+        list.insertSorted(1);
+        list.insertSorted(3);
+        list.insertSorted(2);
+        assertThat(list.comparator(), equalTo(reverse));
+        assertThat(toList(list), equalTo(Arrays.asList(3, 2, 1)));
+        assertThat(list.floor(0), equalTo(1));
+    }
+}
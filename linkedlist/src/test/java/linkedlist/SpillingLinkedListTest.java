@@ -0,0 +1,241 @@
+package linkedlist;
+
+import static org.hamcrest.CoreMatchers.*;
+import org.junit.*;
+import org.junit.rules.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.*;
+
+public class SpillingLinkedListTest {
+    private static final String STRING_VAL1 = "Gondor";
+    private static final String STRING_VAL2 = "Mordor";
+    private static final String STRING_VAL3 = "Trees";
+    private static final int SEGMENT_CAPACITY = 4;
+    private static final int BUDGET = 3 * SEGMENT_CAPACITY;
+    private static final int ELEMENTS = 100;
+
+    @Rule
+    public final ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    private SpillingLinkedList<Integer> newList() throws IOException {
+        SpillingLinkedList<Integer> list = new SpillingLinkedList<>(ElementCodec.integers(),
+                folder.getRoot().toPath(), BUDGET, SEGMENT_CAPACITY);
+        for (int i = 0; i < ELEMENTS; i++) {
+            list.add(i);
+        }
+        return list;
+    }
+
+    private static <E> List<E> toList(Iterable<E> elements) {
+        List<E> list = new ArrayList<>();
+        for (E element : elements) {
+            list.add(element);
+        }
+        return list;
+    }
+
+    @Test
+    public void test_SpillingLinkedList_constructor_budgetTooSmall() throws IOException {
+        thrown.expect(IllegalArgumentException.class);
+        new SpillingLinkedList<>(ElementCodec.integers(), folder.getRoot().toPath(), 2 * SEGMENT_CAPACITY,
+                SEGMENT_CAPACITY);
+    }
+
+    @Test
+    public void test_SpillingLinkedList_constructor_segmentTooSmall() throws IOException {
+        thrown.expect(IllegalArgumentException.class);
+        new SpillingLinkedList<>(ElementCodec.integers(), folder.getRoot().toPath(), BUDGET, 1);
+    }
+
+    @Test
+    public void test_SpillingLinkedList_add_staysWithinBudget() throws IOException {
+        try (SpillingLinkedList<Integer> list = newList()) {
+            assertThat(list.size(), equalTo(ELEMENTS));
+            assertThat(list.getSegmentCount(), equalTo(ELEMENTS / SEGMENT_CAPACITY));
+            assertThat(list.getResidentSegments(), equalTo(3));
+            assertThat(list.getMemoryBudget(), equalTo(BUDGET));
+            assertTrue(list.getSpills() > 0);
+            assertThat(list.getReloads(), equalTo(0L));
+            assertThat(list.getBytesWritten(), equalTo((long) (ELEMENTS - 3 * SEGMENT_CAPACITY) * Integer.BYTES));
+        }
+    }
+
+    @Test
+    public void test_SpillingLinkedList_get_reloadsSpilledSegments() throws IOException {
+        try (SpillingLinkedList<Integer> list = newList()) {
+            for (int i = 0; i < ELEMENTS; i++) {
+                assertThat(list.get(i), equalTo(i));
+                assertTrue(list.getResidentSegments() <= 3);
+            }
+            assertThat(list.getReloads(), equalTo((long) (ELEMENTS / SEGMENT_CAPACITY - 2)));
+            assertThat(list.getBytesRead(), equalTo((long) (ELEMENTS - 2 * SEGMENT_CAPACITY) * Integer.BYTES));
+        }
+    }
+
+    @Test
+    public void test_SpillingLinkedList_get_endsStayInMemory() throws IOException {
+        try (SpillingLinkedList<Integer> list = newList()) {
+            list.get(ELEMENTS / 2);
+            long reloads = list.getReloads();
+            assertThat(list.getFirst(), equalTo(0));
+            assertThat(list.getLast(), equalTo(ELEMENTS - 1));
+            assertThat(list.getReloads(), equalTo(reloads));
+        }
+    }
+
+    @Test
+    public void test_SpillingLinkedList_spill_unchangedSegmentsAreNotRewritten() throws IOException {
+        try (SpillingLinkedList<Integer> list = newList()) {
+            toList(list);
+            long written = list.getBytesWritten();
+            toList(list);
+            assertThat(list.getBytesWritten(), equalTo(written));
+            list.set(ELEMENTS / 2, -1);
+            toList(list);
+            assertThat(list.getBytesWritten(), equalTo(written + SEGMENT_CAPACITY * Integer.BYTES));
+            assertThat(list.get(ELEMENTS / 2), equalTo(-1));
+        }
+    }
+
+    @Test
+    public void test_SpillingLinkedList_iterator() throws IOException {
+        try (SpillingLinkedList<Integer> list = newList()) {
+            List<Integer> elements = toList(list);
+            assertThat(elements.size(), equalTo(ELEMENTS));
+            for (int i = 0; i < ELEMENTS; i++) {
+                assertThat(elements.get(i), equalTo(i));
+            }
+            assertTrue(list.getResidentSegments() <= 3);
+        }
+    }
+
+    @Test
+    public void test_SpillingLinkedList_iterator_concurrentModification() throws IOException {
+        try (SpillingLinkedList<Integer> list = newList()) {
+            Iterator<Integer> iterator = list.iterator();
+            iterator.next();
+            list.add(ELEMENTS);
+            thrown.expect(ConcurrentModificationException.class);
+            iterator.next();
+        }
+    }
+
+    @Test
+    public void test_SpillingLinkedList_matchesArrayList() throws IOException {
+        Random random = new Random(42);
+        List<Integer> expected = new ArrayList<>();
+        try (SpillingLinkedList<Integer> list = new SpillingLinkedList<>(ElementCodec.integers(),
+                folder.getRoot().toPath(), BUDGET, SEGMENT_CAPACITY)) {
+            for (int i = 0; i < 2000; i++) {
+                int operation = random.nextInt(6);
+                if (operation == 0 || expected.isEmpty()) {
+                    int index = random.nextInt(expected.size() + 1);
+                    list.add(index, i);
+                    expected.add(index, i);
+                }
+                else if (operation == 1) {
+                    list.addFirst(i);
+                    expected.add(0, i);
+                }
+                else if (operation == 2) {
+                    list.addLast(i);
+                    expected.add(i);
+                }
+                else if (operation == 3) {
+                    int index = random.nextInt(expected.size());
+                    assertThat(list.remove(index), equalTo(expected.remove(index)));
+                }
+                else if (operation == 4) {
+                    int index = random.nextInt(expected.size());
+                    assertThat(list.set(index, -i), equalTo(expected.set(index, -i)));
+                }
+                else {
+                    int index = random.nextInt(expected.size());
+                    assertThat(list.get(index), equalTo(expected.get(index)));
+                }
+                assertTrue(list.getResidentSegments() <= 3);
+            }
+            assertThat(list.size(), equalTo(expected.size()));
+            assertThat(toList(list), equalTo(expected));
+            assertTrue(list.getReloads() > 0);
+        }
+    }
+
+    @Test
+    public void test_SpillingLinkedList_removeFirstAndLast() throws IOException {
+        try (SpillingLinkedList<Integer> list = newList()) {
+            for (int i = 0; i < ELEMENTS / 2; i++) {
+                assertThat(list.removeFirst(), equalTo(i));
+                assertThat(list.removeLast(), equalTo(ELEMENTS - 1 - i));
+            }
+            assertTrue(list.isEmpty());
+            assertThat(list.getSegmentCount(), equalTo(0));
+            thrown.expect(NoSuchElementException.class);
+            list.removeFirst();
+        }
+    }
+
+    @Test
+    public void test_SpillingLinkedList_strings() throws IOException {
+        try (SpillingLinkedList<String> list = new SpillingLinkedList<>(ElementCodec.strings(),
+                folder.getRoot().toPath(), 6, 2)) {
+            String[] values = {STRING_VAL1, null, STRING_VAL2, STRING_VAL3, "", STRING_VAL1, STRING_VAL2, null};
+            for (String value : values) {
+                list.add(value);
+            }
+            assertTrue(list.getSpills() > 0);
+            for (int i = 0; i < values.length; i++) {
+                assertThat(list.get(i), equalTo(values[i]));
+            }
+        }
+    }
+
+    @Test
+    public void test_SpillingLinkedList_clear() throws IOException {
+        try (SpillingLinkedList<Integer> list = newList()) {
+            list.clear();
+            assertTrue(list.isEmpty());
+            assertThat(list.getSegmentCount(), equalTo(0));
+            assertThat(list.getResidentSegments(), equalTo(0));
+            list.add(1);
+            assertThat(list.get(0), equalTo(1));
+        }
+    }
+
+    @Test
+    public void test_SpillingLinkedList_close_deletesSpillFile() throws IOException {
+        Path directory = folder.getRoot().toPath();
+        SpillingLinkedList<Integer> list = newList();
+        assertTrue(list.getSpills() > 0);
+        list.close();
+        try (Stream<Path> files = Files.list(directory)) {
+            assertThat(files.count(), equalTo(0L));
+        }
+    }
+    @Test
+    public void test_SpillingLinkedList_spill_reusesFreedSlots() throws IOException {
+        try (SpillingLinkedList<Integer> list = newList()) {
+            for (int i = 0; i < 20 * ELEMENTS; i++) {
+                list.addLast(ELEMENTS + i);
+                assertThat(list.removeFirst(), equalTo(i));
+            }
+            assertThat(list.get(ELEMENTS / 2), equalTo(20 * ELEMENTS + ELEMENTS / 2));
+            long segmentBytes = SEGMENT_CAPACITY * Integer.BYTES;
+            assertTrue(list.getSpillFileSize() <= (list.getSegmentCount() + 1) * segmentBytes);
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package linkedlist;
+
+import static org.hamcrest.CoreMatchers.*;
+import org.junit.*;
+import org.junit.rules.*;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+public class StampedLinkedListTest {
+    private static final int READERS = 3;
+    private static final int ELEMENTS = 64;
+    private static final int WRITES = 20000;
+    private static final String STRING_VAL1 = "Gondor";
+    private static final String STRING_VAL2 = "Mordor";
+    private static final String STRING_VAL3 = "Trees";
+
+    @Rule
+    public final ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void test_StampedLinkedList_addGetSetRemove() {
+        StampedLinkedList<String> list = new StampedLinkedList<>();
+        assertThat(list.isEmpty(), equalTo(true));
+        list.add(STRING_VAL1);
+        list.add(STRING_VAL3);
+        list.add(1, STRING_VAL2);
+        assertThat(list.size(), equalTo(3));
+        assertThat(list.get(1), equalTo(STRING_VAL2));
+        assertThat(list.indexOf(STRING_VAL3), equalTo(2));
+        assertThat(list.set(0, STRING_VAL3), equalTo(STRING_VAL1));
+        assertThat(list.remove(1), equalTo(STRING_VAL2));
+        assertThat(list.get(0), equalTo(STRING_VAL3));
+        list.clear();
+        assertThat(list.size(), equalTo(0));
+    }
+
+    @Test
+    public void test_StampedLinkedList_get_outOfBounds() {
+        StampedLinkedList<String> list = new StampedLinkedList<>();
+        list.add(STRING_VAL1);
+        thrown.expect(IndexOutOfBoundsException.class);
+        list.get(1);
+    }
+
+    @Test
+    public void test_StampedLinkedList_iterators_snapshot() {
+        StampedLinkedList<String> list = new StampedLinkedList<>();
+        list.add(STRING_VAL1);
+        list.add(STRING_VAL2);
+        Iterator<String> forward = list.iterator();
+        Iterator<String> reverse = list.reverseIterator();
+        list.add(STRING_VAL3);
+        assertThat(forward.next(), equalTo(STRING_VAL1));
+        assertThat(forward.next(), equalTo(STRING_VAL2));
+        assertThat(forward.hasNext(), equalTo(false));
+        assertThat(reverse.next(), equalTo(STRING_VAL2));
+        assertThat(reverse.next(), equalTo(STRING_VAL1));
+        assertThat(reverse.hasNext(), equalTo(false));
+    }
+
+    @Test
+    public void test_StampedLinkedList_readsDuringWrites() throws InterruptedException {
+        StampedLinkedList<Integer> list = new StampedLinkedList<>();
+        for (int i = 0; i < ELEMENTS; i++) {
+            list.add(i);
+        }
+        AtomicBoolean writing = new AtomicBoolean(true);
+        AtomicInteger errors = new AtomicInteger();
+        List<Thread> readers = new ArrayList<>();
+        for (int r = 0; r < READERS; r++) {
+            Thread reader = new Thread(() -> {
+                while (writing.get()) {
+                    for (int i = 0; i < ELEMENTS / 2; i++) {
+                        if (list.get(i) != i || list.indexOf(i) != i) {
+                            errors.incrementAndGet();
+                        }
+                    }
+                    int size = list.size();
+                    if (size != ELEMENTS && size != ELEMENTS + 1) {
+                        errors.incrementAndGet();
+                    }
+                }
+            });
+            readers.add(reader);
+            reader.start();
+        }
+        for (int i = 0; i < WRITES; i++) {
+            list.add(ELEMENTS / 2, -1);
+            list.remove(ELEMENTS / 2);
+        }
+        writing.set(false);
+        for (Thread reader : readers) {
+            reader.join();
+        }
+        assertThat(errors.get(), equalTo(0));
+        assertThat(list.size(), equalTo(ELEMENTS));
+    }
+}
@@ -0,0 +1,165 @@
+package linkedlist;
+
+import static org.hamcrest.CoreMatchers.*;
+import org.junit.*;
+import org.junit.rules.*;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class UnrolledLinkedListTest {
+    private static final int NODE_CAPACITY = 4;
+    private static final int OPERATIONS = 20000;
+    private static final long SEED = 42L;
+    private static final String STRING_VAL1 = "Gondor";
+    private static final String STRING_VAL2 = "Mordor";
+    private static final String STRING_VAL3 = "Trees";
+    private static final String STRING_VAL4 = "Saturn";
+
+    @Rule
+    public final ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void test_UnrolledLinkedList_ctor_invalidCapacity() {
+        thrown.expect(IllegalArgumentException.class);
+        new UnrolledLinkedList<String>(1);
+    }
+
+    @Test
+    public void test_UnrolledLinkedList_empty() {
+        UnrolledLinkedList<String> list = new UnrolledLinkedList<>(NODE_CAPACITY);
+        assertThat(list.isEmpty(), equalTo(true));
+        assertThat(list.iterator().hasNext(), equalTo(false));
+        assertThat(list.reverseIterator().hasNext(), equalTo(false));
+    }
+
+    @Test
+    public void test_UnrolledLinkedList_get_empty() {
+        UnrolledLinkedList<String> list = new UnrolledLinkedList<>(NODE_CAPACITY);
+        thrown.expect(IndexOutOfBoundsException.class);
+        list.get(0);
+    }
+
+    @Test
+    public void test_UnrolledLinkedList_add_get() {
+        UnrolledLinkedList<Integer> list = new UnrolledLinkedList<>(NODE_CAPACITY);
+        for (int i = 0; i < 10; i++) {
+            list.add(i);
+        }
+        assertThat(list.size(), equalTo(10));
+        for (int i = 0; i < 10; i++) {
+            assertThat(list.get(i), equalTo(i));
+        }
+    }
+
+    @Test
+    public void test_UnrolledLinkedList_add_index_splitsNode() {
+        UnrolledLinkedList<String> list = new UnrolledLinkedList<>(NODE_CAPACITY);
+        list.add(STRING_VAL1);
+        list.add(STRING_VAL2);
+        list.add(STRING_VAL3);
+        list.add(STRING_VAL4);
+        list.add(1, STRING_VAL3);
+        assertThat(list.size(), equalTo(5));
+        assertThat(list.get(0), equalTo(STRING_VAL1));
+        assertThat(list.get(1), equalTo(STRING_VAL3));
+        assertThat(list.get(2), equalTo(STRING_VAL2));
+        assertThat(list.get(4), equalTo(STRING_VAL4));
+    }
+
+    @Test
+    public void test_UnrolledLinkedList_remove_set_indexOf() {
+        UnrolledLinkedList<String> list = new UnrolledLinkedList<>(NODE_CAPACITY);
+        list.add(STRING_VAL1);
+        list.add(STRING_VAL2);
+        list.add(STRING_VAL3);
+        assertThat(list.remove(1), equalTo(STRING_VAL2));
+        assertThat(list.set(1, STRING_VAL4), equalTo(STRING_VAL3));
+        assertThat(list.indexOf(STRING_VAL4), equalTo(1));
+        assertThat(list.indexOf(STRING_VAL2), equalTo(-1));
+    }
+
+    @Test
+    public void test_UnrolledLinkedList_reverseIterator() {
+        UnrolledLinkedList<Integer> list = new UnrolledLinkedList<>(NODE_CAPACITY);
+        for (int i = 0; i < 9; i++) {
+            list.add(i);
+        }
+        Iterator<Integer> iterator = list.reverseIterator();
+        for (int i = 8; i >= 0; i--) {
+            assertThat(iterator.next(), equalTo(i));
+        }
+        assertThat(iterator.hasNext(), equalTo(false));
+    }
+
+    @Test
+    public void test_UnrolledLinkedList_listIterator_removeEven() {
+        UnrolledLinkedList<Integer> list = new UnrolledLinkedList<>(NODE_CAPACITY);
+        for (int i = 0; i < 50; i++) {
+            list.add(i);
+        }
+        Iterator<Integer> iterator = list.iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next() % 2 == 0) {
+                iterator.remove();
+            }
+        }
+        assertThat(list.size(), equalTo(25));
+        for (int i = 0; i < 25; i++) {
+            assertThat(list.get(i), equalTo(2 * i + 1));
+        }
+    }
+
+    @Test
+    public void test_UnrolledLinkedList_matchesArrayList() {
+        UnrolledLinkedList<Integer> list = new UnrolledLinkedList<>(NODE_CAPACITY);
+        List<Integer> expected = new ArrayList<>();
+        ListIterator<Integer> iterator = list.listIterator();
+        ListIterator<Integer> expectedIterator = expected.listIterator();
+        Random random = new Random(SEED);
+        for (int i = 0; i < OPERATIONS; i++) {
+            int operation = random.nextInt(10);
+            if (operation < 3) {
+                iterator.add(i);
+                expectedIterator.add(i);
+            }
+            else if (operation < 5 && expectedIterator.hasNext()) {
+                assertThat(iterator.next(), equalTo(expectedIterator.next()));
+                if (random.nextBoolean()) {
+                    iterator.remove();
+                    expectedIterator.remove();
+                }
+            }
+            else if (operation < 7 && expectedIterator.hasPrevious()) {
+                assertThat(iterator.previous(), equalTo(expectedIterator.previous()));
+                if (random.nextBoolean()) {
+                    iterator.set(-i);
+                    expectedIterator.set(-i);
+                }
+            }
+            else if (operation == 7) {
+                list.add(i);
+                expected.add(i);
+                int index = random.nextInt(expected.size() + 1);
+                iterator = list.listIterator(index);
+                expectedIterator = expected.listIterator(index);
+            }
+            else if (operation == 8 && !expected.isEmpty()) {
+                int index = random.nextInt(expected.size());
+                assertThat(list.remove(index), equalTo(expected.remove(index)));
+                iterator = list.listIterator();
+                expectedIterator = expected.listIterator();
+            }
+            assertThat(iterator.nextIndex(), equalTo(expectedIterator.nextIndex()));
+        }
+        assertThat(list.size(), equalTo(expected.size()));
+        for (int i = 0; i < expected.size(); i++) {
+            assertThat(list.get(i), equalTo(expected.get(i)));
+        }
+    }
+}